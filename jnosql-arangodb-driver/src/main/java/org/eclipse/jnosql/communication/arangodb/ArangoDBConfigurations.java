@@ -67,6 +67,11 @@ public enum ArangoDBConfigurations implements Supplier<String> {
      *Set hosts split by comma
      */
     HOST_LIST("arangodb.acquire.host.list"),
+    /**
+     * The {@link org.eclipse.jnosql.communication.driver.ValueCodec} name the key-value bucket manager uses to
+     * write the values, e.g. "json" or "cbor", the default value is "json"
+     */
+    VALUE_CODEC("arangodb.value.codec"),
     FILE_CONFIGURATION("diana-arangodb.properties");
     private final String configuration;
 
@@ -21,6 +21,7 @@ import com.arangodb.entity.CollectionEntity;
 import jakarta.nosql.Value;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentEntity;
+import org.eclipse.jnosql.communication.driver.DocumentValueType;
 import org.eclipse.jnosql.communication.driver.ValueUtil;
 
 import java.util.ArrayList;
@@ -135,19 +136,18 @@ public final class ArangoDBUtil {
 
     private static Object convert(Value value) {
         Object val = ValueUtil.convert(value);
-
-        if (Document.class.isInstance(val)) {
-            Document document = Document.class.cast(val);
-            return singletonMap(document.getName(), convert(document.getValue()));
-        }
-        if (isSudDocument(val)) {
-            return getMap(val);
+        switch (DocumentValueType.of(val)) {
+            case DOCUMENT:
+                Document document = Document.class.cast(val);
+                return singletonMap(document.getName(), convert(document.getValue()));
+            case SUB_DOCUMENT:
+                return getMap(val);
+            case SUB_DOCUMENT_LIST:
+                return StreamSupport.stream(Iterable.class.cast(val).spliterator(), false)
+                        .map(ArangoDBUtil::getMap).collect(toList());
+            default:
+                return val;
         }
-        if (isSudDocumentList(val)) {
-            return StreamSupport.stream(Iterable.class.cast(val).spliterator(), false)
-                    .map(ArangoDBUtil::getMap).collect(toList());
-        }
-        return val;
     }
 
     private static Object getMap(Object val) {
@@ -155,16 +155,6 @@ public final class ArangoDBUtil {
                 .collect(toMap(KEY_DOCUMENT, VALUE_DOCUMENT));
     }
 
-    private static boolean isSudDocumentList(Object value) {
-        return value instanceof Iterable && StreamSupport.stream(Iterable.class.cast(value).spliterator(), false).
-                allMatch(d -> d instanceof Iterable && isSudDocument(d));
-    }
-
-    private static boolean isSudDocument(Object value) {
-        return value instanceof Iterable && StreamSupport.stream(Iterable.class.cast(value).spliterator(), false).
-                allMatch(jakarta.nosql.document.Document.class::isInstance);
-    }
-
     private static jakarta.nosql.document.Document cast(Object document) {
         return jakarta.nosql.document.Document.class.cast(document);
     }
@@ -25,6 +25,9 @@ import jakarta.nosql.document.DocumentCondition;
 import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
+import org.eclipse.jnosql.communication.driver.metrics.Operation;
+import org.eclipse.jnosql.communication.driver.metrics.OperationMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.OperationPhase;
 import org.eclipse.jnosql.communication.writer.ValueWriterDecorator;
 
 import java.time.Duration;
@@ -46,6 +49,8 @@ class DefaultArangoDBDocumentCollectionManager implements ArangoDBDocumentCollec
     public static final String ID = "_id";
     public static final String REV = "_rev";
 
+    private static final OperationMetrics METRICS = OperationMetrics.of("arangodb");
+
     private final String database;
 
     private final ArangoDB arangoDB;
@@ -59,22 +64,34 @@ class DefaultArangoDBDocumentCollectionManager implements ArangoDBDocumentCollec
 
     @Override
     public DocumentEntity insert(DocumentEntity entity) throws NullPointerException {
+        long start = METRICS.start();
         String collectionName = entity.getName();
         checkCollection(collectionName);
         BaseDocument baseDocument = getBaseDocument(entity);
-        DocumentCreateEntity<BaseDocument> arandoDocument = arangoDB.db(database).collection(collectionName).insertDocument(baseDocument);
-        updateEntity(entity, arandoDocument.getKey(), arandoDocument.getId(), arandoDocument.getRev());
+        METRICS.stop(Operation.INSERT, OperationPhase.CONVERSION, start);
+        try {
+            DocumentCreateEntity<BaseDocument> arandoDocument = arangoDB.db(database).collection(collectionName).insertDocument(baseDocument);
+            updateEntity(entity, arandoDocument.getKey(), arandoDocument.getId(), arandoDocument.getRev());
+        } finally {
+            METRICS.stop(Operation.INSERT, start);
+        }
         return entity;
     }
 
     @Override
     public DocumentEntity update(DocumentEntity entity) {
+        long start = METRICS.start();
         String collectionName = entity.getName();
         checkCollection(collectionName);
         BaseDocument baseDocument = getBaseDocument(entity);
-        DocumentUpdateEntity<BaseDocument> arandoDocument = arangoDB.db(database)
-                .collection(collectionName).updateDocument(baseDocument.getKey(), baseDocument);
-        updateEntity(entity, arandoDocument.getKey(), arandoDocument.getId(), arandoDocument.getRev());
+        METRICS.stop(Operation.UPDATE, OperationPhase.CONVERSION, start);
+        try {
+            DocumentUpdateEntity<BaseDocument> arandoDocument = arangoDB.db(database)
+                    .collection(collectionName).updateDocument(baseDocument.getKey(), baseDocument);
+            updateEntity(entity, arandoDocument.getKey(), arandoDocument.getId(), arandoDocument.getRev());
+        } finally {
+            METRICS.stop(Operation.UPDATE, start);
+        }
         return entity;
     }
 
@@ -93,18 +110,31 @@ class DefaultArangoDBDocumentCollectionManager implements ArangoDBDocumentCollec
             return;
         }
 
+        long start = METRICS.start();
         AQLQueryResult delete = QueryAQLConverter.delete(query);
-        arangoDB.db(database).query(delete.getQuery(), delete.getValues(),
-                null, BaseDocument.class);
+        METRICS.stop(Operation.DELETE, OperationPhase.TRANSLATION, start);
+        try {
+            arangoDB.db(database).query(delete.getQuery(), delete.getValues(),
+                    null, BaseDocument.class);
+        } finally {
+            METRICS.stop(Operation.DELETE, start);
+        }
     }
 
     @Override
     public Stream<DocumentEntity> select(DocumentQuery query) throws NullPointerException {
         requireNonNull(query, "query is required");
 
+        long start = METRICS.start();
         AQLQueryResult result = QueryAQLConverter.select(query);
-        ArangoCursor<BaseDocument> documents = arangoDB.db(database).query(result.getQuery(),
-                result.getValues(), null, BaseDocument.class);
+        METRICS.stop(Operation.SELECT, OperationPhase.TRANSLATION, start);
+        ArangoCursor<BaseDocument> documents;
+        try {
+            documents = arangoDB.db(database).query(result.getQuery(),
+                    result.getValues(), null, BaseDocument.class);
+        } finally {
+            METRICS.stop(Operation.SELECT, start);
+        }
 
         return StreamSupport.stream(documents.spliterator(), false)
                 .map(ArangoDBUtil::toEntity);
@@ -114,8 +144,13 @@ class DefaultArangoDBDocumentCollectionManager implements ArangoDBDocumentCollec
     public long count(String documentCollection) {
         Objects.requireNonNull(documentCollection, "document collection is required");
         String aql = "RETURN LENGTH(" + documentCollection + ")";
-        ArangoCursor<Object> query = arangoDB.db(database).query(aql, emptyMap(), null, Object.class);
-        return StreamSupport.stream(query.spliterator(), false).findFirst().map(Long.class::cast).orElse(0L);
+        long start = METRICS.start();
+        try {
+            ArangoCursor<Object> query = arangoDB.db(database).query(aql, emptyMap(), null, Object.class);
+            return StreamSupport.stream(query.spliterator(), false).findFirst().map(Long.class::cast).orElse(0L);
+        } finally {
+            METRICS.stop(Operation.COUNT, start);
+        }
     }
 
 
@@ -20,13 +20,17 @@ import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentCondition;
 import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentQuery;
+import jakarta.nosql.Value;
 import org.eclipse.jnosql.communication.driver.ValueUtil;
+import org.eclipse.jnosql.communication.driver.query.QueryShape;
+import org.eclipse.jnosql.communication.driver.query.QueryTemplate;
+import org.eclipse.jnosql.communication.driver.query.QueryTranslationCache;
 
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 final class QueryAQLConverter {
 
@@ -47,46 +51,50 @@ final class QueryAQLConverter {
     private static final String LIKE = " LIKE ";
     private static final String NOT = " NOT ";
     private static final char PARAM_APPENDER = '@';
+    private static final QueryTranslationCache<QueryTemplate> CACHE = QueryTranslationCache.of();
 
     private QueryAQLConverter() {
     }
 
     public static AQLQueryResult delete(DocumentDeleteQuery query) throws NullPointerException {
-
-        return convert(query.getDocumentCollection(),
+        QueryShape shape = QueryShape.of(query);
+        QueryTemplate template = CACHE.get(shape, s -> convert(s, query.getDocumentCollection(),
                 query.getCondition(),
                 Collections.emptyList(),
                 0L,
                 0L,
-                REMOVE, true);
+                REMOVE, true));
+        return new AQLQueryResult(template.getQuery(), template.bind(shape));
     }
 
     public static AQLQueryResult select(DocumentQuery query) throws NullPointerException {
-
-        return convert(query.getDocumentCollection(),
+        QueryShape shape = QueryShape.of(query);
+        QueryTemplate template = CACHE.get(shape, s -> convert(s, query.getDocumentCollection(),
                 query.getCondition(),
                 query.getSorts(),
                 query.getSkip(),
                 query.getLimit(),
-                RETURN, false);
-
+                RETURN, false));
+        return new AQLQueryResult(template.getQuery(), template.bind(shape));
     }
 
 
-    private static AQLQueryResult convert(String documentCollection,
-                                          Optional<DocumentCondition> documentCondition,
-                                          List<Sort> sorts,
-                                          long firstResult,
-                                          long maxResult,
-                                          String conclusion, boolean delete) {
+    private static QueryTemplate convert(QueryShape shape,
+                                         String documentCollection,
+                                         Optional<DocumentCondition> documentCondition,
+                                         List<Sort> sorts,
+                                         long firstResult,
+                                         long maxResult,
+                                         String conclusion, boolean delete) {
         StringBuilder aql = new StringBuilder();
-        Map<String, Object> params = new HashMap<>();
+        QueryTemplate.Builder params = QueryTemplate.builder(shape);
+        Set<String> names = new HashSet<>();
         char entity = Character.toLowerCase(documentCollection.charAt(0));
         aql.append("FOR ").append(entity).append(IN).append(documentCollection);
 
         documentCondition.ifPresent(condition -> {
             aql.append(FILTER);
-            definesCondition(condition, aql, params, entity, 0);
+            definesCondition(condition, aql, params, names, entity, 0);
         });
         if (!sorts.isEmpty()) {
             sort(sorts, aql, entity);
@@ -103,7 +111,7 @@ final class QueryAQLConverter {
         if (delete) {
             aql.append(IN).append(documentCollection);
         }
-        return new AQLQueryResult(aql.toString(), params);
+        return params.build(aql.toString());
     }
 
     private static void sort(List<Sort> sorts, StringBuilder aql, char entity) {
@@ -120,31 +128,32 @@ final class QueryAQLConverter {
 
     private static void definesCondition(DocumentCondition condition,
                                          StringBuilder aql,
-                                         Map<String, Object> params,
+                                         QueryTemplate.Builder params,
+                                         Set<String> names,
                                          char entity, int counter) {
 
         Document document = condition.getDocument();
         switch (condition.getCondition()) {
             case IN:
-                appendCondition(aql, params, entity, document, IN);
+                appendCondition(aql, params, names, entity, document, IN);
                 return;
             case EQUALS:
-                appendCondition(aql, params, entity, document, EQUALS);
+                appendCondition(aql, params, names, entity, document, EQUALS);
                 return;
             case GREATER_EQUALS_THAN:
-                appendCondition(aql, params, entity, document, GREATER_EQUALS_THAN);
+                appendCondition(aql, params, names, entity, document, GREATER_EQUALS_THAN);
                 return;
             case GREATER_THAN:
-                appendCondition(aql, params, entity, document, GREATER_THAN);
+                appendCondition(aql, params, names, entity, document, GREATER_THAN);
                 return;
             case LESSER_THAN:
-                appendCondition(aql, params, entity, document, LESSER_THAN);
+                appendCondition(aql, params, names, entity, document, LESSER_THAN);
                 return;
             case LESSER_EQUALS_THAN:
-                appendCondition(aql, params, entity, document, LESSER_EQUALS_THAN);
+                appendCondition(aql, params, names, entity, document, LESSER_EQUALS_THAN);
                 return;
             case LIKE:
-                appendCondition(aql, params, entity, document, LIKE);
+                appendCondition(aql, params, names, entity, document, LIKE);
                 return;
             case AND:
 
@@ -154,7 +163,7 @@ final class QueryAQLConverter {
                     if (isFirstCondition(aql, counter)) {
                         aql.append(AND);
                     }
-                    definesCondition(dc, aql, params, entity, ++counter);
+                    definesCondition(dc, aql, params, names, entity, ++counter);
                 }
                 return;
             case OR:
@@ -164,13 +173,13 @@ final class QueryAQLConverter {
                     if (isFirstCondition(aql, counter)) {
                         aql.append(OR);
                     }
-                    definesCondition(dc, aql, params, entity, ++counter);
+                    definesCondition(dc, aql, params, names, entity, ++counter);
                 }
                 return;
             case NOT:
                 DocumentCondition documentCondition = document.get(DocumentCondition.class);
                 aql.append(NOT);
-                definesCondition(documentCondition, aql, params, entity, ++counter);
+                definesCondition(documentCondition, aql, params, names, entity, ++counter);
                 return;
             default:
                 throw new IllegalArgumentException("The condition does not support in AQL: " + condition.getCondition());
@@ -181,27 +190,27 @@ final class QueryAQLConverter {
         return count > 0 && !FILTER.equals(aql.substring(aql.length() - 8));
     }
 
-    private static void appendCondition(StringBuilder aql, Map<String, Object> params,
+    private static void appendCondition(StringBuilder aql, QueryTemplate.Builder params, Set<String> names,
                                         char entity, Document document, String condition) {
-        String nameParam = getNameParam(document.getName(), params);
+        String nameParam = getNameParam(document.getName(), names);
         aql.append(SEPARATOR).append(entity).append('.').append(document.getName())
                 .append(condition).append(PARAM_APPENDER).append(nameParam);
         if(IN.equals(condition)) {
-            params.put(nameParam, ValueUtil.convertToList(document.getValue()));
+            params.parameter(nameParam, document, ValueUtil::convertToList);
         } else {
-            params.put(nameParam, document.get());
+            params.parameter(nameParam, document, Value::get);
         }
     }
 
-    private static String getNameParam(String name, Map<String, Object> params) {
+    private static String getNameParam(String name, Set<String> names) {
         String parameter = getNameParam(name);
 
         String paramName = parameter;
         int counter = 1;
-        while (params.containsKey(paramName)) {
-            paramName = parameter + '_' + counter;
+        while (names.contains(paramName)) {
+            paramName = parameter + '_' + counter++;
         }
-
+        names.add(paramName);
         return paramName;
     }
 
@@ -20,14 +20,15 @@ import com.arangodb.entity.BaseDocument;
 import jakarta.nosql.Value;
 import jakarta.nosql.keyvalue.BucketManager;
 import jakarta.nosql.keyvalue.KeyValueEntity;
-import org.eclipse.jnosql.communication.driver.JsonbSupplier;
-import org.eclipse.jnosql.communication.driver.ValueJSON;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import org.eclipse.jnosql.communication.driver.metrics.Operation;
+import org.eclipse.jnosql.communication.driver.metrics.OperationMetrics;
 
-import javax.json.bind.Jsonb;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Base64;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Function;
 
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
@@ -42,33 +43,44 @@ public class ArangoDBBucketManager implements BucketManager {
 
 
     private static final String VALUE = "_value";
-    private static final Function<BaseDocument, String> TO_JSON = e -> e.getAttribute(VALUE).toString();
-    private static final Jsonb JSONB = JsonbSupplier.getInstance().get();
+
+    private static final OperationMetrics METRICS = OperationMetrics.of("arangodb");
 
     private final ArangoDB arangoDB;
 
     private final String bucketName;
     private final String namespace;
+    private final ValueCodec codec;
 
 
     ArangoDBBucketManager(ArangoDB arangoDB, String bucketName, String namespace) {
+        this(arangoDB, bucketName, namespace, ValueCodec.getInstance());
+    }
+
+    ArangoDBBucketManager(ArangoDB arangoDB, String bucketName, String namespace, ValueCodec codec) {
         this.arangoDB = arangoDB;
         this.bucketName = bucketName;
         this.namespace = namespace;
+        this.codec = codec;
     }
 
     @Override
     public <K, V> void put(K key, V value) throws NullPointerException {
         Objects.requireNonNull(key, "Key is required");
         Objects.requireNonNull(value, "value is required");
-        BaseDocument baseDocument = new BaseDocument();
-        baseDocument.setKey(key.toString());
-        baseDocument.addAttribute(VALUE, JSONB.toJson(value));
-        if (arangoDB.db(bucketName).collection(namespace).documentExists(key.toString())) {
-            arangoDB.db(bucketName).collection(namespace).deleteDocument(key.toString());
+        long start = METRICS.start();
+        try {
+            BaseDocument baseDocument = new BaseDocument();
+            baseDocument.setKey(key.toString());
+            baseDocument.addAttribute(VALUE, toAttribute(codec.encode(value)));
+            if (arangoDB.db(bucketName).collection(namespace).documentExists(key.toString())) {
+                arangoDB.db(bucketName).collection(namespace).deleteDocument(key.toString());
+            }
+            arangoDB.db(bucketName).collection(namespace)
+                    .insertDocument(baseDocument);
+        } finally {
+            METRICS.stop(Operation.PUT, start);
         }
-        arangoDB.db(bucketName).collection(namespace)
-                .insertDocument(baseDocument);
     }
 
     @Override
@@ -86,39 +98,58 @@ public class ArangoDBBucketManager implements BucketManager {
     @Override
     public <K> Optional<Value> get(K key) throws NullPointerException {
         Objects.requireNonNull(key, "Key is required");
-        BaseDocument entity = arangoDB.db(bucketName).collection(namespace)
-                .getDocument(key.toString(), BaseDocument.class);
+        long start = METRICS.start();
+        BaseDocument entity;
+        try {
+            entity = arangoDB.db(bucketName).collection(namespace)
+                    .getDocument(key.toString(), BaseDocument.class);
+        } finally {
+            METRICS.stop(Operation.GET, start);
+        }
 
         return ofNullable(entity)
-                .map(TO_JSON)
-                .map(ValueJSON::of);
+                .map(this::toValue);
 
     }
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
-        return stream(keys.spliterator(), false)
-                .map(Object::toString)
-                .map(k -> arangoDB.db(bucketName).collection(namespace)
-                        .getDocument(k, BaseDocument.class))
-                .filter(Objects::nonNull)
-                .map(TO_JSON)
-                .map(ValueJSON::of)
-                .collect(toList());
+        long start = METRICS.start();
+        try {
+            return stream(keys.spliterator(), false)
+                    .map(Object::toString)
+                    .map(k -> arangoDB.db(bucketName).collection(namespace)
+                            .getDocument(k, BaseDocument.class))
+                    .filter(Objects::nonNull)
+                    .map(this::toValue)
+                    .collect(toList());
+        } finally {
+            METRICS.stop(Operation.GET, start);
+        }
     }
 
     @Override
     public <K> void delete(K key) throws NullPointerException {
-        arangoDB.db(bucketName).collection(namespace).deleteDocument(key.toString());
+        long start = METRICS.start();
+        try {
+            arangoDB.db(bucketName).collection(namespace).deleteDocument(key.toString());
+        } finally {
+            METRICS.stop(Operation.DELETE, start);
+        }
     }
 
     @Override
     public <K> void delete(Iterable<K> keys) throws NullPointerException {
         Objects.requireNonNull(keys, "Keys is required");
 
-        arangoDB.db(bucketName).collection(namespace)
-                .deleteDocuments(stream(keys.spliterator(), false)
-                        .map(Object::toString).collect(toList()));
+        long start = METRICS.start();
+        try {
+            arangoDB.db(bucketName).collection(namespace)
+                    .deleteDocuments(stream(keys.spliterator(), false)
+                            .map(Object::toString).collect(toList()));
+        } finally {
+            METRICS.stop(Operation.DELETE, start);
+        }
     }
 
     @Override
@@ -126,6 +157,21 @@ public class ArangoDBBucketManager implements BucketManager {
 
     }
 
+    private String toAttribute(byte[] value) {
+        if (codec.isText()) {
+            return new String(value, StandardCharsets.UTF_8);
+        }
+        return Base64.getEncoder().encodeToString(value);
+    }
+
+    private Value toValue(BaseDocument document) {
+        String attribute = document.getAttribute(VALUE).toString();
+        if (codec.isText()) {
+            return codec.decode(attribute.getBytes(StandardCharsets.UTF_8));
+        }
+        return codec.decode(Base64.getDecoder().decode(attribute));
+    }
+
     @Override
     public void put(Iterable<KeyValueEntity> keyValueEntities, Duration ttl) throws NullPointerException, UnsupportedOperationException {
         throw new UnsupportedOperationException("ArangoDB does not support TTL");
@@ -17,6 +17,7 @@ package org.eclipse.jnosql.communication.arangodb.keyvalue;
 import com.arangodb.ArangoDB;
 import jakarta.nosql.keyvalue.BucketManagerFactory;
 import org.eclipse.jnosql.communication.arangodb.document.ArangoDBUtil;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
 
 import java.util.List;
 import java.util.Map;
@@ -37,8 +38,15 @@ public class ArangoDBBucketManagerFactory implements BucketManagerFactory {
 
     private final ArangoDB arangoDB;
 
+    private final ValueCodec codec;
+
     ArangoDBBucketManagerFactory(ArangoDB arangoDB) {
+        this(arangoDB, ValueCodec.getInstance());
+    }
+
+    ArangoDBBucketManagerFactory(ArangoDB arangoDB, ValueCodec codec) {
         this.arangoDB = arangoDB;
+        this.codec = codec;
     }
 
     @Override
@@ -48,7 +56,7 @@ public class ArangoDBBucketManagerFactory implements BucketManagerFactory {
 
     public ArangoDBBucketManager getBucketManager(String bucketName, String namespace) {
         ArangoDBUtil.checkCollection(bucketName, arangoDB, namespace);
-        return new ArangoDBBucketManager(arangoDB, bucketName, namespace);
+        return new ArangoDBBucketManager(arangoDB, bucketName, namespace, codec);
     }
 
     @Override
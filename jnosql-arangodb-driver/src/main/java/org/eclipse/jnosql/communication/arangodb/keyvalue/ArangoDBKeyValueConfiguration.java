@@ -22,6 +22,7 @@ import jakarta.nosql.keyvalue.KeyValueConfiguration;
 import org.eclipse.jnosql.communication.arangodb.ArangoDBConfiguration;
 import org.eclipse.jnosql.communication.arangodb.ArangoDBConfigurations;
 import org.eclipse.jnosql.communication.driver.ConfigurationReader;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
 
 import java.util.Map;
 
@@ -44,6 +45,9 @@ public final class ArangoDBKeyValueConfiguration extends ArangoDBConfiguration
     @Override
     public ArangoDBBucketManagerFactory get(Settings settings) {
         ArangoDB arangoDB = getArangoDB(settings);
-        return new ArangoDBBucketManagerFactory(arangoDB);
+        ValueCodec codec = settings.get(ArangoDBConfigurations.VALUE_CODEC)
+                .map(Object::toString).map(ValueCodec::of)
+                .orElseGet(ValueCodec::getInstance);
+        return new ArangoDBBucketManagerFactory(arangoDB, codec);
     }
 }
@@ -21,6 +21,7 @@ import java.util.Map;
 
 import static jakarta.nosql.document.DocumentQuery.select;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class QueryAQLConverterTest {
 
@@ -154,4 +155,24 @@ public class QueryAQLConverterTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldReuseTranslationWithNewValues() {
+        DocumentQuery query = select().from("collection")
+                .where("name").eq("Otavio")
+                .or("name").eq("Lucas")
+                .or("name").eq("Ada").build();
+        DocumentQuery other = select().from("collection")
+                .where("name").eq("Poliana")
+                .or("name").eq("Maria")
+                .or("name").eq("Ana").build();
+
+        AQLQueryResult convert = QueryAQLConverter.select(query);
+        AQLQueryResult otherConvert = QueryAQLConverter.select(other);
+        assertSame(convert.getQuery(), otherConvert.getQuery());
+        Map<String, Object> values = otherConvert.getValues();
+        assertEquals("Poliana", values.get("name"));
+        assertEquals("Maria", values.get("name_1"));
+        assertEquals("Ana", values.get("name_2"));
+    }
+
+}
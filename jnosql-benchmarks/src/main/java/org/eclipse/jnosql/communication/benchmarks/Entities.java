@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.benchmarks;
+
+import jakarta.nosql.Sort;
+import jakarta.nosql.column.Column;
+import jakarta.nosql.column.ColumnCondition;
+import jakarta.nosql.column.ColumnEntity;
+import jakarta.nosql.column.ColumnQuery;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentCondition;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Synthetic entities and queries to the benchmarks. The width is the number of fields, or conditions, on each
+ * level and the depth is how many levels of sub-documents a document entity has.
+ * Every fourth field is a sub-document while there is depth left, so a depth of zero creates flat entities.
+ */
+public final class Entities {
+
+    /**
+     * The width to the sub-documents, it keeps the deep entities at a size close to the flat ones
+     */
+    private static final int SUB_DOCUMENT_WIDTH = 4;
+
+    private Entities() {
+    }
+
+    /**
+     * Creates a {@link DocumentEntity}
+     *
+     * @param name  the document collection
+     * @param width the number of fields
+     * @param depth the number of sub-document levels
+     * @return a new {@link DocumentEntity}
+     */
+    public static DocumentEntity document(String name, int width, int depth) {
+        DocumentEntity entity = DocumentEntity.of(name);
+        entity.add(Document.of("_id", name + "-1"));
+        entity.addAll(documents(width, depth));
+        return entity;
+    }
+
+    /**
+     * Creates a {@link ColumnEntity} with text, number and list columns
+     *
+     * @param name  the column family
+     * @param width the number of columns
+     * @return a new {@link ColumnEntity}
+     */
+    public static ColumnEntity column(String name, int width) {
+        ColumnEntity entity = ColumnEntity.of(name);
+        entity.add(Column.of("id", 1L));
+        for (int index = 0; index < width; index++) {
+            switch (index % 3) {
+                case 0:
+                    entity.add(Column.of("field" + index, "value" + index));
+                    break;
+                case 1:
+                    entity.add(Column.of("field" + index, index));
+                    break;
+                default:
+                    entity.add(Column.of("field" + index, Arrays.asList("a" + index, "b" + index)));
+            }
+        }
+        return entity;
+    }
+
+    /**
+     * Creates a {@link DocumentQuery} with as many conditions as the width, joined by AND, sorted and limited
+     *
+     * @param name  the document collection
+     * @param width the number of conditions
+     * @return a new {@link DocumentQuery}
+     */
+    public static DocumentQuery documentQuery(String name, int width) {
+        DocumentCondition[] conditions = new DocumentCondition[Math.max(width, 1)];
+        for (int index = 0; index < conditions.length; index++) {
+            Document document = Document.of("field" + index, index % 2 == 0 ? "value" + index : index);
+            conditions[index] = index % 2 == 0 ? DocumentCondition.eq(document) : DocumentCondition.gt(document);
+        }
+        DocumentCondition condition = conditions.length == 1 ? conditions[0] : DocumentCondition.and(conditions);
+        return DocumentQuery.builder().from(name).where(condition)
+                .sort(Sort.asc("field0")).skip(10).limit(100).build();
+    }
+
+    /**
+     * Creates a {@link ColumnQuery} with as many conditions as the width, joined by AND
+     *
+     * @param name  the column family
+     * @param width the number of conditions
+     * @return a new {@link ColumnQuery}
+     */
+    public static ColumnQuery columnQuery(String name, int width) {
+        ColumnCondition[] conditions = new ColumnCondition[Math.max(width, 1)];
+        for (int index = 0; index < conditions.length; index++) {
+            Column column = Column.of("field" + index, index % 2 == 0 ? "value" + index : index);
+            conditions[index] = index % 2 == 0 ? ColumnCondition.eq(column) : ColumnCondition.gt(column);
+        }
+        ColumnCondition condition = conditions.length == 1 ? conditions[0] : ColumnCondition.and(conditions);
+        return ColumnQuery.builder().from(name).where(condition).limit(100).build();
+    }
+
+    private static List<Document> documents(int width, int depth) {
+        List<Document> documents = new ArrayList<>(width);
+        for (int index = 0; index < width; index++) {
+            String name = "field" + index;
+            switch (index % 4) {
+                case 0:
+                    documents.add(Document.of(name, "value" + index));
+                    break;
+                case 1:
+                    documents.add(Document.of(name, index));
+                    break;
+                case 2:
+                    documents.add(Document.of(name, Arrays.asList("a" + index, "b" + index, "c" + index)));
+                    break;
+                default:
+                    if (depth > 0) {
+                        documents.add(Document.of(name, documents(SUB_DOCUMENT_WIDTH, depth - 1)));
+                    } else {
+                        documents.add(Document.of(name, index * 1.5D));
+                    }
+            }
+        }
+        return documents;
+    }
+}
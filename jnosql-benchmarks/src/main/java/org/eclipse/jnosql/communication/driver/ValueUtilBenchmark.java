@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver;
+
+import jakarta.nosql.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ValueUtil} converting scalar values, values that go through a {@link jakarta.nosql.ValueWriter}
+ * and iterables of both.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValueUtilBenchmark {
+
+    @Param({"10", "100"})
+    private int width;
+
+    private List<Value> values;
+
+    private Value iterable;
+
+    @Setup
+    public void setUp() {
+        values = new ArrayList<>(width);
+        List<Object> items = new ArrayList<>(width);
+        for (int index = 0; index < width; index++) {
+            Object item = index % 2 == 0 ? "value" + index : LocalDate.of(2022, 1, 1).plusDays(index);
+            values.add(Value.of(item));
+            items.add(item);
+        }
+        iterable = Value.of(items);
+    }
+
+    @Benchmark
+    public int convert() {
+        int hash = 0;
+        for (Value value : values) {
+            hash += ValueUtil.convert(value).hashCode();
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public Object convertIterable() {
+        return ValueUtil.convert(iterable);
+    }
+
+    @Benchmark
+    public List<Object> convertToList() {
+        return ValueUtil.convertToList(iterable);
+    }
+}
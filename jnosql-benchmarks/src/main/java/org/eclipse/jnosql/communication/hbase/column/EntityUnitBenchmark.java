@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.hbase.column;
+
+import jakarta.nosql.column.ColumnEntity;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.client.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link Result} to {@link ColumnEntity} conversion in {@link EntityUnit}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityUnitBenchmark {
+
+    private static final byte[] ROW = "1".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] FAMILY = "person".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"10", "100"})
+    private int width;
+
+    private Result result;
+
+    @Setup
+    public void setUp() {
+        List<Cell> cells = new ArrayList<>(width);
+        for (int index = 0; index < width; index++) {
+            cells.add(new KeyValue(ROW, FAMILY, ("field" + index).getBytes(StandardCharsets.UTF_8),
+                    ("value" + index).getBytes(StandardCharsets.UTF_8)));
+        }
+        result = Result.create(cells);
+    }
+
+    @Benchmark
+    public ColumnEntity toEntity() {
+        return new EntityUnit(result).toEntity();
+    }
+}
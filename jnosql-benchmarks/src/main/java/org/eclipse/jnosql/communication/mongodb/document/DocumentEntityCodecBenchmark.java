@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import com.mongodb.MongoClientSettings;
+import jakarta.nosql.document.DocumentEntity;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.io.BasicOutputBuffer;
+import org.eclipse.jnosql.communication.benchmarks.Entities;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link DocumentEntityCodec} against the {@link org.bson.Document} path through
+ * {@link MongoDBUtils}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentEntityCodecBenchmark {
+
+    private static final String COLLECTION = "person";
+
+    @Param({"10", "100"})
+    private int width;
+
+    @Param({"0", "2"})
+    private int depth;
+
+    private DocumentEntity entity;
+
+    private byte[] bson;
+
+    private DocumentEntityCodec entityCodec;
+
+    private Codec<org.bson.Document> documentCodec;
+
+    @Setup
+    public void setUp() {
+        CodecRegistry registry = MongoClientSettings.getDefaultCodecRegistry();
+        entityCodec = new DocumentEntityCodec(COLLECTION, registry);
+        documentCodec = registry.get(org.bson.Document.class);
+        entity = Entities.document(COLLECTION, width, depth);
+        RawBsonDocument raw = new RawBsonDocument(MongoDBUtils.getDocument(entity), documentCodec);
+        bson = raw.getByteBuffer().array();
+    }
+
+    @Benchmark
+    public DocumentEntity decodeDocument() {
+        org.bson.Document document = documentCodec.decode(reader(), DecoderContext.builder().build());
+        return DocumentEntity.of(COLLECTION, MongoDBUtils.of(document));
+    }
+
+    @Benchmark
+    public DocumentEntity decodeCodec() {
+        return entityCodec.decode(reader(), DecoderContext.builder().build());
+    }
+
+    @Benchmark
+    public int encodeDocument() {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        documentCodec.encode(new BsonBinaryWriter(buffer), MongoDBUtils.getDocument(entity),
+                EncoderContext.builder().build());
+        return buffer.getSize();
+    }
+
+    @Benchmark
+    public int encodeCodec() {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        entityCodec.encode(new BsonBinaryWriter(buffer), entity, EncoderContext.builder().build());
+        return buffer.getSize();
+    }
+
+    private BsonBinaryReader reader() {
+        return new BsonBinaryReader(ByteBuffer.wrap(bson));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.orientdb.document;
+
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+import org.eclipse.jnosql.communication.benchmarks.Entities;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link DocumentEntity} to map conversion in {@link OrientDBConverter} and the OSQL translation in
+ * {@link QueryOSQLConverter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrientDBConverterBenchmark {
+
+    private static final String COLLECTION = "person";
+
+    @Param({"10", "100"})
+    private int width;
+
+    @Param({"0", "2"})
+    private int depth;
+
+    private DocumentEntity entity;
+
+    private DocumentQuery query;
+
+    @Setup
+    public void setUp() {
+        entity = Entities.document(COLLECTION, width, depth);
+        query = Entities.documentQuery(COLLECTION, width);
+    }
+
+    @Benchmark
+    public Map<String, Object> toMap() {
+        return OrientDBConverter.toMap(entity);
+    }
+
+    @Benchmark
+    public QueryOSQLConverter.Query toQuery() {
+        return QueryOSQLConverter.select(query);
+    }
+}
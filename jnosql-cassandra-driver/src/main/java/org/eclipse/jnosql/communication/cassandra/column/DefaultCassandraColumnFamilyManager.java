@@ -29,6 +29,9 @@ import com.datastax.oss.driver.api.querybuilder.insert.Insert;
 import jakarta.nosql.column.ColumnDeleteQuery;
 import jakarta.nosql.column.ColumnEntity;
 import jakarta.nosql.column.ColumnQuery;
+import org.eclipse.jnosql.communication.driver.metrics.Operation;
+import org.eclipse.jnosql.communication.driver.metrics.OperationMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.OperationPhase;
 
 import java.time.Duration;
 import java.util.Map;
@@ -42,6 +45,8 @@ import static java.util.Objects.requireNonNull;
 
 class DefaultCassandraColumnFamilyManager implements CassandraColumnFamilyManager {
 
+    static final OperationMetrics METRICS = OperationMetrics.of("cassandra");
+
     private final CqlSession session;
 
     private final Executor executor;
@@ -57,8 +62,14 @@ class DefaultCassandraColumnFamilyManager implements CassandraColumnFamilyManage
     @Override
     public ColumnEntity insert(ColumnEntity entity) {
         requireNonNull(entity, "entity is required");
+        long start = METRICS.start();
         final Insert insert = QueryUtils.insert(entity, keyspace, session, null);
-        session.execute(insert.build());
+        METRICS.stop(Operation.INSERT, OperationPhase.CONVERSION, start);
+        try {
+            session.execute(insert.build());
+        } finally {
+            METRICS.stop(Operation.INSERT, start);
+        }
         return entity;
     }
 
@@ -66,8 +77,14 @@ class DefaultCassandraColumnFamilyManager implements CassandraColumnFamilyManage
     public ColumnEntity insert(ColumnEntity entity, Duration duration) {
         requireNonNull(entity, "entity is required");
         requireNonNull(duration, "duration is required");
+        long start = METRICS.start();
         final Insert insert = QueryUtils.insert(entity, keyspace, session, duration);
-        session.execute(insert.build());
+        METRICS.stop(Operation.INSERT, OperationPhase.CONVERSION, start);
+        try {
+            session.execute(insert.build());
+        } finally {
+            METRICS.stop(Operation.INSERT, start);
+        }
         return entity;
     }
 
@@ -104,8 +121,14 @@ class DefaultCassandraColumnFamilyManager implements CassandraColumnFamilyManage
         requireNonNull(entity, "entities is required");
         requireNonNull(level, "level is required");
 
+        long start = METRICS.start();
         final Insert insert = QueryUtils.insert(entity, keyspace, session, null);
-        session.execute(insert.build().setConsistencyLevel(level));
+        METRICS.stop(Operation.INSERT, OperationPhase.CONVERSION, start);
+        try {
+            session.execute(insert.build().setConsistencyLevel(level));
+        } finally {
+            METRICS.stop(Operation.INSERT, start);
+        }
         return entity;
     }
 
@@ -115,8 +138,14 @@ class DefaultCassandraColumnFamilyManager implements CassandraColumnFamilyManage
         requireNonNull(level, "level is required");
         requireNonNull(ttl, "ttl is required");
 
+        long start = METRICS.start();
         final Insert insert = QueryUtils.insert(entity, keyspace, session, ttl);
-        session.execute(insert.build().setConsistencyLevel(level));
+        METRICS.stop(Operation.INSERT, OperationPhase.CONVERSION, start);
+        try {
+            session.execute(insert.build().setConsistencyLevel(level));
+        } finally {
+            METRICS.stop(Operation.INSERT, start);
+        }
         return entity;
     }
 
@@ -141,20 +170,36 @@ class DefaultCassandraColumnFamilyManager implements CassandraColumnFamilyManage
     public Stream<ColumnEntity> select(ColumnQuery query) {
         requireNonNull(query, "query is required");
         QueryExecutor executor = QueryExecutor.of(query);
-        return executor.execute(keyspace, query, this);
+        long start = METRICS.start();
+        try {
+            return executor.execute(keyspace, query, this);
+        } finally {
+            METRICS.stop(Operation.SELECT, start);
+        }
     }
 
     @Override
     public Stream<ColumnEntity> select(ColumnQuery query, ConsistencyLevel level) throws NullPointerException {
         requireNonNull(query, "query is required");
         QueryExecutor executor = QueryExecutor.of(query);
-        return executor.execute(keyspace, query, level, this);
+        long start = METRICS.start();
+        try {
+            return executor.execute(keyspace, query, level, this);
+        } finally {
+            METRICS.stop(Operation.SELECT, start);
+        }
     }
 
     @Override
     public long count(String columnFamily) {
         requireNonNull(columnFamily, "columnFamily is required");
-        final ResultSet execute = session.execute(QueryBuilder.selectFrom(keyspace, columnFamily).countAll().build());
+        long start = METRICS.start();
+        final ResultSet execute;
+        try {
+            execute = session.execute(QueryBuilder.selectFrom(keyspace, columnFamily).countAll().build());
+        } finally {
+            METRICS.stop(Operation.COUNT, start);
+        }
         return execute.one().getLong(0);
     }
 
@@ -168,17 +213,29 @@ class DefaultCassandraColumnFamilyManager implements CassandraColumnFamilyManage
     public void delete(ColumnDeleteQuery query, ConsistencyLevel level) {
         requireNonNull(query, "query is required");
         requireNonNull(level, "level is required");
+        long start = METRICS.start();
         final Delete delete = DeleteQueryConverter.delete(query, keyspace);
+        METRICS.stop(Operation.DELETE, OperationPhase.TRANSLATION, start);
         final SimpleStatement build = delete.build();
         final SimpleStatement simpleStatement = build.setConsistencyLevel(level);
-        session.execute(simpleStatement);
+        try {
+            session.execute(simpleStatement);
+        } finally {
+            METRICS.stop(Operation.DELETE, start);
+        }
     }
 
     @Override
     public void delete(ColumnDeleteQuery query) {
         requireNonNull(query, "query is required");
+        long start = METRICS.start();
         final Delete delete = DeleteQueryConverter.delete(query, keyspace);
-        session.execute(delete.build());
+        METRICS.stop(Operation.DELETE, OperationPhase.TRANSLATION, start);
+        try {
+            session.execute(delete.build());
+        } finally {
+            METRICS.stop(Operation.DELETE, start);
+        }
     }
 
 
@@ -21,6 +21,8 @@ import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.querybuilder.select.Select;
 import jakarta.nosql.column.ColumnEntity;
 import jakarta.nosql.column.ColumnQuery;
+import org.eclipse.jnosql.communication.driver.metrics.Operation;
+import org.eclipse.jnosql.communication.driver.metrics.OperationPhase;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -44,7 +46,9 @@ enum QueryExecutorType implements QueryExecutor {
             if (query.isExhausted()) {
                 return Stream.empty();
             }
+            long start = DefaultCassandraColumnFamilyManager.METRICS.start();
             Select select = QueryUtils.select(query, keyspace);
+            DefaultCassandraColumnFamilyManager.METRICS.stop(Operation.SELECT, OperationPhase.TRANSLATION, start);
             SimpleStatement simpleStatement = select.build();
             if (Objects.nonNull(level)) {
                 simpleStatement = simpleStatement.setConsistencyLevel(level);
@@ -82,7 +86,9 @@ enum QueryExecutorType implements QueryExecutor {
         public Stream<ColumnEntity> execute(String keyspace, ColumnQuery query, ConsistencyLevel level,
                                             DefaultCassandraColumnFamilyManager manager) {
 
+            long start = DefaultCassandraColumnFamilyManager.METRICS.start();
             Select cassandraSelect = QueryUtils.select(query, keyspace);
+            DefaultCassandraColumnFamilyManager.METRICS.stop(Operation.SELECT, OperationPhase.TRANSLATION, start);
 
             if (query.getLimit() > 0 && query.getSkip() == 0) {
                 cassandraSelect = cassandraSelect.limit((int) query.getLimit());
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.nosql.TypeSupplier;
+import jakarta.nosql.Value;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.Objects;
+
+/**
+ * A {@link Value} that keeps the CBOR bytes and decodes them on read, keeping the last decoded instance
+ * with its type when it is immutable, the same way as {@link ValueJSON}, any other type is decoded on each call.
+ * {@link #get()} returns the value as maps, lists and scalars.
+ */
+final class CBORValue implements Value {
+
+    private final ObjectMapper mapper;
+
+    private final byte[] bytes;
+
+    private Type type;
+
+    private Object decoded;
+
+    CBORValue(ObjectMapper mapper, byte[] bytes) {
+        this.mapper = mapper;
+        this.bytes = bytes;
+    }
+
+    @Override
+    public Object get() {
+        return decode(Object.class);
+    }
+
+    @Override
+    public <T> T get(Class<T> clazz) throws NullPointerException, UnsupportedOperationException {
+        Objects.requireNonNull(clazz, "clazz is required");
+        return (T) decode(clazz);
+    }
+
+    @Override
+    public <T> T get(TypeSupplier<T> typeSupplier) throws NullPointerException, UnsupportedOperationException {
+        Objects.requireNonNull(typeSupplier, "typeSupplier is required");
+        return (T) decode(typeSupplier.get());
+    }
+
+    @Override
+    public boolean isInstanceOf(Class<?> typeClass) {
+        Objects.requireNonNull(typeClass, "typeClass is required");
+        return typeClass.isInstance(get());
+    }
+
+    private Object decode(Type type) {
+        synchronized (this) {
+            if (type.equals(this.type)) {
+                return decoded;
+            }
+        }
+        JavaType javaType = mapper.constructType(type);
+        try {
+            Object value = mapper.readValue(bytes, javaType);
+            if (ValueJSON.isImmutable(value)) {
+                synchronized (this) {
+                    this.decoded = value;
+                    this.type = type;
+                }
+            }
+            return value;
+        } catch (IOException exception) {
+            throw new UncheckedIOException("It cannot decode the CBOR value to " + type, exception);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CBORValue{" + "size=" + bytes.length + '}';
+    }
+}
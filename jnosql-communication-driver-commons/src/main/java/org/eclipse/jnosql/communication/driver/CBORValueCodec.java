@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import jakarta.nosql.Value;
+
+import java.util.Objects;
+
+/**
+ * A {@link ValueCodec} that writes the value as <a href="https://cbor.io/">CBOR</a>, a binary JSON that is
+ * smaller and faster to parse. It requires the optional "com.fasterxml.jackson.dataformat:jackson-dataformat-cbor"
+ * dependency, without it the codec is not available.
+ */
+public final class CBORValueCodec implements ValueCodec {
+
+    /**
+     * The name of this codec
+     */
+    public static final String CBOR = "cbor";
+
+    private static final ObjectMapper MAPPER = CBORMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+            .findAndAddModules()
+            .build();
+
+    @Override
+    public String getName() {
+        return CBOR;
+    }
+
+    @Override
+    public String getContentType() {
+        return "application/cbor";
+    }
+
+    @Override
+    public boolean isText() {
+        return false;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        Objects.requireNonNull(value, "value is required");
+        try {
+            return MAPPER.writeValueAsBytes(value);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalArgumentException("It cannot encode the value as CBOR: " + value.getClass(),
+                    exception);
+        }
+    }
+
+    @Override
+    public Value decode(byte[] value) {
+        Objects.requireNonNull(value, "value is required");
+        return new CBORValue(MAPPER, value);
+    }
+}
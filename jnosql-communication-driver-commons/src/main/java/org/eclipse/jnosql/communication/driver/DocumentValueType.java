@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver;
+
+import jakarta.nosql.document.Document;
+
+/**
+ * Classifies a value converted by {@link ValueUtil#convert(jakarta.nosql.Value)} in the shapes the document
+ * drivers write: a single {@link Document}, a sub-document (an {@link Iterable} of {@link Document}),
+ * a list of sub-documents, a plain list or a scalar. The classification walks the {@link Iterable} once and
+ * stops at the first element that rules out both sub-document shapes.
+ */
+public enum DocumentValueType {
+
+    /**
+     * Any value that is neither a {@link Document} nor an {@link Iterable}
+     */
+    SCALAR,
+    /**
+     * A single {@link Document}
+     */
+    DOCUMENT,
+    /**
+     * An {@link Iterable} where all the elements are {@link Document}, an empty {@link Iterable} included
+     */
+    SUB_DOCUMENT,
+    /**
+     * An {@link Iterable} where all the elements are {@link #SUB_DOCUMENT}
+     */
+    SUB_DOCUMENT_LIST,
+    /**
+     * Any other {@link Iterable}
+     */
+    LIST;
+
+    /**
+     * Classifies the value
+     *
+     * @param value the converted value
+     * @return the {@link DocumentValueType}, {@link #SCALAR} when value is null
+     */
+    public static DocumentValueType of(Object value) {
+        if (value instanceof Document) {
+            return DOCUMENT;
+        }
+        if (!(value instanceof Iterable)) {
+            return SCALAR;
+        }
+        boolean subDocument = true;
+        boolean subDocumentList = true;
+        for (Object element : (Iterable<?>) value) {
+            if (subDocument && !(element instanceof Document)) {
+                subDocument = false;
+            }
+            if (subDocumentList && !isSubDocument(element)) {
+                subDocumentList = false;
+            }
+            if (!subDocument && !subDocumentList) {
+                return LIST;
+            }
+        }
+        return subDocument ? SUB_DOCUMENT : SUB_DOCUMENT_LIST;
+    }
+
+    private static boolean isSubDocument(Object value) {
+        if (!(value instanceof Iterable)) {
+            return false;
+        }
+        for (Object element : (Iterable<?>) value) {
+            if (!(element instanceof Document)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
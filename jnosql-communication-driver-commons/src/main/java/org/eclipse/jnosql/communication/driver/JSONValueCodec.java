@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver;
+
+import jakarta.nosql.Value;
+
+import javax.json.bind.Jsonb;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * The default {@link ValueCodec}, it writes the value as JSON and reads it as {@link ValueJSON}
+ */
+enum JSONValueCodec implements ValueCodec {
+
+    INSTANCE;
+
+    private static final Jsonb JSONB = JsonbSupplier.getInstance().get();
+
+    @Override
+    public String getName() {
+        return JSON;
+    }
+
+    @Override
+    public String getContentType() {
+        return "application/json";
+    }
+
+    @Override
+    public boolean isText() {
+        return true;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        Objects.requireNonNull(value, "value is required");
+        return JSONB.toJson(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Value decode(byte[] value) {
+        return ValueJSON.ofBytes(value);
+    }
+}
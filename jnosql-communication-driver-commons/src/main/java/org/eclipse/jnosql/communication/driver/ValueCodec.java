@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver;
+
+import jakarta.nosql.Value;
+
+/**
+ * Defines how the key-value drivers write a value to bytes and read it back as {@link Value}.
+ * The implementations are loaded from {@link java.util.ServiceLoader} and found by {@link #getName()},
+ * the default one, {@link #JSON}, writes the value as JSON text with {@link JsonbSupplier}.
+ */
+public interface ValueCodec {
+
+    /**
+     * The name of the default codec
+     */
+    String JSON = "json";
+
+    /**
+     * The name of this codec, used in the driver settings to choose it, e.g. "json" or "cbor"
+     *
+     * @return the name
+     */
+    String getName();
+
+    /**
+     * The media type of the encoded value, e.g. "application/json"
+     *
+     * @return the content type
+     */
+    String getContentType();
+
+    /**
+     * Returns whether the encoded value is UTF-8 text, so the drivers can keep it in a text field.
+     *
+     * @return true when {@link #encode(Object)} returns UTF-8 text
+     */
+    boolean isText();
+
+    /**
+     * Encodes the value
+     *
+     * @param value the value
+     * @return the encoded value
+     * @throws NullPointerException when value is null
+     */
+    byte[] encode(Object value);
+
+    /**
+     * Creates a {@link Value} from an encoded value, the value is only decoded when it is read.
+     *
+     * @param value the encoded value
+     * @return the {@link Value} instance
+     * @throws NullPointerException when value is null
+     */
+    Value decode(byte[] value);
+
+    /**
+     * Returns the default {@link ValueCodec} that writes JSON.
+     *
+     * @return the {@link ValueCodec} named {@link #JSON}
+     */
+    static ValueCodec getInstance() {
+        return JSONValueCodec.INSTANCE;
+    }
+
+    /**
+     * Finds a {@link ValueCodec} by name
+     *
+     * @param name the codec name
+     * @return the {@link ValueCodec}
+     * @throws NullPointerException     when name is null
+     * @throws IllegalArgumentException when there is no codec with this name
+     */
+    static ValueCodec of(String name) {
+        return ValueCodecServiceLoader.get(name);
+    }
+}
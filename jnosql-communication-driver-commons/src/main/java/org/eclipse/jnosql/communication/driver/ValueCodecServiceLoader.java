@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+final class ValueCodecServiceLoader {
+
+    private static final Logger LOGGER = Logger.getLogger(ValueCodecServiceLoader.class.getName());
+
+    private static final Map<String, ValueCodec> CODECS;
+
+    static {
+        Map<String, ValueCodec> codecs = new LinkedHashMap<>();
+        codecs.put(JSONValueCodec.INSTANCE.getName(), JSONValueCodec.INSTANCE);
+        Iterator<ValueCodec> iterator = ServiceLoader.load(ValueCodec.class).iterator();
+        while (true) {
+            try {
+                if (!iterator.hasNext()) {
+                    break;
+                }
+                ValueCodec codec = iterator.next();
+                codecs.putIfAbsent(codec.getName().toLowerCase(), codec);
+            } catch (ServiceConfigurationError error) {
+                LOGGER.log(Level.FINE, "Ignoring a ValueCodec that cannot be loaded, usually an optional"
+                        + " dependency missing in the classpath", error);
+            }
+        }
+        CODECS = Collections.unmodifiableMap(codecs);
+    }
+
+    private ValueCodecServiceLoader() {
+    }
+
+    static ValueCodec get(String name) {
+        Objects.requireNonNull(name, "name is required");
+        ValueCodec codec = CODECS.get(name.trim().toLowerCase());
+        if (codec == null) {
+            throw new IllegalArgumentException("There is no ValueCodec named " + name
+                    + ", the available ones are: " + CODECS.keySet());
+        }
+        return codec;
+    }
+}
@@ -18,44 +18,112 @@ import jakarta.nosql.TypeSupplier;
 import jakarta.nosql.Value;
 
 import javax.json.bind.Jsonb;
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 import java.util.Objects;
+import java.util.Set;
 
 
 /**
  * A {@link Value} implementation that storage all the information as a {@link String} with JSON format.
+ * It keeps the last decoded instance with its type when it is immutable, e.g. a {@link String}, a boxed
+ * primitive or an enum, so reading the same type again does not parse the JSON again. Any other type, e.g. an
+ * entity, a list or a map, is parsed on each call and each caller gets its own instance, so a value shared
+ * between threads, e.g. by a near cache, is never changed by one of its readers.
+ * When it is created from bytes, the {@link String} is only created when {@link #get()} is called.
  */
 public class ValueJSON implements Value {
 
     private static final Jsonb JSONB = JsonbSupplier.getInstance().get();
 
-    private final String json;
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(String.class, Boolean.class, Character.class,
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, BigInteger.class,
+            BigDecimal.class, LocalDate.class, LocalTime.class, LocalDateTime.class, OffsetDateTime.class,
+            ZonedDateTime.class, Instant.class, Duration.class);
+
+    private final byte[] bytes;
+
+    private volatile String json;
+
+    private volatile Decoded decoded;
 
     ValueJSON(String json) {
         this.json = json;
+        this.bytes = null;
+    }
+
+    ValueJSON(byte[] bytes) {
+        this.bytes = bytes;
     }
 
 
     @Override
     public Object get() {
-        return json;
+        return getJson();
     }
 
     @Override
     public <T> T get(Class<T> clazz) throws NullPointerException, UnsupportedOperationException {
         Objects.requireNonNull(clazz, "clazz is required");
-        return JSONB.fromJson(json, clazz);
+        return (T) decode(clazz);
     }
 
     @Override
     public <T> T get(TypeSupplier<T> typeSupplier) throws NullPointerException, UnsupportedOperationException {
         Objects.requireNonNull(typeSupplier, "typeSupplier is required");
-        return JSONB.fromJson(json, typeSupplier.get());
+        return (T) decode(typeSupplier.get());
     }
 
     @Override
     public boolean isInstanceOf(Class<?> typeClass) {
         Objects.requireNonNull(typeClass, "typeClass is requried");
-        return typeClass.isInstance(json);
+        return typeClass.isInstance(getJson());
+    }
+
+    private Object decode(Type type) {
+        Decoded current = this.decoded;
+        if (current != null && current.type.equals(type)) {
+            return current.value;
+        }
+        Object value;
+        if (json == null) {
+            value = JSONB.fromJson(new ByteArrayInputStream(bytes), type);
+        } else {
+            value = JSONB.fromJson(json, type);
+        }
+        if (isImmutable(value)) {
+            this.decoded = new Decoded(type, value);
+        }
+        return value;
+    }
+
+    /**
+     * Checks whether a decoded instance cannot change, so the same instance can be returned to every caller
+     *
+     * @param value the decoded instance
+     * @return true when the instance is immutable
+     */
+    static boolean isImmutable(Object value) {
+        return value == null || value instanceof Enum || IMMUTABLE_TYPES.contains(value.getClass());
+    }
+
+    private String getJson() {
+        String current = this.json;
+        if (current == null) {
+            current = new String(bytes, StandardCharsets.UTF_8);
+            this.json = current;
+        }
+        return current;
     }
 
     /**
@@ -70,6 +138,20 @@ public class ValueJSON implements Value {
         return new ValueJSON(json);
     }
 
+    /**
+     * Returns a new instance of {@link Value} keeping the value as JSON encoded in UTF-8. The bytes are parsed
+     * straight to the requested type, the {@link String} is only created by {@link Value#get()}.
+     * The array is not copied, so it must not change after this call.
+     *
+     * @param json the value as UTF-8 bytes
+     * @return the new Value instance
+     * @throws NullPointerException when json is null
+     */
+    public static Value ofBytes(byte[] json) throws NullPointerException {
+        Objects.requireNonNull(json, "json is required");
+        return new ValueJSON(json);
+    }
+
     /**
      * Returns a new instance of {@link Value} converting to JSON first
      *
@@ -81,4 +163,16 @@ public class ValueJSON implements Value {
         Objects.requireNonNull(json, "json is required");
         return new ValueJSON(JSONB.toJson(json));
     }
+
+    private static final class Decoded {
+
+        private final Type type;
+
+        private final Object value;
+
+        private Decoded(Type type, Object value) {
+            this.type = type;
+            this.value = value;
+        }
+    }
 }
@@ -23,6 +23,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
 import java.util.function.Function;
 import java.util.stream.StreamSupport;
 
@@ -34,6 +36,25 @@ import static java.util.stream.Collectors.toList;
 public final class ValueUtil {
     private static final String PARAM_CLASS_NAME = "org.eclipse.jnosql.communication.ParamValue";
     private static final ValueWriter VALUE_WRITER = ValueWriterDecorator.getInstance();
+    private static final List<ValueWriter> WRITERS = loadWriters();
+    /**
+     * The writer to each concrete class, or empty when there is no writer, so the writers are walked
+     * once per class instead of once per value.
+     */
+    private static final ClassValue<Optional<ValueWriter>> WRITER_BY_CLASS = new ClassValue<Optional<ValueWriter>>() {
+        @Override
+        protected Optional<ValueWriter> computeValue(Class<?> type) {
+            for (ValueWriter writer : WRITERS) {
+                if (writer.test(type)) {
+                    return Optional.of(writer);
+                }
+            }
+            if (VALUE_WRITER.test(type)) {
+                return Optional.of(VALUE_WRITER);
+            }
+            return Optional.empty();
+        }
+    };
     private static final Function CONVERT = o -> {
         if (o instanceof Value) {
             return convert(Value.class.cast(o));
@@ -96,9 +117,16 @@ public final class ValueUtil {
     }
 
     private static Object getObject(Object val) {
-        if (VALUE_WRITER.test(val.getClass())) {
-            return VALUE_WRITER.write(val);
+        Optional<ValueWriter> writer = WRITER_BY_CLASS.get(val.getClass());
+        if (writer.isPresent()) {
+            return writer.get().write(val);
         }
         return val;
     }
+
+    private static List<ValueWriter> loadWriters() {
+        List<ValueWriter> writers = new ArrayList<>();
+        ServiceLoader.load(ValueWriter.class).forEach(writers::add);
+        return Collections.unmodifiableList(writers);
+    }
 }
@@ -17,6 +17,9 @@ package org.eclipse.jnosql.communication.driver.attachment;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
 
 /**
  * Default representation of {@link EntityAttachment} for in-memory data.
@@ -61,4 +64,19 @@ public class ByteArrayEntityAttachment implements EntityAttachment {
         return data.length;
     }
 
+    @Override
+    public ByteBuffer getBuffer() {
+        return ByteBuffer.wrap(data).asReadOnlyBuffer();
+    }
+
+    @Override
+    public long transferTo(WritableByteChannel target) throws IOException {
+        Objects.requireNonNull(target, "target is required");
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+        return data.length;
+    }
+
 }
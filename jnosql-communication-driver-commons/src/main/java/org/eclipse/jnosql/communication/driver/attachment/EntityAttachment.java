@@ -17,6 +17,10 @@ package org.eclipse.jnosql.communication.driver.attachment;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
 import java.util.Objects;
 
@@ -46,6 +50,66 @@ public interface EntityAttachment {
      * @return the size of the content in bytes
      */
     long getLength();
+
+    /**
+     * The default implementation adapts {@link #getData()}; implementations backed by a file or a buffer
+     * should return a channel that reads it directly.
+     *
+     * @return a {@link ReadableByteChannel} over the data of the attachment, the caller must close it
+     * @throws IOException if there is an I/O problem retrieving the attachment content
+     */
+    default ReadableByteChannel getChannel() throws IOException {
+        return Channels.newChannel(getData());
+    }
+
+    /**
+     * The default implementation reads the whole content on heap; implementations backed by a file or a
+     * buffer should return a view of it instead.
+     *
+     * @return a read-only {@link ByteBuffer} with the whole data of the attachment
+     * @throws IOException if there is an I/O problem retrieving the attachment content or when the content
+     *                     is larger than {@link Integer#MAX_VALUE} bytes
+     */
+    default ByteBuffer getBuffer() throws IOException {
+        long length = getLength();
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("The attachment is too large to fit in a buffer: " + getName());
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) length);
+        try (ReadableByteChannel channel = getChannel()) {
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keeps reading until the buffer is full or the channel ends
+            }
+        }
+        buffer.flip();
+        return buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * Writes the whole data of the attachment to the target. Implementations backed by a file use
+     * {@link java.nio.channels.FileChannel#transferTo(long, long, WritableByteChannel)}, so the operating
+     * system can move the bytes without copying them on heap.
+     *
+     * @param target the channel to write to, it is not closed
+     * @return the number of bytes written
+     * @throws IOException          if there is an I/O problem reading the attachment or writing the target
+     * @throws NullPointerException when target is null
+     */
+    default long transferTo(WritableByteChannel target) throws IOException {
+        Objects.requireNonNull(target, "target is required");
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long total = 0;
+        try (ReadableByteChannel channel = getChannel()) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    total += target.write(buffer);
+                }
+                buffer.clear();
+            }
+        }
+        return total;
+    }
     
     /**
      * @return an ETag value for the current version of the content
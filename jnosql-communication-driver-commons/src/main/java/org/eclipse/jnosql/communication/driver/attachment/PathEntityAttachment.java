@@ -18,12 +18,19 @@ import jakarta.nosql.CommunicationException;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Objects;
 
 /**
- * Default representation of {@link EntityAttachment} for a filesystem {@link Path}.
+ * Default representation of {@link EntityAttachment} for a filesystem {@link Path}. The content is never
+ * loaded on heap: {@link #getChannel()} opens a {@link FileChannel}, {@link #getBuffer()} maps the file
+ * in memory and {@link #transferTo(WritableByteChannel)} lets the operating system copy the bytes.
  * 
  * @since 0.0.9
  */
@@ -67,6 +74,45 @@ public class PathEntityAttachment implements EntityAttachment {
         return Files.newInputStream(path);
     }
 
+    @Override
+    public ReadableByteChannel getChannel() throws IOException {
+        return FileChannel.open(path, StandardOpenOption.READ);
+    }
+
+    /**
+     * @return a read-only {@link java.nio.MappedByteBuffer} of the file, it remains valid until it is
+     * garbage collected
+     * @throws IOException if the file cannot be mapped or when it is larger than {@link Integer#MAX_VALUE}
+     *                     bytes
+     */
+    @Override
+    public ByteBuffer getBuffer() throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("The attachment is too large to fit in a buffer: " + path);
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    @Override
+    public long transferTo(WritableByteChannel target) throws IOException {
+        Objects.requireNonNull(target, "target is required");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                long transferred = channel.transferTo(position, size - position, target);
+                if (transferred == 0 && position >= channel.size()) {
+                    break;
+                }
+                position += transferred;
+            }
+            return position;
+        }
+    }
+
     @Override
     public long getLength() {
         try {
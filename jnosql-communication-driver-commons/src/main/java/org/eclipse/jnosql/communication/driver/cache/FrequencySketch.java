@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+/**
+ * A count-min sketch with 4-bit counters that estimates how often a key was requested, to the
+ * {@link NearCacheEviction#TINY_LFU} admission. The counters are halved after a sample of requests,
+ * so the old popularity fades. It is not thread-safe, the {@link NearCache} calls it under the lock of a segment.
+ */
+final class FrequencySketch {
+
+    private static final int[] SEEDS = {0x97CB3127, 0xB3A1C0AD, 0x5BD1E995, 0x2F31D3C5};
+
+    private static final int MAXIMUM = 15;
+
+    private static final int MAXIMUM_TABLE_SIZE = 1 << 30;
+
+    private final byte[] table;
+
+    private final int mask;
+
+    private final int sampleSize;
+
+    private int additions;
+
+    FrequencySketch(int maximumSize) {
+        int size = tableSizeFor(Math.max(16, maximumSize));
+        this.table = new byte[size];
+        this.mask = size - 1;
+        this.sampleSize = (int) Math.min(10L * maximumSize, Integer.MAX_VALUE);
+    }
+
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int row = 0; row < SEEDS.length; row++) {
+            int index = index(hash, row);
+            if (table[index] < MAXIMUM) {
+                table[index]++;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAXIMUM;
+        for (int row = 0; row < SEEDS.length; row++) {
+            frequency = Math.min(frequency, table[index(hash, row)]);
+        }
+        return frequency;
+    }
+
+    private void reset() {
+        for (int index = 0; index < table.length; index++) {
+            table[index] = (byte) (table[index] >>> 1);
+        }
+        additions = additions / 2;
+    }
+
+    private int index(int hash, int row) {
+        int value = (hash ^ SEEDS[row]) * SEEDS[row];
+        value ^= value >>> 16;
+        return value & mask;
+    }
+
+    private static int spread(int hash) {
+        int value = hash * 0x9E3779B9;
+        return value ^ (value >>> 16);
+    }
+
+    private static int tableSizeFor(int size) {
+        if (size >= MAXIMUM_TABLE_SIZE) {
+            return MAXIMUM_TABLE_SIZE;
+        }
+        return Integer.highestOneBit(size - 1) << 1;
+    }
+}
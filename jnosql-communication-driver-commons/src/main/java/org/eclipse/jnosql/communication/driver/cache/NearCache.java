@@ -0,0 +1,285 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+import jakarta.nosql.Value;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The bounded map behind {@link NearCacheBucketManager}. The keys are spread over segments, each one with its own
+ * lock and its own share of the maximum size, so the readers of different keys rarely wait for each other.
+ * With {@link NearCacheEviction#LRU} a segment keeps its entries in access order and evicts the eldest one.
+ * With {@link NearCacheEviction#TINY_LFU} a new entry goes to a window, an LRU with 1% of the segment,
+ * the entry that leaves the window goes to the main area, a probation and a protected LRU, only when the
+ * sketch says that it was requested more often than the eldest entry of the main area.
+ * Each invalidation increases the version of the key's segment, so a value read from the database before it
+ * is not stored after it, while the misses of the other segments are still stored. While it is suspended
+ * it neither returns nor stores values.
+ */
+final class NearCache {
+
+    private static final int MAXIMUM_SEGMENTS = 64;
+
+    private static final int MINIMUM_SEGMENT_SIZE = 32;
+
+    private static final int WINDOW_PERCENTAGE = 1;
+
+    private static final int PROTECTED_PERCENTAGE = 80;
+
+    private final Segment[] segments;
+
+    private final int mask;
+
+    private final long ttl;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final AtomicLong epoch = new AtomicLong();
+
+    private volatile boolean suspended;
+
+    NearCache(NearCacheConfiguration configuration) {
+        int maximumSize = configuration.getMaximumSize();
+        int count = Integer.highestOneBit(Math.max(1,
+                Math.min(MAXIMUM_SEGMENTS, maximumSize / MINIMUM_SEGMENT_SIZE)));
+        boolean frequency = NearCacheEviction.TINY_LFU.equals(configuration.getEviction());
+        this.segments = new Segment[count];
+        for (int index = 0; index < count; index++) {
+            int size = maximumSize / count + (index < maximumSize % count ? 1 : 0);
+            segments[index] = new Segment(size, frequency);
+        }
+        this.mask = count - 1;
+        this.ttl = configuration.getTtl().map(d -> d.toNanos()).orElse(0L);
+    }
+
+    Optional<Value> get(Object key) {
+        if (suspended) {
+            misses.increment();
+            return Optional.empty();
+        }
+        long now = ttl > 0 ? System.nanoTime() : 0L;
+        Segment segment = segment(key);
+        synchronized (segment) {
+            if (segment.sketch != null) {
+                segment.sketch.increment(key);
+            }
+            Entry entry = segment.get(key);
+            if (entry != null) {
+                if (!entry.isExpired(now)) {
+                    hits.increment();
+                    return Optional.of(entry.value);
+                }
+                segment.remove(key);
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the version to give to {@link #put(Object, Value, long)}, read it before reading the database.
+     * Both the epoch and the segment version only grow, so their sum changes when any of them changes.
+     */
+    long getVersion(Object key) {
+        Segment segment = segment(key);
+        synchronized (segment) {
+            return epoch.get() + segment.version;
+        }
+    }
+
+    void put(Object key, Value value, long readVersion) {
+        long now = ttl > 0 ? System.nanoTime() : 0L;
+        Segment segment = segment(key);
+        synchronized (segment) {
+            if (suspended || readVersion != epoch.get() + segment.version) {
+                return;
+            }
+            Entry entry = new Entry(value, ttl > 0 ? now + ttl : 0L);
+            if (segment.replace(key, entry)) {
+                return;
+            }
+            segment.window.put(key, entry);
+            if (segment.window.size() <= segment.windowSize) {
+                return;
+            }
+            Map.Entry<Object, Entry> candidate = removeEldest(segment.window);
+            if (segment.probation.size() + segment.protectedEntries.size() < segment.mainSize) {
+                segment.probation.put(candidate.getKey(), candidate.getValue());
+                return;
+            }
+            evictions.increment();
+            Map<Object, Entry> main = segment.probation.isEmpty() ? segment.protectedEntries : segment.probation;
+            if (main.isEmpty()) {
+                return;
+            }
+            Map.Entry<Object, Entry> victim = main.entrySet().iterator().next();
+            if (victim.getValue().isExpired(now)
+                    || segment.sketch.frequency(candidate.getKey()) > segment.sketch.frequency(victim.getKey())) {
+                main.remove(victim.getKey());
+                segment.probation.put(candidate.getKey(), candidate.getValue());
+            }
+        }
+    }
+
+    void invalidate(Object key) {
+        Segment segment = segment(key);
+        synchronized (segment) {
+            segment.version++;
+            segment.remove(key);
+        }
+    }
+
+    void invalidateAll() {
+        epoch.incrementAndGet();
+        clear();
+    }
+
+    void suspend() {
+        suspended = true;
+        epoch.incrementAndGet();
+        clear();
+    }
+
+    void resume() {
+        suspended = false;
+        epoch.incrementAndGet();
+        clear();
+    }
+
+    NearCacheStatistics getStatistics() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return new NearCacheStatistics(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    private void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    private Segment segment(Object key) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        return segments[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    private static Map.Entry<Object, Entry> removeEldest(Map<Object, Entry> entries) {
+        Iterator<Map.Entry<Object, Entry>> iterator = entries.entrySet().iterator();
+        Map.Entry<Object, Entry> eldest = iterator.next();
+        iterator.remove();
+        return eldest;
+    }
+
+    /**
+     * The entries of a segment. With {@link NearCacheEviction#LRU} the window holds all of them and the
+     * main area is empty, so the entry that leaves the window is evicted.
+     */
+    private static final class Segment {
+
+        private final Map<Object, Entry> window = new LinkedHashMap<>(16, 0.75F, true);
+
+        private final Map<Object, Entry> probation = new LinkedHashMap<>(16, 0.75F, true);
+
+        private final Map<Object, Entry> protectedEntries = new LinkedHashMap<>(16, 0.75F, true);
+
+        private final int windowSize;
+
+        private final int mainSize;
+
+        private final int protectedSize;
+
+        private final FrequencySketch sketch;
+
+        private long version;
+
+        private Segment(int maximumSize, boolean frequency) {
+            this.windowSize = frequency ? Math.max(1, maximumSize * WINDOW_PERCENTAGE / 100) : maximumSize;
+            this.mainSize = maximumSize - windowSize;
+            this.protectedSize = mainSize * PROTECTED_PERCENTAGE / 100;
+            this.sketch = frequency ? new FrequencySketch(maximumSize) : null;
+        }
+
+        private Entry get(Object key) {
+            Entry entry = window.get(key);
+            if (entry == null) {
+                entry = protectedEntries.get(key);
+            }
+            if (entry == null) {
+                entry = probation.remove(key);
+                if (entry != null) {
+                    protectedEntries.put(key, entry);
+                    if (protectedEntries.size() > protectedSize) {
+                        Map.Entry<Object, Entry> demoted = removeEldest(protectedEntries);
+                        probation.put(demoted.getKey(), demoted.getValue());
+                    }
+                }
+            }
+            return entry;
+        }
+
+        private boolean replace(Object key, Entry entry) {
+            return window.replace(key, entry) != null || protectedEntries.replace(key, entry) != null
+                    || probation.replace(key, entry) != null;
+        }
+
+        private void remove(Object key) {
+            if (window.remove(key) == null && protectedEntries.remove(key) == null) {
+                probation.remove(key);
+            }
+        }
+
+        private int size() {
+            return window.size() + probation.size() + protectedEntries.size();
+        }
+
+        private void clear() {
+            window.clear();
+            probation.clear();
+            protectedEntries.clear();
+        }
+    }
+
+    private static final class Entry {
+
+        private final Value value;
+
+        private final long expiresAt;
+
+        private Entry(Value value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt != 0L && now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.keyvalue.BucketManager;
+import jakarta.nosql.keyvalue.KeyValueEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.StreamSupport.stream;
+
+/**
+ * A {@link BucketManager} that keeps the values read from another {@link BucketManager} in a bounded
+ * in-process cache. The writes and the deletions go to the database and then invalidate the keys,
+ * so this instance never returns a value older than its own writes. The writes from other processes
+ * are only seen when the entry expires, so define {@link NearCacheConfiguration#getTtl()} when they happen.
+ * Only the found values are cached, a missing key always goes to the database. A batch read sends all its misses
+ * to the database in a single {@link BucketManager#get(Iterable)}, and caches them only when each key returned
+ * a value, otherwise the values cannot be matched to their keys.
+ * A driver whose database notifies the changes, e.g. Redis client tracking, calls {@link #invalidate(Object)}.
+ * The same cached {@link Value} is returned to every reader, from any thread, so it must not give them a shared
+ * mutable instance: {@link org.eclipse.jnosql.communication.driver.ValueJSON} returns the same instance only
+ * to the immutable types and a new one to the others, e.g. an entity, that the caller may change.
+ */
+public final class NearCacheBucketManager implements BucketManager {
+
+    private final BucketManager manager;
+
+    private final NearCache cache;
+
+    private final Function<Object, Object> cacheKey;
+
+    private NearCacheBucketManager(BucketManager manager, NearCache cache, Function<Object, Object> cacheKey) {
+        this.manager = manager;
+        this.cache = cache;
+        this.cacheKey = cacheKey;
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        Objects.requireNonNull(key, "key is required");
+        Objects.requireNonNull(value, "value is required");
+        manager.put(key, value);
+        invalidate(key);
+    }
+
+    @Override
+    public void put(KeyValueEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        manager.put(entity);
+        invalidate(entity.getKey());
+    }
+
+    @Override
+    public void put(KeyValueEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        manager.put(entity, ttl);
+        invalidate(entity.getKey());
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<KeyValueEntity> values = stream(entities.spliterator(), false).collect(toList());
+        manager.put(values);
+        values.forEach(e -> invalidate(e.getKey()));
+    }
+
+    @Override
+    public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        List<KeyValueEntity> values = stream(entities.spliterator(), false).collect(toList());
+        manager.put(values, ttl);
+        values.forEach(e -> invalidate(e.getKey()));
+    }
+
+    @Override
+    public <K> Optional<Value> get(K key) {
+        Objects.requireNonNull(key, "key is required");
+        Object cached = cacheKey.apply(key);
+        Optional<Value> hit = cache.get(cached);
+        if (hit.isPresent()) {
+            return hit;
+        }
+        long version = cache.getVersion(cached);
+        Optional<Value> value = manager.get(key);
+        value.ifPresent(v -> cache.put(cached, v, version));
+        return value;
+    }
+
+    @Override
+    public <K> Iterable<Value> get(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        List<K> values = stream(keys.spliterator(), false).collect(toList());
+        Value[] found = new Value[values.size()];
+        List<K> misses = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        List<Long> versions = new ArrayList<>();
+        for (int index = 0; index < found.length; index++) {
+            K key = Objects.requireNonNull(values.get(index), "key is required");
+            Object cached = cacheKey.apply(key);
+            Optional<Value> hit = cache.get(cached);
+            if (hit.isPresent()) {
+                found[index] = hit.get();
+            } else {
+                misses.add(key);
+                positions.add(index);
+                versions.add(cache.getVersion(cached));
+            }
+        }
+        if (misses.isEmpty()) {
+            return Arrays.asList(found);
+        }
+        List<Value> loaded = stream(manager.get(misses).spliterator(), false).collect(toList());
+        if (loaded.size() != misses.size()) {
+            List<Value> result = Arrays.stream(found).filter(Objects::nonNull).collect(toList());
+            result.addAll(loaded);
+            return result;
+        }
+        for (int index = 0; index < loaded.size(); index++) {
+            Value value = loaded.get(index);
+            cache.put(cacheKey.apply(misses.get(index)), value, versions.get(index));
+            found[positions.get(index)] = value;
+        }
+        return Arrays.asList(found);
+    }
+
+    @Override
+    public <K> void delete(K key) {
+        Objects.requireNonNull(key, "key is required");
+        manager.delete(key);
+        invalidate(key);
+    }
+
+    @Override
+    public <K> void delete(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        List<K> values = stream(keys.spliterator(), false).collect(toList());
+        manager.delete(values);
+        values.forEach(this::invalidate);
+    }
+
+    /**
+     * Removes a key from the cache, e.g. when the database notifies that another client changed it
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @throws NullPointerException when key is null
+     */
+    public <K> void invalidate(K key) {
+        Objects.requireNonNull(key, "key is required");
+        cache.invalidate(cacheKey.apply(key));
+    }
+
+    /**
+     * Removes all the entries from the cache
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Empties the cache and stops using it, the reads go to the database and their values are not stored,
+     * e.g. while the database cannot notify the changes made by other clients
+     */
+    public void suspend() {
+        cache.suspend();
+    }
+
+    /**
+     * Empties the cache and uses it again after {@link #suspend()}, a read that started before this call
+     * does not store its value
+     */
+    public void resume() {
+        cache.resume();
+    }
+
+    /**
+     * Returns a snapshot of the cache counters
+     *
+     * @return the {@link NearCacheStatistics}
+     */
+    public NearCacheStatistics getStatistics() {
+        return cache.getStatistics();
+    }
+
+    /**
+     * The {@link BucketManager} that this instance decorates
+     *
+     * @return the {@link BucketManager}
+     */
+    public BucketManager getManager() {
+        return manager;
+    }
+
+    @Override
+    public void close() {
+        cache.invalidateAll();
+        manager.close();
+    }
+
+    @Override
+    public String toString() {
+        return "NearCacheBucketManager{" +
+                "manager=" + manager +
+                ", statistics=" + cache.getStatistics() +
+                '}';
+    }
+
+    /**
+     * Creates a {@link NearCacheBucketManager}
+     *
+     * @param manager       the {@link BucketManager} to decorate
+     * @param configuration the cache configuration
+     * @return a {@link NearCacheBucketManager} instance
+     * @throws NullPointerException when there is a null parameter
+     */
+    public static NearCacheBucketManager of(BucketManager manager, NearCacheConfiguration configuration) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(configuration, "configuration is required");
+        return of(manager, configuration, Function.identity());
+    }
+
+    /**
+     * Creates a {@link NearCacheBucketManager} that stores each value under the key that the function returns,
+     * e.g. {@code Object::toString} when the database keys are text, so the key 1 and the key "1" are the same
+     * entry, as they are in the database
+     *
+     * @param manager       the {@link BucketManager} to decorate
+     * @param configuration the cache configuration
+     * @param cacheKey      the function from a key to its cache key
+     * @return a {@link NearCacheBucketManager} instance
+     * @throws NullPointerException when there is a null parameter
+     */
+    public static NearCacheBucketManager of(BucketManager manager, NearCacheConfiguration configuration,
+                                            Function<Object, Object> cacheKey) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(configuration, "configuration is required");
+        Objects.requireNonNull(cacheKey, "cacheKey is required");
+        return new NearCacheBucketManager(manager, new NearCache(configuration), cacheKey);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+import jakarta.nosql.Settings;
+import jakarta.nosql.keyvalue.BucketManager;
+import jakarta.nosql.keyvalue.BucketManagerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * A {@link BucketManagerFactory} that decorates the {@link BucketManager} of another factory with
+ * {@link NearCacheBucketManager} to the buckets where the near cache is enabled in the {@link Settings}.
+ * The collections, e.g. {@link #getMap(String, Class, Class)}, are not cached.
+ *
+ * @see NearCacheConfigurations
+ */
+public final class NearCacheBucketManagerFactory implements BucketManagerFactory {
+
+    private final BucketManagerFactory factory;
+
+    private final Settings settings;
+
+    private NearCacheBucketManagerFactory(BucketManagerFactory factory, Settings settings) {
+        this.factory = factory;
+        this.settings = settings;
+    }
+
+    @Override
+    public BucketManager getBucketManager(String bucketName) {
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        BucketManager manager = factory.getBucketManager(bucketName);
+        return NearCacheConfiguration.of(settings, bucketName)
+                .<BucketManager>map(c -> NearCacheBucketManager.of(manager, c))
+                .orElse(manager);
+    }
+
+    @Override
+    public <K, V> Map<K, V> getMap(String bucketName, Class<K> keyValue, Class<V> valueValue) {
+        return factory.getMap(bucketName, keyValue, valueValue);
+    }
+
+    @Override
+    public <T> Queue<T> getQueue(String bucketName, Class<T> clazz) {
+        return factory.getQueue(bucketName, clazz);
+    }
+
+    @Override
+    public <T> Set<T> getSet(String bucketName, Class<T> clazz) {
+        return factory.getSet(bucketName, clazz);
+    }
+
+    @Override
+    public <T> List<T> getList(String bucketName, Class<T> clazz) {
+        return factory.getList(bucketName, clazz);
+    }
+
+    @Override
+    public void close() {
+        factory.close();
+    }
+
+    /**
+     * Creates a {@link NearCacheBucketManagerFactory}
+     *
+     * @param factory  the factory to decorate
+     * @param settings the settings with the {@link NearCacheConfigurations} options
+     * @return a {@link NearCacheBucketManagerFactory} instance
+     * @throws NullPointerException when there is a null parameter
+     */
+    public static NearCacheBucketManagerFactory of(BucketManagerFactory factory, Settings settings) {
+        Objects.requireNonNull(factory, "factory is required");
+        Objects.requireNonNull(settings, "settings is required");
+        return new NearCacheBucketManagerFactory(factory, settings);
+    }
+}
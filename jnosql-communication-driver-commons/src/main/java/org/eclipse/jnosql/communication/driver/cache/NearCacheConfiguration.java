@@ -0,0 +1,194 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+import jakarta.nosql.Settings;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The configuration of a {@link NearCacheBucketManager}: the maximum number of entries, the eviction policy
+ * and the optional time to live of the entries.
+ */
+public final class NearCacheConfiguration {
+
+    /**
+     * The default maximum number of entries
+     */
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final int maximumSize;
+
+    private final Duration ttl;
+
+    private final NearCacheEviction eviction;
+
+    private NearCacheConfiguration(int maximumSize, Duration ttl, NearCacheEviction eviction) {
+        this.maximumSize = maximumSize;
+        this.ttl = ttl;
+        this.eviction = eviction;
+    }
+
+    /**
+     * The maximum number of entries
+     *
+     * @return the maximum size
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * The time an entry stays in the cache after it is read from the database
+     *
+     * @return the time to live or {@link Optional#empty()} when the entries do not expire
+     */
+    public Optional<Duration> getTtl() {
+        return Optional.ofNullable(ttl);
+    }
+
+    /**
+     * The eviction policy
+     *
+     * @return the eviction policy
+     */
+    public NearCacheEviction getEviction() {
+        return eviction;
+    }
+
+    @Override
+    public String toString() {
+        return "NearCacheConfiguration{" +
+                "maximumSize=" + maximumSize +
+                ", ttl=" + ttl +
+                ", eviction=" + eviction +
+                '}';
+    }
+
+    /**
+     * Creates a builder to {@link NearCacheConfiguration}
+     *
+     * @return a {@link NearCacheConfigurationBuilder} instance
+     */
+    public static NearCacheConfigurationBuilder builder() {
+        return new NearCacheConfigurationBuilder();
+    }
+
+    /**
+     * Reads the {@link NearCacheConfiguration} of a bucket from the {@link NearCacheConfigurations} options,
+     * the options to the bucket override the options to all buckets.
+     *
+     * @param settings   the settings
+     * @param bucketName the bucket name
+     * @return the {@link NearCacheConfiguration} when the near cache is enabled to the bucket
+     * @throws NullPointerException when there is a null parameter
+     */
+    public static Optional<NearCacheConfiguration> of(Settings settings, String bucketName) {
+        Objects.requireNonNull(settings, "settings is required");
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        boolean enabled = get(settings, NearCacheConfigurations.NEAR_CACHE, bucketName)
+                .map(Boolean::parseBoolean).orElse(false);
+        if (!enabled) {
+            return Optional.empty();
+        }
+        NearCacheConfigurationBuilder builder = builder();
+        get(settings, NearCacheConfigurations.MAX_SIZE, bucketName).map(Integer::parseInt)
+                .ifPresent(builder::maximumSize);
+        get(settings, NearCacheConfigurations.TTL, bucketName).map(Long::parseLong).map(Duration::ofMillis)
+                .ifPresent(builder::ttl);
+        get(settings, NearCacheConfigurations.EVICTION, bucketName).map(NearCacheEviction::parse)
+                .ifPresent(builder::eviction);
+        return Optional.of(builder.build());
+    }
+
+    private static Optional<String> get(Settings settings, NearCacheConfigurations configuration,
+                                        String bucketName) {
+        Optional<Object> value = settings.get(configuration.get(bucketName));
+        if (!value.isPresent()) {
+            value = settings.get(configuration);
+        }
+        return value.map(Object::toString).map(String::trim);
+    }
+
+    /**
+     * The builder to {@link NearCacheConfiguration}
+     */
+    public static final class NearCacheConfigurationBuilder {
+
+        private int maximumSize = DEFAULT_MAX_SIZE;
+
+        private Duration ttl;
+
+        private NearCacheEviction eviction = NearCacheEviction.TINY_LFU;
+
+        private NearCacheConfigurationBuilder() {
+        }
+
+        /**
+         * Defines the maximum number of entries
+         *
+         * @param maximumSize the maximum size
+         * @return this builder
+         * @throws IllegalArgumentException when maximumSize is not positive
+         */
+        public NearCacheConfigurationBuilder maximumSize(int maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("The maximum size must be positive: " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Defines the time an entry stays in the cache after it is read from the database
+         *
+         * @param ttl the time to live
+         * @return this builder
+         * @throws NullPointerException     when ttl is null
+         * @throws IllegalArgumentException when ttl is not positive
+         */
+        public NearCacheConfigurationBuilder ttl(Duration ttl) {
+            Objects.requireNonNull(ttl, "ttl is required");
+            if (ttl.isZero() || ttl.isNegative()) {
+                throw new IllegalArgumentException("The ttl must be positive: " + ttl);
+            }
+            this.ttl = ttl;
+            return this;
+        }
+
+        /**
+         * Defines the eviction policy, the default value is {@link NearCacheEviction#TINY_LFU}
+         *
+         * @param eviction the eviction policy
+         * @return this builder
+         * @throws NullPointerException when eviction is null
+         */
+        public NearCacheConfigurationBuilder eviction(NearCacheEviction eviction) {
+            this.eviction = Objects.requireNonNull(eviction, "eviction is required");
+            return this;
+        }
+
+        /**
+         * Creates the {@link NearCacheConfiguration}
+         *
+         * @return a {@link NearCacheConfiguration} instance
+         */
+        public NearCacheConfiguration build() {
+            return new NearCacheConfiguration(maximumSize, ttl, eviction);
+        }
+    }
+}
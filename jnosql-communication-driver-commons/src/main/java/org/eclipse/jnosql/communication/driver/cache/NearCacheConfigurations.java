@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+import java.util.function.Supplier;
+
+/**
+ * An enumeration to show the available options to the near cache of the key-value drivers.
+ * It implements {@link Supplier}, where its it returns the property name that might be
+ * overwritten by the system environment using Eclipse Microprofile or Jakarta Config API.
+ * Each option might be defined to a single bucket with the "jnosql.near.cache.bucket.&lt;bucket&gt;" prefix,
+ * e.g. jnosql.near.cache.bucket.users.max.size=1000, that overrides the option to all buckets.
+ *
+ * @see jakarta.nosql.Settings
+ * @see NearCacheBucketManagerFactory
+ */
+public enum NearCacheConfigurations implements Supplier<String> {
+
+    /**
+     * Enables the near cache, the default value is false
+     */
+    NEAR_CACHE("jnosql.near.cache"),
+    /**
+     * The maximum number of entries in the near cache of each bucket, the default value is 10000
+     */
+    MAX_SIZE("jnosql.near.cache.max.size"),
+    /**
+     * The time, in milliseconds, an entry stays in the near cache after it is read from the database,
+     * by default the entries only leave the cache by eviction or invalidation
+     */
+    TTL("jnosql.near.cache.ttl"),
+    /**
+     * The {@link NearCacheEviction} name, "lru" or "tinylfu", the default value is "tinylfu"
+     */
+    EVICTION("jnosql.near.cache.eviction");
+
+    static final String BUCKET_PREFIX = "jnosql.near.cache.bucket.";
+
+    private final String configuration;
+
+    NearCacheConfigurations(String configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    public String get() {
+        return configuration;
+    }
+
+    /**
+     * Returns the property name of this option to a single bucket
+     *
+     * @param bucketName the bucket name
+     * @return the property name, e.g. "jnosql.near.cache.bucket.users.max.size"
+     */
+    public String get(String bucketName) {
+        return BUCKET_PREFIX + bucketName + configuration.substring(NEAR_CACHE.configuration.length());
+    }
+}
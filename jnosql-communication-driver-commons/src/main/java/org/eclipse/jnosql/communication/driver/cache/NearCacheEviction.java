@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+import java.util.Objects;
+
+/**
+ * The policies to choose the entry that leaves the near cache when it is full.
+ */
+public enum NearCacheEviction {
+
+    /**
+     * Evicts the least recently used entry
+     */
+    LRU,
+    /**
+     * W-TinyLFU: a new entry always goes to a small LRU window, 1% of the size, so a recent key is cached
+     * at once. The entry that leaves the window replaces the least recently used entry of the main area
+     * only when it was requested more often than it, the frequencies are kept in a small count-min sketch
+     * that ages over time. It keeps the hot keys in the cache when a scan reads many keys only once.
+     */
+    TINY_LFU;
+
+    /**
+     * Finds the policy by name, ignoring case, '-' and '_', e.g. "lru", "tinylfu" or "tiny_lfu"
+     *
+     * @param name the name
+     * @return the {@link NearCacheEviction}
+     * @throws NullPointerException     when name is null
+     * @throws IllegalArgumentException when there is no policy with this name
+     */
+    public static NearCacheEviction parse(String name) {
+        Objects.requireNonNull(name, "name is required");
+        String value = name.trim().replace("-", "").replace("_", "");
+        for (NearCacheEviction eviction : values()) {
+            if (eviction.name().replace("_", "").equalsIgnoreCase(value)) {
+                return eviction;
+            }
+        }
+        throw new IllegalArgumentException("There is no near cache eviction named " + name
+                + ", the available ones are: lru and tinylfu");
+    }
+}
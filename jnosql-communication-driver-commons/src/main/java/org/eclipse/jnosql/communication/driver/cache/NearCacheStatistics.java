@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+/**
+ * A snapshot of the counters of a {@link NearCacheBucketManager}.
+ */
+public final class NearCacheStatistics {
+
+    private final long hitCount;
+
+    private final long missCount;
+
+    private final long evictionCount;
+
+    private final int size;
+
+    NearCacheStatistics(long hitCount, long missCount, long evictionCount, int size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    /**
+     * The number of reads answered by the cache
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * The number of reads that went to the database
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * The number of entries removed because the cache was full
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * The number of entries in the cache
+     *
+     * @return the size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * The ratio of reads answered by the cache
+     *
+     * @return the hit rate, from 0 to 1, or 0 when there is no read
+     */
+    public double getHitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 0D : (double) hitCount / requests;
+    }
+
+    @Override
+    public String toString() {
+        return "NearCacheStatistics{" +
+                "hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", evictionCount=" + evictionCount +
+                ", size=" + size +
+                '}';
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.compression;
+
+import jakarta.nosql.Value;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+
+import java.util.Objects;
+
+/**
+ * A {@link ValueCodec} that compresses, with {@link ValueCompression}, the values encoded by another codec.
+ * The encoded value might be binary, so {@link #isText()} is always false.
+ */
+public final class CompressedValueCodec implements ValueCodec {
+
+    private final ValueCodec codec;
+
+    private final ValueCompression compression;
+
+    private CompressedValueCodec(ValueCodec codec, ValueCompression compression) {
+        this.codec = codec;
+        this.compression = compression;
+    }
+
+    @Override
+    public String getName() {
+        return codec.getName();
+    }
+
+    @Override
+    public String getContentType() {
+        return "application/octet-stream";
+    }
+
+    @Override
+    public boolean isText() {
+        return false;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        return compression.compress(codec.encode(value));
+    }
+
+    @Override
+    public Value decode(byte[] value) {
+        return codec.decode(compression.decompress(value));
+    }
+
+    /**
+     * The codec that encodes the values before the compression
+     *
+     * @return the codec
+     */
+    public ValueCodec getCodec() {
+        return codec;
+    }
+
+    /**
+     * The compression of the encoded values
+     *
+     * @return the compression
+     */
+    public ValueCompression getCompression() {
+        return compression;
+    }
+
+    @Override
+    public String toString() {
+        return "CompressedValueCodec{" +
+                "codec=" + codec.getName() +
+                ", compression=" + compression +
+                '}';
+    }
+
+    /**
+     * Creates a {@link CompressedValueCodec}
+     *
+     * @param codec       the codec that encodes the values
+     * @param compression the compression
+     * @return a {@link CompressedValueCodec} instance
+     * @throws NullPointerException when there is a null parameter
+     */
+    public static CompressedValueCodec of(ValueCodec codec, ValueCompression compression) {
+        Objects.requireNonNull(codec, "codec is required");
+        Objects.requireNonNull(compression, "compression is required");
+        return new CompressedValueCodec(codec, compression);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.compression;
+
+import java.util.Objects;
+
+/**
+ * A compression algorithm to {@link ValueCompression}. Each compressor has an id, written in the header of the
+ * compressed value, so a value is always read with the compressor that wrote it.
+ */
+public interface Compressor {
+
+    /**
+     * The id written in the header of the compressed values
+     *
+     * @return the id
+     */
+    byte getId();
+
+    /**
+     * The name used in the driver settings, e.g. "deflate" or "lz4"
+     *
+     * @return the name
+     */
+    String getName();
+
+    /**
+     * Compresses the value
+     *
+     * @param value the value
+     * @return the compressed value
+     */
+    byte[] compress(byte[] value);
+
+    /**
+     * Decompresses the value
+     *
+     * @param value  the compressed value
+     * @param length the length of the value before the compression
+     * @return the value
+     */
+    byte[] decompress(byte[] value, int length);
+
+    /**
+     * Finds a {@link Compressor} by name
+     *
+     * @param name the name, "deflate" or "lz4"
+     * @return the {@link Compressor}
+     * @throws NullPointerException     when name is null
+     * @throws IllegalArgumentException when there is no compressor with this name or when its dependency is missing
+     */
+    static Compressor of(String name) {
+        Objects.requireNonNull(name, "name is required");
+        switch (name.trim().toLowerCase()) {
+            case DeflateCompressor.NAME:
+                return DeflateCompressor.INSTANCE;
+            case LZ4BlockCompressor.NAME:
+                return LZ4BlockCompressor.getInstance();
+            default:
+                throw new IllegalArgumentException("There is no compressor named " + name
+                        + ", the available ones are: deflate and lz4");
+        }
+    }
+
+    /**
+     * Finds a {@link Compressor} by the id written in the header
+     *
+     * @param id the id
+     * @return the {@link Compressor}
+     * @throws IllegalArgumentException when there is no compressor with this id or when its dependency is missing
+     */
+    static Compressor of(byte id) {
+        if (id == DeflateCompressor.ID) {
+            return DeflateCompressor.INSTANCE;
+        } else if (id == LZ4BlockCompressor.ID) {
+            return LZ4BlockCompressor.getInstance();
+        }
+        throw new IllegalArgumentException("There is no compressor with the id " + id);
+    }
+}
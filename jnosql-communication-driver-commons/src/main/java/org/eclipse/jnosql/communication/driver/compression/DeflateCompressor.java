@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The {@link Compressor} with {@link Deflater}, from the JDK
+ */
+enum DeflateCompressor implements Compressor {
+
+    INSTANCE;
+
+    static final byte ID = 1;
+
+    static final String NAME = "deflate";
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] compress(byte[] value) {
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(value);
+            deflater.finish();
+            ByteArrayOutputStream output = new ByteArrayOutputStream(value.length / 2);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                int size = deflater.deflate(buffer);
+                output.write(buffer, 0, size);
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public byte[] decompress(byte[] value, int length) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(value);
+            byte[] result = new byte[length];
+            int offset = 0;
+            while (offset < length && !inflater.finished()) {
+                int size = inflater.inflate(result, offset, length - offset);
+                if (size == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                offset += size;
+            }
+            if (offset != length) {
+                throw new IllegalStateException("The compressed value is corrupted, expected " + length
+                        + " bytes but it has " + offset);
+            }
+            return result;
+        } catch (DataFormatException exception) {
+            throw new IllegalStateException("The compressed value is corrupted", exception);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.compression;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/**
+ * The {@link Compressor} with the Java implementation of LZ4, faster than {@link DeflateCompressor} but with a
+ * lower ratio. It requires the optional "org.lz4:lz4-java" dependency.
+ */
+final class LZ4BlockCompressor implements Compressor {
+
+    static final byte ID = 2;
+
+    static final String NAME = "lz4";
+
+    private final LZ4Compressor compressor;
+
+    private final LZ4FastDecompressor decompressor;
+
+    private LZ4BlockCompressor() {
+        LZ4Factory factory = LZ4Factory.fastestJavaInstance();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.fastDecompressor();
+    }
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] compress(byte[] value) {
+        return compressor.compress(value);
+    }
+
+    @Override
+    public byte[] decompress(byte[] value, int length) {
+        return decompressor.decompress(value, length);
+    }
+
+    static Compressor getInstance() {
+        try {
+            return Holder.INSTANCE;
+        } catch (NoClassDefFoundError error) {
+            throw new IllegalArgumentException("The lz4 compressor requires the org.lz4:lz4-java dependency",
+                    error);
+        }
+    }
+
+    private static final class Holder {
+        private static final LZ4BlockCompressor INSTANCE = new LZ4BlockCompressor();
+    }
+}
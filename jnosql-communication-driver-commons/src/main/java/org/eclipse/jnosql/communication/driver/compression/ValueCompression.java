@@ -0,0 +1,206 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.compression;
+
+import jakarta.nosql.Settings;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Compresses the values of the key-value drivers that are larger than a threshold. A compressed value starts
+ * with a header: a marker, the {@link Compressor#getId()} and the length before the compression,
+ * so {@link #decompress(byte[])} reads both compressed and plain values, and a bucket keeps working when the
+ * compression is enabled or disabled.
+ */
+public final class ValueCompression {
+
+    /**
+     * The default threshold, in bytes, values smaller than it are not compressed
+     */
+    public static final int DEFAULT_THRESHOLD = 4096;
+
+    private static final byte[] MAGIC = {0x00, 'J', 'Z'};
+
+    private static final int HEADER_SIZE = MAGIC.length + 1 + Integer.BYTES;
+
+    private final Compressor compressor;
+
+    private final int threshold;
+
+    private ValueCompression(Compressor compressor, int threshold) {
+        this.compressor = compressor;
+        this.threshold = threshold;
+    }
+
+    /**
+     * The compressor used to write the values
+     *
+     * @return the compressor
+     */
+    public Compressor getCompressor() {
+        return compressor;
+    }
+
+    /**
+     * The size, in bytes, from which the values are compressed
+     *
+     * @return the threshold
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Compresses the value with the header when it is at least {@link #getThreshold()} bytes,
+     * otherwise it returns the value itself.
+     *
+     * @param value the value
+     * @return the compressed value or the value
+     * @throws NullPointerException when value is null
+     */
+    public byte[] compress(byte[] value) {
+        Objects.requireNonNull(value, "value is required");
+        if (value.length < threshold) {
+            return value;
+        }
+        byte[] compressed = compressor.compress(value);
+        byte[] result = new byte[HEADER_SIZE + compressed.length];
+        System.arraycopy(MAGIC, 0, result, 0, MAGIC.length);
+        result[MAGIC.length] = compressor.getId();
+        writeInt(result, MAGIC.length + 1, value.length);
+        System.arraycopy(compressed, 0, result, HEADER_SIZE, compressed.length);
+        return result;
+    }
+
+    /**
+     * Decompresses a value written by {@link #compress(byte[])}, with the compressor written in its header.
+     * A value without the header is returned as it is.
+     *
+     * @param value the value
+     * @return the value decompressed
+     * @throws NullPointerException     when value is null
+     * @throws IllegalArgumentException when the compressor in the header is not available
+     */
+    public byte[] decompress(byte[] value) {
+        Objects.requireNonNull(value, "value is required");
+        if (!isCompressed(value)) {
+            return value;
+        }
+        Compressor valueCompressor = value[MAGIC.length] == compressor.getId() ? compressor
+                : Compressor.of(value[MAGIC.length]);
+        int length = readInt(value, MAGIC.length + 1);
+        byte[] compressed = new byte[value.length - HEADER_SIZE];
+        System.arraycopy(value, HEADER_SIZE, compressed, 0, compressed.length);
+        return valueCompressor.decompress(compressed, length);
+    }
+
+    @Override
+    public String toString() {
+        return "ValueCompression{" +
+                "compressor=" + compressor.getName() +
+                ", threshold=" + threshold +
+                '}';
+    }
+
+    /**
+     * Checks if the value has the header written by {@link #compress(byte[])}
+     *
+     * @param value the value
+     * @return true when the value is compressed
+     * @throws NullPointerException when value is null
+     */
+    public static boolean isCompressed(byte[] value) {
+        Objects.requireNonNull(value, "value is required");
+        if (value.length < HEADER_SIZE) {
+            return false;
+        }
+        for (int index = 0; index < MAGIC.length; index++) {
+            if (value[index] != MAGIC[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates a {@link ValueCompression} with the {@link #DEFAULT_THRESHOLD}
+     *
+     * @param compressor the compressor
+     * @return a {@link ValueCompression} instance
+     * @throws NullPointerException when compressor is null
+     */
+    public static ValueCompression of(Compressor compressor) {
+        return of(compressor, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@link ValueCompression}
+     *
+     * @param compressor the compressor
+     * @param threshold  the size, in bytes, from which the values are compressed
+     * @return a {@link ValueCompression} instance
+     * @throws NullPointerException     when compressor is null
+     * @throws IllegalArgumentException when threshold is negative
+     */
+    public static ValueCompression of(Compressor compressor, int threshold) {
+        Objects.requireNonNull(compressor, "compressor is required");
+        if (threshold < 0) {
+            throw new IllegalArgumentException("The threshold cannot be negative: " + threshold);
+        }
+        return new ValueCompression(compressor, threshold);
+    }
+
+    /**
+     * Reads the {@link ValueCompression} from the driver settings, the compression is opt-in,
+     * so it returns empty when the compression key is not defined or is "none".
+     *
+     * @param settings     the settings
+     * @param compression  the key with the compressor name, e.g. "deflate" or "lz4"
+     * @param threshold    the key with the threshold in bytes, the default value is {@link #DEFAULT_THRESHOLD}
+     * @return the {@link ValueCompression} when it is enabled
+     * @throws NullPointerException     when there is a null parameter
+     * @throws IllegalArgumentException when the compressor is not available
+     */
+    public static Optional<ValueCompression> of(Settings settings, Supplier<String> compression,
+                                                Supplier<String> threshold) {
+        Objects.requireNonNull(settings, "settings is required");
+        Objects.requireNonNull(compression, "compression is required");
+        Objects.requireNonNull(threshold, "threshold is required");
+        return settings.get(compression)
+                .map(Object::toString)
+                .map(String::trim)
+                .filter(name -> !name.isEmpty() && !"none".equalsIgnoreCase(name))
+                .map(Compressor::of)
+                .map(c -> of(c, settings.get(threshold).map(Object::toString)
+                        .map(String::trim).map(Integer::parseInt)
+                        .orElse(DEFAULT_THRESHOLD)));
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xFF) << 24)
+                | ((bytes[offset + 1] & 0xFF) << 16)
+                | ((bytes[offset + 2] & 0xFF) << 8)
+                | (bytes[offset + 3] & 0xFF);
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.concurrent;
+
+import jakarta.nosql.CommunicationException;
+import jakarta.nosql.Settings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs a blocking call to each element of an {@link Iterable} on an {@link Executor}, with at most
+ * the concurrency calls at the same time, so a batch of calls to a database without a native batch takes
+ * about the latency of the slowest call instead of the sum of the latencies.
+ * The results keep the order of the elements. All the calls run even when some fail; then the first
+ * failure, in the order of the elements, is thrown with the other ones as suppressed exceptions.
+ * <p>
+ * With a concurrency of one, the calls run one after another on the caller thread.
+ */
+public final class FanOut {
+
+    /**
+     * The concurrency when the settings do not define it, the calls run one after another
+     */
+    public static final int DEFAULT_CONCURRENCY = 1;
+
+    private static final FanOut SEQUENTIAL = new FanOut(1, Runnable::run);
+
+    private final int concurrency;
+
+    private final Executor executor;
+
+    private FanOut(int concurrency, Executor executor) {
+        this.concurrency = concurrency;
+        this.executor = executor;
+    }
+
+    /**
+     * The maximum number of calls at the same time
+     *
+     * @return the concurrency
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Applies the function to each element
+     *
+     * @param elements the elements
+     * @param function the blocking call
+     * @param <T>      the element type
+     * @param <R>      the result type
+     * @return the results in the order of the elements
+     * @throws NullPointerException   when there is a null parameter
+     * @throws CommunicationException when a call fails with a checked exception
+     */
+    public <T, R> List<R> map(Iterable<T> elements, Function<? super T, ? extends R> function) {
+        Objects.requireNonNull(elements, "elements is required");
+        Objects.requireNonNull(function, "function is required");
+        List<T> values = new ArrayList<>();
+        elements.forEach(values::add);
+        if (concurrency == 1 || values.size() < 2) {
+            List<R> results = new ArrayList<>(values.size());
+            values.forEach(value -> results.add(function.apply(value)));
+            return results;
+        }
+        return join(submit(values, function));
+    }
+
+    /**
+     * Sends each element to the consumer
+     *
+     * @param elements the elements
+     * @param consumer the blocking call
+     * @param <T>      the element type
+     * @throws NullPointerException   when there is a null parameter
+     * @throws CommunicationException when a call fails with a checked exception
+     */
+    public <T> void forEach(Iterable<T> elements, Consumer<? super T> consumer) {
+        Objects.requireNonNull(consumer, "consumer is required");
+        map(elements, value -> {
+            consumer.accept(value);
+            return null;
+        });
+    }
+
+    private <T, R> List<CompletableFuture<R>> submit(List<T> values, Function<? super T, ? extends R> function) {
+        Semaphore permits = new Semaphore(concurrency);
+        List<CompletableFuture<R>> futures = new ArrayList<>(values.size());
+        for (T value : values) {
+            CompletableFuture<R> future = new CompletableFuture<>();
+            futures.add(future);
+            try {
+                permits.acquire();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                future.completeExceptionally(exception);
+                continue;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        future.complete(function.apply(value));
+                    } catch (Throwable exception) {
+                        future.completeExceptionally(exception);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RejectedExecutionException exception) {
+                permits.release();
+                future.completeExceptionally(exception);
+            }
+        }
+        return futures;
+    }
+
+    private static <R> List<R> join(List<CompletableFuture<R>> futures) {
+        List<R> results = new ArrayList<>(futures.size());
+        List<Throwable> failures = new ArrayList<>();
+        for (CompletableFuture<R> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException exception) {
+                failures.add(exception.getCause());
+            }
+        }
+        if (failures.isEmpty()) {
+            return results;
+        }
+        Throwable first = failures.get(0);
+        failures.stream().skip(1).forEach(first::addSuppressed);
+        if (first instanceof RuntimeException) {
+            throw (RuntimeException) first;
+        }
+        if (first instanceof Error) {
+            throw (Error) first;
+        }
+        throw new CommunicationException(failures.size() + " of " + futures.size() + " calls failed", first);
+    }
+
+    @Override
+    public String toString() {
+        return "FanOut{" +
+                "concurrency=" + concurrency +
+                ", executor=" + executor +
+                '}';
+    }
+
+    /**
+     * Returns a {@link FanOut} that runs the calls one after another on the caller thread
+     *
+     * @return the sequential {@link FanOut}
+     */
+    public static FanOut sequential() {
+        return SEQUENTIAL;
+    }
+
+    /**
+     * Creates a {@link FanOut} on a shared pool of daemon threads
+     *
+     * @param concurrency the maximum number of calls at the same time
+     * @return a {@link FanOut}
+     * @throws IllegalArgumentException when concurrency is lesser than one
+     */
+    public static FanOut of(int concurrency) {
+        if (concurrency == 1) {
+            return SEQUENTIAL;
+        }
+        checkConcurrency(concurrency);
+        return new FanOut(concurrency, ExecutorHolder.EXECUTOR);
+    }
+
+    /**
+     * Creates a {@link FanOut}
+     *
+     * @param concurrency the maximum number of calls at the same time
+     * @param executor    the executor of the calls
+     * @return a {@link FanOut}
+     * @throws NullPointerException     when executor is null
+     * @throws IllegalArgumentException when concurrency is lesser than one
+     */
+    public static FanOut of(int concurrency, Executor executor) {
+        Objects.requireNonNull(executor, "executor is required");
+        checkConcurrency(concurrency);
+        return new FanOut(concurrency, executor);
+    }
+
+    /**
+     * Creates a {@link FanOut} on a shared pool of daemon threads with the concurrency from the settings,
+     * or {@link #DEFAULT_CONCURRENCY}
+     *
+     * @param settings    the settings
+     * @param concurrency the concurrency key of the driver
+     * @return a {@link FanOut}
+     * @throws NullPointerException     when there is a null parameter
+     * @throws IllegalArgumentException when the concurrency is lesser than one
+     */
+    public static FanOut of(Settings settings, Supplier<String> concurrency) {
+        Objects.requireNonNull(settings, "settings is required");
+        Objects.requireNonNull(concurrency, "concurrency is required");
+        return of(settings.get(concurrency)
+                .map(Object::toString)
+                .map(Integer::parseInt)
+                .orElse(DEFAULT_CONCURRENCY));
+    }
+
+    private static void checkConcurrency(int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("The concurrency must be greater than zero: " + concurrency);
+        }
+    }
+
+    /**
+     * The threads are created on demand and are bounded by the sum of the concurrency of the running calls.
+     */
+    private static final class ExecutorHolder {
+
+        private static final AtomicInteger COUNTER = new AtomicInteger();
+
+        private static final ThreadFactory FACTORY = runnable -> {
+            Thread thread = new Thread(runnable, "jnosql-fan-out-" + COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(FACTORY);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link MetricsProvider} that keeps a {@link LatencyHistogram} to each driver, operation and phase.
+ * Once registered in {@link java.util.ServiceLoader}, the histograms are read from
+ * {@link MetricsProvider#getInstance()}, e.g.
+ * <pre>{@code
+ * HistogramMetricsProvider provider = (HistogramMetricsProvider) MetricsProvider.getInstance();
+ * LatencyHistogram histogram = provider.get("mongodb").getHistogram(Operation.SELECT);
+ * }</pre>
+ */
+public final class HistogramMetricsProvider implements MetricsProvider {
+
+    private final Map<String, HistogramOperationMetrics> drivers = new ConcurrentHashMap<>();
+
+    @Override
+    public HistogramOperationMetrics get(String driver) {
+        Objects.requireNonNull(driver, "driver is required");
+        return drivers.computeIfAbsent(driver, HistogramOperationMetrics::new);
+    }
+
+    /**
+     * The metrics of all drivers that were used
+     *
+     * @return the metrics by driver name
+     */
+    public Map<String, HistogramOperationMetrics> getDrivers() {
+        return Collections.unmodifiableMap(drivers);
+    }
+
+    @Override
+    public String toString() {
+        return "HistogramMetricsProvider{" +
+                "drivers=" + drivers.keySet() +
+                '}';
+    }
+}
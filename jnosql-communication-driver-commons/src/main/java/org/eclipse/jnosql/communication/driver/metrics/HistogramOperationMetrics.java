@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import java.util.Objects;
+
+/**
+ * The {@link OperationMetrics} of {@link HistogramMetricsProvider}, it keeps a {@link LatencyHistogram}
+ * to each operation and phase, the count of a histogram is the count of the operation.
+ */
+public final class HistogramOperationMetrics implements OperationMetrics {
+
+    private static final int PHASES = OperationPhase.values().length;
+
+    private final String driver;
+
+    private final LatencyHistogram[] histograms;
+
+    HistogramOperationMetrics(String driver) {
+        this.driver = driver;
+        this.histograms = new LatencyHistogram[Operation.values().length * PHASES];
+        for (int index = 0; index < histograms.length; index++) {
+            histograms[index] = new LatencyHistogram();
+        }
+    }
+
+    @Override
+    public long start() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void stop(Operation operation, OperationPhase phase, long start) {
+        histograms[operation.ordinal() * PHASES + phase.ordinal()].record(System.nanoTime() - start);
+    }
+
+    /**
+     * The driver name
+     *
+     * @return the driver name
+     */
+    public String getDriver() {
+        return driver;
+    }
+
+    /**
+     * The histogram of the {@link OperationPhase#EXECUTION} of an operation
+     *
+     * @param operation the operation
+     * @return the {@link LatencyHistogram}
+     * @throws NullPointerException when operation is null
+     */
+    public LatencyHistogram getHistogram(Operation operation) {
+        return getHistogram(operation, OperationPhase.EXECUTION);
+    }
+
+    /**
+     * The histogram of a phase of an operation
+     *
+     * @param operation the operation
+     * @param phase     the phase
+     * @return the {@link LatencyHistogram}
+     * @throws NullPointerException when there is a null parameter
+     */
+    public LatencyHistogram getHistogram(Operation operation, OperationPhase phase) {
+        Objects.requireNonNull(operation, "operation is required");
+        Objects.requireNonNull(phase, "phase is required");
+        return histograms[operation.ordinal() * PHASES + phase.ordinal()];
+    }
+
+    /**
+     * Removes the recorded latencies of all operations
+     */
+    public void reset() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HistogramOperationMetrics{" +
+                "driver='" + driver + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram with log-linear buckets, as HdrHistogram: each power of two is split in
+ * 32 buckets, so a percentile is reported with at most about 3% of error, from one nanosecond to the
+ * {@link Long#MAX_VALUE}, in a fixed array of counters.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder sum = new LongAdder();
+
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Records a latency
+     *
+     * @param nanos the latency in nanoseconds, a negative value is recorded as zero
+     */
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        counts.incrementAndGet(index(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * The number of recorded latencies
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * The highest recorded latency
+     *
+     * @param unit the unit of the result
+     * @return the max latency
+     */
+    public long getMax(TimeUnit unit) {
+        return unit.convert(max.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * The mean of the recorded latencies
+     *
+     * @param unit the unit of the result
+     * @return the mean latency, or zero when there is no latency
+     */
+    public double getMean(TimeUnit unit) {
+        long total = count.sum();
+        if (total == 0) {
+            return 0D;
+        }
+        return (double) sum.sum() / total / unit.toNanos(1L);
+    }
+
+    /**
+     * The latency below which the percentile of the recorded latencies are
+     *
+     * @param percentile the percentile, from 0 to 100, e.g. 99.9
+     * @param unit       the unit of the result
+     * @return the latency at the percentile, or zero when there is no latency
+     * @throws IllegalArgumentException when percentile is out of the range
+     */
+    public long getValueAtPercentile(double percentile, TimeUnit unit) {
+        if (percentile < 0D || percentile > 100D) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100: " + percentile);
+        }
+        long total = count.sum();
+        if (total == 0) {
+            return 0L;
+        }
+        long target = Math.max(1L, (long) Math.ceil(percentile / 100D * total));
+        long accumulated = 0L;
+        for (int index = 0; index < BUCKETS; index++) {
+            accumulated += counts.get(index);
+            if (accumulated >= target) {
+                return unit.convert(Math.min(highestValue(index), max.get()), TimeUnit.NANOSECONDS);
+            }
+        }
+        return unit.convert(max.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Removes all the recorded latencies, the records done at the same time might be partially kept
+     */
+    public void reset() {
+        for (int index = 0; index < BUCKETS; index++) {
+            counts.set(index, 0L);
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{" +
+                "count=" + getCount() +
+                ", p50=" + getValueAtPercentile(50D, TimeUnit.MICROSECONDS) +
+                "us, p99=" + getValueAtPercentile(99D, TimeUnit.MICROSECONDS) +
+                "us, max=" + getMax(TimeUnit.MICROSECONDS) +
+                "us}";
+    }
+
+    static int index(long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_COUNT + (int) (value >>> shift);
+    }
+
+    static long highestValue(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long mantissa = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+/**
+ * The SPI that creates the {@link OperationMetrics} of each driver. The first implementation found in
+ * {@link java.util.ServiceLoader} is used, without one the metrics are disabled. This module has
+ * {@link HistogramMetricsProvider}, that keeps a {@link LatencyHistogram} per operation, to register it add the
+ * "META-INF/services/org.eclipse.jnosql.communication.driver.metrics.MetricsProvider" file with its name.
+ */
+public interface MetricsProvider {
+
+    /**
+     * Returns the {@link OperationMetrics} of a driver
+     *
+     * @param driver the driver name, e.g. "mongodb"
+     * @return the {@link OperationMetrics} instance
+     * @throws NullPointerException when driver is null
+     */
+    OperationMetrics get(String driver);
+
+    /**
+     * Returns the {@link MetricsProvider} found in {@link java.util.ServiceLoader}, or the one that does nothing
+     *
+     * @return the {@link MetricsProvider} instance
+     */
+    static MetricsProvider getInstance() {
+        return MetricsProviderServiceLoader.getInstance();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+final class MetricsProviderServiceLoader {
+
+    private static final Logger LOGGER = Logger.getLogger(MetricsProviderServiceLoader.class.getName());
+
+    private static final MetricsProvider INSTANCE = load();
+
+    private MetricsProviderServiceLoader() {
+    }
+
+    static MetricsProvider getInstance() {
+        return INSTANCE;
+    }
+
+    private static MetricsProvider load() {
+        Iterator<MetricsProvider> iterator = ServiceLoader.load(MetricsProvider.class).iterator();
+        try {
+            if (iterator.hasNext()) {
+                MetricsProvider provider = iterator.next();
+                LOGGER.info("Using the MetricsProvider " + provider.getClass().getName());
+                return provider;
+            }
+        } catch (ServiceConfigurationError error) {
+            LOGGER.log(Level.WARNING, "The MetricsProvider cannot be loaded, the metrics are disabled", error);
+        }
+        return NoOpMetricsProvider.INSTANCE;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import java.util.Objects;
+
+/**
+ * The default {@link MetricsProvider}, its {@link OperationMetrics} neither reads the clock nor records.
+ */
+enum NoOpMetricsProvider implements MetricsProvider, OperationMetrics {
+
+    INSTANCE;
+
+    @Override
+    public OperationMetrics get(String driver) {
+        Objects.requireNonNull(driver, "driver is required");
+        return this;
+    }
+
+    @Override
+    public long start() {
+        return 0L;
+    }
+
+    @Override
+    public void stop(Operation operation, long start) {
+    }
+
+    @Override
+    public void stop(Operation operation, OperationPhase phase, long start) {
+    }
+}
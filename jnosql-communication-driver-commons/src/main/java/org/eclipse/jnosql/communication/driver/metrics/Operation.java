@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+/**
+ * The operations of the managers that {@link OperationMetrics} records.
+ */
+public enum Operation {
+    /**
+     * The key-value put
+     */
+    PUT,
+    /**
+     * The key-value get
+     */
+    GET,
+    /**
+     * The deletion, of keys or by a delete query
+     */
+    DELETE,
+    /**
+     * The insertion of entities
+     */
+    INSERT,
+    /**
+     * The update of entities
+     */
+    UPDATE,
+    /**
+     * The select query
+     */
+    SELECT,
+    /**
+     * The count of a collection
+     */
+    COUNT
+}
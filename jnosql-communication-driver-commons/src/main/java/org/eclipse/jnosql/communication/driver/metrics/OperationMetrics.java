@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+/**
+ * Records the latency of the operations of a driver. The managers call it as:
+ * <pre>{@code
+ * long start = metrics.start();
+ * ...
+ * metrics.stop(Operation.GET, start);
+ * }</pre>
+ * The default instance does not read the clock and does nothing, so it costs nothing once the JIT inlines it.
+ *
+ * @see MetricsProvider
+ */
+public interface OperationMetrics {
+
+    /**
+     * Starts a measure
+     *
+     * @return the start time, in nanoseconds, to {@link #stop(Operation, long)}
+     */
+    long start();
+
+    /**
+     * Records the {@link OperationPhase#EXECUTION} of an operation
+     *
+     * @param operation the operation
+     * @param start     the value returned by {@link #start()}
+     */
+    default void stop(Operation operation, long start) {
+        stop(operation, OperationPhase.EXECUTION, start);
+    }
+
+    /**
+     * Records a phase of an operation
+     *
+     * @param operation the operation
+     * @param phase     the phase
+     * @param start     the value returned by {@link #start()}
+     */
+    void stop(Operation operation, OperationPhase phase, long start);
+
+    /**
+     * Returns the {@link OperationMetrics} of a driver from the {@link MetricsProvider#getInstance()}
+     *
+     * @param driver the driver name, e.g. "mongodb"
+     * @return the {@link OperationMetrics} instance
+     * @throws NullPointerException when driver is null
+     */
+    static OperationMetrics of(String driver) {
+        return MetricsProvider.getInstance().get(driver);
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+/**
+ * The phases of an {@link Operation} that {@link OperationMetrics} records apart.
+ */
+public enum OperationPhase {
+    /**
+     * The whole operation, from the call to the return
+     */
+    EXECUTION,
+    /**
+     * The translation of a query to the database query language, e.g. AQL, N1QL or a Mango query
+     */
+    TRANSLATION,
+    /**
+     * The conversion between the entities and the database values
+     */
+    CONVERSION
+}
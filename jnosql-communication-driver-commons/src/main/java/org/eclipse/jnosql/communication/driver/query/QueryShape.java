@@ -0,0 +1,258 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.query;
+
+import jakarta.nosql.Sort;
+import jakarta.nosql.TypeReference;
+import jakarta.nosql.Value;
+import jakarta.nosql.column.Column;
+import jakarta.nosql.column.ColumnCondition;
+import jakarta.nosql.column.ColumnDeleteQuery;
+import jakarta.nosql.column.ColumnQuery;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentCondition;
+import jakarta.nosql.document.DocumentDeleteQuery;
+import jakarta.nosql.document.DocumentQuery;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The structure of a query without its values: the collection, the projection, the condition tree with
+ * the field names and operators, the sorts, the skip and the limit. Two queries that differ only on the
+ * condition values have equal shapes, so they share the same translation in a {@link QueryTranslationCache}.
+ * The shape also keeps the values of the query that built it, in depth-first order of the condition tree,
+ * to be bound by a {@link QueryTemplate}.
+ * <p>
+ * A value never changes the shape, so a translator must bind each condition value as a whole, e.g. the
+ * list of an IN condition as a single parameter, and must not write values in the query text.
+ */
+public final class QueryShape {
+
+    private static final TypeReference<List<DocumentCondition>> DOCUMENT_CONDITIONS = new TypeReference<>() {
+    };
+
+    private static final TypeReference<List<ColumnCondition>> COLUMN_CONDITIONS = new TypeReference<>() {
+    };
+
+    private final String key;
+
+    private final List<Object> elements;
+
+    private final List<Value> values;
+
+    private QueryShape(String key, List<Object> elements, List<Value> values) {
+        this.key = key;
+        this.elements = elements;
+        this.values = values;
+    }
+
+    /**
+     * The values of the conditions, in depth-first order
+     *
+     * @return the values
+     */
+    public List<Value> getValues() {
+        return Collections.unmodifiableList(values);
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    int indexOf(Object element) {
+        for (int index = 0; index < elements.size(); index++) {
+            if (elements.get(index) == element) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        QueryShape that = (QueryShape) o;
+        return key.equals(that.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return key.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "QueryShape{" +
+                "key='" + key + '\'' +
+                '}';
+    }
+
+    /**
+     * Creates the shape of a {@link DocumentQuery}
+     *
+     * @param query the query
+     * @return the {@link QueryShape}
+     * @throws NullPointerException when query is null
+     */
+    public static QueryShape of(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        Builder builder = new Builder("select");
+        builder.names(query.getDocumentCollection(), query.getDocuments());
+        query.getCondition().ifPresent(builder::condition);
+        builder.sorts(query.getSorts()).pagination(query.getSkip(), query.getLimit());
+        return builder.build();
+    }
+
+    /**
+     * Creates the shape of a {@link DocumentDeleteQuery}
+     *
+     * @param query the query
+     * @return the {@link QueryShape}
+     * @throws NullPointerException when query is null
+     */
+    public static QueryShape of(DocumentDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        Builder builder = new Builder("delete");
+        builder.names(query.getDocumentCollection(), query.getDocuments());
+        query.getCondition().ifPresent(builder::condition);
+        return builder.build();
+    }
+
+    /**
+     * Creates the shape of a {@link ColumnQuery}
+     *
+     * @param query the query
+     * @return the {@link QueryShape}
+     * @throws NullPointerException when query is null
+     */
+    public static QueryShape of(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        Builder builder = new Builder("select");
+        builder.names(query.getColumnFamily(), query.getColumns());
+        query.getCondition().ifPresent(builder::condition);
+        builder.sorts(query.getSorts()).pagination(query.getSkip(), query.getLimit());
+        return builder.build();
+    }
+
+    /**
+     * Creates the shape of a {@link ColumnDeleteQuery}
+     *
+     * @param query the query
+     * @return the {@link QueryShape}
+     * @throws NullPointerException when query is null
+     */
+    public static QueryShape of(ColumnDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        Builder builder = new Builder("delete");
+        builder.names(query.getColumnFamily(), query.getColumns());
+        query.getCondition().ifPresent(builder::condition);
+        return builder.build();
+    }
+
+    /**
+     * The names are written with their length before them, so no name can be mistaken for the structure.
+     */
+    private static final class Builder {
+
+        private final StringBuilder key = new StringBuilder();
+
+        private final List<Object> elements = new ArrayList<>();
+
+        private final List<Value> values = new ArrayList<>();
+
+        private Builder(String type) {
+            key.append(type);
+        }
+
+        private Builder names(String collection, List<String> names) {
+            name(collection);
+            key.append('[');
+            names.forEach(this::name);
+            key.append(']');
+            return this;
+        }
+
+        private Builder condition(DocumentCondition condition) {
+            Document document = condition.getDocument();
+            key.append(' ').append(condition.getCondition()).append('(');
+            switch (condition.getCondition()) {
+                case AND:
+                case OR:
+                    document.get(DOCUMENT_CONDITIONS).forEach(this::condition);
+                    break;
+                case NOT:
+                    condition(document.get(DocumentCondition.class));
+                    break;
+                default:
+                    name(document.getName());
+                    elements.add(document);
+                    values.add(document.getValue());
+            }
+            key.append(')');
+            return this;
+        }
+
+        private Builder condition(ColumnCondition condition) {
+            Column column = condition.getColumn();
+            key.append(' ').append(condition.getCondition()).append('(');
+            switch (condition.getCondition()) {
+                case AND:
+                case OR:
+                    column.get(COLUMN_CONDITIONS).forEach(this::condition);
+                    break;
+                case NOT:
+                    condition(column.get(ColumnCondition.class));
+                    break;
+                default:
+                    name(column.getName());
+                    elements.add(column);
+                    values.add(column.getValue());
+            }
+            key.append(')');
+            return this;
+        }
+
+        private Builder sorts(List<Sort> sorts) {
+            for (Sort sort : sorts) {
+                key.append(" sort ");
+                name(sort.getName());
+                key.append(sort.getType());
+            }
+            return this;
+        }
+
+        private Builder pagination(long skip, long limit) {
+            key.append(" skip ").append(skip).append(" limit ").append(limit);
+            return this;
+        }
+
+        private void name(String name) {
+            String value = Objects.toString(name, "");
+            key.append(value.length()).append(':').append(value);
+        }
+
+        private QueryShape build() {
+            return new QueryShape(key.toString(), elements, values);
+        }
+    }
+}
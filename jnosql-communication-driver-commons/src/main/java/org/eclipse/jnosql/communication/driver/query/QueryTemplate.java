@@ -0,0 +1,208 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.query;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.column.Column;
+import jakarta.nosql.document.Document;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A native query translated once for a {@link QueryShape} and the plan to bind the values of any query with
+ * the same shape: each parameter has a name, the position of the condition value in the shape and the
+ * conversion of that value.
+ * <pre>{@code
+ * QueryTemplate.Builder builder = QueryTemplate.builder(shape);
+ * builder.parameter("name", document, Value::get);
+ * QueryTemplate template = builder.build("FOR c IN collection FILTER c.name == @name RETURN c");
+ * Map<String, Object> params = template.bind(QueryShape.of(otherQuery));
+ * }</pre>
+ */
+public final class QueryTemplate {
+
+    private final String query;
+
+    private final List<Parameter> parameters;
+
+    private QueryTemplate(String query, List<Parameter> parameters) {
+        this.query = query;
+        this.parameters = parameters;
+    }
+
+    /**
+     * The native query
+     *
+     * @return the query
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * The parameter names, in the order they were defined
+     *
+     * @return the names
+     */
+    public List<String> getParameterNames() {
+        List<String> names = new ArrayList<>(parameters.size());
+        parameters.forEach(p -> names.add(p.name));
+        return Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Sends each parameter name and its converted value from the shape, in the order they were defined
+     *
+     * @param shape  the shape of the query to execute
+     * @param binder the consumer of the name and the value
+     * @throws NullPointerException     when there is a null parameter
+     * @throws IllegalArgumentException when the shape has fewer values than the template
+     */
+    public void bind(QueryShape shape, BiConsumer<String, Object> binder) {
+        Objects.requireNonNull(shape, "shape is required");
+        Objects.requireNonNull(binder, "binder is required");
+        List<Value> values = shape.getValues();
+        for (Parameter parameter : parameters) {
+            if (parameter.index >= values.size()) {
+                throw new IllegalArgumentException("The shape " + shape + " does not have the value of "
+                        + parameter.name);
+            }
+            binder.accept(parameter.name, parameter.converter.apply(values.get(parameter.index)));
+        }
+    }
+
+    /**
+     * Returns the parameter names and their converted values from the shape
+     *
+     * @param shape the shape of the query to execute
+     * @return the parameters in the order they were defined
+     * @throws NullPointerException     when shape is null
+     * @throws IllegalArgumentException when the shape has fewer values than the template
+     */
+    public Map<String, Object> bind(QueryShape shape) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        bind(shape, params::put);
+        return params;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryTemplate{" +
+                "query='" + query + '\'' +
+                ", parameters=" + getParameterNames() +
+                '}';
+    }
+
+    /**
+     * Creates a builder to the query that the shape came from
+     *
+     * @param shape the shape
+     * @return a {@link Builder}
+     * @throws NullPointerException when shape is null
+     */
+    public static Builder builder(QueryShape shape) {
+        Objects.requireNonNull(shape, "shape is required");
+        return new Builder(shape);
+    }
+
+    /**
+     * The builder of {@link QueryTemplate}, the translator defines the parameters while it writes the query.
+     */
+    public static final class Builder {
+
+        private final QueryShape shape;
+
+        private final List<Parameter> parameters = new ArrayList<>();
+
+        private Builder(QueryShape shape) {
+            this.shape = shape;
+        }
+
+        /**
+         * Defines a parameter from a condition document of the query
+         *
+         * @param name      the parameter name
+         * @param document  the document of the condition
+         * @param converter the conversion of the document value to the parameter value
+         * @return this builder
+         * @throws NullPointerException     when there is a null parameter
+         * @throws IllegalArgumentException when the document is not a condition value of the shape
+         */
+        public Builder parameter(String name, Document document, Function<Value, Object> converter) {
+            Objects.requireNonNull(document, "document is required");
+            return parameter(name, (Object) document, converter);
+        }
+
+        /**
+         * Defines a parameter from a condition column of the query
+         *
+         * @param name      the parameter name
+         * @param column    the column of the condition
+         * @param converter the conversion of the column value to the parameter value
+         * @return this builder
+         * @throws NullPointerException     when there is a null parameter
+         * @throws IllegalArgumentException when the column is not a condition value of the shape
+         */
+        public Builder parameter(String name, Column column, Function<Value, Object> converter) {
+            Objects.requireNonNull(column, "column is required");
+            return parameter(name, (Object) column, converter);
+        }
+
+        /**
+         * Creates the template
+         *
+         * @param query the native query
+         * @return the {@link QueryTemplate}
+         * @throws NullPointerException when query is null
+         */
+        public QueryTemplate build(String query) {
+            Objects.requireNonNull(query, "query is required");
+            return new QueryTemplate(query, new ArrayList<>(parameters));
+        }
+
+        private Builder parameter(String name, Object element, Function<Value, Object> converter) {
+            Objects.requireNonNull(name, "name is required");
+            Objects.requireNonNull(converter, "converter is required");
+            int index = shape.indexOf(element);
+            if (index < 0) {
+                throw new IllegalArgumentException("The element is not a condition value of the query: " + element);
+            }
+            parameters.add(new Parameter(name, index, converter));
+            return this;
+        }
+    }
+
+    private static final class Parameter {
+
+        private final String name;
+
+        private final int index;
+
+        private final Function<Value, Object> converter;
+
+        private Parameter(String name, int index, Function<Value, Object> converter) {
+            this.name = name;
+            this.index = index;
+            this.converter = converter;
+        }
+    }
+}
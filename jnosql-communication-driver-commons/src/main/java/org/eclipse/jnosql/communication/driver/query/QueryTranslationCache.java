@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.query;
+
+import org.eclipse.jnosql.communication.SettingsPriority;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of translated queries by {@link QueryShape}, so the queries that differ only on the values
+ * are translated once. The cache keeps only the structure of the shape, never the query or its values, so
+ * the values of a query, e.g. a large IN list, are not kept alive by the cache.
+ * The least recently used translation is removed when the cache is full. A miss
+ * translates out of the lock, so two threads might translate the same shape at the same time, and the
+ * last one is kept.
+ * <pre>{@code
+ * QueryShape shape = QueryShape.of(query);
+ * QueryTemplate template = cache.get(shape, s -> translate(query, s));
+ * Map<String, Object> params = template.bind(shape);
+ * }</pre>
+ *
+ * @param <T> the translation type
+ */
+public final class QueryTranslationCache<T> {
+
+    /**
+     * The maximum number of translations when {@link #QUERY_CACHE_MAX_SIZE} is not defined
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1_000;
+
+    /**
+     * The property, either a system property or an environment variable, of the maximum number of
+     * translations of each driver. A zero disables the cache.
+     */
+    public static final String QUERY_CACHE_MAX_SIZE = "jnosql.query.cache.max.size";
+
+    private final Map<String, T> translations = new LinkedHashMap<>(16, 0.75F, true);
+
+    private final Object lock = new Object();
+
+    private final int maximumSize;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private QueryTranslationCache(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns the translation of the shape, the translator is called when the shape is not in the cache
+     *
+     * @param shape      the shape
+     * @param translator the translator of the shape
+     * @return the translation
+     * @throws NullPointerException when there is a null parameter, or the translator returns null
+     */
+    public T get(QueryShape shape, Function<QueryShape, T> translator) {
+        Objects.requireNonNull(shape, "shape is required");
+        Objects.requireNonNull(translator, "translator is required");
+        if (maximumSize > 0) {
+            synchronized (lock) {
+                T translation = translations.get(shape.getKey());
+                if (translation != null) {
+                    hits.increment();
+                    return translation;
+                }
+            }
+        }
+        misses.increment();
+        T translation = Objects.requireNonNull(translator.apply(shape), "translation is required");
+        if (maximumSize > 0) {
+            synchronized (lock) {
+                translations.put(shape.getKey(), translation);
+                if (translations.size() > maximumSize) {
+                    translations.remove(translations.keySet().iterator().next());
+                }
+            }
+        }
+        return translation;
+    }
+
+    /**
+     * The number of translations in the cache
+     *
+     * @return the size
+     */
+    public int size() {
+        synchronized (lock) {
+            return translations.size();
+        }
+    }
+
+    /**
+     * The number of times a translation was found in the cache
+     *
+     * @return the hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * The number of times a shape was translated
+     *
+     * @return the misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Removes all the translations
+     */
+    public void clear() {
+        synchronized (lock) {
+            translations.clear();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "QueryTranslationCache{" +
+                "maximumSize=" + maximumSize +
+                ", size=" + size() +
+                ", hits=" + getHits() +
+                ", misses=" + getMisses() +
+                '}';
+    }
+
+    /**
+     * Creates a cache with the maximum size of {@link #QUERY_CACHE_MAX_SIZE} or {@link #DEFAULT_MAXIMUM_SIZE}
+     *
+     * @param <T> the translation type
+     * @return a {@link QueryTranslationCache}
+     */
+    public static <T> QueryTranslationCache<T> of() {
+        int maximumSize = SettingsPriority.get(QUERY_CACHE_MAX_SIZE)
+                .map(Object::toString)
+                .map(Integer::parseInt)
+                .orElse(DEFAULT_MAXIMUM_SIZE);
+        return of(maximumSize);
+    }
+
+    /**
+     * Creates a cache
+     *
+     * @param maximumSize the maximum number of translations, zero disables the cache
+     * @param <T>         the translation type
+     * @return a {@link QueryTranslationCache}
+     * @throws IllegalArgumentException when maximumSize is negative
+     */
+    public static <T> QueryTranslationCache<T> of(int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("The maximum size must not be negative: " + maximumSize);
+        }
+        return new QueryTranslationCache<>(maximumSize);
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.writebehind;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The buffer behind the write-behind managers. It keeps the entities per collection and sends them to the
+ * writer when a collection reaches the batch size, in the caller thread, or when the flush interval passes,
+ * in its own daemon thread. A {@link Semaphore} with the max pending permits blocks the callers while the
+ * database is slower than them. A failed batch goes to the failure listener, it is never thrown to the caller.
+ * An {@link Error} thrown by the writer does not stop the other batches of the same flush; it is thrown after
+ * them by {@link #flush()}, or logged when the flush interval runs it.
+ * The {@link #flush()} returns only when the entities accepted before it were sent, including the batches that
+ * other threads were already sending, so the reads of the managers see them in the order of the writes.
+ * The {@link #close()} returns only when every accepted entity was sent.
+ *
+ * @param <T> the entity type
+ */
+final class WriteBehindBuffer<T> implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(WriteBehindBuffer.class.getName());
+
+    private final Function<T, String> collection;
+
+    private final Consumer<List<T>> writer;
+
+    private final Consumer<WriteBehindFailure<T>> failureListener;
+
+    private final int batchSize;
+
+    private final int maxPending;
+
+    private final Semaphore pending;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Map<String, List<T>> batches = new LinkedHashMap<>();
+
+    private final Object lock = new Object();
+
+    private final NavigableSet<Long> writing = new TreeSet<>();
+
+    private long sequence;
+
+    private boolean closed;
+
+    WriteBehindBuffer(Function<T, String> collection, Consumer<List<T>> writer,
+                      Consumer<WriteBehindFailure<T>> failureListener, WriteBehindConfiguration configuration) {
+        this.collection = collection;
+        this.writer = writer;
+        this.failureListener = failureListener;
+        this.batchSize = configuration.getBatchSize();
+        this.maxPending = configuration.getMaxPending();
+        this.pending = new Semaphore(maxPending);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "jnosql-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = configuration.getFlushInterval().toMillis();
+        this.scheduler.scheduleWithFixedDelay(this::flushByTime, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    void add(T entity) {
+        try {
+            pending.acquire();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The thread was interrupted waiting for the write-behind buffer",
+                    exception);
+        }
+        String name = collection.apply(entity);
+        List<T> batch = null;
+        long id = 0L;
+        synchronized (lock) {
+            if (closed) {
+                pending.release();
+                throw new IllegalStateException("The write-behind buffer is closed");
+            }
+            List<T> entities = batches.computeIfAbsent(name, k -> new ArrayList<>(batchSize));
+            entities.add(entity);
+            if (entities.size() >= batchSize) {
+                batch = batches.remove(name);
+                id = start();
+            }
+        }
+        if (batch != null) {
+            write(id, name, batch);
+        }
+    }
+
+    /**
+     * Sends the queued entities and waits for the batches that other threads were already sending
+     */
+    void flush() {
+        long last;
+        List<Runnable> writes;
+        synchronized (lock) {
+            writes = drain();
+            last = sequence;
+        }
+        Error error = run(writes);
+        synchronized (lock) {
+            boolean interrupted = false;
+            while (!writing.isEmpty() && writing.first() <= last) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException exception) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private void flushByTime() {
+        Error error = run(drain());
+        if (error != null) {
+            LOGGER.log(Level.SEVERE, "The write-behind buffer could not send its batches", error);
+        }
+    }
+
+    /**
+     * Runs every write, so an {@link Error} thrown by one does not leave the others registered and pending
+     *
+     * @return the first error, with the next ones as suppressed, or null
+     */
+    private static Error run(List<Runnable> writes) {
+        Error error = null;
+        for (Runnable write : writes) {
+            try {
+                write.run();
+            } catch (Error exception) {
+                if (error == null) {
+                    error = exception;
+                } else {
+                    error.addSuppressed(exception);
+                }
+            }
+        }
+        return error;
+    }
+
+    /**
+     * Removes the queued batches and registers them as being written
+     *
+     * @return the writes to run out of the lock
+     */
+    private List<Runnable> drain() {
+        List<Runnable> writes = new ArrayList<>();
+        synchronized (lock) {
+            for (Map.Entry<String, List<T>> entry : batches.entrySet()) {
+                long id = start();
+                String name = entry.getKey();
+                List<T> batch = entry.getValue();
+                writes.add(() -> write(id, name, batch));
+            }
+            batches.clear();
+        }
+        return writes;
+    }
+
+    private long start() {
+        long id = ++sequence;
+        writing.add(id);
+        return id;
+    }
+
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            flush();
+        } finally {
+            pending.acquireUninterruptibly(maxPending);
+            pending.release(maxPending);
+        }
+    }
+
+    private void write(long id, String name, List<T> batch) {
+        try {
+            writer.accept(batch);
+        } catch (RuntimeException exception) {
+            notifyFailure(new WriteBehindFailure<>(name, batch, exception));
+        } finally {
+            synchronized (lock) {
+                writing.remove(id);
+                lock.notifyAll();
+            }
+            pending.release(batch.size());
+        }
+    }
+
+    private void notifyFailure(WriteBehindFailure<T> failure) {
+        try {
+            failureListener.accept(failure);
+        } catch (RuntimeException exception) {
+            LOGGER.log(Level.WARNING, "The write-behind failure listener threw an error to " + failure,
+                    exception);
+        }
+    }
+
+    static <T> Consumer<WriteBehindFailure<T>> logFailure() {
+        return failure -> LOGGER.log(Level.WARNING, "It cannot insert " + failure.getEntities().size()
+                + " entities to " + failure.getCollection(), failure.getCause());
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.writebehind;
+
+import jakarta.nosql.column.ColumnDeleteQuery;
+import jakarta.nosql.column.ColumnFamilyManager;
+import jakarta.nosql.column.ColumnEntity;
+import jakarta.nosql.column.ColumnQuery;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * A {@link ColumnFamilyManager} that buffers the {@link #insert(ColumnEntity)} calls per column family and sends them
+ * together with {@link ColumnFamilyManager#insert(Iterable)}, so the drivers with a bulk insert do a single
+ * round trip to many entities. The buffer is flushed when a column family reaches
+ * {@link WriteBehindConfiguration#getBatchSize()}, every {@link WriteBehindConfiguration#getFlushInterval()},
+ * before any other operation, so this instance reads its own writes, and on {@link #close()}.
+ * The returned entity is the given one, so the values generated by the database, e.g. the id, are not there.
+ * The inserts with TTL and the Iterable inserts are not buffered, they flush the buffer first, so they reach the
+ * database after the entities inserted before them.
+ */
+public final class WriteBehindColumnFamilyManager implements ColumnFamilyManager {
+
+    private final ColumnFamilyManager manager;
+
+    private final WriteBehindBuffer<ColumnEntity> buffer;
+
+    private WriteBehindColumnFamilyManager(ColumnFamilyManager manager, WriteBehindBuffer<ColumnEntity> buffer) {
+        this.manager = manager;
+        this.buffer = buffer;
+    }
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        buffer.add(entity);
+        return entity;
+    }
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity, Duration ttl) {
+        buffer.flush();
+        return manager.insert(entity, ttl);
+    }
+
+    @Override
+    public Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities) {
+        buffer.flush();
+        return manager.insert(entities);
+    }
+
+    @Override
+    public Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities, Duration ttl) {
+        buffer.flush();
+        return manager.insert(entities, ttl);
+    }
+
+    @Override
+    public ColumnEntity update(ColumnEntity entity) {
+        buffer.flush();
+        return manager.update(entity);
+    }
+
+    @Override
+    public Iterable<ColumnEntity> update(Iterable<ColumnEntity> entities) {
+        buffer.flush();
+        return manager.update(entities);
+    }
+
+    @Override
+    public void delete(ColumnDeleteQuery query) {
+        buffer.flush();
+        manager.delete(query);
+    }
+
+    @Override
+    public Stream<ColumnEntity> select(ColumnQuery query) {
+        buffer.flush();
+        return manager.select(query);
+    }
+
+    @Override
+    public long count(String columnFamily) {
+        buffer.flush();
+        return manager.count(columnFamily);
+    }
+
+    /**
+     * Sends all the buffered entities
+     */
+    public void flush() {
+        buffer.flush();
+    }
+
+    /**
+     * The {@link ColumnFamilyManager} that this instance decorates
+     *
+     * @return the {@link ColumnFamilyManager}
+     */
+    public ColumnFamilyManager getManager() {
+        return manager;
+    }
+
+    /**
+     * Sends all the buffered entities and closes the decorated {@link ColumnFamilyManager}
+     */
+    @Override
+    public void close() {
+        buffer.close();
+        manager.close();
+    }
+
+    /**
+     * Creates a {@link WriteBehindColumnFamilyManager} that logs the batches that fail
+     *
+     * @param manager       the {@link ColumnFamilyManager} to decorate
+     * @param configuration the buffer configuration
+     * @return a {@link WriteBehindColumnFamilyManager} instance
+     * @throws NullPointerException when there is a null parameter
+     */
+    public static WriteBehindColumnFamilyManager of(ColumnFamilyManager manager, WriteBehindConfiguration configuration) {
+        return of(manager, configuration, WriteBehindBuffer.logFailure());
+    }
+
+    /**
+     * Creates a {@link WriteBehindColumnFamilyManager}
+     *
+     * @param manager         the {@link ColumnFamilyManager} to decorate
+     * @param configuration   the buffer configuration
+     * @param failureListener the listener to the batches that fail
+     * @return a {@link WriteBehindColumnFamilyManager} instance
+     * @throws NullPointerException when there is a null parameter
+     */
+    public static WriteBehindColumnFamilyManager of(ColumnFamilyManager manager, WriteBehindConfiguration configuration,
+            Consumer<WriteBehindFailure<ColumnEntity>> failureListener) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(configuration, "configuration is required");
+        Objects.requireNonNull(failureListener, "failureListener is required");
+        WriteBehindBuffer<ColumnEntity> buffer = new WriteBehindBuffer<>(ColumnEntity::getName,
+                entities -> manager.insert(entities), failureListener, configuration);
+        return new WriteBehindColumnFamilyManager(manager, buffer);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.writebehind;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The configuration of the write-behind managers: how many entities of a collection are sent together,
+ * how long an entity waits before it is sent, and how many entities might wait at the same time.
+ *
+ * @see WriteBehindDocumentCollectionManager
+ * @see WriteBehindColumnFamilyManager
+ */
+public final class WriteBehindConfiguration {
+
+    /**
+     * The default number of entities sent together
+     */
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    /**
+     * The default time an entity waits before it is sent
+     */
+    public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(500);
+
+    /**
+     * The default number of entities that might wait at the same time
+     */
+    public static final int DEFAULT_MAX_PENDING = 10_000;
+
+    private final int batchSize;
+
+    private final Duration flushInterval;
+
+    private final int maxPending;
+
+    private WriteBehindConfiguration(int batchSize, Duration flushInterval, int maxPending) {
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * The number of entities of a collection that triggers a flush of that collection
+     *
+     * @return the batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The interval between the flushes of all collections
+     *
+     * @return the flush interval
+     */
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * The number of entities that might wait to be sent, an insert blocks when it is reached
+     *
+     * @return the max pending
+     */
+    public int getMaxPending() {
+        return maxPending;
+    }
+
+    @Override
+    public String toString() {
+        return "WriteBehindConfiguration{" +
+                "batchSize=" + batchSize +
+                ", flushInterval=" + flushInterval +
+                ", maxPending=" + maxPending +
+                '}';
+    }
+
+    /**
+     * Creates a builder to {@link WriteBehindConfiguration}
+     *
+     * @return a {@link WriteBehindConfigurationBuilder} instance
+     */
+    public static WriteBehindConfigurationBuilder builder() {
+        return new WriteBehindConfigurationBuilder();
+    }
+
+    /**
+     * The builder to {@link WriteBehindConfiguration}
+     */
+    public static final class WriteBehindConfigurationBuilder {
+
+        private int batchSize = DEFAULT_BATCH_SIZE;
+
+        private Duration flushInterval = DEFAULT_FLUSH_INTERVAL;
+
+        private int maxPending = DEFAULT_MAX_PENDING;
+
+        private WriteBehindConfigurationBuilder() {
+        }
+
+        /**
+         * Defines the number of entities of a collection that triggers a flush of that collection
+         *
+         * @param batchSize the batch size
+         * @return this builder
+         * @throws IllegalArgumentException when batchSize is not positive
+         */
+        public WriteBehindConfigurationBuilder batchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Defines the interval between the flushes of all collections
+         *
+         * @param flushInterval the flush interval
+         * @return this builder
+         * @throws NullPointerException     when flushInterval is null
+         * @throws IllegalArgumentException when flushInterval is lower than one millisecond
+         */
+        public WriteBehindConfigurationBuilder flushInterval(Duration flushInterval) {
+            Objects.requireNonNull(flushInterval, "flushInterval is required");
+            if (flushInterval.isNegative() || flushInterval.toMillis() < 1) {
+                throw new IllegalArgumentException("The flush interval must be at least one millisecond: "
+                        + flushInterval);
+            }
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        /**
+         * Defines the number of entities that might wait to be sent
+         *
+         * @param maxPending the max pending
+         * @return this builder
+         * @throws IllegalArgumentException when maxPending is not positive
+         */
+        public WriteBehindConfigurationBuilder maxPending(int maxPending) {
+            if (maxPending <= 0) {
+                throw new IllegalArgumentException("The max pending must be positive: " + maxPending);
+            }
+            this.maxPending = maxPending;
+            return this;
+        }
+
+        /**
+         * Creates the {@link WriteBehindConfiguration}
+         *
+         * @return a {@link WriteBehindConfiguration} instance
+         * @throws IllegalStateException when maxPending is lower than batchSize
+         */
+        public WriteBehindConfiguration build() {
+            if (maxPending < batchSize) {
+                throw new IllegalStateException("The max pending, " + maxPending
+                        + ", cannot be lower than the batch size, " + batchSize);
+            }
+            return new WriteBehindConfiguration(batchSize, flushInterval, maxPending);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.writebehind;
+
+import jakarta.nosql.document.DocumentDeleteQuery;
+import jakarta.nosql.document.DocumentCollectionManager;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * A {@link DocumentCollectionManager} that buffers the {@link #insert(DocumentEntity)} calls per collection and sends them
+ * together with {@link DocumentCollectionManager#insert(Iterable)}, so the drivers with a bulk insert do a single
+ * round trip to many entities. The buffer is flushed when a collection reaches
+ * {@link WriteBehindConfiguration#getBatchSize()}, every {@link WriteBehindConfiguration#getFlushInterval()},
+ * before any other operation, so this instance reads its own writes, and on {@link #close()}.
+ * The returned entity is the given one, so the values generated by the database, e.g. the id, are not there.
+ * The inserts with TTL and the Iterable inserts are not buffered, they flush the buffer first, so they reach the
+ * database after the entities inserted before them.
+ */
+public final class WriteBehindDocumentCollectionManager implements DocumentCollectionManager {
+
+    private final DocumentCollectionManager manager;
+
+    private final WriteBehindBuffer<DocumentEntity> buffer;
+
+    private WriteBehindDocumentCollectionManager(DocumentCollectionManager manager, WriteBehindBuffer<DocumentEntity> buffer) {
+        this.manager = manager;
+        this.buffer = buffer;
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        buffer.add(entity);
+        return entity;
+    }
+
+    @Override
+    public DocumentEntity insert(DocumentEntity entity, Duration ttl) {
+        buffer.flush();
+        return manager.insert(entity, ttl);
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
+        buffer.flush();
+        return manager.insert(entities);
+    }
+
+    @Override
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities, Duration ttl) {
+        buffer.flush();
+        return manager.insert(entities, ttl);
+    }
+
+    @Override
+    public DocumentEntity update(DocumentEntity entity) {
+        buffer.flush();
+        return manager.update(entity);
+    }
+
+    @Override
+    public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
+        buffer.flush();
+        return manager.update(entities);
+    }
+
+    @Override
+    public void delete(DocumentDeleteQuery query) {
+        buffer.flush();
+        manager.delete(query);
+    }
+
+    @Override
+    public Stream<DocumentEntity> select(DocumentQuery query) {
+        buffer.flush();
+        return manager.select(query);
+    }
+
+    @Override
+    public long count(String documentCollection) {
+        buffer.flush();
+        return manager.count(documentCollection);
+    }
+
+    /**
+     * Sends all the buffered entities
+     */
+    public void flush() {
+        buffer.flush();
+    }
+
+    /**
+     * The {@link DocumentCollectionManager} that this instance decorates
+     *
+     * @return the {@link DocumentCollectionManager}
+     */
+    public DocumentCollectionManager getManager() {
+        return manager;
+    }
+
+    /**
+     * Sends all the buffered entities and closes the decorated {@link DocumentCollectionManager}
+     */
+    @Override
+    public void close() {
+        buffer.close();
+        manager.close();
+    }
+
+    /**
+     * Creates a {@link WriteBehindDocumentCollectionManager} that logs the batches that fail
+     *
+     * @param manager       the {@link DocumentCollectionManager} to decorate
+     * @param configuration the buffer configuration
+     * @return a {@link WriteBehindDocumentCollectionManager} instance
+     * @throws NullPointerException when there is a null parameter
+     */
+    public static WriteBehindDocumentCollectionManager of(DocumentCollectionManager manager, WriteBehindConfiguration configuration) {
+        return of(manager, configuration, WriteBehindBuffer.logFailure());
+    }
+
+    /**
+     * Creates a {@link WriteBehindDocumentCollectionManager}
+     *
+     * @param manager         the {@link DocumentCollectionManager} to decorate
+     * @param configuration   the buffer configuration
+     * @param failureListener the listener to the batches that fail
+     * @return a {@link WriteBehindDocumentCollectionManager} instance
+     * @throws NullPointerException when there is a null parameter
+     */
+    public static WriteBehindDocumentCollectionManager of(DocumentCollectionManager manager, WriteBehindConfiguration configuration,
+            Consumer<WriteBehindFailure<DocumentEntity>> failureListener) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(configuration, "configuration is required");
+        Objects.requireNonNull(failureListener, "failureListener is required");
+        WriteBehindBuffer<DocumentEntity> buffer = new WriteBehindBuffer<>(DocumentEntity::getName,
+                entities -> manager.insert(entities), failureListener, configuration);
+        return new WriteBehindDocumentCollectionManager(manager, buffer);
+    }
+}
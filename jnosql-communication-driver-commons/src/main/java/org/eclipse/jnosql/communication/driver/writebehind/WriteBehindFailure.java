@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.writebehind;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A batch that the write-behind managers could not insert, it is given to the failure listener,
+ * that decides whether to retry, store or drop the entities.
+ *
+ * @param <T> the entity type
+ */
+public final class WriteBehindFailure<T> {
+
+    private final String collection;
+
+    private final List<T> entities;
+
+    private final RuntimeException cause;
+
+    WriteBehindFailure(String collection, List<T> entities, RuntimeException cause) {
+        this.collection = collection;
+        this.entities = Collections.unmodifiableList(entities);
+        this.cause = cause;
+    }
+
+    /**
+     * The collection, or column family, name of the batch
+     *
+     * @return the collection name
+     */
+    public String getCollection() {
+        return collection;
+    }
+
+    /**
+     * The entities that were not inserted
+     *
+     * @return the entities
+     */
+    public List<T> getEntities() {
+        return entities;
+    }
+
+    /**
+     * The error thrown by the database driver
+     *
+     * @return the cause
+     */
+    public RuntimeException getCause() {
+        return cause;
+    }
+
+    @Override
+    public String toString() {
+        return "WriteBehindFailure{" +
+                "collection='" + collection + '\'' +
+                ", entities=" + entities.size() +
+                ", cause=" + cause +
+                '}';
+    }
+}
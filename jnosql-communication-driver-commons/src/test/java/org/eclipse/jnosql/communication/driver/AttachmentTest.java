@@ -21,11 +21,16 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Contains tests to handle attachment representations.
@@ -88,6 +93,49 @@ public class AttachmentTest {
         }
         
         assertArrayEquals(testData, data.toByteArray());
+
+        ByteArrayOutputStream channelData = new ByteArrayOutputStream();
+        try (ReadableByteChannel channel = att.getChannel();
+             InputStream is = Channels.newInputStream(channel)) {
+            copyStream(is, channelData, 128);
+        }
+        assertArrayEquals(testData, channelData.toByteArray());
+
+        ByteBuffer buffer = att.getBuffer();
+        assertTrue(buffer.isReadOnly());
+        assertEquals(testData.length, buffer.remaining());
+        byte[] bufferData = new byte[buffer.remaining()];
+        buffer.get(bufferData);
+        assertArrayEquals(testData, bufferData);
+
+        ByteArrayOutputStream transferred = new ByteArrayOutputStream();
+        assertEquals(testData.length, att.transferTo(Channels.newChannel(transferred)));
+        assertArrayEquals(testData, transferred.toByteArray());
+    }
+
+    @Test
+    public void shouldTransferLargePathAttachment() throws IOException {
+        Path tempFile = Files.createTempFile("jnosql-test", ".bin");
+        try {
+            byte[] large = new byte[1024 * 1024 + 7];
+            for (int index = 0; index < large.length; index++) {
+                large[index] = (byte) index;
+            }
+            Files.write(tempFile, large);
+
+            EntityAttachment att = EntityAttachment.of(tempFile);
+            ByteArrayOutputStream transferred = new ByteArrayOutputStream();
+            assertEquals(large.length, att.transferTo(Channels.newChannel(transferred)));
+            assertArrayEquals(large, transferred.toByteArray());
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTransferTargetIsNull() {
+        EntityAttachment att = EntityAttachment.of("testfile.txt", 1L, contentType, testData);
+        assertThrows(NullPointerException.class, () -> att.transferTo(null));
     }
     
      public static long copyStream(InputStream is, OutputStream os, int bufferSize) throws IOException {
@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver;
+
+import jakarta.nosql.document.Document;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DocumentValueTypeTest {
+
+    @Test
+    public void shouldReturnScalar() {
+        assertEquals(DocumentValueType.SCALAR, DocumentValueType.of(10));
+        assertEquals(DocumentValueType.SCALAR, DocumentValueType.of("text"));
+        assertEquals(DocumentValueType.SCALAR, DocumentValueType.of(null));
+    }
+
+    @Test
+    public void shouldReturnDocument() {
+        assertEquals(DocumentValueType.DOCUMENT, DocumentValueType.of(Document.of("name", "Ada")));
+    }
+
+    @Test
+    public void shouldReturnSubDocument() {
+        List<Document> documents = Arrays.asList(Document.of("name", "Ada"), Document.of("age", 10));
+        assertEquals(DocumentValueType.SUB_DOCUMENT, DocumentValueType.of(documents));
+        assertEquals(DocumentValueType.SUB_DOCUMENT, DocumentValueType.of(Collections.emptyList()));
+    }
+
+    @Test
+    public void shouldReturnSubDocumentList() {
+        List<List<Document>> documents = Arrays.asList(
+                Arrays.asList(Document.of("name", "Ada"), Document.of("age", 10)),
+                Collections.singletonList(Document.of("name", "Grace")));
+        assertEquals(DocumentValueType.SUB_DOCUMENT_LIST, DocumentValueType.of(documents));
+    }
+
+    @Test
+    public void shouldReturnList() {
+        assertEquals(DocumentValueType.LIST, DocumentValueType.of(Arrays.asList(10, 20)));
+        assertEquals(DocumentValueType.LIST, DocumentValueType.of(Arrays.asList(Document.of("name", "Ada"), 10)));
+        assertEquals(DocumentValueType.LIST, DocumentValueType.of(Arrays.asList(
+                Collections.singletonList(Document.of("name", "Ada")), Collections.singletonList(10))));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver;
+
+import jakarta.nosql.TypeReference;
+import jakarta.nosql.Value;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValueCodecTest {
+
+    @Test
+    public void shouldReturnJSONAsDefault() {
+        ValueCodec codec = ValueCodec.getInstance();
+        assertEquals(ValueCodec.JSON, codec.getName());
+        assertTrue(codec.isText());
+        assertSame(codec, ValueCodec.of("JSON"));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenCodecDoesNotExist() {
+        assertThrows(NullPointerException.class, () -> ValueCodec.of(null));
+        assertThrows(IllegalArgumentException.class, () -> ValueCodec.of("unknown"));
+    }
+
+    @Test
+    public void shouldEncodeJSON() {
+        ValueCodec codec = ValueCodec.getInstance();
+        byte[] value = codec.encode(Arrays.asList(1, 2, 3));
+        assertEquals("[1,2,3]", new String(value, StandardCharsets.UTF_8));
+        Value decoded = codec.decode(value);
+        assertEquals(Arrays.asList(1, 2, 3), decoded.get(new TypeReference<List<Integer>>() {
+        }));
+    }
+
+    @Test
+    public void shouldEncodeCBOR() {
+        ValueCodec codec = ValueCodec.of(CBORValueCodec.CBOR);
+        assertFalse(codec.isText());
+        Person person = new Person();
+        person.setName("Ada");
+        person.setAge(36);
+
+        byte[] value = codec.encode(person);
+        Value decoded = codec.decode(value);
+        Person result = decoded.get(Person.class);
+        assertEquals("Ada", result.getName());
+        assertEquals(36, result.getAge());
+        assertNotSame(result, decoded.get(Person.class));
+        Map<String, Object> map = decoded.get(new TypeReference<Map<String, Object>>() {
+        });
+        assertEquals("Ada", map.get("name"));
+        assertTrue(value.length < ValueCodec.getInstance().encode(person).length);
+    }
+
+    public static class Person {
+
+        private String name;
+
+        private int age;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+    }
+}
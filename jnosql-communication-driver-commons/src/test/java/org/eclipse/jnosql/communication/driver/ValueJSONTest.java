@@ -19,14 +19,19 @@ import jakarta.nosql.Value;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ValueJSONTest {
 
@@ -54,4 +59,39 @@ public class ValueJSONTest {
         Assertions.assertThat(valueResult).contains("1", "2", "3");
     }
 
+    @Test
+    public void shouldReturnErrorWhenBytesIsNull() {
+        assertThrows(NullPointerException.class, () -> ValueJSON.ofBytes(null));
+    }
+
+    @Test
+    public void shouldConvertTypeFromBytes() {
+        Value value = ValueJSON.ofBytes("[\"1\",\"2\"]".getBytes(StandardCharsets.UTF_8));
+        assertEquals(Arrays.asList("1", "2"), value.get(new TypeReference<List<String>>() {
+        }));
+        assertEquals("[\"1\",\"2\"]", value.get());
+        assertTrue(value.isInstanceOf(String.class));
+    }
+
+    @Test
+    public void shouldReturnSameInstanceToSameImmutableType() {
+        Value value = ValueJSON.of("\"Ada\"");
+        String first = value.get(String.class);
+        assertSame(first, value.get(String.class));
+
+        Value number = ValueJSON.ofBytes("5000".getBytes(StandardCharsets.UTF_8));
+        assertSame(number.get(Long.class), number.get(Long.class));
+    }
+
+    @Test
+    public void shouldReturnNewInstanceToMutableType() {
+        Value value = ValueJSON.of(Arrays.asList("1", "2", "3"));
+        List<String> first = value.get(new TypeReference<List<String>>() {
+        });
+        first.set(0, "changed");
+        assertEquals(Arrays.asList("1", "2", "3"), value.get(List.class));
+        assertNotSame(value.get(List.class), value.get(List.class));
+        assertArrayEquals(new String[]{"1", "2", "3"}, value.get(String[].class));
+    }
+
 }
\ No newline at end of file
@@ -61,6 +61,15 @@ class ValueUtilTest {
         assertEquals(Arrays.asList(10, 20), ValueUtil.convertToList(value));
     }
 
+    @Test
+    public void shouldConvertWithWriter() {
+        Value value = Value.of(Arrays.asList(Status.ACTIVE, Status.INACTIVE, Status.ACTIVE));
+        assertEquals(Arrays.asList("ACTIVE", "INACTIVE", "ACTIVE"), ValueUtil.convert(value));
+        assertEquals("ACTIVE", ValueUtil.convert(Value.of(Status.ACTIVE)));
+    }
 
+    enum Status {
+        ACTIVE, INACTIVE
+    }
 
 }
\ No newline at end of file
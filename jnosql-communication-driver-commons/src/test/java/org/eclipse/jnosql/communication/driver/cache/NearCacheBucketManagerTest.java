@@ -0,0 +1,369 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.cache;
+
+import jakarta.nosql.Settings;
+import jakarta.nosql.Value;
+import jakarta.nosql.keyvalue.BucketManager;
+import jakarta.nosql.keyvalue.KeyValueEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.StreamSupport.stream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NearCacheBucketManagerTest {
+
+    private InMemoryBucketManager database;
+
+    @BeforeEach
+    public void setUp() {
+        database = new InMemoryBucketManager();
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        NearCacheConfiguration configuration = NearCacheConfiguration.builder().build();
+        assertThrows(NullPointerException.class, () -> NearCacheBucketManager.of(null, configuration));
+        assertThrows(NullPointerException.class, () -> NearCacheBucketManager.of(database, null));
+        assertThrows(IllegalArgumentException.class, () -> NearCacheConfiguration.builder().maximumSize(0));
+    }
+
+    @Test
+    public void shouldReadFromCache() {
+        NearCacheBucketManager manager = NearCacheBucketManager.of(database,
+                NearCacheConfiguration.builder().build());
+        manager.put("otavio", "Otavio");
+
+        assertEquals("Otavio", manager.get("otavio").map(Value::get).orElse(null));
+        assertEquals("Otavio", manager.get("otavio").map(Value::get).orElse(null));
+        assertEquals(1, database.reads.get());
+
+        NearCacheStatistics statistics = manager.getStatistics();
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(1, statistics.getMissCount());
+        assertEquals(1, statistics.getSize());
+    }
+
+    @Test
+    public void shouldNotCacheMissingKey() {
+        NearCacheBucketManager manager = NearCacheBucketManager.of(database,
+                NearCacheConfiguration.builder().build());
+        assertFalse(manager.get("otavio").isPresent());
+        assertFalse(manager.get("otavio").isPresent());
+        assertEquals(2, database.reads.get());
+    }
+
+    @Test
+    public void shouldInvalidateOnWrite() {
+        NearCacheBucketManager manager = NearCacheBucketManager.of(database,
+                NearCacheConfiguration.builder().build());
+        manager.put("otavio", "Otavio");
+        manager.get("otavio");
+        manager.put(KeyValueEntity.of("otavio", "Otavio Santana"));
+        assertEquals("Otavio Santana", manager.get("otavio").map(Value::get).orElse(null));
+
+        manager.delete("otavio");
+        assertFalse(manager.get("otavio").isPresent());
+    }
+
+    @Test
+    public void shouldInvalidateOnBatchWrite() {
+        NearCacheBucketManager manager = NearCacheBucketManager.of(database,
+                NearCacheConfiguration.builder().build());
+        manager.put(Arrays.asList(KeyValueEntity.of("a", "A"), KeyValueEntity.of("b", "B")));
+        List<Object> values = stream(manager.get(Arrays.asList("a", "b")).spliterator(), false)
+                .map(Value::get).collect(toList());
+        assertEquals(Arrays.asList("A", "B"), values);
+
+        manager.delete(Arrays.asList("a", "b"));
+        assertFalse(manager.get(Arrays.asList("a", "b")).iterator().hasNext());
+    }
+
+    @Test
+    public void shouldReadBatchMissesInASingleCall() {
+        NearCacheBucketManager manager = NearCacheBucketManager.of(database,
+                NearCacheConfiguration.builder().build());
+        manager.put(Arrays.asList(KeyValueEntity.of("a", "A"), KeyValueEntity.of("b", "B"),
+                KeyValueEntity.of("c", "C")));
+        manager.get("b");
+
+        List<Object> values = stream(manager.get(Arrays.asList("a", "b", "c")).spliterator(), false)
+                .map(Value::get).collect(toList());
+        assertEquals(Arrays.asList("A", "B", "C"), values);
+        assertEquals(1, database.batchReads.get());
+        assertEquals(3, database.reads.get());
+
+        values = stream(manager.get(Arrays.asList("c", "a", "b")).spliterator(), false)
+                .map(Value::get).collect(toList());
+        assertEquals(Arrays.asList("C", "A", "B"), values);
+        assertEquals(1, database.batchReads.get());
+        assertEquals(3, manager.getStatistics().getSize());
+    }
+
+    @Test
+    public void shouldNotCacheBatchWithMissingKey() {
+        NearCacheBucketManager manager = NearCacheBucketManager.of(database,
+                NearCacheConfiguration.builder().build());
+        manager.put(Arrays.asList(KeyValueEntity.of("a", "A"), KeyValueEntity.of("b", "B")));
+
+        List<Object> values = stream(manager.get(Arrays.asList("a", "unknown", "b")).spliterator(), false)
+                .map(Value::get).collect(toList());
+        assertEquals(Arrays.asList("A", "B"), values);
+        assertEquals(1, database.batchReads.get());
+        assertEquals(3, database.reads.get());
+        assertEquals(0, manager.getStatistics().getSize());
+    }
+
+    @Test
+    public void shouldInvalidateKeyChangedByAnotherClient() {
+        NearCacheBucketManager manager = NearCacheBucketManager.of(database,
+                NearCacheConfiguration.builder().build(), Object::toString);
+        database.put(1, "one");
+        manager.get(1);
+        database.put(1, "uno");
+        assertEquals("one", manager.get(1).map(Value::get).orElse(null));
+
+        manager.invalidate("1");
+        assertEquals("uno", manager.get(1).map(Value::get).orElse(null));
+        assertEquals(2, database.reads.get());
+    }
+
+    @Test
+    public void shouldStoreMissWhenAnotherKeyIsInvalidated() {
+        NearCache cache = new NearCache(NearCacheConfiguration.builder().maximumSize(10_000).build());
+        long version = cache.getVersion("a");
+        cache.invalidate("b");
+        cache.put("a", Value.of("A"), version);
+        assertTrue(cache.get("a").isPresent());
+
+        version = cache.getVersion("a");
+        cache.invalidate("a");
+        cache.put("a", Value.of("A"), version);
+        assertFalse(cache.get("a").isPresent());
+
+        version = cache.getVersion("b");
+        cache.invalidateAll();
+        cache.put("b", Value.of("B"), version);
+        assertFalse(cache.get("b").isPresent());
+    }
+
+    @Test
+    public void shouldBypassCacheWhenSuspended() {
+        NearCacheBucketManager manager = NearCacheBucketManager.of(database,
+                NearCacheConfiguration.builder().build());
+        manager.put("otavio", "Otavio");
+        manager.get("otavio");
+
+        manager.suspend();
+        manager.get("otavio");
+        manager.get("otavio");
+        assertEquals(3, database.reads.get());
+        assertEquals(0, manager.getStatistics().getSize());
+
+        manager.resume();
+        manager.get("otavio");
+        manager.get("otavio");
+        assertEquals(4, database.reads.get());
+        assertEquals(1, manager.getStatistics().getSize());
+    }
+
+    @Test
+    public void shouldExpire() throws InterruptedException {
+        NearCacheBucketManager manager = NearCacheBucketManager.of(database,
+                NearCacheConfiguration.builder().ttl(Duration.ofMillis(10)).build());
+        manager.put("otavio", "Otavio");
+        manager.get("otavio");
+        Thread.sleep(20L);
+        manager.get("otavio");
+        assertEquals(2, database.reads.get());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed() {
+        NearCacheBucketManager manager = NearCacheBucketManager.of(database, NearCacheConfiguration.builder()
+                .maximumSize(2).eviction(NearCacheEviction.LRU).build());
+        manager.put("a", "A");
+        manager.put("b", "B");
+        manager.put("c", "C");
+        manager.get("a");
+        manager.get("b");
+        manager.get("a");
+        manager.get("c");
+
+        NearCacheStatistics statistics = manager.getStatistics();
+        assertEquals(2, statistics.getSize());
+        assertEquals(1, statistics.getEvictionCount());
+        manager.get("a");
+        assertEquals(3, database.reads.get());
+        manager.get("b");
+        assertEquals(4, database.reads.get());
+    }
+
+    @Test
+    public void shouldKeepFrequentKeysWithTinyLFU() {
+        NearCacheBucketManager manager = NearCacheBucketManager.of(database, NearCacheConfiguration.builder()
+                .maximumSize(3).eviction(NearCacheEviction.TINY_LFU).build());
+        manager.put("a", "A");
+        manager.put("b", "B");
+        for (int index = 0; index < 5; index++) {
+            manager.get("a");
+            manager.get("b");
+        }
+        for (int index = 0; index < 10; index++) {
+            manager.put("scan" + index, index);
+            manager.get("scan" + index);
+        }
+        int reads = database.reads.get();
+        manager.get("a");
+        manager.get("b");
+        manager.get("scan9");
+        assertEquals(reads, database.reads.get());
+        assertEquals(3, manager.getStatistics().getSize());
+    }
+
+    @Test
+    public void shouldAdmitNewKeyInTheWindowWithTinyLFU() {
+        NearCacheBucketManager manager = NearCacheBucketManager.of(database, NearCacheConfiguration.builder()
+                .maximumSize(3).eviction(NearCacheEviction.TINY_LFU).build());
+        for (String key : Arrays.asList("a", "b", "c")) {
+            manager.put(key, key);
+            for (int index = 0; index < 5; index++) {
+                manager.get(key);
+            }
+        }
+        manager.put("d", "d");
+        manager.get("d");
+        manager.get("d");
+        assertEquals(4, database.reads.get());
+        assertEquals(1, manager.getStatistics().getEvictionCount());
+    }
+
+    @Test
+    public void shouldReadConfigurationFromSettings() {
+        Settings settings = Settings.builder()
+                .put(NearCacheConfigurations.NEAR_CACHE.get(), "true")
+                .put(NearCacheConfigurations.MAX_SIZE.get(), "100")
+                .put(NearCacheConfigurations.MAX_SIZE.get("users"), "10")
+                .put(NearCacheConfigurations.TTL.get("users"), "1000")
+                .put(NearCacheConfigurations.EVICTION.get(), "lru")
+                .put(NearCacheConfigurations.NEAR_CACHE.get("logs"), "false")
+                .build();
+
+        NearCacheConfiguration users = NearCacheConfiguration.of(settings, "users").orElseThrow();
+        assertEquals(10, users.getMaximumSize());
+        assertEquals(Optional.of(Duration.ofSeconds(1)), users.getTtl());
+        assertEquals(NearCacheEviction.LRU, users.getEviction());
+
+        NearCacheConfiguration books = NearCacheConfiguration.of(settings, "books").orElseThrow();
+        assertEquals(100, books.getMaximumSize());
+        assertFalse(books.getTtl().isPresent());
+
+        assertFalse(NearCacheConfiguration.of(settings, "logs").isPresent());
+        assertFalse(NearCacheConfiguration.of(Settings.builder().build(), "users").isPresent());
+    }
+
+    @Test
+    public void shouldParseEviction() {
+        assertEquals(NearCacheEviction.TINY_LFU, NearCacheEviction.parse("tinylfu"));
+        assertEquals(NearCacheEviction.TINY_LFU, NearCacheEviction.parse("TINY_LFU"));
+        assertEquals(NearCacheEviction.LRU, NearCacheEviction.parse("lru"));
+        assertThrows(IllegalArgumentException.class, () -> NearCacheEviction.parse("fifo"));
+    }
+
+    @Test
+    public void shouldCountFrequency() {
+        FrequencySketch sketch = new FrequencySketch(100);
+        for (int index = 0; index < 5; index++) {
+            sketch.increment("a");
+        }
+        sketch.increment("b");
+        assertTrue(sketch.frequency("a") >= 5);
+        assertTrue(sketch.frequency("a") > sketch.frequency("b"));
+    }
+
+    private static final class InMemoryBucketManager implements BucketManager {
+
+        private final Map<Object, Object> values = new HashMap<>();
+
+        private final AtomicInteger reads = new AtomicInteger();
+
+        private final AtomicInteger batchReads = new AtomicInteger();
+
+        @Override
+        public <K, V> void put(K key, V value) {
+            values.put(key, value);
+        }
+
+        @Override
+        public void put(KeyValueEntity entity) {
+            values.put(entity.getKey(), entity.getValue());
+        }
+
+        @Override
+        public void put(KeyValueEntity entity, Duration ttl) {
+            put(entity);
+        }
+
+        @Override
+        public void put(Iterable<KeyValueEntity> entities) {
+            entities.forEach(this::put);
+        }
+
+        @Override
+        public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
+            put(entities);
+        }
+
+        @Override
+        public <K> Optional<Value> get(K key) {
+            reads.incrementAndGet();
+            return Optional.ofNullable(values.get(key)).map(Value::of);
+        }
+
+        @Override
+        public <K> Iterable<Value> get(Iterable<K> keys) {
+            batchReads.incrementAndGet();
+            return stream(keys.spliterator(), false).map(this::get)
+                    .filter(Optional::isPresent).map(Optional::get).collect(toList());
+        }
+
+        @Override
+        public <K> void delete(K key) {
+            values.remove(key);
+        }
+
+        @Override
+        public <K> void delete(Iterable<K> keys) {
+            keys.forEach(this::delete);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
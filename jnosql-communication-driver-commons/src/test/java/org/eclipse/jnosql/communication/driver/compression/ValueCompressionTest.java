@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.compression;
+
+import jakarta.nosql.Settings;
+import jakarta.nosql.Value;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValueCompressionTest {
+
+    private static final Supplier<String> COMPRESSION = () -> "value.compression";
+
+    private static final Supplier<String> THRESHOLD = () -> "value.compression.threshold";
+
+    @Test
+    public void shouldReturnErrorWhenCompressorDoesNotExist() {
+        assertThrows(NullPointerException.class, () -> Compressor.of((String) null));
+        assertThrows(IllegalArgumentException.class, () -> Compressor.of("unknown"));
+        assertThrows(IllegalArgumentException.class, () -> Compressor.of((byte) 42));
+    }
+
+    @Test
+    public void shouldCompressWithDeflate() {
+        ValueCompression compression = ValueCompression.of(Compressor.of("deflate"), 10);
+        byte[] value = text(1_000);
+        byte[] compressed = compression.compress(value);
+        assertTrue(ValueCompression.isCompressed(compressed));
+        assertTrue(compressed.length < value.length);
+        assertArrayEquals(value, compression.decompress(compressed));
+    }
+
+    @Test
+    public void shouldCompressWithLZ4() {
+        ValueCompression compression = ValueCompression.of(Compressor.of("lz4"), 10);
+        byte[] value = text(1_000);
+        byte[] compressed = compression.compress(value);
+        assertTrue(ValueCompression.isCompressed(compressed));
+        assertTrue(compressed.length < value.length);
+        assertArrayEquals(value, compression.decompress(compressed));
+    }
+
+    @Test
+    public void shouldNotCompressBelowThreshold() {
+        ValueCompression compression = ValueCompression.of(Compressor.of("deflate"), 100);
+        byte[] value = text(99);
+        assertSame(value, compression.compress(value));
+        assertFalse(ValueCompression.isCompressed(value));
+    }
+
+    @Test
+    public void shouldReadUncompressedValue() {
+        ValueCompression compression = ValueCompression.of(Compressor.of("lz4"));
+        byte[] value = text(10);
+        assertSame(value, compression.decompress(value));
+    }
+
+    @Test
+    public void shouldReadWithTheCompressorInTheHeader() {
+        byte[] value = text(1_000);
+        byte[] compressed = ValueCompression.of(Compressor.of("deflate"), 10).compress(value);
+        assertArrayEquals(value, ValueCompression.of(Compressor.of("lz4"), 10).decompress(compressed));
+    }
+
+    @Test
+    public void shouldReadFromSettings() {
+        assertFalse(ValueCompression.of(Settings.builder().build(), COMPRESSION, THRESHOLD).isPresent());
+        assertFalse(ValueCompression.of(Settings.builder().put(COMPRESSION.get(), "none").build(),
+                COMPRESSION, THRESHOLD).isPresent());
+
+        Optional<ValueCompression> compression = ValueCompression.of(Settings.builder()
+                .put(COMPRESSION.get(), "lz4")
+                .put(THRESHOLD.get(), "512").build(), COMPRESSION, THRESHOLD);
+        assertTrue(compression.isPresent());
+        assertEquals("lz4", compression.get().getCompressor().getName());
+        assertEquals(512, compression.get().getThreshold());
+    }
+
+    @Test
+    public void shouldCompressEncodedValue() {
+        ValueCodec codec = CompressedValueCodec.of(ValueCodec.getInstance(),
+                ValueCompression.of(Compressor.of("deflate"), 10));
+        String name = new String(text(1_000), StandardCharsets.UTF_8);
+        byte[] encoded = codec.encode(name);
+        assertFalse(codec.isText());
+        assertTrue(ValueCompression.isCompressed(encoded));
+        Value value = codec.decode(encoded);
+        assertEquals(name, value.get(String.class));
+    }
+
+    @Test
+    public void shouldDecodeValueWrittenWithoutCompression() {
+        ValueCodec codec = CompressedValueCodec.of(ValueCodec.getInstance(),
+                ValueCompression.of(Compressor.of("deflate"), 10));
+        byte[] encoded = ValueCodec.getInstance().encode(10);
+        assertEquals(10, codec.decode(encoded).get(Integer.class));
+    }
+
+    private static byte[] text(int size) {
+        StringBuilder text = new StringBuilder(size);
+        for (int index = 0; index < size; index++) {
+            text.append((char) ('a' + index % 8));
+        }
+        return text.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.concurrent;
+
+import jakarta.nosql.CommunicationException;
+import jakarta.nosql.Settings;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FanOutTest {
+
+    private static final Supplier<String> CONCURRENCY = () -> "test.fanout.concurrency";
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> FanOut.of(0));
+        assertThrows(NullPointerException.class, () -> FanOut.of(2, null));
+        assertThrows(NullPointerException.class, () -> FanOut.of(2).map(null, i -> i));
+    }
+
+    @Test
+    public void shouldKeepOrder() {
+        List<Integer> numbers = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        List<Integer> results = FanOut.of(8).map(numbers, i -> {
+            sleep(10 - i % 10);
+            return i * 2;
+        });
+        assertEquals(numbers.stream().map(i -> i * 2).collect(Collectors.toList()), results);
+    }
+
+    @Test
+    public void shouldLimitConcurrency() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger max = new AtomicInteger();
+        FanOut.of(4).forEach(IntStream.range(0, 40).boxed().collect(Collectors.toList()), i -> {
+            max.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(5);
+            running.decrementAndGet();
+        });
+        assertTrue(max.get() <= 4, "max was " + max.get());
+        assertTrue(max.get() > 1, "max was " + max.get());
+    }
+
+    @Test
+    public void shouldRunAllAndAggregateErrors() {
+        AtomicInteger calls = new AtomicInteger();
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
+                FanOut.of(3).forEach(Arrays.asList(1, 2, 3, 4, 5), i -> {
+                    calls.incrementAndGet();
+                    if (i % 2 == 0) {
+                        throw new IllegalStateException("error " + i);
+                    }
+                }));
+        assertEquals(5, calls.get());
+        assertEquals("error 2", exception.getMessage());
+        assertEquals(1, exception.getSuppressed().length);
+    }
+
+    @Test
+    public void shouldWrapCheckedErrors() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CommunicationException exception = assertThrows(CommunicationException.class, () ->
+                    FanOut.of(2, executor).map(Arrays.asList(1, 2), i -> {
+                        throw sneaky(new IOException("error " + i));
+                    }));
+            assertTrue(exception.getCause() instanceof IOException);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldRunOnCallerWhenSequential() {
+        Thread caller = Thread.currentThread();
+        FanOut.sequential().forEach(Arrays.asList(1, 2, 3), i -> assertSame(caller, Thread.currentThread()));
+        assertThrows(UncheckedIOException.class, () -> FanOut.sequential().forEach(Arrays.asList(1),
+                i -> {
+                    throw new UncheckedIOException(new IOException());
+                }));
+    }
+
+    @Test
+    public void shouldReadConcurrencyFromSettings() {
+        assertEquals(FanOut.DEFAULT_CONCURRENCY, FanOut.of(Settings.builder().build(), CONCURRENCY)
+                .getConcurrency());
+        Settings settings = Settings.builder().put(CONCURRENCY.get(), "16").build();
+        assertEquals(16, FanOut.of(settings, CONCURRENCY).getConcurrency());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> RuntimeException sneaky(Throwable throwable) throws E {
+        throw (E) throwable;
+    }
+}
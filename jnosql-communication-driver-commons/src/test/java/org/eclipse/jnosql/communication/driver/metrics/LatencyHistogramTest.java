@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    public void shouldReturnZeroWhenEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0L, histogram.getCount());
+        assertEquals(0L, histogram.getMax(TimeUnit.NANOSECONDS));
+        assertEquals(0D, histogram.getMean(TimeUnit.NANOSECONDS));
+        assertEquals(0L, histogram.getValueAtPercentile(99D, TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenPercentileIsInvalid() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(-1D, TimeUnit.NANOSECONDS));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101D, TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void shouldKeepSmallValuesExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 50; value++) {
+            histogram.record(value);
+        }
+        assertEquals(50L, histogram.getCount());
+        assertEquals(25L, histogram.getValueAtPercentile(50D, TimeUnit.NANOSECONDS));
+        assertEquals(50L, histogram.getValueAtPercentile(100D, TimeUnit.NANOSECONDS));
+        assertEquals(25.5D, histogram.getMean(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void shouldReturnPercentileWithinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(value));
+        }
+        long p99 = histogram.getValueAtPercentile(99D, TimeUnit.MICROSECONDS);
+        assertTrue(Math.abs(p99 - 99_000L) <= 99_000L / 32, "p99 was " + p99);
+        long p50 = histogram.getValueAtPercentile(50D, TimeUnit.MICROSECONDS);
+        assertTrue(Math.abs(p50 - 50_000L) <= 50_000L / 32, "p50 was " + p50);
+        assertEquals(100_000L, histogram.getMax(TimeUnit.MICROSECONDS));
+    }
+
+    @Test
+    public void shouldMapEachValueToBucketThatContainsIt() {
+        long[] values = {0L, 63L, 64L, 65L, 1_000L, 123_456_789L, Long.MAX_VALUE};
+        for (long value : values) {
+            int index = LatencyHistogram.index(value);
+            assertTrue(LatencyHistogram.highestValue(index) >= value);
+            if (index > 0) {
+                assertTrue(LatencyHistogram.highestValue(index - 1) < value);
+            }
+        }
+    }
+
+    @Test
+    public void shouldReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000L);
+        histogram.reset();
+        assertEquals(0L, histogram.getCount());
+        assertEquals(0L, histogram.getValueAtPercentile(50D, TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void shouldRecordByOperationAndPhase() {
+        HistogramOperationMetrics metrics = new HistogramMetricsProvider().get("redis");
+        long start = metrics.start();
+        metrics.stop(Operation.GET, start);
+        metrics.stop(Operation.PUT, OperationPhase.CONVERSION, start);
+        assertEquals(1L, metrics.getHistogram(Operation.GET).getCount());
+        assertEquals(1L, metrics.getHistogram(Operation.PUT, OperationPhase.CONVERSION).getCount());
+        assertEquals(0L, metrics.getHistogram(Operation.PUT).getCount());
+    }
+
+    @Test
+    public void shouldReturnNoOpWhenThereIsNoProvider() {
+        assertSame(NoOpMetricsProvider.INSTANCE, MetricsProvider.getInstance());
+        OperationMetrics metrics = OperationMetrics.of("redis");
+        assertEquals(0L, metrics.start());
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.query;
+
+import jakarta.nosql.TypeReference;
+import jakarta.nosql.Value;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentCondition;
+import jakarta.nosql.document.DocumentQuery;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static jakarta.nosql.document.DocumentDeleteQuery.delete;
+import static jakarta.nosql.document.DocumentQuery.select;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class QueryTranslationCacheTest {
+
+    @Test
+    public void shouldHaveSameShapeWhenOnlyValuesChange() {
+        QueryShape ada = QueryShape.of(select().from("person").where("name").eq("Ada")
+                .and("age").gt(10).build());
+        QueryShape poliana = QueryShape.of(select().from("person").where("name").eq("Poliana")
+                .and("age").gt(30).build());
+        assertEquals(ada, poliana);
+        assertEquals(ada.hashCode(), poliana.hashCode());
+        assertEquals(Arrays.asList("Poliana", 30), Arrays.asList(poliana.getValues().get(0).get(),
+                poliana.getValues().get(1).get()));
+    }
+
+    @Test
+    public void shouldHaveDifferentShapeWhenStructureChanges() {
+        QueryShape shape = QueryShape.of(select().from("person").where("name").eq("Ada").build());
+        assertNotEquals(shape, QueryShape.of(select().from("person").where("name").gt("Ada").build()));
+        assertNotEquals(shape, QueryShape.of(select().from("person").where("age").eq("Ada").build()));
+        assertNotEquals(shape, QueryShape.of(select().from("animal").where("name").eq("Ada").build()));
+        assertNotEquals(shape, QueryShape.of(select().from("person").where("name").eq("Ada").limit(10).build()));
+        assertNotEquals(shape, QueryShape.of(select().from("person").where("name").eq("Ada")
+                .orderBy("name").asc().build()));
+        assertNotEquals(shape, QueryShape.of(select("name").from("person").where("name").eq("Ada").build()));
+        assertNotEquals(shape, QueryShape.of(delete().from("person").where("name").eq("Ada").build()));
+    }
+
+    @Test
+    public void shouldBindValuesOfOtherQuery() {
+        DocumentQuery query = select().from("person").where("name").eq("Ada").or("age").in(Arrays.asList(1, 2))
+                .build();
+        QueryShape shape = QueryShape.of(query);
+        QueryTemplate.Builder builder = QueryTemplate.builder(shape);
+        DocumentCondition or = query.getCondition().orElseThrow();
+        for (DocumentCondition condition : or.getDocument().get(new TypeReference<List<DocumentCondition>>() {
+        })) {
+            Document document = condition.getDocument();
+            builder.parameter(document.getName(), document, Value::get);
+        }
+        QueryTemplate template = builder.build("query");
+
+        QueryShape other = QueryShape.of(select().from("person").where("name").eq("Poliana")
+                .or("age").in(Arrays.asList(3, 4, 5)).build());
+        Map<String, Object> params = template.bind(other);
+        assertEquals("Poliana", params.get("name"));
+        assertEquals(Arrays.asList(3, 4, 5), params.get("age"));
+        assertEquals(Arrays.asList("name", "age"), template.getParameterNames());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenElementIsNotInShape() {
+        QueryShape shape = QueryShape.of(select().from("person").where("name").eq("Ada").build());
+        QueryTemplate.Builder builder = QueryTemplate.builder(shape);
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.parameter("name", Document.of("name", "Ada"), Value::get));
+    }
+
+    @Test
+    public void shouldTranslateOnceByShape() {
+        QueryTranslationCache<String> cache = QueryTranslationCache.of(10);
+        AtomicInteger translations = new AtomicInteger();
+        for (String name : Arrays.asList("Ada", "Poliana", "Otavio")) {
+            QueryShape shape = QueryShape.of(select().from("person").where("name").eq(name).build());
+            String query = cache.get(shape, s -> "translation " + translations.incrementAndGet());
+            assertEquals("translation 1", query);
+        }
+        assertEquals(1, translations.get());
+        assertEquals(2L, cache.getHits());
+        assertEquals(1L, cache.getMisses());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed() {
+        QueryTranslationCache<String> cache = QueryTranslationCache.of(2);
+        QueryShape name = QueryShape.of(select().from("person").where("name").eq("Ada").build());
+        QueryShape age = QueryShape.of(select().from("person").where("age").eq(10).build());
+        QueryShape city = QueryShape.of(select().from("person").where("city").eq("Salvador").build());
+        String translation = cache.get(name, s -> "name");
+        cache.get(age, s -> "age");
+        assertSame(translation, cache.get(name, s -> "other"));
+        cache.get(city, s -> "city");
+        assertEquals(2, cache.size());
+        assertEquals("name", cache.get(name, s -> "other"));
+        assertEquals("other", cache.get(age, s -> "other"));
+    }
+
+    @Test
+    public void shouldNotKeepWhenDisabled() {
+        QueryTranslationCache<String> cache = QueryTranslationCache.of(0);
+        QueryShape shape = QueryShape.of(select().from("person").where("name").eq("Ada").build());
+        cache.get(shape, s -> "name");
+        assertEquals(0, cache.size());
+        assertEquals("other", cache.get(shape, s -> "other"));
+        assertThrows(IllegalArgumentException.class, () -> QueryTranslationCache.of(-1));
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.driver.writebehind;
+
+import jakarta.nosql.document.DocumentCollectionManager;
+import jakarta.nosql.document.DocumentDeleteQuery;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.StreamSupport.stream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WriteBehindDocumentCollectionManagerTest {
+
+    private final RecordingManager database = new RecordingManager();
+
+    @Test
+    public void shouldReturnErrorWhenConfigurationIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> WriteBehindConfiguration.builder().batchSize(0));
+        assertThrows(IllegalStateException.class, () -> WriteBehindConfiguration.builder()
+                .batchSize(10).maxPending(5).build());
+        assertThrows(IllegalArgumentException.class, () -> WriteBehindConfiguration.builder()
+                .flushInterval(Duration.ofNanos(500)));
+        assertThrows(NullPointerException.class, () -> WriteBehindDocumentCollectionManager.of(null,
+                WriteBehindConfiguration.builder().build()));
+    }
+
+    @Test
+    public void shouldFlushBySize() {
+        WriteBehindDocumentCollectionManager manager = WriteBehindDocumentCollectionManager.of(database,
+                configuration(2));
+        manager.insert(DocumentEntity.of("person"));
+        manager.insert(DocumentEntity.of("book"));
+        assertTrue(database.batches.isEmpty());
+
+        manager.insert(DocumentEntity.of("person"));
+        assertEquals(1, database.batches.size());
+        assertEquals(2, database.batches.get(0).size());
+        manager.close();
+    }
+
+    @Test
+    public void shouldFlushOnClose() {
+        WriteBehindDocumentCollectionManager manager = WriteBehindDocumentCollectionManager.of(database,
+                configuration(100));
+        manager.insert(DocumentEntity.of("person"));
+        manager.insert(DocumentEntity.of("book"));
+        manager.close();
+
+        assertEquals(2, database.batches.size());
+        assertTrue(database.closed);
+        assertThrows(IllegalStateException.class, () -> manager.insert(DocumentEntity.of("person")));
+    }
+
+    @Test
+    public void shouldFlushBeforeRead() {
+        WriteBehindDocumentCollectionManager manager = WriteBehindDocumentCollectionManager.of(database,
+                configuration(100));
+        manager.insert(DocumentEntity.of("person"));
+        manager.count("person");
+        assertEquals(1, database.batches.size());
+        manager.close();
+    }
+
+    @Test
+    public void shouldKeepOrderWithUnbufferedInserts() {
+        WriteBehindDocumentCollectionManager manager = WriteBehindDocumentCollectionManager.of(database,
+                configuration(100));
+        DocumentEntity buffered = DocumentEntity.of("person");
+        DocumentEntity batched = DocumentEntity.of("person");
+        DocumentEntity expiring = DocumentEntity.of("person");
+        manager.insert(buffered);
+        manager.insert(List.of(batched));
+        manager.insert(buffered);
+        manager.insert(expiring, Duration.ofMinutes(1));
+
+        assertEquals(4, database.batches.size());
+        assertSame(buffered, database.batches.get(0).get(0));
+        assertSame(batched, database.batches.get(1).get(0));
+        assertSame(buffered, database.batches.get(2).get(0));
+        assertSame(expiring, database.batches.get(3).get(0));
+        manager.close();
+    }
+
+    @Test
+    public void shouldWaitForBatchSentByAnotherThread() throws Exception {
+        WriteBehindDocumentCollectionManager manager = WriteBehindDocumentCollectionManager.of(database,
+                configuration(1));
+        database.started = new CountDownLatch(1);
+        database.release = new CountDownLatch(1);
+        Thread writer = new Thread(() -> manager.insert(DocumentEntity.of("person")));
+        writer.start();
+        assertTrue(database.started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Long> count = CompletableFuture.supplyAsync(() -> manager.count("person"));
+        Thread.sleep(50L);
+        assertFalse(count.isDone());
+
+        database.release.countDown();
+        count.get(5, TimeUnit.SECONDS);
+        assertEquals(1, database.batches.size());
+        writer.join();
+        manager.close();
+    }
+
+    @Test
+    public void shouldFlushByTime() throws InterruptedException {
+        WriteBehindDocumentCollectionManager manager = WriteBehindDocumentCollectionManager.of(database,
+                WriteBehindConfiguration.builder().batchSize(100).flushInterval(Duration.ofMillis(10)).build());
+        manager.insert(DocumentEntity.of("person"));
+        for (int index = 0; index < 100 && database.batches.isEmpty(); index++) {
+            Thread.sleep(10L);
+        }
+        assertEquals(1, database.batches.size());
+        manager.close();
+    }
+
+    @Test
+    public void shouldNotifyFailure() {
+        List<WriteBehindFailure<DocumentEntity>> failures = new ArrayList<>();
+        database.fail = true;
+        WriteBehindDocumentCollectionManager manager = WriteBehindDocumentCollectionManager.of(database,
+                configuration(1), failures::add);
+        manager.insert(DocumentEntity.of("person"));
+
+        assertEquals(1, failures.size());
+        assertEquals("person", failures.get(0).getCollection());
+        assertEquals(1, failures.get(0).getEntities().size());
+        manager.close();
+    }
+
+    @Test
+    public void shouldSendOtherBatchesWhenWriterThrowsError() {
+        WriteBehindDocumentCollectionManager manager = WriteBehindDocumentCollectionManager.of(database,
+                configuration(100));
+        database.error = "person";
+        manager.insert(DocumentEntity.of("person"));
+        manager.insert(DocumentEntity.of("book"));
+
+        assertThrows(ServiceConfigurationError.class, manager::flush);
+        assertEquals(1, database.batches.size());
+        assertEquals("book", database.batches.get(0).get(0).getName());
+
+        database.error = null;
+        manager.insert(DocumentEntity.of("person"));
+        manager.close();
+        assertEquals(2, database.batches.size());
+    }
+
+    private static WriteBehindConfiguration configuration(int batchSize) {
+        return WriteBehindConfiguration.builder().batchSize(batchSize)
+                .flushInterval(Duration.ofHours(1)).build();
+    }
+
+    private static final class RecordingManager implements DocumentCollectionManager {
+
+        private final List<List<DocumentEntity>> batches = new CopyOnWriteArrayList<>();
+
+        private volatile boolean fail;
+
+        private volatile String error;
+
+        private volatile boolean closed;
+
+        private volatile CountDownLatch started;
+
+        private volatile CountDownLatch release;
+
+        @Override
+        public DocumentEntity insert(DocumentEntity entity) {
+            insert(Collections.singletonList(entity));
+            return entity;
+        }
+
+        @Override
+        public DocumentEntity insert(DocumentEntity entity, Duration ttl) {
+            return insert(entity);
+        }
+
+        @Override
+        public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
+            if (fail) {
+                throw new IllegalStateException("The database is down");
+            }
+            List<DocumentEntity> batch = stream(entities.spliterator(), false).collect(toList());
+            if (batch.get(0).getName().equals(error)) {
+                throw new ServiceConfigurationError("The driver is broken");
+            }
+            if (started != null) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            batches.add(batch);
+            return batch;
+        }
+
+        @Override
+        public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities, Duration ttl) {
+            return insert(entities);
+        }
+
+        @Override
+        public DocumentEntity update(DocumentEntity entity) {
+            return entity;
+        }
+
+        @Override
+        public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
+            return entities;
+        }
+
+        @Override
+        public void delete(DocumentDeleteQuery query) {
+        }
+
+        @Override
+        public Stream<DocumentEntity> select(DocumentQuery query) {
+            return Stream.empty();
+        }
+
+        @Override
+        public long count(String documentCollection) {
+            return 0L;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
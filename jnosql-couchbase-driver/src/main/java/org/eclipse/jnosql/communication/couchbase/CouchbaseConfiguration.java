@@ -19,6 +19,7 @@ import jakarta.nosql.Configurations;
 import jakarta.nosql.Settings;
 import jakarta.nosql.Settings.SettingsBuilder;
 import org.eclipse.jnosql.communication.driver.ConfigurationReader;
+import org.eclipse.jnosql.communication.driver.concurrent.FanOut;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -48,6 +49,8 @@ public abstract class CouchbaseConfiguration {
     protected String collection;
     protected List<String> collections = new ArrayList<>();
 
+    protected int fanOutConcurrency = FanOut.DEFAULT_CONCURRENCY;
+
     public CouchbaseConfiguration() {
         Map<String, String> configuration = ConfigurationReader.from(FILE_CONFIGURATION);
         SettingsBuilder builder = Settings.builder();
@@ -64,6 +67,7 @@ public abstract class CouchbaseConfiguration {
         this.collections = getCollections(settings);
         this.index = getIndex(settings);
         this.collection = getCollection(settings);
+        this.fanOutConcurrency = getFanOutConcurrency(settings);
     }
 
     protected String getUser(Settings settings) {
@@ -87,6 +91,12 @@ public abstract class CouchbaseConfiguration {
                 .map(Object::toString).orElse(null);
     }
 
+    private int getFanOutConcurrency(Settings settings) {
+        return settings.get(CouchbaseConfigurations.FANOUT_CONCURRENCY)
+                .map(Object::toString).map(Integer::parseInt)
+                .orElse(FanOut.DEFAULT_CONCURRENCY);
+    }
+
     private List<String> getCollections(Settings settings) {
         List<String> collections = new ArrayList<>();
         settings.get(CouchbaseConfigurations.COLLECTIONS)
@@ -160,6 +170,10 @@ public abstract class CouchbaseConfiguration {
      * @param collection the collection
      * @throws NullPointerException when collection is null
      */
+    public void setFanOutConcurrency(int fanOutConcurrency) {
+        this.fanOutConcurrency = fanOutConcurrency;
+    }
+
     public void addCollection(String collection) {
         java.util.Objects.requireNonNull(collection, "collection is required");
         this.collections.add(collection);
@@ -171,7 +185,7 @@ public abstract class CouchbaseConfiguration {
      */
     public CouchbaseSettings toCouchbaseSettings() {
         return new CouchbaseSettings(this.host, this.user, this.password,
-                this.scope, this.index, this.collection, this.collections);
+                this.scope, this.index, this.collection, this.collections, this.fanOutConcurrency);
     }
 
     @Override
@@ -61,7 +61,14 @@ public enum CouchbaseConfigurations implements Supplier<String> {
      * At the start-up of a {@link CouchbaseConfiguration}, it will read this property to check if the index does exist,
      * if not it will create combined by scope and the database.
      */
-    INDEX("couchbase.index");
+    INDEX("couchbase.index"),
+    /**
+     * The maximum number of calls the key-value bucket manager runs at the same time to the operations with
+     * many keys, the default value is 1, one call after another
+     *
+     * @see org.eclipse.jnosql.communication.driver.concurrent.FanOut
+     */
+    FANOUT_CONCURRENCY("couchbase.fanout.concurrency");
 
     private final String configuration;
 
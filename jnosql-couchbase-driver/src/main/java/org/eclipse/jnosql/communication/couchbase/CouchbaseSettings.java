@@ -55,9 +55,11 @@ public final class CouchbaseSettings {
     private final String collection;
     private final List<String> collections;
 
+    private final int fanOutConcurrency;
+
     CouchbaseSettings(String host, String user, String password,
                       String scope, String index, String collection,
-                      List<String> collections) {
+                      List<String> collections, int fanOutConcurrency) {
         this.host = host;
         this.user = user;
         this.password = password;
@@ -65,6 +67,7 @@ public final class CouchbaseSettings {
         this.index = index;
         this.collection = collection;
         this.collections = collections;
+        this.fanOutConcurrency = fanOutConcurrency;
     }
 
 
@@ -134,6 +137,15 @@ public final class CouchbaseSettings {
         return index;
     }
 
+    /**
+     * Returns the {@link CouchbaseConfigurations#FANOUT_CONCURRENCY}
+     *
+     * @return the maximum number of calls at the same time to the operations with many keys
+     */
+    public int getFanOutConcurrency() {
+        return fanOutConcurrency;
+    }
+
 
     /**
      * Create a new {@link Cluster} instance using {@link CouchbaseSettings#getHost()}
@@ -210,12 +222,13 @@ public final class CouchbaseSettings {
         return Objects.equals(host, that.host) && Objects.equals(user, that.user)
                 && Objects.equals(password, that.password) && Objects.equals(scope, that.scope)
                 && Objects.equals(index, that.index) && Objects.equals(collection, that.collection)
-                && Objects.equals(collections, that.collections);
+                && Objects.equals(collections, that.collections)
+                && fanOutConcurrency == that.fanOutConcurrency;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(host, user, password, scope, index, collection, collections);
+        return Objects.hash(host, user, password, scope, index, collection, collections, fanOutConcurrency);
     }
 
     @Override
@@ -228,6 +241,7 @@ public final class CouchbaseSettings {
                 ", index='" + index + '\'' +
                 ", collection='" + collection + '\'' +
                 ", collections=" + collections +
+                ", fanOutConcurrency=" + fanOutConcurrency +
                 '}';
     }
 }
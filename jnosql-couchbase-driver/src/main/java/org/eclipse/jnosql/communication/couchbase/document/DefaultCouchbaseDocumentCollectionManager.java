@@ -29,6 +29,11 @@ import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
+import org.eclipse.jnosql.communication.driver.metrics.Operation;
+import org.eclipse.jnosql.communication.driver.metrics.OperationMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.OperationPhase;
+import org.eclipse.jnosql.communication.driver.query.QueryTemplate;
+import org.eclipse.jnosql.communication.driver.query.QueryTranslationCache;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -52,11 +57,15 @@ class DefaultCouchbaseDocumentCollectionManager implements CouchbaseDocumentColl
 
     private static final Logger LOGGER = Logger.getLogger(DefaultCouchbaseDocumentCollectionManager.class.getName());
 
+    private static final OperationMetrics METRICS = OperationMetrics.of("couchbase");
+
     private final Bucket bucket;
     private final String database;
 
     private final Cluster cluster;
 
+    private final QueryTranslationCache<QueryTemplate> queries = QueryTranslationCache.of();
+
     DefaultCouchbaseDocumentCollectionManager(Cluster cluster, String database) {
         this.bucket = cluster.bucket(database);
         this.database = database;
@@ -66,13 +75,19 @@ class DefaultCouchbaseDocumentCollectionManager implements CouchbaseDocumentColl
     @Override
     public DocumentEntity insert(DocumentEntity entity) throws NullPointerException {
         requireNonNull(entity, "entity is required");
+        long start = METRICS.start();
         entity.add(COLLECTION_FIELD, entity.getName());
         JsonObject json = convert(entity);
+        METRICS.stop(Operation.INSERT, OperationPhase.CONVERSION, start);
         Document id = entity.find(ID_FIELD)
                 .orElseThrow(() -> new CouchbaseNoKeyFoundException(entity.toString()));
 
         Collection collection = bucket.collection(entity.getName());
-        collection.insert(id.get(String.class), json);
+        try {
+            collection.insert(id.get(String.class), json);
+        } finally {
+            METRICS.stop(Operation.INSERT, start);
+        }
         return entity;
     }
 
@@ -80,12 +95,18 @@ class DefaultCouchbaseDocumentCollectionManager implements CouchbaseDocumentColl
     public DocumentEntity insert(DocumentEntity entity, Duration ttl) {
         requireNonNull(entity, "entity is required");
         requireNonNull(ttl, "ttl is required");
+        long start = METRICS.start();
         JsonObject json = convert(entity);
+        METRICS.stop(Operation.INSERT, OperationPhase.CONVERSION, start);
         Document id = entity.find(ID_FIELD)
                 .orElseThrow(() -> new CouchbaseNoKeyFoundException(entity.toString()));
 
         Collection collection = bucket.collection(entity.getName());
-        collection.insert(id.get(String.class), json, InsertOptions.insertOptions().expiry(ttl));
+        try {
+            collection.insert(id.get(String.class), json, InsertOptions.insertOptions().expiry(ttl));
+        } finally {
+            METRICS.stop(Operation.INSERT, start);
+        }
         return entity;
     }
 
@@ -107,13 +128,19 @@ class DefaultCouchbaseDocumentCollectionManager implements CouchbaseDocumentColl
     @Override
     public DocumentEntity update(DocumentEntity entity) {
         requireNonNull(entity, "entity is required");
+        long start = METRICS.start();
         entity.add(COLLECTION_FIELD, entity.getName());
         JsonObject json = convert(entity);
+        METRICS.stop(Operation.UPDATE, OperationPhase.CONVERSION, start);
         Document id = entity.find(ID_FIELD)
                 .orElseThrow(() -> new CouchbaseNoKeyFoundException(entity.toString()));
 
         Collection collection = bucket.collection(entity.getName());
-        collection.upsert(id.get(String.class), json);
+        try {
+            collection.upsert(id.get(String.class), json);
+        } finally {
+            METRICS.stop(Operation.UPDATE, start);
+        }
         return entity;
     }
 
@@ -149,30 +176,36 @@ class DefaultCouchbaseDocumentCollectionManager implements CouchbaseDocumentColl
     @Override
     public Stream<DocumentEntity> select(DocumentQuery query) throws NullPointerException {
         Objects.requireNonNull(query, "query is required");
-        N1QLQuery n1QLQuery = N1QLBuilder.of(query, database, bucket.defaultScope().name()).get();
+        long start = METRICS.start();
+        N1QLQuery n1QLQuery = N1QLBuilder.of(query, database, bucket.defaultScope().name()).get(queries);
+        METRICS.stop(Operation.SELECT, OperationPhase.TRANSLATION, start);
         List<JsonObject> jsons = new ArrayList<>();
 
-        if (n1QLQuery.hasIds()) {
-            Collection collection = bucket.collection(query.getDocumentCollection());
-            for (String id : n1QLQuery.getIds()) {
-                try {
-                    GetResult result = collection.get(id);
-                    jsons.add(result.contentAsObject());
-                } catch (DocumentNotFoundException exp) {
-                    LOGGER.log(Level.FINEST, "The id was not found: " + id);
+        try {
+            if (n1QLQuery.hasIds()) {
+                Collection collection = bucket.collection(query.getDocumentCollection());
+                for (String id : n1QLQuery.getIds()) {
+                    try {
+                        GetResult result = collection.get(id);
+                        jsons.add(result.contentAsObject());
+                    } catch (DocumentNotFoundException exp) {
+                        LOGGER.log(Level.FINEST, "The id was not found: " + id);
+                    }
                 }
             }
-        }
 
-        if (!n1QLQuery.hasOnlyIds()) {
-            QueryResult result;
-            if (n1QLQuery.hasParameter()) {
-                result = cluster.query(n1QLQuery.getQuery());
-            } else {
-                result = cluster.query(n1QLQuery.getQuery(), QueryOptions
-                        .queryOptions().parameters(n1QLQuery.getParams()));
+            if (!n1QLQuery.hasOnlyIds()) {
+                QueryResult result;
+                if (n1QLQuery.hasParameter()) {
+                    result = cluster.query(n1QLQuery.getQuery());
+                } else {
+                    result = cluster.query(n1QLQuery.getQuery(), QueryOptions
+                            .queryOptions().adhoc(false).parameters(n1QLQuery.getParams()));
+                }
+                jsons.addAll(result.rowsAsObject());
             }
-            jsons.addAll(result.rowsAsObject());
+        } finally {
+            METRICS.stop(Operation.SELECT, start);
         }
         return EntityConverter.convert(jsons, database);
     }
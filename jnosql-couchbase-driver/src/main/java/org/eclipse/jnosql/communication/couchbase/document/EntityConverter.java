@@ -19,6 +19,7 @@ import com.couchbase.client.java.json.JsonArray;
 import com.couchbase.client.java.json.JsonObject;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentEntity;
+import org.eclipse.jnosql.communication.driver.DocumentValueType;
 import org.eclipse.jnosql.communication.driver.ValueUtil;
 
 import java.util.ArrayList;
@@ -134,7 +135,7 @@ final class EntityConverter {
             if (Document.class.isInstance(element)) {
                 Document subdocument = Document.class.cast(element);
                 map.put(subdocument.getName(), subdocument.get());
-            } else if (isSudDocument(element)) {
+            } else if (DocumentValueType.SUB_DOCUMENT.equals(DocumentValueType.of(element))) {
                 JsonObject subJson = JsonObject.create();
 
                 stream(Iterable.class.cast(element).spliterator(), false)
@@ -155,9 +156,4 @@ final class EntityConverter {
         return e -> toJsonObject(subJson).accept((Document) e);
     }
 
-    private static boolean isSudDocument(Object value) {
-        return value instanceof Iterable && stream(Iterable.class.cast(value).spliterator(), false).
-                allMatch(jakarta.nosql.document.Document.class::isInstance);
-    }
-
-}
\ No newline at end of file
+}
@@ -16,13 +16,18 @@ package org.eclipse.jnosql.communication.couchbase.document;
 
 import com.couchbase.client.java.json.JsonObject;
 import jakarta.nosql.TypeReference;
+import jakarta.nosql.Value;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentCondition;
 import jakarta.nosql.document.DocumentQuery;
+import org.eclipse.jnosql.communication.driver.query.QueryShape;
+import org.eclipse.jnosql.communication.driver.query.QueryTemplate;
+import org.eclipse.jnosql.communication.driver.query.QueryTranslationCache;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -30,12 +35,17 @@ import static org.eclipse.jnosql.communication.couchbase.document.EntityConverte
 
 final class N1QLBuilder implements Supplier<N1QLQuery> {
 
+    private static final TypeReference<List<String>> IDS = new TypeReference<>() {
+    };
+
     private final DocumentQuery query;
 
     private final String database;
 
     private final String scope;
 
+    private int parameters;
+
     private N1QLBuilder(DocumentQuery query, String database, String scope) {
         this.query = query;
         this.database = database;
@@ -44,9 +54,39 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
 
     @Override
     public N1QLQuery get() {
-        StringBuilder n1ql = new StringBuilder();
+        QueryShape shape = QueryShape.of(query);
+        return bind(template(shape), shape);
+    }
+
+    /**
+     * Returns the query reusing the translation of the queries with the same shape
+     *
+     * @param cache the translations
+     * @return the query
+     */
+    N1QLQuery get(QueryTranslationCache<QueryTemplate> cache) {
+        QueryShape shape = QueryShape.of(query);
+        return bind(cache.get(shape, this::template), shape);
+    }
+
+    @SuppressWarnings("unchecked")
+    private N1QLQuery bind(QueryTemplate template, QueryShape shape) {
         JsonObject params = JsonObject.create();
         List<String> ids = new ArrayList<>();
+        template.bind(shape, (name, value) -> {
+            if (ID_FIELD.equals(name)) {
+                ids.addAll((List<String>) value);
+            } else {
+                params.put(name, value);
+            }
+        });
+        return N1QLQuery.of(new StringBuilder(template.getQuery()), params, ids);
+    }
+
+    private QueryTemplate template(QueryShape shape) {
+        StringBuilder n1ql = new StringBuilder();
+        QueryTemplate.Builder params = QueryTemplate.builder(shape);
+        parameters = 0;
 
         n1ql.append("select ");
         n1ql.append(select()).append(' ');
@@ -57,7 +97,7 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
 
         query.getCondition().ifPresent(c -> {
             n1ql.append(" WHERE ");
-            condition(c, n1ql, params, ids);
+            condition(c, n1ql, params);
         });
 
         if (query.getLimit() > 0) {
@@ -76,24 +116,23 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
             n1ql.append(order);
         }
 
-        return N1QLQuery.of(n1ql, params, ids);
+        return params.build(n1ql.toString());
     }
 
 
-    private void condition(DocumentCondition condition, StringBuilder n1ql, JsonObject params, List<String> ids) {
+    private void condition(DocumentCondition condition, StringBuilder n1ql, QueryTemplate.Builder params) {
         Document document = condition.getDocument();
         switch (condition.getCondition()) {
             case EQUALS:
                 if (document.getName().equals(ID_FIELD)) {
-                    ids.add(document.get(String.class));
+                    params.parameter(ID_FIELD, document, v -> Collections.singletonList(v.get(String.class)));
                 } else {
                     predicate(n1ql, " = ", document, params);
                 }
                 return;
             case IN:
                 if (document.getName().equals(ID_FIELD)) {
-                    ids.addAll(document.get(new TypeReference<List<String>>() {
-                    }));
+                    params.parameter(ID_FIELD, document, v -> v.get(IDS));
                 } else {
                     predicate(n1ql, " IN ", document, params);
                 }
@@ -115,15 +154,15 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
                 return;
             case NOT:
                 n1ql.append(" NOT ");
-                condition(document.get(DocumentCondition.class), n1ql, params, ids);
+                condition(document.get(DocumentCondition.class), n1ql, params);
                 return;
             case OR:
                 appendCondition(n1ql, params, document.get(new TypeReference<>() {
-                }), " OR ", ids);
+                }), " OR ");
                 return;
             case AND:
                 appendCondition(n1ql, params, document.get(new TypeReference<>() {
-                }), " AND ", ids);
+                }), " AND ");
                 return;
             case BETWEEN:
                 predicateBetween(n1ql, params, document);
@@ -133,27 +172,23 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
         }
     }
 
-    private void predicateBetween(StringBuilder n1ql, JsonObject params, Document document) {
+    private void predicateBetween(StringBuilder n1ql, QueryTemplate.Builder params, Document document) {
         n1ql.append(" BETWEEN ");
-        ThreadLocalRandom random = ThreadLocalRandom.current();
         String name = '\'' + document.getName() + '\'';
 
-        List<Object> values = new ArrayList<>();
-        ((Iterable<?>) document.get()).forEach(values::add);
-
-        String param = "$".concat(document.getName()).concat("_").concat(Integer.toString(random.nextInt(0, 100)));
-        String param2 = "$".concat(document.getName()).concat("_").concat(Integer.toString(random.nextInt(0, 100)));
+        String param = parameterName(document);
+        String param2 = parameterName(document);
         n1ql.append(name).append(" ").append(param).append(" AND ").append(param2);
-        params.put(param, values.get(0));
-        params.put(param2, values.get(1));
+        params.parameter(param, document, v -> element(v, 0));
+        params.parameter(param2, document, v -> element(v, 1));
     }
 
-    private void appendCondition(StringBuilder n1ql, JsonObject params,
+    private void appendCondition(StringBuilder n1ql, QueryTemplate.Builder params,
                                  List<DocumentCondition> conditions,
-                                 String condition, List<String> ids) {
+                                 String condition) {
         for (DocumentCondition documentCondition : conditions) {
             StringBuilder query = new StringBuilder();
-            condition(documentCondition, query, params, ids);
+            condition(documentCondition, query, params);
             n1ql.append(condition).append(query);
         }
     }
@@ -161,13 +196,23 @@ final class N1QLBuilder implements Supplier<N1QLQuery> {
     private void predicate(StringBuilder n1ql,
                            String condition,
                            Document document,
-                           JsonObject params) {
-        ThreadLocalRandom random = ThreadLocalRandom.current();
+                           QueryTemplate.Builder params) {
         String name = '\'' + document.getName() + '\'';
-        Object value = document.get();
-        String param = "$".concat(document.getName()).concat("_").concat(Integer.toString(random.nextInt(0, 100)));
+        String param = parameterName(document);
         n1ql.append(name).append(condition).append(param);
-        params.put(param, value);
+        params.parameter(param, document, Value::get);
+    }
+
+    private String parameterName(Document document) {
+        return "$".concat(document.getName()).concat("_").concat(Integer.toString(parameters++));
+    }
+
+    private static Object element(Value value, int index) {
+        Iterator<?> iterator = ((Iterable<?>) value.get()).iterator();
+        for (int skip = 0; skip < index; skip++) {
+            iterator.next();
+        }
+        return iterator.next();
     }
 
     private String select() {
@@ -24,13 +24,15 @@ import com.couchbase.client.java.kv.UpsertOptions;
 import jakarta.nosql.Value;
 import jakarta.nosql.keyvalue.BucketManager;
 import jakarta.nosql.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.communication.driver.concurrent.FanOut;
+import org.eclipse.jnosql.communication.driver.metrics.Operation;
+import org.eclipse.jnosql.communication.driver.metrics.OperationMetrics;
 
 import java.time.Duration;
 import java.util.Optional;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
 import static org.eclipse.jnosql.communication.driver.ValueUtil.convert;
 
 /**
@@ -38,6 +40,8 @@ import static org.eclipse.jnosql.communication.driver.ValueUtil.convert;
  */
 public class CouchbaseBucketManager implements BucketManager {
 
+    private static final OperationMetrics METRICS = OperationMetrics.of("couchbase");
+
     private final Bucket bucket;
 
     private final String bucketName;
@@ -48,9 +52,17 @@ public class CouchbaseBucketManager implements BucketManager {
 
     private final String scopeName;
 
+    private final FanOut fanOut;
+
 
     CouchbaseBucketManager(Bucket bucket, String bucketName, String scopeName, String collectionName) {
+        this(bucket, bucketName, scopeName, collectionName, FanOut.sequential());
+    }
+
+    CouchbaseBucketManager(Bucket bucket, String bucketName, String scopeName, String collectionName,
+                           FanOut fanOut) {
         this.bucket = bucket;
+        this.fanOut = fanOut;
         this.bucketName = bucketName;
         this.collectionName = collectionName;
         this.scopeName = scopeName;
@@ -62,8 +74,12 @@ public class CouchbaseBucketManager implements BucketManager {
     public <K, V> void put(K key, V value) {
         requireNonNull(key, "key is required");
         requireNonNull(value, "value is required");
-        collection.upsert(key.toString(), value);
-
+        long start = METRICS.start();
+        try {
+            collection.upsert(key.toString(), value);
+        } finally {
+            METRICS.stop(Operation.PUT, start);
+        }
     }
 
     @Override
@@ -78,39 +94,45 @@ public class CouchbaseBucketManager implements BucketManager {
         requireNonNull(ttl, "ttl is required");
         String key = entity.getKey(String.class);
         Object value = convert(Value.of(entity.getValue()));
-        collection.upsert(key, value, UpsertOptions.upsertOptions().expiry(ttl));
-
+        long start = METRICS.start();
+        try {
+            collection.upsert(key, value, UpsertOptions.upsertOptions().expiry(ttl));
+        } finally {
+            METRICS.stop(Operation.PUT, start);
+        }
     }
 
     @Override
     public void put(Iterable<KeyValueEntity> keyValueEntities) {
         requireNonNull(keyValueEntities, "keyValueEntities is required");
-        keyValueEntities.forEach(this::put);
+        fanOut.forEach(keyValueEntities, this::put);
     }
 
     @Override
     public void put(Iterable<KeyValueEntity> keyValueEntities, Duration ttl) {
         requireNonNull(keyValueEntities, "keyValueEntities is required");
         requireNonNull(ttl, "ttl is required");
-        keyValueEntities.forEach(k -> this.put(k, ttl));
+        fanOut.forEach(keyValueEntities, k -> this.put(k, ttl));
     }
 
     @Override
     public <K> Optional<Value> get(K key) throws NullPointerException {
         requireNonNull(key, "key is required");
+        long start = METRICS.start();
         try {
             GetResult result = this.collection.get(key.toString());
             return Optional.of(new CouchbaseValue(result));
         } catch (DocumentNotFoundException exp) {
             return Optional.empty();
+        } finally {
+            METRICS.stop(Operation.GET, start);
         }
     }
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) {
         requireNonNull(keys, "keys is required");
-        return stream(keys.spliterator(), false)
-                .map(this::get)
+        return fanOut.map(keys, this::get).stream()
                 .filter(Optional::isPresent)
                 .map(Optional::get)
                 .collect(toList());
@@ -119,13 +141,18 @@ public class CouchbaseBucketManager implements BucketManager {
     @Override
     public <K> void delete(K key) {
         requireNonNull(key, "key is required");
-        collection.remove(key.toString());
+        long start = METRICS.start();
+        try {
+            collection.remove(key.toString());
+        } finally {
+            METRICS.stop(Operation.DELETE, start);
+        }
     }
 
     @Override
     public <K> void delete(Iterable<K> keys) {
         requireNonNull(keys, "keys is required");
-        keys.forEach(this::delete);
+        fanOut.forEach(keys, this::delete);
     }
 
     @Override
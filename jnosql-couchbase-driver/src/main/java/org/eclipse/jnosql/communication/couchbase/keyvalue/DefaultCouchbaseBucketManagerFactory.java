@@ -25,6 +25,7 @@ import com.couchbase.client.java.kv.MapOptions;
 import com.couchbase.client.java.kv.QueueOptions;
 import jakarta.nosql.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.couchbase.CouchbaseSettings;
+import org.eclipse.jnosql.communication.driver.concurrent.FanOut;
 
 import java.util.List;
 import java.util.Map;
@@ -45,11 +46,13 @@ class DefaultCouchbaseBucketManagerFactory implements CouchbaseBucketManagerFact
 
     private final CouchbaseSettings settings;
     private final Cluster cluster;
+    private final FanOut fanOut;
 
 
     DefaultCouchbaseBucketManagerFactory(CouchbaseSettings settings) {
         this.settings = settings;
         this.cluster = this.settings.getCluster();
+        this.fanOut = FanOut.of(settings.getFanOutConcurrency());
     }
 
 
@@ -59,7 +62,7 @@ class DefaultCouchbaseBucketManagerFactory implements CouchbaseBucketManagerFact
         Bucket bucket = cluster.bucket(bucketName);
         String scopeName = settings.getScope().orElseGet(() -> bucket.defaultScope().name());
         String collection = settings.getCollection().orElseGet(() -> bucket.defaultCollection().name());
-        return new CouchbaseBucketManager(bucket, bucketName, scopeName, collection);
+        return new CouchbaseBucketManager(bucket, bucketName, scopeName, collection, fanOut);
     }
 
     @Override
@@ -68,7 +71,7 @@ class DefaultCouchbaseBucketManagerFactory implements CouchbaseBucketManagerFact
         requireNonNull(collection, "collection is required");
         Bucket bucket = cluster.bucket(bucketName);
         String scopeName = settings.getScope().orElseGet(() -> bucket.defaultScope().name());
-        return new CouchbaseBucketManager(bucket, bucketName, scopeName, collection);
+        return new CouchbaseBucketManager(bucket, bucketName, scopeName, collection, fanOut);
     }
 
     @Override
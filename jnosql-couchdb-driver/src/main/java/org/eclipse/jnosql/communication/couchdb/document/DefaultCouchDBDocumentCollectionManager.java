@@ -19,6 +19,8 @@ package org.eclipse.jnosql.communication.couchdb.document;
 import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
+import org.eclipse.jnosql.communication.driver.metrics.Operation;
+import org.eclipse.jnosql.communication.driver.metrics.OperationMetrics;
 
 import java.time.Duration;
 import java.util.Objects;
@@ -28,6 +30,7 @@ import java.util.stream.StreamSupport;
 
 class DefaultCouchDBDocumentCollectionManager implements CouchDBDocumentCollectionManager {
 
+    private static final OperationMetrics METRICS = OperationMetrics.of("couchdb");
 
     private final CouchDBHttpClient connector;
 
@@ -38,7 +41,12 @@ class DefaultCouchDBDocumentCollectionManager implements CouchDBDocumentCollecti
     @Override
     public DocumentEntity insert(DocumentEntity entity) {
         Objects.requireNonNull(entity, "entity is required");
-        return connector.insert(entity);
+        long start = METRICS.start();
+        try {
+            return connector.insert(entity);
+        } finally {
+            METRICS.stop(Operation.INSERT, start);
+        }
     }
 
     @Override
@@ -64,7 +72,12 @@ class DefaultCouchDBDocumentCollectionManager implements CouchDBDocumentCollecti
     @Override
     public DocumentEntity update(DocumentEntity entity) {
         Objects.requireNonNull(entity, "entity is required");
-        return connector.update(entity);
+        long start = METRICS.start();
+        try {
+            return connector.update(entity);
+        } finally {
+            METRICS.stop(Operation.UPDATE, start);
+        }
     }
 
     @Override
@@ -77,18 +90,33 @@ class DefaultCouchDBDocumentCollectionManager implements CouchDBDocumentCollecti
     @Override
     public void delete(DocumentDeleteQuery query) {
         Objects.requireNonNull(query, "query is required");
-        connector.delete(query);
+        long start = METRICS.start();
+        try {
+            connector.delete(query);
+        } finally {
+            METRICS.stop(Operation.DELETE, start);
+        }
     }
 
     @Override
     public Stream<DocumentEntity> select(DocumentQuery query) {
         Objects.requireNonNull(query, "query is required");
-        return connector.select(query);
+        long start = METRICS.start();
+        try {
+            return connector.select(query);
+        } finally {
+            METRICS.stop(Operation.SELECT, start);
+        }
     }
 
     @Override
     public long count() {
-        return connector.count();
+        long start = METRICS.start();
+        try {
+            return connector.count();
+        } finally {
+            METRICS.stop(Operation.COUNT, start);
+        }
     }
 
     @Override
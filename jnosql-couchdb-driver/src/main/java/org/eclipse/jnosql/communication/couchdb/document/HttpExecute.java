@@ -32,6 +32,9 @@ import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.eclipse.jnosql.communication.document.Documents;
 import org.eclipse.jnosql.communication.driver.JsonbSupplier;
+import org.eclipse.jnosql.communication.driver.metrics.Operation;
+import org.eclipse.jnosql.communication.driver.metrics.OperationMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.OperationPhase;
 
 import javax.json.JsonObject;
 import javax.json.bind.Jsonb;
@@ -61,6 +64,8 @@ class HttpExecute {
     private static final Type JSON = new HashMap<String, Object>() {
     }.getClass().getGenericSuperclass();
 
+    private static final OperationMetrics METRICS = OperationMetrics.of("couchdb");
+
 
     private final CouchDBHttpConfiguration configuration;
 
@@ -153,7 +158,9 @@ class HttpExecute {
     private List<Map<String, Object>> executeQuery(String database, DocumentQuery query) {
         HttpPost request = new HttpPost(configuration.getUrl().concat(database).concat(CouchDBConstant.FIND));
         setHeader(request);
+        long start = METRICS.start();
         JsonObject mangoQuery = converter.apply(query);
+        METRICS.stop(Operation.SELECT, OperationPhase.TRANSLATION, start);
         request.setEntity(new StringEntity(mangoQuery.toString(), APPLICATION_JSON));
         Map<String, Object> json = execute(request, JSON, HttpStatus.SC_OK);
         if (query instanceof CouchDBDocumentQuery) {
@@ -22,7 +22,23 @@ public enum  DynamoDBConfigurations implements Supplier<String> {
     REGION("dynamodb.region"),
     PROFILE("dynamodb.profile"),
     AWS_ACCESSKEY("dynamodb.awsaccesskey"),
-    AWS_SECRET_ACCESS("dynamodb.secretaccess");
+    AWS_SECRET_ACCESS("dynamodb.secretaccess"),
+    /**
+     * The {@link org.eclipse.jnosql.communication.driver.ValueCodec} name the key-value bucket manager uses to
+     * write the values, e.g. "json" or "cbor", the default value is "json"
+     */
+    VALUE_CODEC("dynamodb.value.codec"),
+    /**
+     * The compressor the key-value bucket manager uses to compress the large values, "deflate" or "lz4",
+     * the compression is disabled by default
+     *
+     * @see org.eclipse.jnosql.communication.driver.compression.ValueCompression
+     */
+    VALUE_COMPRESSION("dynamodb.value.compression"),
+    /**
+     * The size, in bytes, from which the values are compressed, the default value is 4096
+     */
+    VALUE_COMPRESSION_THRESHOLD("dynamodb.value.compression.threshold");
 
     private final String configuration;
 
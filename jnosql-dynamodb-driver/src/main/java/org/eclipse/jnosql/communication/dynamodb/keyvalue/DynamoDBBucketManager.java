@@ -18,38 +18,57 @@ package org.eclipse.jnosql.communication.dynamodb.keyvalue;
 import jakarta.nosql.Value;
 import jakarta.nosql.keyvalue.BucketManager;
 import jakarta.nosql.keyvalue.KeyValueEntity;
-import org.eclipse.jnosql.communication.driver.ValueJSON;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import org.eclipse.jnosql.communication.driver.metrics.Operation;
+import org.eclipse.jnosql.communication.driver.metrics.OperationMetrics;
 import org.eclipse.jnosql.communication.dynamodb.ConfigurationAmazonEntity;
 import org.eclipse.jnosql.communication.dynamodb.DynamoDBUtils;
+import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 public class DynamoDBBucketManager implements BucketManager {
 
+    private static final OperationMetrics METRICS = OperationMetrics.of("dynamodb");
 
     private DynamoDbClient client;
     private String tableName;
-    private static final Function<AttributeValue, String> TO_JSON = e -> e.s();
+    private final ValueCodec codec;
 
     public DynamoDBBucketManager(DynamoDbClient client, String tableName) {
+        this(client, tableName, ValueCodec.getInstance());
+    }
+
+    public DynamoDBBucketManager(DynamoDbClient client, String tableName, ValueCodec codec) {
         this.client = client;
         this.tableName = tableName;
+        this.codec = Objects.requireNonNull(codec, "codec is required");
     }
 
     @Override
     public <K, V> void put(K key, V value) throws NullPointerException {
-        client.putItem(PutItemRequest.builder().tableName(tableName).item(DynamoDBUtils.createAttributeValues(key, value)).build());
+        long start = METRICS.start();
+        try {
+            client.putItem(PutItemRequest.builder().tableName(tableName).item(createAttributeValues(key, value)).build());
+        } finally {
+            METRICS.stop(Operation.PUT, start);
+        }
     }
 
     @Override
@@ -65,7 +84,17 @@ public class DynamoDBBucketManager implements BucketManager {
 
     @Override
     public void put(Iterable<KeyValueEntity> entities) throws NullPointerException {
-        client.batchWriteItem(BatchWriteItemRequest.builder().requestItems(DynamoDBUtils.createMapWriteRequest(entities, tableName)).build());
+        long start = METRICS.start();
+        try {
+            List<WriteRequest> requests = StreamSupport.stream(entities.spliterator(), false)
+                    .map(e -> createAttributeValues(e.getKey(), e.getValue()))
+                    .map(item -> WriteRequest.builder().putRequest(PutRequest.builder().item(item).build()).build())
+                    .collect(Collectors.toList());
+            client.batchWriteItem(BatchWriteItemRequest.builder()
+                    .requestItems(Collections.singletonMap(tableName, requests)).build());
+        } finally {
+            METRICS.stop(Operation.PUT, start);
+        }
     }
 
     @Override
@@ -82,32 +111,45 @@ public class DynamoDBBucketManager implements BucketManager {
             throw new IllegalArgumentException("The Key is irregular");
         }
 
-        GetItemResponse getItemResponse = client.getItem(DynamoDBUtils.createGetItemRequest(key, tableName));
+        long start = METRICS.start();
+        GetItemResponse getItemResponse;
+        try {
+            getItemResponse = client.getItem(DynamoDBUtils.createGetItemRequest(key, tableName));
+        } finally {
+            METRICS.stop(Operation.GET, start);
+        }
         Map<String, AttributeValue> item = getItemResponse.item();
         AttributeValue attributeValue = item.get(ConfigurationAmazonEntity.VALUE);
 
         return Optional.ofNullable(attributeValue)
-                .map(TO_JSON)
-                .map(ValueJSON::of);
+                .map(this::toValue);
     }
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
-        
-        return client.batchGetItem(DynamoDBUtils.createBatchGetItemRequest(keys, tableName))
-                .responses()
-                .values()
-                .stream()
-                .flatMap(l -> l.stream())
-                .map(v -> v.get(ConfigurationAmazonEntity.VALUE))
-                .map(TO_JSON)
-                .map(ValueJSON::of)
-                .collect(Collectors.toList());
+        long start = METRICS.start();
+        try {
+            return client.batchGetItem(DynamoDBUtils.createBatchGetItemRequest(keys, tableName))
+                    .responses()
+                    .values()
+                    .stream()
+                    .flatMap(l -> l.stream())
+                    .map(v -> v.get(ConfigurationAmazonEntity.VALUE))
+                    .map(this::toValue)
+                    .collect(Collectors.toList());
+        } finally {
+            METRICS.stop(Operation.GET, start);
+        }
     }
 
     @Override
     public <K> void delete(K key) throws NullPointerException {
-        client.deleteItem(DeleteItemRequest.builder().tableName(tableName).key(DynamoDBUtils.createKeyAttributeValues(key)).build());
+        long start = METRICS.start();
+        try {
+            client.deleteItem(DeleteItemRequest.builder().tableName(tableName).key(DynamoDBUtils.createKeyAttributeValues(key)).build());
+        } finally {
+            METRICS.stop(Operation.DELETE, start);
+        }
     }
 
     @Override
@@ -119,4 +161,24 @@ public class DynamoDBBucketManager implements BucketManager {
     public void close() {
         client.close();
     }
+
+    private <K, V> Map<String, AttributeValue> createAttributeValues(K key, V value) {
+        Map<String, AttributeValue> item = DynamoDBUtils.createKeyAttributeValues(key);
+        byte[] encoded = codec.encode(value);
+        if (codec.isText()) {
+            item.put(ConfigurationAmazonEntity.VALUE,
+                    AttributeValue.builder().s(new String(encoded, StandardCharsets.UTF_8)).build());
+        } else {
+            item.put(ConfigurationAmazonEntity.VALUE,
+                    AttributeValue.builder().b(SdkBytes.fromByteArrayUnsafe(encoded)).build());
+        }
+        return item;
+    }
+
+    private Value toValue(AttributeValue attributeValue) {
+        if (attributeValue.b() != null) {
+            return codec.decode(attributeValue.b().asByteArrayUnsafe());
+        }
+        return codec.decode(attributeValue.s().getBytes(StandardCharsets.UTF_8));
+    }
 }
\ No newline at end of file
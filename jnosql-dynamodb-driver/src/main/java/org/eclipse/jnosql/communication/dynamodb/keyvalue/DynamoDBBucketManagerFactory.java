@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.communication.dynamodb.keyvalue;
 
 import jakarta.nosql.keyvalue.BucketManagerFactory;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
 import org.eclipse.jnosql.communication.dynamodb.DynamoTableUtils;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
@@ -27,8 +28,15 @@ public class DynamoDBBucketManagerFactory implements BucketManagerFactory {
 
     private DynamoDbClient client;
 
+    private final ValueCodec codec;
+
     DynamoDBBucketManagerFactory(DynamoDbClient client) {
+        this(client, ValueCodec.getInstance());
+    }
+
+    DynamoDBBucketManagerFactory(DynamoDbClient client, ValueCodec codec) {
         this.client = client;
+        this.codec = codec;
     }
 
     @Override
@@ -40,7 +48,7 @@ public class DynamoDBBucketManagerFactory implements BucketManagerFactory {
     public DynamoDBBucketManager getBucketManager(String bucketName, Long readCapacityUnits, Long writeCapacityUnit) {
 
         DynamoTableUtils.manageTables(bucketName, client, readCapacityUnits, writeCapacityUnit);
-        return new DynamoDBBucketManager(client, bucketName);
+        return new DynamoDBBucketManager(client, bucketName, codec);
     }
 
     @Override
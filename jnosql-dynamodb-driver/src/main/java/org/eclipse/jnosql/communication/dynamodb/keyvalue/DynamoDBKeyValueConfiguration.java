@@ -16,7 +16,11 @@ package org.eclipse.jnosql.communication.dynamodb.keyvalue;
 
 import jakarta.nosql.Settings;
 import jakarta.nosql.keyvalue.KeyValueConfiguration;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import org.eclipse.jnosql.communication.driver.compression.CompressedValueCodec;
+import org.eclipse.jnosql.communication.driver.compression.ValueCompression;
 import org.eclipse.jnosql.communication.dynamodb.DynamoDBConfiguration;
+import org.eclipse.jnosql.communication.dynamodb.DynamoDBConfigurations;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
 public class DynamoDBKeyValueConfiguration extends DynamoDBConfiguration
@@ -30,7 +34,17 @@ public class DynamoDBKeyValueConfiguration extends DynamoDBConfiguration
     @Override
     public DynamoDBBucketManagerFactory get(Settings settings) {
         DynamoDbClient dynamoDB = getDynamoDB(settings);
-        return new DynamoDBBucketManagerFactory(dynamoDB);
+        return new DynamoDBBucketManagerFactory(dynamoDB, getCodec(settings));
+    }
+
+    private ValueCodec getCodec(Settings settings) {
+        ValueCodec codec = settings.get(DynamoDBConfigurations.VALUE_CODEC)
+                .map(Object::toString).map(ValueCodec::of)
+                .orElseGet(ValueCodec::getInstance);
+        return ValueCompression.of(settings, DynamoDBConfigurations.VALUE_COMPRESSION,
+                        DynamoDBConfigurations.VALUE_COMPRESSION_THRESHOLD)
+                .<ValueCodec>map(compression -> CompressedValueCodec.of(codec, compression))
+                .orElse(codec);
     }
 
 }
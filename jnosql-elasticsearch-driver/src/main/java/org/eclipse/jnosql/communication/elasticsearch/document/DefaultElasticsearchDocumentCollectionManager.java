@@ -20,6 +20,9 @@ import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
+import org.eclipse.jnosql.communication.driver.metrics.Operation;
+import org.eclipse.jnosql.communication.driver.metrics.OperationMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.OperationPhase;
 import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.index.IndexRequest;
@@ -47,6 +50,7 @@ import static java.util.stream.StreamSupport.stream;
  */
 class DefaultElasticsearchDocumentCollectionManager implements ElasticsearchDocumentCollectionManager {
 
+    private static final OperationMetrics METRICS = OperationMetrics.of("elasticsearch");
 
     private final RestHighLevelClient client;
 
@@ -62,12 +66,16 @@ class DefaultElasticsearchDocumentCollectionManager implements ElasticsearchDocu
         requireNonNull(entity, "entity is required");
         Document id = entity.find(EntityConverter.ID_FIELD)
                 .orElseThrow(() -> new ElasticsearchKeyFoundException(entity.toString()));
+        long start = METRICS.start();
         Map<String, Object> jsonObject = EntityConverter.getMap(entity);
+        METRICS.stop(Operation.INSERT, OperationPhase.CONVERSION, start);
         IndexRequest request = new IndexRequest(index).id(id.get(String.class)).source(jsonObject);
         try {
             client.index(request, RequestOptions.DEFAULT);
         } catch (IOException e) {
             throw new ElasticsearchException("An error to insert in Elastic search", e);
+        } finally {
+            METRICS.stop(Operation.INSERT, start);
         }
 
         return entity;
@@ -109,26 +117,28 @@ class DefaultElasticsearchDocumentCollectionManager implements ElasticsearchDocu
     @Override
     public void delete(DocumentDeleteQuery query) throws NullPointerException {
         requireNonNull(query, "query is required");
+        long start = METRICS.start();
+        try {
+            DocumentQuery select = new ElasticsearchDocumentQuery(query);
 
-        DocumentQuery select = new ElasticsearchDocumentQuery(query);
-
-        List<DocumentEntity> entities = select(select).collect(Collectors.toList());
+            List<DocumentEntity> entities = select(select).collect(Collectors.toList());
 
-        if (entities.isEmpty()) {
-            return;
-        }
+            if (entities.isEmpty()) {
+                return;
+            }
 
-        BulkRequest bulk = new BulkRequest();
+            BulkRequest bulk = new BulkRequest();
 
-        entities.stream()
-                .map(entity -> entity.find(EntityConverter.ID_FIELD).get().get(String.class))
-                .map(id -> new DeleteRequest(index, id))
-                .forEach(bulk::add);
+            entities.stream()
+                    .map(entity -> entity.find(EntityConverter.ID_FIELD).get().get(String.class))
+                    .map(id -> new DeleteRequest(index, id))
+                    .forEach(bulk::add);
 
-        try {
             client.bulk(bulk, RequestOptions.DEFAULT);
         } catch (IOException e) {
             throw new ElasticsearchException("An error to delete entities on elasticsearch", e);
+        } finally {
+            METRICS.stop(Operation.DELETE, start);
         }
     }
 
@@ -136,7 +146,12 @@ class DefaultElasticsearchDocumentCollectionManager implements ElasticsearchDocu
     @Override
     public Stream<DocumentEntity> select(DocumentQuery query) throws NullPointerException {
         requireNonNull(query, "query is required");
-        return EntityConverter.query(query, client, index);
+        long start = METRICS.start();
+        try {
+            return EntityConverter.query(query, client, index);
+        } finally {
+            METRICS.stop(Operation.SELECT, start);
+        }
     }
 
     @Override
@@ -145,11 +160,14 @@ class DefaultElasticsearchDocumentCollectionManager implements ElasticsearchDocu
         SearchRequest searchRequest = new SearchRequest(index);
         SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
         searchSourceBuilder.size(0);
+        long start = METRICS.start();
         try {
             SearchResponse search = client.search(searchRequest, RequestOptions.DEFAULT);
             return search.getHits().getTotalHits().value;
         } catch (IOException e) {
             throw new CommunicationException("Error on ES when try to execute count to document collection:" + documentCollection, e);
+        } finally {
+            METRICS.stop(Operation.COUNT, start);
         }
     }
 
@@ -18,7 +18,11 @@ package org.eclipse.jnosql.communication.elasticsearch.document;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
+import org.eclipse.jnosql.communication.driver.DocumentValueType;
 import org.eclipse.jnosql.communication.driver.ValueUtil;
+import org.eclipse.jnosql.communication.driver.metrics.Operation;
+import org.eclipse.jnosql.communication.driver.metrics.OperationMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.OperationPhase;
 import org.elasticsearch.action.get.MultiGetItemResponse;
 import org.elasticsearch.action.get.MultiGetRequest;
 import org.elasticsearch.action.get.MultiGetResponse;
@@ -46,6 +50,8 @@ final class EntityConverter {
 
     static final String ENTITY = "@entity";
 
+    private static final OperationMetrics METRICS = OperationMetrics.of("elasticsearch");
+
     private EntityConverter() {
     }
 
@@ -61,7 +67,9 @@ final class EntityConverter {
     }
 
     static Stream<DocumentEntity> query(DocumentQuery query, RestHighLevelClient client, String index) {
+        long start = METRICS.start();
         QueryConverterResult select = QueryConverter.select(query);
+        METRICS.stop(Operation.SELECT, OperationPhase.TRANSLATION, start);
 
         try {
             Stream<DocumentEntity> idQueryStream = Stream.empty();
@@ -96,17 +104,20 @@ final class EntityConverter {
     private static Consumer<Document> feedJSON(Map<String, Object> jsonObject) {
         return d -> {
             Object value = ValueUtil.convert(d.getValue());
-            if (value instanceof Document) {
-                Document subDocument = Document.class.cast(value);
-                jsonObject.put(d.getName(), singletonMap(subDocument.getName(), subDocument.get()));
-            } else if (isSudDocument(value)) {
-                Map<String, Object> subDocument = getMap(value);
-                jsonObject.put(d.getName(), subDocument);
-            } else if (isSudDocumentList(value)) {
-                jsonObject.put(d.getName(), StreamSupport.stream(Iterable.class.cast(value).spliterator(), false)
-                        .map(EntityConverter::getMap).collect(toList()));
-            } else {
-                jsonObject.put(d.getName(), value);
+            switch (DocumentValueType.of(value)) {
+                case DOCUMENT:
+                    Document subDocument = Document.class.cast(value);
+                    jsonObject.put(d.getName(), singletonMap(subDocument.getName(), subDocument.get()));
+                    break;
+                case SUB_DOCUMENT:
+                    jsonObject.put(d.getName(), getMap(value));
+                    break;
+                case SUB_DOCUMENT_LIST:
+                    jsonObject.put(d.getName(), StreamSupport.stream(Iterable.class.cast(value).spliterator(), false)
+                            .map(EntityConverter::getMap).collect(toList()));
+                    break;
+                default:
+                    jsonObject.put(d.getName(), value);
             }
         };
     }
@@ -118,16 +129,6 @@ final class EntityConverter {
         return subDocument;
     }
 
-    private static boolean isSudDocument(Object value) {
-        return value instanceof Iterable && StreamSupport.stream(Iterable.class.cast(value).spliterator(), false).
-                allMatch(jakarta.nosql.document.Document.class::isInstance);
-    }
-
-    private static boolean isSudDocumentList(Object value) {
-        return value instanceof Iterable && StreamSupport.stream(Iterable.class.cast(value).spliterator(), false).
-                allMatch(d -> d instanceof Iterable && isSudDocument(d));
-    }
-
     private static Stream<DocumentEntity> executeId(RestHighLevelClient client, String index,
                                                     QueryConverterResult select) throws IOException {
 
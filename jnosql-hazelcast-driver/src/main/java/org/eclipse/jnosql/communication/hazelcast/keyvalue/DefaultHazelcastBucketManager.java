@@ -19,6 +19,8 @@ import com.hazelcast.query.Predicate;
 import com.hazelcast.query.impl.predicates.SqlPredicate;
 import jakarta.nosql.Value;
 import jakarta.nosql.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.communication.driver.metrics.Operation;
+import org.eclipse.jnosql.communication.driver.metrics.OperationMetrics;
 
 import java.time.Duration;
 import java.util.Collection;
@@ -38,6 +40,8 @@ import static java.util.stream.Collectors.toList;
  */
 class DefaultHazelcastBucketManager implements HazelcastBucketManager {
 
+    private static final OperationMetrics METRICS = OperationMetrics.of("hazelcast");
+
     private final IMap map;
 
     DefaultHazelcastBucketManager(IMap map) {
@@ -46,17 +50,32 @@ class DefaultHazelcastBucketManager implements HazelcastBucketManager {
 
     @Override
     public <K, V> void put(K key, V value) {
-        map.put(key, value);
+        long start = METRICS.start();
+        try {
+            map.put(key, value);
+        } finally {
+            METRICS.stop(Operation.PUT, start);
+        }
     }
 
     @Override
     public void put(KeyValueEntity entity) throws NullPointerException {
-        map.put(entity.getKey(), entity.getValue());
+        long start = METRICS.start();
+        try {
+            map.put(entity.getKey(), entity.getValue());
+        } finally {
+            METRICS.stop(Operation.PUT, start);
+        }
     }
 
     @Override
     public void put(KeyValueEntity entity, Duration ttl) {
-        map.put(entity.getKey(), entity.getValue(), ttl.toMillis(), TimeUnit.MILLISECONDS);
+        long start = METRICS.start();
+        try {
+            map.put(entity.getKey(), entity.getValue(), ttl.toMillis(), TimeUnit.MILLISECONDS);
+        } finally {
+            METRICS.stop(Operation.PUT, start);
+        }
     }
 
     @Override
@@ -71,7 +90,13 @@ class DefaultHazelcastBucketManager implements HazelcastBucketManager {
 
     @Override
     public <K> Optional<Value> get(K key) throws NullPointerException {
-        Object value = map.get(key);
+        long start = METRICS.start();
+        Object value;
+        try {
+            value = map.get(key);
+        } finally {
+            METRICS.stop(Operation.GET, start);
+        }
         if (value == null) {
             return Optional.empty();
         }
@@ -80,13 +105,23 @@ class DefaultHazelcastBucketManager implements HazelcastBucketManager {
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
-        return StreamSupport.stream(keys.spliterator(), false).map((Function<K, Object>) map::get).filter(Objects::nonNull)
-                .map(Value::of).collect(toList());
+        long start = METRICS.start();
+        try {
+            return StreamSupport.stream(keys.spliterator(), false).map((Function<K, Object>) map::get).filter(Objects::nonNull)
+                    .map(Value::of).collect(toList());
+        } finally {
+            METRICS.stop(Operation.GET, start);
+        }
     }
 
     @Override
     public <K> void delete(K key) {
-        map.remove(key);
+        long start = METRICS.start();
+        try {
+            map.remove(key);
+        } finally {
+            METRICS.stop(Operation.DELETE, start);
+        }
     }
 
     @Override
@@ -121,7 +156,13 @@ class DefaultHazelcastBucketManager implements HazelcastBucketManager {
     @Override
     public <K, V> Collection<Value> sql(Predicate<K, V> predicate) throws NullPointerException {
         requireNonNull(predicate, "predicate is required");
-        Collection<V> values = map.values(predicate);
+        long start = METRICS.start();
+        Collection<V> values;
+        try {
+            values = map.values(predicate);
+        } finally {
+            METRICS.stop(Operation.SELECT, start);
+        }
         return values.stream().map(Value::of).collect(toList());
     }
 }
@@ -32,6 +32,9 @@ import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.Table;
 import org.apache.hadoop.hbase.util.Bytes;
+import org.eclipse.jnosql.communication.driver.metrics.Operation;
+import org.eclipse.jnosql.communication.driver.metrics.OperationMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.OperationPhase;
 import org.eclipse.jnosql.communication.writer.ValueWriterDecorator;
 
 import java.io.IOException;
@@ -58,6 +61,8 @@ public class HBaseColumnFamilyManager implements ColumnFamilyManager {
 
     private static final String KEY_REQUIRED_ERROR = "\"To save an entity is necessary to have an row, a Column that has a blank name. Documents.of(\\\"\\\", keyValue);\"";
 
+    private static final OperationMetrics METRICS = OperationMetrics.of("hbase");
+
     private final Connection connection;
     private final Table table;
     private final ValueWriter writerField = ValueWriterDecorator.getInstance();
@@ -78,15 +83,19 @@ public class HBaseColumnFamilyManager implements ColumnFamilyManager {
         }
         Column columnID = entity.find(HBaseUtils.KEY_COLUMN).orElseThrow(() -> new HBaseException(KEY_REQUIRED_ERROR));
 
+        long start = METRICS.start();
         Put put = new Put(Bytes.toBytes(valueToString(columnID.getValue())));
         columns.stream().filter(Predicate.isEqual(columnID).negate()).forEach(column ->
                 put.addColumn(Bytes.toBytes(family),
                         Bytes.toBytes(column.getName()),
                         Bytes.toBytes(valueToString(column.getValue()))));
+        METRICS.stop(Operation.INSERT, OperationPhase.CONVERSION, start);
         try {
             table.put(put);
         } catch (IOException e) {
             throw new HBaseException("An error happened when try to save an entity", e);
+        } finally {
+            METRICS.stop(Operation.INSERT, start);
         }
         return entity;
     }
@@ -135,16 +144,20 @@ public class HBaseColumnFamilyManager implements ColumnFamilyManager {
         checkedCondition(condition);
         List<String> values = new ArrayList<>();
 
+        long start = METRICS.start();
         convert(condition, values);
         List<Delete> deletes = values
                 .stream()
                 .map(String::getBytes)
                 .map(Delete::new)
                 .collect(toList());
+        METRICS.stop(Operation.DELETE, OperationPhase.TRANSLATION, start);
         try {
             table.delete(deletes);
         } catch (IOException e) {
             throw new HBaseException("An error when try to delete columns", e);
+        } finally {
+            METRICS.stop(Operation.DELETE, start);
         }
 
     }
@@ -193,10 +206,13 @@ public class HBaseColumnFamilyManager implements ColumnFamilyManager {
         List<Get> gets = values.stream()
                 .map(String::getBytes)
                 .map(Get::new).collect(toList());
+        long start = METRICS.start();
         try {
             return table.get(gets);
         } catch (IOException e) {
             throw new HBaseException("An error when try to find by id", e);
+        } finally {
+            METRICS.stop(Operation.SELECT, start);
         }
     }
 
@@ -18,6 +18,8 @@ package org.eclipse.jnosql.communication.infinispan.keyvalue;
 import jakarta.nosql.Value;
 import jakarta.nosql.keyvalue.BucketManager;
 import jakarta.nosql.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.communication.driver.metrics.Operation;
+import org.eclipse.jnosql.communication.driver.metrics.OperationMetrics;
 import org.infinispan.commons.api.BasicCache;
 
 import java.time.Duration;
@@ -33,6 +35,8 @@ import java.util.stream.StreamSupport;
  */
 public class InfinispanBucketManager implements BucketManager {
 
+    private static final OperationMetrics METRICS = OperationMetrics.of("infinispan");
+
     private final BasicCache cache;
 
     InfinispanBucketManager(BasicCache cache) {
@@ -41,17 +45,32 @@ public class InfinispanBucketManager implements BucketManager {
 
     @Override
     public <K, V> void put(K key, V value) {
-        cache.put(key, value);
+        long start = METRICS.start();
+        try {
+            cache.put(key, value);
+        } finally {
+            METRICS.stop(Operation.PUT, start);
+        }
     }
 
     @Override
     public void put(KeyValueEntity entity) throws NullPointerException {
-        cache.put(entity.getKey(), entity.getValue());
+        long start = METRICS.start();
+        try {
+            cache.put(entity.getKey(), entity.getValue());
+        } finally {
+            METRICS.stop(Operation.PUT, start);
+        }
     }
 
     @Override
     public void put(KeyValueEntity entity, Duration ttl) {
-        cache.put(entity.getKey(), entity.getValue(), ttl.toMillis(), TimeUnit.MILLISECONDS);
+        long start = METRICS.start();
+        try {
+            cache.put(entity.getKey(), entity.getValue(), ttl.toMillis(), TimeUnit.MILLISECONDS);
+        } finally {
+            METRICS.stop(Operation.PUT, start);
+        }
     }
 
     @Override
@@ -66,7 +85,13 @@ public class InfinispanBucketManager implements BucketManager {
 
     @Override
     public <K> Optional<Value> get(K key) throws NullPointerException {
-        Object value = cache.get(key);
+        long start = METRICS.start();
+        Object value;
+        try {
+            value = cache.get(key);
+        } finally {
+            METRICS.stop(Operation.GET, start);
+        }
         if (value == null) {
             return Optional.empty();
         }
@@ -75,13 +100,23 @@ public class InfinispanBucketManager implements BucketManager {
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
-        return StreamSupport.stream(keys.spliterator(), false).map((Function<K, Object>) cache::get).filter(Objects::nonNull)
-                .map(Value::of).collect(Collectors.toList());
+        long start = METRICS.start();
+        try {
+            return StreamSupport.stream(keys.spliterator(), false).map((Function<K, Object>) cache::get).filter(Objects::nonNull)
+                    .map(Value::of).collect(Collectors.toList());
+        } finally {
+            METRICS.stop(Operation.GET, start);
+        }
     }
 
     @Override
     public <K> void delete(K key) {
-        cache.remove(key);
+        long start = METRICS.start();
+        try {
+            cache.remove(key);
+        } finally {
+            METRICS.stop(Operation.DELETE, start);
+        }
     }
 
     @Override
@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.memcached.keyvalue;
+
+import net.spy.memcached.CachedData;
+import net.spy.memcached.transcoders.SerializingTranscoder;
+import net.spy.memcached.transcoders.Transcoder;
+import org.eclipse.jnosql.communication.driver.compression.ValueCompression;
+
+/**
+ * A {@link Transcoder} that writes the values with the {@link SerializingTranscoder} and compresses them with
+ * {@link ValueCompression} instead of its GZIP compression. The values written before the compression was
+ * enabled are still read, because {@link ValueCompression#decompress(byte[])} returns them as they are.
+ */
+final class CompressedTranscoder implements Transcoder<Object> {
+
+    private final SerializingTranscoder transcoder;
+
+    private final ValueCompression compression;
+
+    CompressedTranscoder(ValueCompression compression) {
+        this.compression = compression;
+        this.transcoder = new SerializingTranscoder();
+        this.transcoder.setCompressionThreshold(Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean asyncDecode(CachedData data) {
+        return transcoder.asyncDecode(data);
+    }
+
+    @Override
+    public CachedData encode(Object value) {
+        CachedData data = transcoder.encode(value);
+        return new CachedData(data.getFlags(), compression.compress(data.getData()), getMaxSize());
+    }
+
+    @Override
+    public Object decode(CachedData data) {
+        byte[] value = compression.decompress(data.getData());
+        return transcoder.decode(new CachedData(data.getFlags(), value, Integer.MAX_VALUE));
+    }
+
+    @Override
+    public int getMaxSize() {
+        return transcoder.getMaxSize();
+    }
+}
@@ -18,6 +18,9 @@ import jakarta.nosql.Value;
 import jakarta.nosql.keyvalue.BucketManager;
 import jakarta.nosql.keyvalue.KeyValueEntity;
 import net.spy.memcached.MemcachedClient;
+import net.spy.memcached.transcoders.Transcoder;
+import org.eclipse.jnosql.communication.driver.metrics.Operation;
+import org.eclipse.jnosql.communication.driver.metrics.OperationMetrics;
 
 import java.time.Duration;
 import java.util.Optional;
@@ -30,12 +33,19 @@ import static java.util.stream.StreamSupport.stream;
 final class MemcachedBucketManager implements BucketManager {
 
     private static final int NO_EXP = 0;
+    private static final OperationMetrics METRICS = OperationMetrics.of("memcached");
     private final MemcachedClient client;
     private final String bucketName;
+    private final Transcoder<Object> transcoder;
 
     MemcachedBucketManager(MemcachedClient client, String bucketName) {
+        this(client, bucketName, client.getTranscoder());
+    }
+
+    MemcachedBucketManager(MemcachedClient client, String bucketName, Transcoder<Object> transcoder) {
         this.client = client;
         this.bucketName = bucketName;
+        this.transcoder = transcoder;
     }
 
 
@@ -77,7 +87,14 @@ final class MemcachedBucketManager implements BucketManager {
     @Override
     public <K> Optional<Value> get(K key) {
         requireNonNull(key, "key is required");
-        return ofNullable(client.get(getKey(key))).map(Value::of);
+        long start = METRICS.start();
+        Object value;
+        try {
+            value = client.get(getKey(key), transcoder);
+        } finally {
+            METRICS.stop(Operation.GET, start);
+        }
+        return ofNullable(value).map(Value::of);
     }
 
     @Override
@@ -94,7 +111,12 @@ final class MemcachedBucketManager implements BucketManager {
     @Override
     public <K> void delete(K key) {
         requireNonNull(key, "key is required");
-        client.delete(getKey(key));
+        long start = METRICS.start();
+        try {
+            client.delete(getKey(key));
+        } finally {
+            METRICS.stop(Operation.DELETE, start);
+        }
     }
 
     @Override
@@ -112,6 +134,11 @@ final class MemcachedBucketManager implements BucketManager {
     }
 
     private void set(Object key, Object value, int exp) {
-        client.set(getKey(key), exp, value);
+        long start = METRICS.start();
+        try {
+            client.set(getKey(key), exp, value, transcoder);
+        } finally {
+            METRICS.stop(Operation.PUT, start);
+        }
     }
 }
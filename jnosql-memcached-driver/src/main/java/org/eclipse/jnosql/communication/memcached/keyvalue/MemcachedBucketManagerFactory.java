@@ -16,6 +16,7 @@ package org.eclipse.jnosql.communication.memcached.keyvalue;
 
 import jakarta.nosql.keyvalue.BucketManagerFactory;
 import net.spy.memcached.MemcachedClient;
+import net.spy.memcached.transcoders.Transcoder;
 
 import java.util.List;
 import java.util.Map;
@@ -27,14 +28,21 @@ final class MemcachedBucketManagerFactory implements BucketManagerFactory {
 
     private final MemcachedClient client;
 
+    private final Transcoder<Object> transcoder;
+
     MemcachedBucketManagerFactory(MemcachedClient client) {
+        this(client, client.getTranscoder());
+    }
+
+    MemcachedBucketManagerFactory(MemcachedClient client, Transcoder<Object> transcoder) {
         this.client = client;
+        this.transcoder = transcoder;
     }
 
     @Override
     public MemcachedBucketManager getBucketManager(String bucketName) {
         Objects.requireNonNull(bucketName, "bucketName is required");
-        return new MemcachedBucketManager(client, bucketName);
+        return new MemcachedBucketManager(client, bucketName, transcoder);
     }
 
     @Override
@@ -81,7 +81,18 @@ public enum MemcachedConfigurations implements Supplier<String> {
     /**
      * Database's host. It is a prefix to enumerate hosts. E.g.: memcached.host.1=localhost:11211
      */
-    HOST("memcached.host");
+    HOST("memcached.host"),
+    /**
+     * The compressor the {@link MemcachedBucketManager} uses to compress the large values, "deflate" or "lz4",
+     * it replaces the GZIP compression of the default transcoder, which is used when it is not defined.
+     *
+     * @see org.eclipse.jnosql.communication.driver.compression.ValueCompression
+     */
+    VALUE_COMPRESSION("memcached.value.compression"),
+    /**
+     * The size, in bytes, from which the values are compressed, the default value is 4096
+     */
+    VALUE_COMPRESSION_THRESHOLD("memcached.value.compression.threshold");
 
     private final String configuration;
 
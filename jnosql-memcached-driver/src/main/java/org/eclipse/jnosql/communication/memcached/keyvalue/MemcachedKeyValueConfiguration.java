@@ -25,7 +25,9 @@ import net.spy.memcached.ConnectionFactoryBuilder.Locator;
 import net.spy.memcached.ConnectionFactoryBuilder.Protocol;
 import net.spy.memcached.MemcachedClient;
 import net.spy.memcached.auth.AuthDescriptor;
+import net.spy.memcached.transcoders.Transcoder;
 import org.eclipse.jnosql.communication.driver.ConfigurationReader;
+import org.eclipse.jnosql.communication.driver.compression.ValueCompression;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
@@ -113,7 +115,12 @@ public class MemcachedKeyValueConfiguration implements KeyValueConfiguration {
         ConnectionFactory connectionFactory = factoryBuilder.build();
 
         try {
-            return new MemcachedBucketManagerFactory(new MemcachedClient(connectionFactory, addresses));
+            MemcachedClient client = new MemcachedClient(connectionFactory, addresses);
+            Transcoder<Object> transcoder = ValueCompression.of(settings, MemcachedConfigurations.VALUE_COMPRESSION,
+                            MemcachedConfigurations.VALUE_COMPRESSION_THRESHOLD)
+                    .<Transcoder<Object>>map(CompressedTranscoder::new)
+                    .orElseGet(client::getTranscoder);
+            return new MemcachedBucketManagerFactory(client, transcoder);
         } catch (IOException e) {
             throw new MemcachedException("There is an error when try to create da BucketManager", e);
         }
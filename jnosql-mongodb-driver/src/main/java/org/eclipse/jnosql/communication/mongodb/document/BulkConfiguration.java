@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertManyOptions;
+import jakarta.nosql.Settings;
+import jakarta.nosql.document.DocumentEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The bulk options used by {@link MongoDBDocumentCollectionManager} on the {@link Iterable} operations.
+ */
+final class BulkConfiguration {
+
+    static final int DEFAULT_SIZE = 1000;
+
+    static final BulkConfiguration DEFAULT = new BulkConfiguration(DEFAULT_SIZE, true);
+
+    private final int size;
+
+    private final boolean ordered;
+
+    BulkConfiguration(int size, boolean ordered) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("The bulk size must be greater than zero: " + size);
+        }
+        this.size = size;
+        this.ordered = ordered;
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    boolean isOrdered() {
+        return ordered;
+    }
+
+    InsertManyOptions toInsertManyOptions() {
+        return new InsertManyOptions().ordered(ordered);
+    }
+
+    BulkWriteOptions toBulkWriteOptions() {
+        return new BulkWriteOptions().ordered(ordered);
+    }
+
+    /**
+     * Splits the entities in chunks of the same collection with at most {@link #getSize()}
+     * elements, keeping the original order.
+     */
+    List<List<DocumentEntity>> split(Iterable<DocumentEntity> entities) {
+        List<List<DocumentEntity>> chunks = new ArrayList<>();
+        List<DocumentEntity> chunk = new ArrayList<>();
+        for (DocumentEntity entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            boolean isFull = chunk.size() == size;
+            if (!chunk.isEmpty() && (isFull || !chunk.get(0).getName().equals(entity.getName()))) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+            }
+            chunk.add(entity);
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    static BulkConfiguration of(Settings settings) {
+        int size = settings.get(MongoDBDocumentConfigurations.BULK_SIZE, Integer.class)
+                .orElse(DEFAULT_SIZE);
+        boolean ordered = settings.get(MongoDBDocumentConfigurations.BULK_ORDERED, Boolean.class)
+                .orElse(true);
+        return new BulkConfiguration(size, ordered);
+    }
+
+    @Override
+    public String toString() {
+        return "BulkConfiguration{" +
+                "size=" + size +
+                ", ordered=" + ordered +
+                '}';
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentEntity;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.codecs.BsonTypeClassMap;
+import org.bson.codecs.BsonTypeCodecMap;
+import org.bson.codecs.Codec;
+import org.bson.codecs.CollectibleCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.ObjectId;
+import org.eclipse.jnosql.communication.document.Documents;
+import org.eclipse.jnosql.communication.driver.DocumentValueType;
+import org.eclipse.jnosql.communication.driver.ValueUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.eclipse.jnosql.communication.mongodb.document.MongoDBUtils.ID_FIELD;
+
+/**
+ * A {@link Codec} that reads a BSON document straight into a {@link DocumentEntity} and writes the
+ * {@link DocumentEntity} straight to BSON, without the {@link org.bson.Document} intermediate step.
+ * As a {@link CollectibleCodec}, it also generates the {@code _id} on the entity when it is absent, so the
+ * generated id is available on the entity after the insert.
+ */
+final class DocumentEntityCodec implements CollectibleCodec<DocumentEntity> {
+
+    private final String collectionName;
+
+    private final CodecRegistry registry;
+
+    private final BsonTypeCodecMap bsonTypeCodecMap;
+
+    DocumentEntityCodec(String collectionName, CodecRegistry registry) {
+        this.collectionName = Objects.requireNonNull(collectionName, "collectionName is required");
+        this.registry = Objects.requireNonNull(registry, "registry is required");
+        this.bsonTypeCodecMap = new BsonTypeCodecMap(new BsonTypeClassMap(), registry);
+    }
+
+    @Override
+    public DocumentEntity decode(BsonReader reader, DecoderContext context) {
+        return DocumentEntity.of(collectionName, readDocuments(reader, context));
+    }
+
+    @Override
+    public void encode(BsonWriter writer, DocumentEntity entity, EncoderContext context) {
+        writer.writeStartDocument();
+        boolean idFirst = context.isEncodingCollectibleDocument();
+        if (idFirst) {
+            entity.find(ID_FIELD).ifPresent(id -> writeDocument(writer, id, context));
+        }
+        for (Document document : entity.getDocuments()) {
+            if (idFirst && ID_FIELD.equals(document.getName())) {
+                continue;
+            }
+            writeDocument(writer, document, context);
+        }
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Class<DocumentEntity> getEncoderClass() {
+        return DocumentEntity.class;
+    }
+
+    @Override
+    public DocumentEntity generateIdIfAbsentFromDocument(DocumentEntity entity) {
+        if (!documentHasId(entity)) {
+            entity.add(Documents.of(ID_FIELD, new ObjectId()));
+        }
+        return entity;
+    }
+
+    @Override
+    public boolean documentHasId(DocumentEntity entity) {
+        return entity.find(ID_FIELD).isPresent();
+    }
+
+    @Override
+    public BsonValue getDocumentId(DocumentEntity entity) {
+        Optional<Document> id = entity.find(ID_FIELD);
+        if (!id.isPresent()) {
+            throw new IllegalStateException("The entity does not contain the field " + ID_FIELD);
+        }
+        BsonDocument holder = new BsonDocument();
+        BsonWriter writer = new BsonDocumentWriter(holder);
+        writer.writeStartDocument();
+        writeDocument(writer, id.get(), EncoderContext.builder().build());
+        writer.writeEndDocument();
+        return holder.get(ID_FIELD);
+    }
+
+    private List<Document> readDocuments(BsonReader reader, DecoderContext context) {
+        List<Document> documents = new ArrayList<>();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+                continue;
+            }
+            documents.add(Document.of(name, Value.of(readValue(reader, context))));
+        }
+        reader.readEndDocument();
+        return documents;
+    }
+
+    private List<Object> readArray(BsonReader reader, DecoderContext context) {
+        List<Object> values = new ArrayList<>();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+                values.add(null);
+                continue;
+            }
+            values.add(readValue(reader, context));
+        }
+        reader.readEndArray();
+        return values;
+    }
+
+    private Object readValue(BsonReader reader, DecoderContext context) {
+        BsonType type = reader.getCurrentBsonType();
+        switch (type) {
+            case DOCUMENT:
+                return readDocuments(reader, context);
+            case ARRAY:
+                return readArray(reader, context);
+            case BINARY:
+                return reader.readBinaryData().getData();
+            default:
+                return context.decodeWithChildContext(bsonTypeCodecMap.get(type), reader);
+        }
+    }
+
+    private void writeDocument(BsonWriter writer, Document document, EncoderContext context) {
+        writer.writeName(document.getName());
+        writeValue(writer, ValueUtil.convert(document.getValue()), context);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void writeValue(BsonWriter writer, Object value, EncoderContext context) {
+        if (value == null) {
+            writer.writeNull();
+        } else if (value instanceof Document) {
+            writer.writeStartDocument();
+            writeDocument(writer, (Document) value, context);
+            writer.writeEndDocument();
+        } else if (value instanceof Map) {
+            writer.writeStartDocument();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                writer.writeName(entry.getKey().toString());
+                writeValue(writer, entry.getValue(), context);
+            }
+            writer.writeEndDocument();
+        } else if (value instanceof Iterable) {
+            writeIterable(writer, (Iterable<?>) value, context);
+        } else {
+            Codec codec = registry.get(value.getClass());
+            context.encodeWithChildContext(codec, writer, value);
+        }
+    }
+
+    private void writeIterable(BsonWriter writer, Iterable<?> values, EncoderContext context) {
+        if (DocumentValueType.SUB_DOCUMENT.equals(DocumentValueType.of(values))) {
+            writer.writeStartDocument();
+            for (Object value : values) {
+                writeDocument(writer, (Document) value, context);
+            }
+            writer.writeEndDocument();
+            return;
+        }
+        writer.writeStartArray();
+        for (Object value : values) {
+            writeValue(writer, value, context);
+        }
+        writer.writeEndArray();
+    }
+
+    /**
+     * Creates a registry where the {@link DocumentEntity} codec to the collection has precedence over the
+     * codecs on the given registry.
+     *
+     * @param collectionName the collection name set on the decoded entities
+     * @param registry       the current registry
+     * @return the new registry
+     */
+    static CodecRegistry registry(String collectionName, CodecRegistry registry) {
+        return CodecRegistries.fromRegistries(
+                CodecRegistries.fromCodecs(new DocumentEntityCodec(collectionName, registry)), registry);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import jakarta.nosql.document.DocumentEntity;
+import org.bson.BsonDocument;
+
+import java.util.Objects;
+
+/**
+ * A change on a MongoDB collection, emitted by {@link MongoDBDocumentCollectionManager#watch}.
+ * On {@link Type#DELETE} the entity has the {@code _id} field only.
+ */
+public final class DocumentEvent {
+
+    /**
+     * The kind of change
+     */
+    public enum Type {
+        INSERT, UPDATE, REPLACE, DELETE
+    }
+
+    private final Type type;
+
+    private final DocumentEntity entity;
+
+    private final BsonDocument resumeToken;
+
+    DocumentEvent(Type type, DocumentEntity entity, BsonDocument resumeToken) {
+        this.type = type;
+        this.entity = entity;
+        this.resumeToken = resumeToken;
+    }
+
+    /**
+     * @return the kind of change
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return the entity after the change, or the entity with the {@code _id} only on {@link Type#DELETE}
+     */
+    public DocumentEntity getEntity() {
+        return entity;
+    }
+
+    /**
+     * @return the token to resume the change stream right after this event
+     */
+    public BsonDocument getResumeToken() {
+        return resumeToken;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DocumentEvent that = (DocumentEvent) o;
+        return type == that.type &&
+                Objects.equals(entity, that.entity) &&
+                Objects.equals(resumeToken, that.resumeToken);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, entity, resumeToken);
+    }
+
+    @Override
+    public String toString() {
+        return "DocumentEvent{" +
+                "type=" + type +
+                ", entity=" + entity +
+                ", resumeToken=" + resumeToken +
+                '}';
+    }
+}
@@ -32,36 +32,45 @@ final class DocumentQueryConversor {
     }
 
     public static Bson convert(DocumentCondition condition) {
+        return convert(condition, "");
+    }
+
+    /**
+     * Converts the condition, adding the prefix on each field name, e.g.: "fullDocument." to filter change
+     * stream events.
+     */
+    static Bson convert(DocumentCondition condition, String prefix) {
         Document document = condition.getDocument();
         Object value = ValueUtil.convert(document.getValue());
+        String name = prefix + document.getName();
         switch (condition.getCondition()) {
             case EQUALS:
-                return Filters.eq(document.getName(), value);
+                return Filters.eq(name, value);
             case GREATER_THAN:
-                return Filters.gt(document.getName(), value);
+                return Filters.gt(name, value);
             case GREATER_EQUALS_THAN:
-                return Filters.gte(document.getName(), value);
+                return Filters.gte(name, value);
             case LESSER_THAN:
-                return Filters.lt(document.getName(), value);
+                return Filters.lt(name, value);
             case LESSER_EQUALS_THAN:
-                return Filters.lte(document.getName(), value);
+                return Filters.lte(name, value);
             case IN:
                 List<Object> inList = ValueUtil.convertToList(document.getValue());
-                return Filters.in(document.getName(), inList.toArray());
+                return Filters.in(name, inList.toArray());
             case NOT:
-                return Filters.not(convert(document.get(DocumentCondition.class)));
+                return Filters.not(convert(document.get(DocumentCondition.class), prefix));
             case LIKE:
-                return Filters.regex(document.getName(), value.toString());
+                return Filters.regex(name, value.toString());
             case AND:
                 List<DocumentCondition> andList = condition.getDocument().getValue().get(new TypeReference<>() {
                 });
                 return Filters.and(andList.stream()
-                        .map(DocumentQueryConversor::convert).collect(Collectors.toList()));
+                        .map(c -> convert(c, prefix)).collect(Collectors.toList()));
             case OR:
                 List<DocumentCondition> orList = condition.getDocument().getValue().get(new TypeReference<>() {
                 });
                 return Filters.or(orList.stream()
-                        .map(DocumentQueryConversor::convert).collect(Collectors.toList()));
+                        .map(c -> convert(c, prefix)).collect(Collectors.toList()));
             default:
                 throw new UnsupportedOperationException("The condition " + condition.getCondition()
                         + " is not supported from mongoDB diana driver");
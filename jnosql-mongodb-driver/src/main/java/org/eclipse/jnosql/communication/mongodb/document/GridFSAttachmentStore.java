@@ -0,0 +1,186 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import com.mongodb.client.gridfs.GridFSBucket;
+import com.mongodb.client.gridfs.GridFSUploadStream;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.client.gridfs.model.GridFSUploadOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
+import jakarta.nosql.CommunicationException;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.eclipse.jnosql.communication.driver.attachment.EntityAttachment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Stores {@link EntityAttachment} on MongoDB GridFS. The data is streamed in chunks on both directions: the
+ * upload writes {@link EntityAttachment#transferTo(java.nio.channels.WritableByteChannel)} straight into the
+ * GridFS upload stream, which sends each chunk as soon as it is filled, so the attachment is never held in
+ * memory as a whole, and the attachments returned open the download stream only when
+ * {@link EntityAttachment#getData()} is called.
+ *
+ * @see MongoDBDocumentCollectionManager#getAttachmentStore(String)
+ */
+public class GridFSAttachmentStore {
+
+    static final String CONTENT_TYPE = "contentType";
+
+    static final String LAST_MODIFIED = "lastModified";
+
+    private final GridFSBucket bucket;
+
+    GridFSAttachmentStore(GridFSBucket bucket) {
+        this.bucket = bucket;
+    }
+
+    /**
+     * Uploads the attachment, the name becomes the GridFS file name. A new revision is created when the
+     * name already exists.
+     *
+     * @param attachment the attachment
+     * @return the id of the file
+     * @throws NullPointerException   when attachment is null
+     * @throws CommunicationException when the attachment data cannot be read
+     */
+    public ObjectId put(EntityAttachment attachment) {
+        Objects.requireNonNull(attachment, "attachment is required");
+        Document metadata = new Document(LAST_MODIFIED, attachment.getLastModified());
+        if (attachment.getContentType() != null) {
+            metadata.append(CONTENT_TYPE, attachment.getContentType());
+        }
+        GridFSUploadOptions options = new GridFSUploadOptions().metadata(metadata);
+        GridFSUploadStream upload = bucket.openUploadStream(attachment.getName(), options);
+        try {
+            attachment.transferTo(Channels.newChannel(upload));
+            upload.close();
+        } catch (IOException exception) {
+            abort(upload, exception);
+            throw new CommunicationException("There is an error to read the attachment: " + attachment.getName(),
+                    exception);
+        } catch (RuntimeException exception) {
+            abort(upload, exception);
+            throw exception;
+        }
+        return upload.getObjectId();
+    }
+
+    /**
+     * Finds the attachment by id
+     *
+     * @param id the file id
+     * @return the attachment or {@link Optional#empty()} when it does not exist
+     * @throws NullPointerException when id is null
+     */
+    public Optional<EntityAttachment> get(ObjectId id) {
+        Objects.requireNonNull(id, "id is required");
+        return Optional.ofNullable(bucket.find(Filters.eq("_id", id)).first())
+                .map(GridFSEntityAttachment::new);
+    }
+
+    /**
+     * Finds the latest revision of the attachment by name
+     *
+     * @param name the attachment name
+     * @return the attachment or {@link Optional#empty()} when it does not exist
+     * @throws NullPointerException when name is null
+     */
+    public Optional<EntityAttachment> get(String name) {
+        Objects.requireNonNull(name, "name is required");
+        return Optional.ofNullable(bucket.find(Filters.eq("filename", name))
+                        .sort(Sorts.descending("uploadDate"))
+                        .limit(1)
+                        .first())
+                .map(GridFSEntityAttachment::new);
+    }
+
+    /**
+     * Deletes the attachment and its chunks
+     *
+     * @param id the file id
+     * @throws NullPointerException when id is null
+     */
+    public void delete(ObjectId id) {
+        Objects.requireNonNull(id, "id is required");
+        bucket.delete(id);
+    }
+
+    @Override
+    public String toString() {
+        return "GridFSAttachmentStore{" +
+                "bucket=" + bucket.getBucketName() +
+                '}';
+    }
+
+    /**
+     * Deletes the chunks already sent. The stream refuses to abort once the close has started, in that case
+     * the abort failure is kept as suppressed on the original one.
+     */
+    private static void abort(GridFSUploadStream upload, Exception cause) {
+        try {
+            upload.abort();
+        } catch (RuntimeException exception) {
+            cause.addSuppressed(exception);
+        }
+    }
+
+    private class GridFSEntityAttachment implements EntityAttachment {
+
+        private final GridFSFile file;
+
+        private GridFSEntityAttachment(GridFSFile file) {
+            this.file = file;
+        }
+
+        @Override
+        public String getName() {
+            return file.getFilename();
+        }
+
+        @Override
+        public long getLastModified() {
+            return Optional.ofNullable(file.getMetadata())
+                    .map(m -> m.get(LAST_MODIFIED))
+                    .filter(Number.class::isInstance)
+                    .map(Number.class::cast)
+                    .map(Number::longValue)
+                    .orElseGet(() -> file.getUploadDate().getTime());
+        }
+
+        @Override
+        public String getContentType() {
+            return Optional.ofNullable(file.getMetadata())
+                    .map(m -> m.getString(CONTENT_TYPE))
+                    .orElse(null);
+        }
+
+        @Override
+        public InputStream getData() {
+            return bucket.openDownloadStream(file.getObjectId());
+        }
+
+        @Override
+        public long getLength() {
+            return file.getLength();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import jakarta.nosql.document.DocumentEntity;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A running MongoDB change stream, created by {@link MongoDBDocumentCollectionManager#watch}.
+ * It reads the events on its own thread and sends them to the listener until it is closed.
+ */
+public final class MongoDBChangeStream implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(MongoDBChangeStream.class.getName());
+
+    private final MongoChangeStreamCursor<ChangeStreamDocument<DocumentEntity>> cursor;
+
+    private final Codec<DocumentEntity> codec;
+
+    private final Consumer<DocumentEvent> listener;
+
+    private final Thread thread;
+
+    private volatile BsonDocument resumeToken;
+
+    private volatile boolean closed;
+
+    MongoDBChangeStream(String collectionName,
+                        MongoChangeStreamCursor<ChangeStreamDocument<DocumentEntity>> cursor,
+                        Codec<DocumentEntity> codec,
+                        Consumer<DocumentEvent> listener) {
+        this.cursor = cursor;
+        this.codec = codec;
+        this.listener = listener;
+        this.resumeToken = cursor.getResumeToken();
+        this.thread = new Thread(this::listen, "jnosql-mongodb-change-stream-" + collectionName);
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Returns the token of the last event read, use it on {@link MongoDBDocumentCollectionManager#watch} to
+     * continue from the same point later.
+     *
+     * @return the resume token
+     */
+    public BsonDocument getResumeToken() {
+        return resumeToken;
+    }
+
+    /**
+     * @return true when the stream is still reading events
+     */
+    public boolean isRunning() {
+        return !closed && thread.isAlive();
+    }
+
+    /**
+     * Stops reading the events, the cursor is released by the reading thread at the next poll.
+     */
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    private void listen() {
+        try {
+            while (!closed) {
+                ChangeStreamDocument<DocumentEntity> change = cursor.tryNext();
+                BsonDocument token = cursor.getResumeToken();
+                if (token != null) {
+                    resumeToken = token;
+                }
+                if (change == null) {
+                    continue;
+                }
+                if (OperationType.INVALIDATE.equals(change.getOperationType())) {
+                    closed = true;
+                    continue;
+                }
+                toEvent(change).ifPresent(this::send);
+            }
+        } catch (RuntimeException exception) {
+            if (!closed) {
+                LOGGER.log(Level.WARNING, "The change stream was interrupted at the token: " + resumeToken,
+                        exception);
+            }
+        } finally {
+            closed = true;
+            cursor.close();
+        }
+    }
+
+    private void send(DocumentEvent event) {
+        try {
+            listener.accept(event);
+        } catch (RuntimeException exception) {
+            LOGGER.log(Level.WARNING, "The change stream listener failed at the event: " + event, exception);
+        }
+    }
+
+    private Optional<DocumentEvent> toEvent(ChangeStreamDocument<DocumentEntity> change) {
+        BsonDocument token = change.getResumeToken();
+        switch (change.getOperationType()) {
+            case INSERT:
+                return Optional.of(new DocumentEvent(DocumentEvent.Type.INSERT, change.getFullDocument(),
+                        token));
+            case REPLACE:
+                return Optional.of(new DocumentEvent(DocumentEvent.Type.REPLACE, change.getFullDocument(),
+                        token));
+            case UPDATE:
+                DocumentEntity updated = change.getFullDocument();
+                return Optional.ofNullable(updated)
+                        .map(e -> new DocumentEvent(DocumentEvent.Type.UPDATE, e, token));
+            case DELETE:
+                BsonDocument key = Objects.requireNonNull(change.getDocumentKey(), "documentKey is required");
+                DocumentEntity deleted = codec.decode(new BsonDocumentReader(key), DecoderContext.builder().build());
+                return Optional.of(new DocumentEvent(DocumentEvent.Type.DELETE, deleted, token));
+            default:
+                return Optional.empty();
+        }
+    }
+}
@@ -16,63 +16,95 @@
 package org.eclipse.jnosql.communication.mongodb.document;
 
 import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.ChangeStreamIterable;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.gridfs.GridFSBuckets;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.CountOptions;
+import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.Projections;
-import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
 import com.mongodb.client.result.DeleteResult;
-import jakarta.nosql.Sort;
-import jakarta.nosql.SortType;
 import jakarta.nosql.document.DocumentCollectionManager;
 import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
+import org.eclipse.jnosql.communication.driver.metrics.Operation;
+import org.eclipse.jnosql.communication.driver.metrics.OperationMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.OperationPhase;
 import org.bson.BsonDocument;
 import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.conversions.Bson;
-import org.eclipse.jnosql.communication.document.Documents;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.StreamSupport.stream;
-import static org.eclipse.jnosql.communication.mongodb.document.MongoDBUtils.ID_FIELD;
-import static org.eclipse.jnosql.communication.mongodb.document.MongoDBUtils.getDocument;
+import static org.eclipse.jnosql.communication.mongodb.document.MongoDBUtils.getId;
 
 /**
  * The mongodb implementation to {@link DocumentCollectionManager} that does not support TTL methods
  * <p>{@link MongoDBDocumentCollectionManager#insert(DocumentEntity, Duration)}</p>
+ * <p>The {@link Iterable} overloads of insert and update are sent in bulk, split in chunks of
+ * {@link MongoDBDocumentConfigurations#BULK_SIZE} documents per collection.</p>
  */
 public class MongoDBDocumentCollectionManager implements DocumentCollectionManager {
 
     private static final BsonDocument EMPTY = new BsonDocument();
 
+    private static final OperationMetrics METRICS = OperationMetrics.of("mongodb");
+
+    private static final String FULL_DOCUMENT = "fullDocument.";
+
+    private static final String OPERATION_TYPE = "operationType";
+
     private final MongoDatabase mongoDatabase;
 
+    private final BulkConfiguration bulk;
+
+    private final MongoDBQueryOptions queryOptions;
+
+    private final Map<String, MongoCollection<DocumentEntity>> entityCollections = new ConcurrentHashMap<>();
 
     MongoDBDocumentCollectionManager(MongoDatabase mongoDatabase) {
+        this(mongoDatabase, BulkConfiguration.DEFAULT, MongoDBQueryOptions.EMPTY);
+    }
+
+    MongoDBDocumentCollectionManager(MongoDatabase mongoDatabase, BulkConfiguration bulk,
+                                     MongoDBQueryOptions queryOptions) {
         this.mongoDatabase = mongoDatabase;
+        this.bulk = bulk;
+        this.queryOptions = queryOptions;
     }
 
 
     @Override
     public DocumentEntity insert(DocumentEntity entity) {
         Objects.requireNonNull(entity, "entity is required");
-        String collectionName = entity.getName();
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
-        Document document = getDocument(entity);
-        collection.insertOne(document);
-        boolean hasNotId = entity.getDocuments().stream()
-                .map(jakarta.nosql.document.Document::getName).noneMatch(k -> k.equals(ID_FIELD));
-        if (hasNotId) {
-            entity.add(Documents.of(ID_FIELD, document.get(ID_FIELD)));
+        MongoCollection<DocumentEntity> collection = getEntityCollection(entity.getName());
+        long start = METRICS.start();
+        try {
+            collection.insertOne(entity);
+        } finally {
+            METRICS.stop(Operation.INSERT, start);
         }
         return entity;
     }
@@ -86,9 +118,7 @@ public class MongoDBDocumentCollectionManager implements DocumentCollectionManag
     @Override
     public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert)
-                .collect(toList());
+        return inChunks(entities, Operation.INSERT, this::insertMany);
     }
 
     @Override
@@ -105,24 +135,20 @@ public class MongoDBDocumentCollectionManager implements DocumentCollectionManag
     public DocumentEntity update(DocumentEntity entity) {
         Objects.requireNonNull(entity, "entity is required");
 
-        DocumentEntity copy = entity.copy();
-        String collectionName = entity.getName();
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
-        Document id = copy.find(ID_FIELD)
-                .map(d -> new Document(d.getName(), d.getValue().get()))
-                .orElseThrow(() -> new UnsupportedOperationException("To update this DocumentEntity " +
-                        "the field `id` is required"));
-        copy.remove(ID_FIELD);
-        collection.findOneAndReplace(id, getDocument(entity));
+        MongoCollection<DocumentEntity> collection = getEntityCollection(entity.getName());
+        long start = METRICS.start();
+        try {
+            collection.replaceOne(getId(entity), entity);
+        } finally {
+            METRICS.stop(Operation.UPDATE, start);
+        }
         return entity;
     }
 
     @Override
     public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update)
-                .collect(toList());
+        return inChunks(entities, Operation.UPDATE, this::replaceMany);
     }
 
 
@@ -132,19 +158,46 @@ public class MongoDBDocumentCollectionManager implements DocumentCollectionManag
 
         String collectionName = query.getDocumentCollection();
         MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
+        long start = METRICS.start();
         Bson mongoDBQuery = query.getCondition().map(DocumentQueryConversor::convert).orElse(EMPTY);
-        collection.deleteMany(mongoDBQuery);
+        METRICS.stop(Operation.DELETE, OperationPhase.TRANSLATION, start);
+        start = METRICS.start();
+        try {
+            collection.deleteMany(mongoDBQuery);
+        } finally {
+            METRICS.stop(Operation.DELETE, start);
+        }
     }
 
 
     @Override
     public Stream<DocumentEntity> select(DocumentQuery query) {
+        return select(query, MongoDBQueryOptions.EMPTY);
+    }
+
+    /**
+     * Finds the documents that match the query, with the cursor options. The options not defined fall back
+     * to the ones from {@link MongoDBDocumentConfigurations}.
+     *
+     * @param query   the query
+     * @param options the cursor options
+     * @return the stream result
+     * @throws NullPointerException when query or options is null
+     */
+    public Stream<DocumentEntity> select(DocumentQuery query, MongoDBQueryOptions options) {
         Objects.requireNonNull(query, "query is required");
-        String collectionName = query.getDocumentCollection();
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
+        Objects.requireNonNull(options, "options is required");
+        MongoDBQueryOptions cursorOptions = options.withDefaults(queryOptions);
+        MongoCollection<DocumentEntity> collection = withReadPreference(
+                getEntityCollection(query.getDocumentCollection()), cursorOptions);
+        long start = METRICS.start();
         Bson mongoDBQuery = query.getCondition().map(DocumentQueryConversor::convert).orElse(EMPTY);
+        METRICS.stop(Operation.SELECT, OperationPhase.TRANSLATION, start);
 
-        FindIterable<Document> documents = collection.find(mongoDBQuery);
+        FindIterable<DocumentEntity> documents = collection.find(mongoDBQuery);
+        cursorOptions.getBatchSize().ifPresent(documents::batchSize);
+        cursorOptions.getHint().ifPresent(documents::hint);
+        cursorOptions.getMaxTime().ifPresent(t -> documents.maxTime(t.toMillis(), TimeUnit.MILLISECONDS));
         documents.projection(Projections.include(query.getDocuments()));
         if (query.getSkip() > 0) {
             documents.skip((int) query.getSkip());
@@ -154,11 +207,17 @@ public class MongoDBDocumentCollectionManager implements DocumentCollectionManag
             documents.limit((int) query.getLimit());
         }
 
-        query.getSorts().stream().map(this::getSort).forEach(documents::sort);
-
-        return stream(documents.spliterator(), false).map(MongoDBUtils::of)
-                .map(ds -> DocumentEntity.of(collectionName, ds));
+        query.getSorts().stream().map(MongoDBUtils::getSort).forEach(documents::sort);
 
+        start = METRICS.start();
+        MongoCursor<DocumentEntity> cursor;
+        try {
+            cursor = documents.iterator();
+        } finally {
+            METRICS.stop(Operation.SELECT, start);
+        }
+        return stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false)
+                .onClose(cursor::close);
     }
 
     /**
@@ -188,10 +247,32 @@ public class MongoDBDocumentCollectionManager implements DocumentCollectionManag
      * @throws NullPointerException when filter or collectionName is null
      */
     public Stream<Map<String, BsonValue>> aggregate(String collectionName, List<Bson> pipeline) {
+        return aggregate(collectionName, pipeline, MongoDBQueryOptions.EMPTY);
+    }
+
+    /**
+     * Aggregates documents according to the specified aggregation pipeline, with the cursor options.
+     * The options not defined fall back to the ones from {@link MongoDBDocumentConfigurations}.
+     *
+     * @param collectionName the collection name
+     * @param pipeline       the aggregation pipeline
+     * @param options        the cursor options
+     * @return the aggregation result
+     * @throws NullPointerException when pipeline, collectionName or options is null
+     */
+    public Stream<Map<String, BsonValue>> aggregate(String collectionName, List<Bson> pipeline,
+                                                   MongoDBQueryOptions options) {
         Objects.requireNonNull(pipeline, "filter is required");
         Objects.requireNonNull(collectionName, "collectionName is required");
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
+        Objects.requireNonNull(options, "options is required");
+        MongoDBQueryOptions cursorOptions = options.withDefaults(queryOptions);
+        MongoCollection<Document> collection = withReadPreference(mongoDatabase.getCollection(collectionName),
+                cursorOptions);
         AggregateIterable<Document> aggregate = collection.aggregate(pipeline);
+        cursorOptions.getBatchSize().ifPresent(aggregate::batchSize);
+        cursorOptions.getHint().ifPresent(aggregate::hint);
+        cursorOptions.getMaxTime().ifPresent(t -> aggregate.maxTime(t.toMillis(), TimeUnit.MILLISECONDS));
+        cursorOptions.getAllowDiskUse().ifPresent(aggregate::allowDiskUse);
         return stream(aggregate.spliterator(), false)
                 .map(Document::toBsonDocument);
     }
@@ -207,23 +288,177 @@ public class MongoDBDocumentCollectionManager implements DocumentCollectionManag
     public Stream<DocumentEntity> select(String collectionName, Bson filter) {
         Objects.requireNonNull(filter, "filter is required");
         Objects.requireNonNull(collectionName, "collectionName is required");
-        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
-        FindIterable<Document> documents = collection.find(filter);
-        return stream(documents.spliterator(), false).map(MongoDBUtils::of)
-                .map(ds -> DocumentEntity.of(collectionName, ds));
+        MongoCollection<DocumentEntity> collection = getEntityCollection(collectionName);
+        FindIterable<DocumentEntity> documents = collection.find(filter);
+        return stream(documents.spliterator(), false);
+    }
+
+
+    /**
+     * Watches the changes on the query's collection through a MongoDB change stream. The insert, update
+     * and replace events are filtered by the query condition; the delete events are always sent, since the
+     * deleted document is no longer available. The change streams require a replica set or a sharded cluster.
+     *
+     * @param query    the query, where the collection and the condition are used
+     * @param listener the listener that receives the events on the change stream thread
+     * @return the running change stream
+     * @throws NullPointerException when query or listener is null
+     */
+    public MongoDBChangeStream watch(DocumentQuery query, Consumer<DocumentEvent> listener) {
+        return watch(query, null, listener);
     }
 
+    /**
+     * Watches the changes on the query's collection through a MongoDB change stream, starting right after
+     * the event of the resume token.
+     *
+     * @param query       the query, where the collection and the condition are used
+     * @param resumeToken the token from {@link DocumentEvent#getResumeToken()} or
+     *                    {@link MongoDBChangeStream#getResumeToken()}, when null it starts from now
+     * @param listener    the listener that receives the events on the change stream thread
+     * @return the running change stream
+     * @throws NullPointerException when query or listener is null
+     * @see #watch(DocumentQuery, Consumer)
+     */
+    public MongoDBChangeStream watch(DocumentQuery query, BsonDocument resumeToken,
+                                     Consumer<DocumentEvent> listener) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(listener, "listener is required");
+        String collectionName = query.getDocumentCollection();
+        MongoCollection<DocumentEntity> collection = getEntityCollection(collectionName);
+
+        List<Bson> pipeline = query.getCondition()
+                .map(c -> DocumentQueryConversor.convert(c, FULL_DOCUMENT))
+                .map(filter -> Filters.or(Filters.eq(OPERATION_TYPE, OperationType.DELETE.getValue()), filter))
+                .map(Aggregates::match)
+                .map(Collections::singletonList)
+                .orElse(Collections.emptyList());
+
+        ChangeStreamIterable<DocumentEntity> changes = collection.watch(pipeline)
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .maxAwaitTime(1, TimeUnit.SECONDS);
+        if (resumeToken != null) {
+            changes.resumeAfter(resumeToken);
+        }
+        MongoDBChangeStream stream = new MongoDBChangeStream(collectionName, changes.cursor(),
+                collection.getCodecRegistry().get(DocumentEntity.class), listener);
+        stream.start();
+        return stream;
+    }
 
     @Override
     public long count(String documentCollection) {
         Objects.requireNonNull(documentCollection, "documentCollection is required");
         MongoCollection<Document> collection = mongoDatabase.getCollection(documentCollection);
-        return collection.countDocuments();
+        long start = METRICS.start();
+        try {
+            return collection.countDocuments();
+        } finally {
+            METRICS.stop(Operation.COUNT, start);
+        }
+    }
+
+    /**
+     * Returns the {@link GridFSAttachmentStore} to the GridFS bucket on this database.
+     *
+     * @param bucketName the bucket name
+     * @return the attachment store
+     * @throws NullPointerException when bucketName is null
+     */
+    public GridFSAttachmentStore getAttachmentStore(String bucketName) {
+        Objects.requireNonNull(bucketName, "bucketName is required");
+        return new GridFSAttachmentStore(GridFSBuckets.create(mongoDatabase, bucketName));
+    }
+
+    /**
+     * Returns the number of documents that match the query condition, the filter runs on the server.
+     * The skip and limit of the query are also applied.
+     *
+     * @param query the query
+     * @return the number of documents
+     * @throws NullPointerException when query is null
+     */
+    public long count(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        MongoCollection<Document> collection = mongoDatabase.getCollection(query.getDocumentCollection());
+        long start = METRICS.start();
+        Bson mongoDBQuery = query.getCondition().map(DocumentQueryConversor::convert).orElse(EMPTY);
+        METRICS.stop(Operation.COUNT, OperationPhase.TRANSLATION, start);
+        CountOptions options = new CountOptions();
+        if (query.getSkip() > 0) {
+            options.skip((int) query.getSkip());
+        }
+        if (query.getLimit() > 0) {
+            options.limit((int) query.getLimit());
+        }
+        start = METRICS.start();
+        try {
+            return collection.countDocuments(mongoDBQuery, options);
+        } finally {
+            METRICS.stop(Operation.COUNT, start);
+        }
+    }
+
+    /**
+     * Returns an estimate of the number of documents in the collection from the collection metadata,
+     * without scanning it. The result might not be accurate, e.g.: after an unclean shutdown or on sharded
+     * clusters with orphaned documents; use {@link #count(String)} when the exact number is required.
+     *
+     * @param documentCollection the collection name
+     * @return the estimated number of documents
+     * @throws NullPointerException when documentCollection is null
+     */
+    public long estimatedCount(String documentCollection) {
+        Objects.requireNonNull(documentCollection, "documentCollection is required");
+        MongoCollection<Document> collection = mongoDatabase.getCollection(documentCollection);
+        long start = METRICS.start();
+        try {
+            return collection.estimatedDocumentCount();
+        } finally {
+            METRICS.stop(Operation.COUNT, start);
+        }
+    }
+
+    private void insertMany(List<DocumentEntity> entities) {
+        MongoCollection<DocumentEntity> collection = getEntityCollection(entities.get(0).getName());
+        collection.insertMany(entities, bulk.toInsertManyOptions());
     }
 
-    private Bson getSort(Sort sort) {
-        boolean isAscending = SortType.ASC.equals(sort.getType());
-        return isAscending ? Sorts.ascending(sort.getName()) : Sorts.descending(sort.getName());
+    private void replaceMany(List<DocumentEntity> entities) {
+        MongoCollection<DocumentEntity> collection = getEntityCollection(entities.get(0).getName());
+        List<ReplaceOneModel<DocumentEntity>> replaces = entities.stream()
+                .map(e -> new ReplaceOneModel<>(getId(e), e))
+                .collect(toList());
+        collection.bulkWrite(replaces, bulk.toBulkWriteOptions());
+    }
+
+    private List<DocumentEntity> inChunks(Iterable<DocumentEntity> entities, Operation metric,
+                                          Consumer<List<DocumentEntity>> operation) {
+        List<DocumentEntity> result = new ArrayList<>();
+        for (List<DocumentEntity> chunk : bulk.split(entities)) {
+            long start = METRICS.start();
+            try {
+                operation.accept(chunk);
+            } finally {
+                METRICS.stop(metric, start);
+            }
+            result.addAll(chunk);
+        }
+        return result;
+    }
+
+    private static <T> MongoCollection<T> withReadPreference(MongoCollection<T> collection,
+                                                             MongoDBQueryOptions options) {
+        return options.getReadPreference().map(collection::withReadPreference).orElse(collection);
+    }
+
+    /**
+     * Returns the collection that reads and writes {@link DocumentEntity} through {@link DocumentEntityCodec}.
+     */
+    private MongoCollection<DocumentEntity> getEntityCollection(String collectionName) {
+        return entityCollections.computeIfAbsent(collectionName, name -> mongoDatabase
+                .getCollection(name, DocumentEntity.class)
+                .withCodecRegistry(DocumentEntityCodec.registry(name, mongoDatabase.getCodecRegistry())));
     }
 
     @Override
@@ -25,13 +25,24 @@ public class MongoDBDocumentCollectionManagerFactory implements DocumentCollecti
 
     private final MongoClient mongoClient;
 
+    private final BulkConfiguration bulk;
+
+    private final MongoDBQueryOptions queryOptions;
+
     MongoDBDocumentCollectionManagerFactory(MongoClient mongoClient) {
+        this(mongoClient, BulkConfiguration.DEFAULT, MongoDBQueryOptions.EMPTY);
+    }
+
+    MongoDBDocumentCollectionManagerFactory(MongoClient mongoClient, BulkConfiguration bulk,
+                                            MongoDBQueryOptions queryOptions) {
         this.mongoClient = mongoClient;
+        this.bulk = bulk;
+        this.queryOptions = queryOptions;
     }
 
     @Override
     public MongoDBDocumentCollectionManager get(String database) {
-        return new MongoDBDocumentCollectionManager(mongoClient.getDatabase(database));
+        return new MongoDBDocumentCollectionManager(mongoClient.getDatabase(database), bulk, queryOptions);
     }
 
 
@@ -43,6 +54,8 @@ public class MongoDBDocumentCollectionManagerFactory implements DocumentCollecti
     @Override
     public String toString() {
        return "MongoDBDocumentCollectionManagerFactory{" + "mongoClient=" + mongoClient +
+                ", bulk=" + bulk +
+                ", queryOptions=" + queryOptions +
                 '}';
     }
 }
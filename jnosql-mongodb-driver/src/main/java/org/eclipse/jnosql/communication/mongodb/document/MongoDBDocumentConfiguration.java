@@ -84,6 +84,27 @@ public class MongoDBDocumentConfiguration implements DocumentConfiguration {
     public MongoDBDocumentCollectionManagerFactory get(Settings settings) throws NullPointerException {
         requireNonNull(settings, "settings is required");
 
+        BulkConfiguration bulk = BulkConfiguration.of(settings);
+        MongoDBQueryOptions queryOptions = MongoDBQueryOptions.of(settings);
+        MongoClient mongoClient = MongoClients.create(toMongoClientSettings(settings));
+        return new MongoDBDocumentCollectionManagerFactory(mongoClient, bulk, queryOptions);
+    }
+
+    public MongoDBDocumentCollectionManagerFactory get(String pathFileConfig) throws NullPointerException {
+        requireNonNull(pathFileConfig, "settings is required");
+
+        Map<String, String> configuration = ConfigurationReader.from(pathFileConfig);
+        return get(configuration);
+    }
+
+    /**
+     * Creates the driver's {@link MongoClientSettings} from the {@link Settings}. It is shared by the blocking
+     * and the reactive configurations.
+     *
+     * @param settings the settings
+     * @return the MongoClientSettings
+     */
+    static MongoClientSettings toMongoClientSettings(Settings settings) {
         List<ServerAddress> servers = settings
                 .prefixSupplier(Arrays.asList(MongoDBDocumentConfigurations.HOST,
                         Configurations.HOST))
@@ -101,26 +122,14 @@ public class MongoDBDocumentConfiguration implements DocumentConfiguration {
             return connectionString.map(c -> MongoClientSettings.builder()
                     .applyConnectionString(c)
                     .build())
-                    .map(MongoClients::create)
-                    .map(MongoDBDocumentCollectionManagerFactory::new)
-                    .orElseGet(() -> new MongoDBDocumentCollectionManagerFactory(MongoClients.create()));
+                    .orElseGet(() -> MongoClientSettings.builder().build());
         }
 
         Optional<MongoCredential> credential = MongoAuthentication.of(settings);
 
-
-        final MongoClientSettings mongoClientSettings = credential.map(c -> MongoClientSettings.builder().credential(c)
+        return credential.map(c -> MongoClientSettings.builder().credential(c)
                 .applyToClusterSettings(builder -> builder.hosts(servers))).orElseGet(() ->
                 MongoClientSettings.builder()
                         .applyToClusterSettings(builder -> builder.hosts(servers))).build();
-
-        return new MongoDBDocumentCollectionManagerFactory(MongoClients.create(mongoClientSettings));
-    }
-
-    public MongoDBDocumentCollectionManagerFactory get(String pathFileConfig) throws NullPointerException {
-        requireNonNull(pathFileConfig, "settings is required");
-
-        Map<String, String> configuration = ConfigurationReader.from(pathFileConfig);
-        return get(configuration);
     }
 }
@@ -48,7 +48,38 @@ public enum MongoDBDocumentConfigurations implements Supplier<String> {
     /**
      * Authentication mechanisms {@link com.mongodb.AuthenticationMechanism}
      */
-    AUTHENTICATION_MECHANISM("mongodb.authentication.mechanism");
+    AUTHENTICATION_MECHANISM("mongodb.authentication.mechanism"),
+    /**
+     * The maximum number of documents sent per bulk request when inserting or updating an {@link Iterable}
+     * of entities. The default value is 1000.
+     */
+    BULK_SIZE("mongodb.bulk.size"),
+    /**
+     * Defines whether the bulk requests are ordered, so the server stops at the first failure,
+     * or unordered, so it keeps processing the remaining documents. The default value is true.
+     */
+    BULK_ORDERED("mongodb.bulk.ordered"),
+    /**
+     * The number of documents per batch on the queries and aggregations.
+     */
+    QUERY_BATCH_SIZE("mongodb.query.batch.size"),
+    /**
+     * The index specification, as JSON, used on the queries and aggregations. E.g.: {"age": 1}
+     */
+    QUERY_HINT("mongodb.query.hint"),
+    /**
+     * The maximum execution time, in milliseconds, of the queries and aggregations.
+     */
+    QUERY_MAX_TIME("mongodb.query.max.time"),
+    /**
+     * The read preference name to the queries and aggregations. E.g.: secondaryPreferred
+     * {@link com.mongodb.ReadPreference#valueOf(String)}
+     */
+    READ_PREFERENCE("mongodb.read.preference"),
+    /**
+     * Defines whether the aggregation stages can write temporary files.
+     */
+    ALLOW_DISK_USE("mongodb.aggregate.allow.disk.use");
 
     private final String configuration;
 
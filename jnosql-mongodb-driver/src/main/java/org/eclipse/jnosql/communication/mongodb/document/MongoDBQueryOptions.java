@@ -0,0 +1,261 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import com.mongodb.ReadPreference;
+import jakarta.nosql.Settings;
+import org.bson.BsonDocument;
+import org.bson.conversions.Bson;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The cursor options to the MongoDB queries and aggregations: batch size, index hint, max time, read preference
+ * and allowDiskUse. The options can be set on {@link MongoDBDocumentCollectionManager} from
+ * {@link MongoDBDocumentConfigurations} and overwritten per query, the options not defined on the query
+ * fall back to the manager's options.
+ *
+ * <pre>{@code
+ * MongoDBQueryOptions options = MongoDBQueryOptions.builder()
+ *         .batchSize(1_000)
+ *         .maxTime(Duration.ofSeconds(30))
+ *         .build();
+ * manager.select(query, options);
+ * }</pre>
+ */
+public final class MongoDBQueryOptions {
+
+    static final MongoDBQueryOptions EMPTY = builder().build();
+
+    private final Integer batchSize;
+
+    private final Bson hint;
+
+    private final Duration maxTime;
+
+    private final ReadPreference readPreference;
+
+    private final Boolean allowDiskUse;
+
+    private MongoDBQueryOptions(Integer batchSize, Bson hint, Duration maxTime, ReadPreference readPreference,
+                                Boolean allowDiskUse) {
+        this.batchSize = batchSize;
+        this.hint = hint;
+        this.maxTime = maxTime;
+        this.readPreference = readPreference;
+        this.allowDiskUse = allowDiskUse;
+    }
+
+    /**
+     * @return the number of documents per batch
+     */
+    public Optional<Integer> getBatchSize() {
+        return Optional.ofNullable(batchSize);
+    }
+
+    /**
+     * @return the index specification to use, e.g.: {@code Indexes.ascending("age")}
+     */
+    public Optional<Bson> getHint() {
+        return Optional.ofNullable(hint);
+    }
+
+    /**
+     * @return the maximum execution time on the server
+     */
+    public Optional<Duration> getMaxTime() {
+        return Optional.ofNullable(maxTime);
+    }
+
+    /**
+     * @return the read preference
+     */
+    public Optional<ReadPreference> getReadPreference() {
+        return Optional.ofNullable(readPreference);
+    }
+
+    /**
+     * @return whether the aggregation stages can write temporary files, so they are not limited by the
+     * server memory limit
+     */
+    public Optional<Boolean> getAllowDiskUse() {
+        return Optional.ofNullable(allowDiskUse);
+    }
+
+    /**
+     * Returns the options where the ones not defined on this instance come from the defaults.
+     *
+     * @param defaults the default options
+     * @return the merged options
+     * @throws NullPointerException when defaults is null
+     */
+    public MongoDBQueryOptions withDefaults(MongoDBQueryOptions defaults) {
+        Objects.requireNonNull(defaults, "defaults is required");
+        return new MongoDBQueryOptions(
+                batchSize == null ? defaults.batchSize : batchSize,
+                hint == null ? defaults.hint : hint,
+                maxTime == null ? defaults.maxTime : maxTime,
+                readPreference == null ? defaults.readPreference : readPreference,
+                allowDiskUse == null ? defaults.allowDiskUse : allowDiskUse);
+    }
+
+    /**
+     * @return a new {@link MongoDBQueryOptionsBuilder} instance
+     */
+    public static MongoDBQueryOptionsBuilder builder() {
+        return new MongoDBQueryOptionsBuilder();
+    }
+
+    static MongoDBQueryOptions of(Settings settings) {
+        MongoDBQueryOptionsBuilder builder = builder();
+        settings.get(MongoDBDocumentConfigurations.QUERY_BATCH_SIZE, Integer.class)
+                .ifPresent(builder::batchSize);
+        settings.get(MongoDBDocumentConfigurations.QUERY_HINT, String.class)
+                .map(BsonDocument::parse)
+                .ifPresent(builder::hint);
+        settings.get(MongoDBDocumentConfigurations.QUERY_MAX_TIME, Long.class)
+                .map(Duration::ofMillis)
+                .ifPresent(builder::maxTime);
+        settings.get(MongoDBDocumentConfigurations.READ_PREFERENCE, String.class)
+                .map(ReadPreference::valueOf)
+                .ifPresent(builder::readPreference);
+        settings.get(MongoDBDocumentConfigurations.ALLOW_DISK_USE, Boolean.class)
+                .ifPresent(builder::allowDiskUse);
+        return builder.build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        MongoDBQueryOptions that = (MongoDBQueryOptions) o;
+        return Objects.equals(batchSize, that.batchSize) &&
+                Objects.equals(hint, that.hint) &&
+                Objects.equals(maxTime, that.maxTime) &&
+                Objects.equals(readPreference, that.readPreference) &&
+                Objects.equals(allowDiskUse, that.allowDiskUse);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(batchSize, hint, maxTime, readPreference, allowDiskUse);
+    }
+
+    @Override
+    public String toString() {
+        return "MongoDBQueryOptions{" +
+                "batchSize=" + batchSize +
+                ", hint=" + hint +
+                ", maxTime=" + maxTime +
+                ", readPreference=" + readPreference +
+                ", allowDiskUse=" + allowDiskUse +
+                '}';
+    }
+
+    /**
+     * The builder to {@link MongoDBQueryOptions}
+     */
+    public static final class MongoDBQueryOptionsBuilder {
+
+        private Integer batchSize;
+
+        private Bson hint;
+
+        private Duration maxTime;
+
+        private ReadPreference readPreference;
+
+        private Boolean allowDiskUse;
+
+        private MongoDBQueryOptionsBuilder() {
+        }
+
+        /**
+         * Defines the number of documents per batch
+         *
+         * @param batchSize the batch size
+         * @return this builder
+         * @throws IllegalArgumentException when batchSize is negative
+         */
+        public MongoDBQueryOptionsBuilder batchSize(int batchSize) {
+            if (batchSize < 0) {
+                throw new IllegalArgumentException("The batch size cannot be negative: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Defines the index to use
+         *
+         * @param hint the index specification
+         * @return this builder
+         * @throws NullPointerException when hint is null
+         */
+        public MongoDBQueryOptionsBuilder hint(Bson hint) {
+            this.hint = Objects.requireNonNull(hint, "hint is required");
+            return this;
+        }
+
+        /**
+         * Defines the maximum execution time on the server
+         *
+         * @param maxTime the max time
+         * @return this builder
+         * @throws NullPointerException when maxTime is null
+         */
+        public MongoDBQueryOptionsBuilder maxTime(Duration maxTime) {
+            this.maxTime = Objects.requireNonNull(maxTime, "maxTime is required");
+            return this;
+        }
+
+        /**
+         * Defines the read preference
+         *
+         * @param readPreference the read preference
+         * @return this builder
+         * @throws NullPointerException when readPreference is null
+         */
+        public MongoDBQueryOptionsBuilder readPreference(ReadPreference readPreference) {
+            this.readPreference = Objects.requireNonNull(readPreference, "readPreference is required");
+            return this;
+        }
+
+        /**
+         * Defines whether the aggregation stages can write temporary files
+         *
+         * @param allowDiskUse the allowDiskUse flag
+         * @return this builder
+         */
+        public MongoDBQueryOptionsBuilder allowDiskUse(boolean allowDiskUse) {
+            this.allowDiskUse = allowDiskUse;
+            return this;
+        }
+
+        /**
+         * @return a new {@link MongoDBQueryOptions} instance
+         */
+        public MongoDBQueryOptions build() {
+            return new MongoDBQueryOptions(batchSize, hint, maxTime, readPreference, allowDiskUse);
+        }
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import com.mongodb.client.model.CountOptions;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import jakarta.nosql.document.DocumentDeleteQuery;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+import org.eclipse.jnosql.communication.driver.metrics.Operation;
+import org.eclipse.jnosql.communication.driver.metrics.OperationMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.OperationPhase;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.reactivestreams.Publisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.stream.Collectors.toList;
+import static org.eclipse.jnosql.communication.mongodb.document.MongoDBUtils.getId;
+
+/**
+ * The non-blocking MongoDB document manager, backed by the MongoDB Reactive Streams driver. It has the same
+ * behavior as {@link MongoDBDocumentCollectionManager}, but it never blocks the caller: the write operations
+ * return a {@link CompletionStage} and the queries return a {@link Publisher} that decodes each
+ * {@link DocumentEntity} on demand. The write and count operations are recorded in the same
+ * {@link OperationMetrics} as the blocking manager, when the returned stage completes; the queries record only
+ * the translation, since the time to drain a {@link Publisher} depends on the subscriber's demand.
+ */
+public class MongoDBReactiveDocumentCollectionManager implements AutoCloseable {
+
+    private static final BsonDocument EMPTY = new BsonDocument();
+
+    private static final OperationMetrics METRICS = OperationMetrics.of("mongodb");
+
+    private final MongoDatabase mongoDatabase;
+
+    private final BulkConfiguration bulk;
+
+    private final Map<String, MongoCollection<DocumentEntity>> entityCollections = new ConcurrentHashMap<>();
+
+    MongoDBReactiveDocumentCollectionManager(MongoDatabase mongoDatabase, BulkConfiguration bulk) {
+        this.mongoDatabase = mongoDatabase;
+        this.bulk = bulk;
+    }
+
+    /**
+     * Saves the entity, when the entity does not have the {@code _id} field the generated one is added to it.
+     *
+     * @param entity the entity to be saved
+     * @return the entity saved
+     * @throws NullPointerException when entity is null
+     */
+    public CompletionStage<DocumentEntity> insert(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        MongoCollection<DocumentEntity> collection = getEntityCollection(entity.getName());
+        return timed(Operation.INSERT, () -> Publishers.first(collection.insertOne(entity))).thenApply(r -> entity);
+    }
+
+    /**
+     * Saves the entities in bulk, in chunks of {@link MongoDBDocumentConfigurations#BULK_SIZE}.
+     *
+     * @param entities the entities to be saved
+     * @return the entities saved
+     * @throws NullPointerException when entities is null
+     */
+    public CompletionStage<Iterable<DocumentEntity>> insert(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return inChunks(entities, Operation.INSERT, this::insertMany);
+    }
+
+    /**
+     * Replaces the entity found by the {@code _id} field.
+     *
+     * @param entity the entity to be updated
+     * @return the entity updated
+     * @throws NullPointerException          when entity is null
+     * @throws UnsupportedOperationException when the entity does not have the {@code _id} field
+     */
+    public CompletionStage<DocumentEntity> update(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        MongoCollection<DocumentEntity> collection = getEntityCollection(entity.getName());
+        return timed(Operation.UPDATE, () -> Publishers.first(collection.replaceOne(getId(entity), entity)))
+                .thenApply(r -> entity);
+    }
+
+    /**
+     * Replaces the entities in bulk, in chunks of {@link MongoDBDocumentConfigurations#BULK_SIZE}.
+     *
+     * @param entities the entities to be updated
+     * @return the entities updated
+     * @throws NullPointerException          when entities is null
+     * @throws UnsupportedOperationException when an entity does not have the {@code _id} field
+     */
+    public CompletionStage<Iterable<DocumentEntity>> update(Iterable<DocumentEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return inChunks(entities, Operation.UPDATE, this::replaceMany);
+    }
+
+    /**
+     * Deletes the documents that match the query.
+     *
+     * @param query the delete query
+     * @return the number of documents deleted
+     * @throws NullPointerException when query is null
+     */
+    public CompletionStage<Long> delete(DocumentDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        long start = METRICS.start();
+        Bson mongoDBQuery = query.getCondition().map(DocumentQueryConversor::convert).orElse(EMPTY);
+        METRICS.stop(Operation.DELETE, OperationPhase.TRANSLATION, start);
+        return delete(query.getDocumentCollection(), mongoDBQuery);
+    }
+
+    /**
+     * Removes all documents from the collection that match the given query filter.
+     *
+     * @param collectionName the collection name
+     * @param filter         the delete filter
+     * @return the number of documents deleted
+     * @throws NullPointerException when filter or collectionName is null
+     */
+    public CompletionStage<Long> delete(String collectionName, Bson filter) {
+        Objects.requireNonNull(filter, "filter is required");
+        Objects.requireNonNull(collectionName, "collectionName is required");
+        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
+        return timed(Operation.DELETE, () -> Publishers.first(collection.deleteMany(filter)))
+                .thenApply(DeleteResult::getDeletedCount);
+    }
+
+    /**
+     * Finds the documents that match the query.
+     *
+     * @param query the query
+     * @return the publisher of entities
+     * @throws NullPointerException when query is null
+     */
+    public Publisher<DocumentEntity> select(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        MongoCollection<DocumentEntity> collection = getEntityCollection(query.getDocumentCollection());
+        long start = METRICS.start();
+        Bson mongoDBQuery = query.getCondition().map(DocumentQueryConversor::convert).orElse(EMPTY);
+        METRICS.stop(Operation.SELECT, OperationPhase.TRANSLATION, start);
+
+        FindPublisher<DocumentEntity> documents = collection.find(mongoDBQuery);
+        documents.projection(Projections.include(query.getDocuments()));
+        if (query.getSkip() > 0) {
+            documents.skip((int) query.getSkip());
+        }
+
+        if (query.getLimit() > 0) {
+            documents.limit((int) query.getLimit());
+        }
+
+        query.getSorts().stream().map(MongoDBUtils::getSort).forEach(documents::sort);
+        return documents;
+    }
+
+    /**
+     * Finds all documents in the collection that match the filter.
+     *
+     * @param collectionName the collection name
+     * @param filter         the query filter
+     * @return the publisher of entities
+     * @throws NullPointerException when filter or collectionName is null
+     */
+    public Publisher<DocumentEntity> select(String collectionName, Bson filter) {
+        Objects.requireNonNull(filter, "filter is required");
+        Objects.requireNonNull(collectionName, "collectionName is required");
+        return getEntityCollection(collectionName).find(filter);
+    }
+
+    /**
+     * Aggregates documents according to the specified aggregation pipeline.
+     *
+     * @param collectionName the collection name
+     * @param pipeline       the aggregation pipeline
+     * @return the publisher of the aggregation result
+     * @throws NullPointerException when pipeline or collectionName is null
+     */
+    public Publisher<Map<String, BsonValue>> aggregate(String collectionName, List<Bson> pipeline) {
+        Objects.requireNonNull(pipeline, "pipeline is required");
+        Objects.requireNonNull(collectionName, "collectionName is required");
+        MongoCollection<Document> collection = mongoDatabase.getCollection(collectionName);
+        return Publishers.map(collection.aggregate(pipeline), Document::toBsonDocument);
+    }
+
+    /**
+     * Returns the number of documents in the collection.
+     *
+     * @param documentCollection the collection name
+     * @return the number of documents
+     * @throws NullPointerException when documentCollection is null
+     */
+    public CompletionStage<Long> count(String documentCollection) {
+        Objects.requireNonNull(documentCollection, "documentCollection is required");
+        MongoCollection<Document> collection = mongoDatabase.getCollection(documentCollection);
+        return timed(Operation.COUNT, () -> Publishers.first(collection.countDocuments()));
+    }
+
+    /**
+     * Returns the number of documents that match the query condition, the filter runs on the server.
+     * The skip and limit of the query are also applied.
+     *
+     * @param query the query
+     * @return the number of documents
+     * @throws NullPointerException when query is null
+     */
+    public CompletionStage<Long> count(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        MongoCollection<Document> collection = mongoDatabase.getCollection(query.getDocumentCollection());
+        long start = METRICS.start();
+        Bson mongoDBQuery = query.getCondition().map(DocumentQueryConversor::convert).orElse(EMPTY);
+        METRICS.stop(Operation.COUNT, OperationPhase.TRANSLATION, start);
+        CountOptions options = new CountOptions();
+        if (query.getSkip() > 0) {
+            options.skip((int) query.getSkip());
+        }
+        if (query.getLimit() > 0) {
+            options.limit((int) query.getLimit());
+        }
+        return timed(Operation.COUNT, () -> Publishers.first(collection.countDocuments(mongoDBQuery, options)));
+    }
+
+    /**
+     * Returns an estimate of the number of documents in the collection from the collection metadata,
+     * without scanning it.
+     *
+     * @param documentCollection the collection name
+     * @return the estimated number of documents
+     * @throws NullPointerException when documentCollection is null
+     * @see MongoDBDocumentCollectionManager#estimatedCount(String)
+     */
+    public CompletionStage<Long> estimatedCount(String documentCollection) {
+        Objects.requireNonNull(documentCollection, "documentCollection is required");
+        MongoCollection<Document> collection = mongoDatabase.getCollection(documentCollection);
+        return timed(Operation.COUNT, () -> Publishers.first(collection.estimatedDocumentCount()));
+    }
+
+    @Override
+    public void close() {
+
+    }
+
+    private CompletionStage<Void> insertMany(List<DocumentEntity> entities) {
+        MongoCollection<DocumentEntity> collection = getEntityCollection(entities.get(0).getName());
+        return Publishers.first(collection.insertMany(entities, bulk.toInsertManyOptions())).thenAccept(r -> {
+        });
+    }
+
+    private CompletionStage<Void> replaceMany(List<DocumentEntity> entities) {
+        MongoCollection<DocumentEntity> collection = getEntityCollection(entities.get(0).getName());
+        List<ReplaceOneModel<DocumentEntity>> replaces = entities.stream()
+                .map(e -> new ReplaceOneModel<>(getId(e), e))
+                .collect(toList());
+        return Publishers.first(collection.bulkWrite(replaces, bulk.toBulkWriteOptions())).thenAccept(r -> {
+        });
+    }
+
+    /**
+     * Sends the chunks one after another, so an ordered bulk keeps the order across chunks.
+     */
+    private CompletionStage<Iterable<DocumentEntity>> inChunks(Iterable<DocumentEntity> entities,
+                                                               Operation metric,
+                                                               Function<List<DocumentEntity>,
+                                                                       CompletionStage<Void>> operation) {
+        List<DocumentEntity> result = new ArrayList<>();
+        CompletionStage<Void> stage = CompletableFuture.completedFuture(null);
+        for (List<DocumentEntity> chunk : bulk.split(entities)) {
+            result.addAll(chunk);
+            stage = stage.thenCompose(v -> timed(metric, () -> operation.apply(chunk)));
+        }
+        return stage.thenApply(v -> result);
+    }
+
+    /**
+     * Records the operation when the stage completes, either normally or exceptionally.
+     */
+    private static <T> CompletionStage<T> timed(Operation operation, Supplier<CompletionStage<T>> call) {
+        long start = METRICS.start();
+        try {
+            return call.get().whenComplete((r, e) -> METRICS.stop(operation, start));
+        } catch (RuntimeException exception) {
+            METRICS.stop(operation, start);
+            throw exception;
+        }
+    }
+
+    /**
+     * Returns the collection that reads and writes {@link DocumentEntity} through {@link DocumentEntityCodec}.
+     */
+    private MongoCollection<DocumentEntity> getEntityCollection(String collectionName) {
+        return entityCollections.computeIfAbsent(collectionName, name -> mongoDatabase
+                .getCollection(name, DocumentEntity.class)
+                .withCodecRegistry(DocumentEntityCodec.registry(name, mongoDatabase.getCodecRegistry())));
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+
+/**
+ * The factory of {@link MongoDBReactiveDocumentCollectionManager}, it holds the reactive {@link MongoClient}.
+ */
+public class MongoDBReactiveDocumentCollectionManagerFactory implements AutoCloseable {
+
+    private final MongoClient mongoClient;
+
+    private final BulkConfiguration bulk;
+
+    MongoDBReactiveDocumentCollectionManagerFactory(MongoClient mongoClient, BulkConfiguration bulk) {
+        this.mongoClient = mongoClient;
+        this.bulk = bulk;
+    }
+
+    /**
+     * Creates a {@link MongoDBReactiveDocumentCollectionManager} to the database.
+     *
+     * @param database the database name
+     * @return a new MongoDBReactiveDocumentCollectionManager instance
+     */
+    public MongoDBReactiveDocumentCollectionManager get(String database) {
+        return new MongoDBReactiveDocumentCollectionManager(mongoClient.getDatabase(database), bulk);
+    }
+
+    @Override
+    public void close() {
+        mongoClient.close();
+    }
+
+    @Override
+    public String toString() {
+        return "MongoDBReactiveDocumentCollectionManagerFactory{" + "mongoClient=" + mongoClient +
+                ", bulk=" + bulk +
+                '}';
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import jakarta.nosql.Settings;
+import jakarta.nosql.Settings.SettingsBuilder;
+import org.eclipse.jnosql.communication.driver.ConfigurationReader;
+
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The configuration that returns {@link MongoDBReactiveDocumentCollectionManagerFactory}. It reads the same
+ * properties as {@link MongoDBDocumentConfiguration}.
+ *
+ * @see MongoDBDocumentConfigurations
+ */
+public class MongoDBReactiveDocumentConfiguration {
+
+    /**
+     * Creates a {@link MongoDBReactiveDocumentCollectionManagerFactory} from the default
+     * configuration file.
+     *
+     * @return a MongoDBReactiveDocumentCollectionManagerFactory instance
+     */
+    public MongoDBReactiveDocumentCollectionManagerFactory get() {
+        Map<String, String> configuration = ConfigurationReader.from(MongoDBDocumentConfiguration.FILE_CONFIGURATION);
+        return get(configuration);
+    }
+
+    /**
+     * Creates a {@link MongoDBReactiveDocumentCollectionManagerFactory} from map configurations
+     *
+     * @param configurations the configurations map
+     * @return a MongoDBReactiveDocumentCollectionManagerFactory instance
+     * @throws NullPointerException when the configurations is null
+     */
+    public MongoDBReactiveDocumentCollectionManagerFactory get(Map<String, String> configurations) {
+        requireNonNull(configurations, "configurations is required");
+        SettingsBuilder builder = Settings.builder();
+        configurations.forEach(builder::put);
+        return get(builder.build());
+    }
+
+    /**
+     * Creates a {@link MongoDBReactiveDocumentCollectionManagerFactory} from the reactive mongoClient
+     *
+     * @param mongoClient the reactive mongo client {@link MongoClient}
+     * @return a MongoDBReactiveDocumentCollectionManagerFactory instance
+     * @throws NullPointerException when the mongoClient is null
+     */
+    public MongoDBReactiveDocumentCollectionManagerFactory get(MongoClient mongoClient) {
+        requireNonNull(mongoClient, "mongo client is required");
+        return new MongoDBReactiveDocumentCollectionManagerFactory(mongoClient, BulkConfiguration.DEFAULT);
+    }
+
+    /**
+     * Creates a {@link MongoDBReactiveDocumentCollectionManagerFactory} from {@link Settings}
+     *
+     * @param settings the settings
+     * @return a MongoDBReactiveDocumentCollectionManagerFactory instance
+     * @throws NullPointerException when the settings is null
+     */
+    public MongoDBReactiveDocumentCollectionManagerFactory get(Settings settings) {
+        requireNonNull(settings, "settings is required");
+        BulkConfiguration bulk = BulkConfiguration.of(settings);
+        MongoClient mongoClient = MongoClients.create(MongoDBDocumentConfiguration.toMongoClientSettings(settings));
+        return new MongoDBReactiveDocumentCollectionManagerFactory(mongoClient, bulk);
+    }
+}
@@ -14,10 +14,15 @@
  */
 package org.eclipse.jnosql.communication.mongodb.document;
 
+import com.mongodb.client.model.Sorts;
+import jakarta.nosql.Sort;
+import jakarta.nosql.SortType;
 import jakarta.nosql.Value;
 import jakarta.nosql.document.DocumentEntity;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.bson.types.Binary;
+import org.eclipse.jnosql.communication.driver.DocumentValueType;
 import org.eclipse.jnosql.communication.driver.ValueUtil;
 
 import java.util.ArrayList;
@@ -47,21 +52,33 @@ final class MongoDBUtils {
         return document;
     }
 
+    static Document getId(DocumentEntity entity) {
+        return entity.find(ID_FIELD)
+                .map(d -> new Document(d.getName(), d.getValue().get()))
+                .orElseThrow(() -> new UnsupportedOperationException("To update this DocumentEntity " +
+                        "the field `id` is required"));
+    }
+
+    static Bson getSort(Sort sort) {
+        boolean isAscending = SortType.ASC.equals(sort.getType());
+        return isAscending ? Sorts.ascending(sort.getName()) : Sorts.descending(sort.getName());
+    }
+
     private static Object convert(Value value) {
         Object val = ValueUtil.convert(value);
-        if (val instanceof jakarta.nosql.document.Document) {
-            jakarta.nosql.document.Document subDocument = (jakarta.nosql.document.Document) val;
-            Object converted = convert(subDocument.getValue());
-            return new Document(subDocument.getName(), converted);
-        }
-        if (isSudDocument(val)) {
-            return getMap(val);
+        switch (DocumentValueType.of(val)) {
+            case DOCUMENT:
+                jakarta.nosql.document.Document subDocument = (jakarta.nosql.document.Document) val;
+                Object converted = convert(subDocument.getValue());
+                return new Document(subDocument.getName(), converted);
+            case SUB_DOCUMENT:
+                return getMap(val);
+            case SUB_DOCUMENT_LIST:
+                return StreamSupport.stream(Iterable.class.cast(val).spliterator(), false)
+                        .map(MongoDBUtils::getMap).collect(toList());
+            default:
+                return val;
         }
-        if (isSudDocumentList(val)) {
-            return StreamSupport.stream(Iterable.class.cast(val).spliterator(), false)
-                    .map(MongoDBUtils::getMap).collect(toList());
-        }
-        return val;
     }
 
 
@@ -110,14 +127,4 @@ final class MongoDBUtils {
     private static jakarta.nosql.document.Document cast(Object document) {
         return jakarta.nosql.document.Document.class.cast(document);
     }
-
-    private static boolean isSudDocument(Object value) {
-        return value instanceof Iterable && StreamSupport.stream(Iterable.class.cast(value).spliterator(), false).
-                allMatch(jakarta.nosql.document.Document.class::isInstance);
-    }
-
-    private static boolean isSudDocumentList(Object value) {
-        return value instanceof Iterable && StreamSupport.stream(Iterable.class.cast(value).spliterator(), false).
-                allMatch(d -> d instanceof Iterable && isSudDocument(d));
-    }
 }
@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * Small Reactive Streams adapters used by {@link MongoDBReactiveDocumentCollectionManager}, so the module does
+ * not need a reactive library on top of the MongoDB Reactive Streams driver.
+ */
+final class Publishers {
+
+    private Publishers() {
+    }
+
+    /**
+     * Returns a {@link CompletionStage} with the first element of the publisher, or null when it is empty.
+     */
+    static <T> CompletionStage<T> first(Publisher<T> publisher) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        publisher.subscribe(new Subscriber<T>() {
+
+            private Subscription subscription;
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(T value) {
+                future.complete(value);
+                subscription.cancel();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                future.complete(null);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Returns a {@link CompletionStage} with all the elements of the publisher.
+     */
+    static <T> CompletionStage<List<T>> toList(Publisher<T> publisher) {
+        CompletableFuture<List<T>> future = new CompletableFuture<>();
+        publisher.subscribe(new Subscriber<T>() {
+
+            private final List<T> values = new ArrayList<>();
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(T value) {
+                values.add(value);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                future.complete(values);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Returns a publisher that applies the mapper on each element, keeping the demand of the subscriber.
+     */
+    static <T, R> Publisher<R> map(Publisher<T> publisher, Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper, "mapper is required");
+        return subscriber -> publisher.subscribe(new Subscriber<T>() {
+
+            private Subscription subscription;
+
+            private boolean done;
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                this.subscription = subscription;
+                subscriber.onSubscribe(subscription);
+            }
+
+            @Override
+            public void onNext(T value) {
+                if (done) {
+                    return;
+                }
+                R result;
+                try {
+                    result = mapper.apply(value);
+                } catch (RuntimeException exception) {
+                    done = true;
+                    subscription.cancel();
+                    subscriber.onError(exception);
+                    return;
+                }
+                subscriber.onNext(result);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                if (!done) {
+                    done = true;
+                    subscriber.onError(throwable);
+                }
+            }
+
+            @Override
+            public void onComplete() {
+                if (!done) {
+                    done = true;
+                    subscriber.onComplete();
+                }
+            }
+        });
+    }
+}
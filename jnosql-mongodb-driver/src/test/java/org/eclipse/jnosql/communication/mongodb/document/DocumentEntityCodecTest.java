@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import com.mongodb.MongoClientSettings;
+import jakarta.nosql.TypeReference;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentEntity;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DocumentEntityCodecTest {
+
+    private DocumentEntityCodec codec;
+
+    @BeforeEach
+    public void init() {
+        codec = new DocumentEntityCodec("person", MongoClientSettings.getDefaultCodecRegistry());
+    }
+
+    @Test
+    public void shouldEncodeScalars() {
+        DocumentEntity entity = DocumentEntity.of("person");
+        entity.add("name", "Poliana");
+        entity.add("age", 20);
+
+        BsonDocument document = encode(entity);
+        assertEquals(new BsonString("Poliana"), document.get("name"));
+        assertEquals(20, document.getInt32("age").getValue());
+    }
+
+    @Test
+    public void shouldEncodeSubDocuments() {
+        DocumentEntity entity = DocumentEntity.of("person");
+        entity.add(Document.of("phone", Document.of("mobile", "1231231")));
+        entity.add(Document.of("phones", asList(Document.of("mobile", "1231231"), Document.of("home", "123"))));
+
+        BsonDocument document = encode(entity);
+        assertEquals(new BsonString("1231231"), document.getDocument("phone").get("mobile"));
+        assertEquals(new BsonString("123"), document.getDocument("phones").get("home"));
+    }
+
+    @Test
+    public void shouldEncodeSubDocumentList() {
+        DocumentEntity entity = DocumentEntity.of("AppointmentBook");
+        List<List<Document>> contacts = new ArrayList<>();
+        contacts.add(asList(Document.of("name", "Ada"), Document.of("type", ContactType.EMAIL)));
+        contacts.add(asList(Document.of("name", "Ada"), Document.of("type", ContactType.MOBILE)));
+        entity.add(Document.of("contacts", contacts));
+
+        BsonDocument document = encode(entity);
+        assertEquals(2, document.getArray("contacts").size());
+        assertEquals(new BsonString("MOBILE"), document.getArray("contacts").get(1).asDocument().get("type"));
+    }
+
+    @Test
+    public void shouldDecode() {
+        DocumentEntity entity = DocumentEntity.of("person");
+        entity.add("_id", "poliana");
+        entity.add("name", "Poliana");
+        entity.add("tags", asList("a", "b"));
+        entity.add("contents", new byte[]{1, 2, 3});
+        entity.add(Document.of("phones", asList(Document.of("mobile", "1231231"), Document.of("home", "123"))));
+
+        DocumentEntity decoded = codec.decode(new BsonDocumentReader(encode(entity)), DecoderContext.builder().build());
+        assertEquals("person", decoded.getName());
+        assertEquals("poliana", decoded.find("_id").get().get());
+        assertEquals("Poliana", decoded.find("name").get().get());
+        assertEquals(asList("a", "b"), decoded.find("tags").get().get());
+        assertArrayEquals(new byte[]{1, 2, 3}, (byte[]) decoded.find("contents").get().get());
+        List<Document> phones = decoded.find("phones").get().get(new TypeReference<>() {
+        });
+        assertThat(phones).contains(Document.of("mobile", "1231231"), Document.of("home", "123"));
+    }
+
+    @Test
+    public void shouldDecodeSubDocumentList() {
+        BsonDocument document = BsonDocument.parse("{\"contacts\": [{\"name\": \"Ada\"}, {\"name\": \"Grace\"}]}");
+        DocumentEntity decoded = codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+        List<List<Document>> contacts = (List<List<Document>>) decoded.find("contacts").get().get();
+        assertEquals(2, contacts.size());
+        assertThat(contacts.get(1)).contains(Document.of("name", "Grace"));
+    }
+
+    @Test
+    public void shouldIgnoreNullFields() {
+        BsonDocument document = BsonDocument.parse("{\"name\": \"Ada\", \"city\": null}");
+        DocumentEntity decoded = codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+        assertEquals(1, decoded.size());
+        assertFalse(decoded.find("city").isPresent());
+    }
+
+    @Test
+    public void shouldGenerateId() {
+        DocumentEntity entity = DocumentEntity.of("person");
+        entity.add("name", "Poliana");
+        assertFalse(codec.documentHasId(entity));
+        codec.generateIdIfAbsentFromDocument(entity);
+        assertTrue(codec.documentHasId(entity));
+        assertTrue(codec.getDocumentId(entity) instanceof BsonObjectId);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenThereIsNoId() {
+        DocumentEntity entity = DocumentEntity.of("person");
+        assertThrows(IllegalStateException.class, () -> codec.getDocumentId(entity));
+    }
+
+    private BsonDocument encode(DocumentEntity entity) {
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), entity, EncoderContext.builder().build());
+        return document;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import org.bson.types.ObjectId;
+import org.eclipse.jnosql.communication.driver.attachment.EntityAttachment;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GridFSAttachmentStoreTest {
+
+    private static GridFSAttachmentStore store;
+
+    @BeforeAll
+    public static void setUp() {
+        store = ManagerFactorySupplier.INSTANCE.get("database").getAttachmentStore("attachments");
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParametersAreNull() {
+        assertThrows(NullPointerException.class, () -> store.put(null));
+        assertThrows(NullPointerException.class, () -> store.get((ObjectId) null));
+        assertThrows(NullPointerException.class, () -> store.get((String) null));
+        assertThrows(NullPointerException.class, () -> store.delete(null));
+    }
+
+    @Test
+    public void shouldPutAndGet() throws IOException {
+        byte[] data = new byte[3 * 1024 * 1024];
+        ThreadLocalRandom.current().nextBytes(data);
+        long lastModified = System.currentTimeMillis();
+        ObjectId id = store.put(EntityAttachment.of("report.bin", lastModified, "application/octet-stream", data));
+
+        Optional<EntityAttachment> attachment = store.get(id);
+        assertTrue(attachment.isPresent());
+        assertEquals("report.bin", attachment.get().getName());
+        assertEquals("application/octet-stream", attachment.get().getContentType());
+        assertEquals(lastModified, attachment.get().getLastModified());
+        assertEquals(data.length, attachment.get().getLength());
+        assertArrayEquals(data, read(attachment.get()));
+    }
+
+    @Test
+    public void shouldGetLatestRevisionByName() throws IOException {
+        String name = "notes-" + ThreadLocalRandom.current().nextInt() + ".txt";
+        store.put(EntityAttachment.of(name, 1L, "text/plain", "first".getBytes()));
+        store.put(EntityAttachment.of(name, 2L, "text/plain", "second".getBytes()));
+
+        EntityAttachment attachment = store.get(name).get();
+        assertArrayEquals("second".getBytes(), read(attachment));
+        assertEquals(2L, attachment.getLastModified());
+    }
+
+    @Test
+    public void shouldDelete() {
+        ObjectId id = store.put(EntityAttachment.of("delete.txt", 1L, "text/plain", "data".getBytes()));
+        store.delete(id);
+        assertFalse(store.get(id).isPresent());
+    }
+
+    private byte[] read(EntityAttachment attachment) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (InputStream input = attachment.getData()) {
+            input.transferTo(output);
+        }
+        return output.toByteArray();
+    }
+}
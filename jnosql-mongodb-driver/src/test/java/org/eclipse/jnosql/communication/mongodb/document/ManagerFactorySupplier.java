@@ -17,8 +17,8 @@ package org.eclipse.jnosql.communication.mongodb.document;
 
 
 import jakarta.nosql.Settings;
-import org.testcontainers.containers.GenericContainer;
-import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.utility.DockerImageName;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -28,10 +28,10 @@ public enum ManagerFactorySupplier  {
 
     INSTANCE;
 
-    private final GenericContainer<?> mongodb =
-            new GenericContainer<>("mongo:latest")
-                    .withExposedPorts(27017)
-                    .waitingFor(Wait.defaultWaitStrategy());
+    /**
+     * A single node replica set, so the change streams are available.
+     */
+    private final MongoDBContainer mongodb = new MongoDBContainer(DockerImageName.parse("mongo:latest"));
 
     {
         mongodb.start();
@@ -44,12 +44,29 @@ public enum ManagerFactorySupplier  {
         return factory.get(database);
     }
 
+    public MongoDBDocumentCollectionManager get(String database, Map<String, Object> properties) {
+        Map<String, Object> settings = getProperties();
+        settings.putAll(properties);
+        MongoDBDocumentConfiguration configuration = new MongoDBDocumentConfiguration();
+        MongoDBDocumentCollectionManagerFactory factory = configuration.get(Settings.of(settings));
+        return factory.get(database);
+    }
+
+
+    public MongoDBReactiveDocumentCollectionManager getReactive(String database) {
+        MongoDBReactiveDocumentConfiguration configuration = new MongoDBReactiveDocumentConfiguration();
+        return configuration.get(getSettings()).get(database);
+    }
 
     private Settings getSettings() {
+        return Settings.of(getProperties());
+    }
+
+    private Map<String, Object> getProperties() {
         Map<String,Object> settings = new HashMap<>();
         String host = mongodb.getContainerIpAddress() + ":" + mongodb.getFirstMappedPort();
         settings.put("mongodb.host.1", host);
-        return Settings.of(settings);
+        return settings;
     }
 
 }
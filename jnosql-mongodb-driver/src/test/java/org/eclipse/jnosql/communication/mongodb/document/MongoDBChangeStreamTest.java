@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentDeleteQuery;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static jakarta.nosql.document.DocumentQuery.select;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MongoDBChangeStreamTest {
+
+    private static final String COLLECTION_NAME = "change_stream";
+
+    private static MongoDBDocumentCollectionManager entityManager;
+
+    @BeforeAll
+    public static void setUp() {
+        entityManager = ManagerFactorySupplier.INSTANCE.get("database");
+    }
+
+    @BeforeEach
+    public void beforeEach() {
+        DocumentDeleteQuery.delete().from(COLLECTION_NAME).delete(entityManager);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParametersAreNull() {
+        DocumentQuery query = select().from(COLLECTION_NAME).build();
+        assertThrows(NullPointerException.class, () -> entityManager.watch(null, e -> {
+        }));
+        assertThrows(NullPointerException.class, () -> entityManager.watch(query, null));
+    }
+
+    @Test
+    public void shouldListenEvents() throws InterruptedException {
+        BlockingQueue<DocumentEvent> events = new LinkedBlockingQueue<>();
+        DocumentQuery query = select().from(COLLECTION_NAME).build();
+        try (MongoDBChangeStream stream = entityManager.watch(query, events::add)) {
+            DocumentEntity entity = entityManager.insert(getEntity("Ada", 20));
+            entity.add(Document.of("age", 21));
+            entityManager.update(entity);
+            Object id = entity.find("_id").get().get();
+            entityManager.delete(DocumentDeleteQuery.delete().from(COLLECTION_NAME).where("_id").eq(id).build());
+
+            DocumentEvent insert = events.poll(10, TimeUnit.SECONDS);
+            assertNotNull(insert);
+            assertEquals(DocumentEvent.Type.INSERT, insert.getType());
+            assertEquals("Ada", insert.getEntity().find("name").get().get());
+
+            DocumentEvent replace = events.poll(10, TimeUnit.SECONDS);
+            assertNotNull(replace);
+            assertEquals(DocumentEvent.Type.REPLACE, replace.getType());
+            assertEquals(21, replace.getEntity().find("age").get().get());
+
+            DocumentEvent delete = events.poll(10, TimeUnit.SECONDS);
+            assertNotNull(delete);
+            assertEquals(DocumentEvent.Type.DELETE, delete.getType());
+            assertEquals(id, delete.getEntity().find("_id").get().get());
+        }
+    }
+
+    @Test
+    public void shouldFilterEvents() throws InterruptedException {
+        BlockingQueue<DocumentEvent> events = new LinkedBlockingQueue<>();
+        DocumentQuery query = select().from(COLLECTION_NAME).where("age").gt(30).build();
+        try (MongoDBChangeStream stream = entityManager.watch(query, events::add)) {
+            entityManager.insert(getEntity("Ada", 20));
+            entityManager.insert(getEntity("Grace", 40));
+
+            DocumentEvent event = events.poll(10, TimeUnit.SECONDS);
+            assertNotNull(event);
+            assertEquals("Grace", event.getEntity().find("name").get().get());
+            assertNull(events.poll(2, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void shouldResumeFromToken() throws InterruptedException {
+        BlockingQueue<DocumentEvent> events = new LinkedBlockingQueue<>();
+        DocumentQuery query = select().from(COLLECTION_NAME).build();
+        DocumentEvent first;
+        try (MongoDBChangeStream stream = entityManager.watch(query, events::add)) {
+            entityManager.insert(getEntity("Ada", 20));
+            first = events.poll(10, TimeUnit.SECONDS);
+            assertNotNull(first);
+        }
+        entityManager.insert(getEntity("Grace", 40));
+
+        BlockingQueue<DocumentEvent> resumed = new LinkedBlockingQueue<>();
+        try (MongoDBChangeStream stream = entityManager.watch(query, first.getResumeToken(), resumed::add)) {
+            DocumentEvent event = resumed.poll(10, TimeUnit.SECONDS);
+            assertNotNull(event);
+            assertEquals("Grace", event.getEntity().find("name").get().get());
+        }
+    }
+
+    private DocumentEntity getEntity(String name, int age) {
+        DocumentEntity entity = DocumentEntity.of(COLLECTION_NAME);
+        entity.add(Document.of("name", name));
+        entity.add(Document.of("age", age));
+        return entity;
+    }
+}
@@ -15,12 +15,18 @@
 
 package org.eclipse.jnosql.communication.mongodb.document;
 
+import com.mongodb.ReadPreference;
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Indexes;
 import jakarta.nosql.TypeReference;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentCollectionManager;
 import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
+import org.bson.BsonValue;
 import org.eclipse.jnosql.communication.document.Documents;
 import org.eclipse.jnosql.communication.mongodb.document.type.Money;
 import org.junit.jupiter.api.Assertions;
@@ -69,6 +75,45 @@ public class MongoDBDocumentCollectionManagerTest {
         assertTrue(documentEntity.getDocuments().stream().map(Document::getName).anyMatch(s -> s.equals("_id")));
     }
 
+    @Test
+    public void shouldInsertIterable() {
+        List<DocumentEntity> entities = asList(getEntity(), getEntity(), getEntity());
+        Iterable<DocumentEntity> result = entityManager.insert(entities);
+        List<DocumentEntity> inserted = StreamSupport.stream(result.spliterator(), false)
+                .collect(Collectors.toList());
+        assertEquals(3, inserted.size());
+        assertTrue(inserted.stream().allMatch(e -> e.find("_id").isPresent()));
+        assertEquals(3, inserted.stream().map(e -> e.find("_id").get().get()).distinct().count());
+    }
+
+    @Test
+    public void shouldInsertIterableInChunks() {
+        Map<String, Object> bulk = new HashMap<>();
+        bulk.put(MongoDBDocumentConfigurations.BULK_SIZE.get(), 2);
+        bulk.put(MongoDBDocumentConfigurations.BULK_ORDERED.get(), false);
+        MongoDBDocumentCollectionManager manager = ManagerFactorySupplier.INSTANCE.get("database", bulk);
+        List<DocumentEntity> entities = asList(getEntity(), getEntity(), getEntity(), getEntity(), getEntity());
+        manager.insert(entities);
+        assertTrue(entities.stream().allMatch(e -> e.find("_id").isPresent()));
+        assertEquals(5L, entityManager.count(COLLECTION_NAME));
+    }
+
+    @Test
+    public void shouldUpdateIterable() {
+        List<DocumentEntity> entities = asList(getEntity(), getEntity());
+        entityManager.insert(entities);
+        entities.forEach(e -> e.add(Documents.of("newField", "10")));
+        entityManager.update(entities);
+
+        DocumentQuery query = select().from(COLLECTION_NAME).where("newField").eq("10").build();
+        assertEquals(2, entityManager.select(query).count());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenUpdateIterableWithoutId() {
+        assertThrows(UnsupportedOperationException.class, () -> entityManager.update(asList(getEntity())));
+    }
+
     @Test
     public void shouldThrowExceptionWhenInsertWithTTL() {
         assertThrows(UnsupportedOperationException.class, () -> entityManager.insert(getEntity(), Duration.ofSeconds(10)));
@@ -338,6 +383,37 @@ public class MongoDBDocumentCollectionManagerTest {
 
     }
 
+    @Test
+    public void shouldFindWithQueryOptions() {
+        entityManager.insert(getEntitiesWithValues());
+        MongoDBDocumentCollectionManager manager = (MongoDBDocumentCollectionManager) entityManager;
+        DocumentQuery query = select().from(COLLECTION_NAME)
+                .where("type").eq("V")
+                .build();
+        MongoDBQueryOptions options = MongoDBQueryOptions.builder()
+                .batchSize(1)
+                .hint(Indexes.ascending("_id"))
+                .maxTime(Duration.ofSeconds(10))
+                .readPreference(ReadPreference.primaryPreferred())
+                .build();
+        assertEquals(3, manager.select(query, options).count());
+    }
+
+    @Test
+    public void shouldAggregateWithQueryOptions() {
+        entityManager.insert(getEntitiesWithValues());
+        MongoDBDocumentCollectionManager manager = (MongoDBDocumentCollectionManager) entityManager;
+        MongoDBQueryOptions options = MongoDBQueryOptions.builder()
+                .batchSize(1)
+                .allowDiskUse(true)
+                .build();
+        List<Map<String, BsonValue>> result = manager.aggregate(COLLECTION_NAME,
+                asList(Aggregates.match(Filters.eq("type", "V")),
+                        Aggregates.group("$location", Accumulators.sum("count", 1))), options)
+                .collect(Collectors.toList());
+        assertEquals(2, result.size());
+    }
+
     @Test
     public void shouldFindAll() {
         entityManager.insert(getEntity());
@@ -484,6 +560,30 @@ public class MongoDBDocumentCollectionManagerTest {
         assertTrue(entityManager.count(COLLECTION_NAME) > 0);
     }
 
+    @Test
+    public void shouldCountByQuery() {
+        entityManager.insert(getEntitiesWithValues());
+        MongoDBDocumentCollectionManager manager = (MongoDBDocumentCollectionManager) entityManager;
+        DocumentQuery query = select().from(COLLECTION_NAME)
+                .where("age").gt(22)
+                .build();
+        assertEquals(2L, manager.count(query));
+        assertEquals(1L, manager.count(select().from(COLLECTION_NAME).where("age").gt(22).limit(1L).build()));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenCountQueryIsNull() {
+        MongoDBDocumentCollectionManager manager = (MongoDBDocumentCollectionManager) entityManager;
+        assertThrows(NullPointerException.class, () -> manager.count((DocumentQuery) null));
+    }
+
+    @Test
+    public void shouldEstimatedCount() {
+        entityManager.insert(getEntitiesWithValues());
+        MongoDBDocumentCollectionManager manager = (MongoDBDocumentCollectionManager) entityManager;
+        assertEquals(3L, manager.estimatedCount(COLLECTION_NAME));
+    }
+
     @Test
     public void shouldCustomTypeWork() {
         DocumentEntity entity = getEntity();
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.client.model.Indexes;
+import jakarta.nosql.Settings;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MongoDBQueryOptionsTest {
+
+    @Test
+    public void shouldReturnErrorWhenBatchSizeIsNegative() {
+        assertThrows(IllegalArgumentException.class, () -> MongoDBQueryOptions.builder().batchSize(-1));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenDefaultsIsNull() {
+        assertThrows(NullPointerException.class, () -> MongoDBQueryOptions.EMPTY.withDefaults(null));
+    }
+
+    @Test
+    public void shouldFallBackToDefaults() {
+        MongoDBQueryOptions defaults = MongoDBQueryOptions.builder()
+                .batchSize(100)
+                .maxTime(Duration.ofSeconds(10))
+                .build();
+        MongoDBQueryOptions options = MongoDBQueryOptions.builder()
+                .batchSize(1_000)
+                .allowDiskUse(true)
+                .build()
+                .withDefaults(defaults);
+
+        assertEquals(Optional.of(1_000), options.getBatchSize());
+        assertEquals(Optional.of(Duration.ofSeconds(10)), options.getMaxTime());
+        assertEquals(Optional.of(true), options.getAllowDiskUse());
+        assertFalse(options.getHint().isPresent());
+        assertFalse(options.getReadPreference().isPresent());
+    }
+
+    @Test
+    public void shouldReadFromSettings() {
+        Map<String, Object> map = new HashMap<>();
+        map.put(MongoDBDocumentConfigurations.QUERY_BATCH_SIZE.get(), "500");
+        map.put(MongoDBDocumentConfigurations.QUERY_HINT.get(), "{\"age\": 1}");
+        map.put(MongoDBDocumentConfigurations.QUERY_MAX_TIME.get(), "2000");
+        map.put(MongoDBDocumentConfigurations.READ_PREFERENCE.get(), "secondaryPreferred");
+        map.put(MongoDBDocumentConfigurations.ALLOW_DISK_USE.get(), "true");
+
+        MongoDBQueryOptions options = MongoDBQueryOptions.of(Settings.of(map));
+        assertEquals(Optional.of(500), options.getBatchSize());
+        assertEquals(Indexes.ascending("age").toBsonDocument(), options.getHint().map(BsonDocument.class::cast).get());
+        assertEquals(Optional.of(Duration.ofSeconds(2)), options.getMaxTime());
+        assertEquals(Optional.of(ReadPreference.secondaryPreferred()), options.getReadPreference());
+        assertEquals(Optional.of(true), options.getAllowDiskUse());
+    }
+
+    @Test
+    public void shouldBeEmptyWhenThereIsNoSettings() {
+        assertEquals(MongoDBQueryOptions.EMPTY, MongoDBQueryOptions.of(Settings.builder().build()));
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.communication.mongodb.document;
+
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentDeleteQuery;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+import org.bson.BsonValue;
+import org.eclipse.jnosql.communication.document.Documents;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static jakarta.nosql.document.DocumentQuery.select;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MongoDBReactiveDocumentCollectionManagerTest {
+
+    public static final String COLLECTION_NAME = "reactive_person";
+
+    private static MongoDBReactiveDocumentCollectionManager entityManager;
+
+    @BeforeAll
+    public static void setUp() {
+        entityManager = ManagerFactorySupplier.INSTANCE.getReactive("database");
+    }
+
+    @BeforeEach
+    public void beforeEach() {
+        join(entityManager.delete(DocumentDeleteQuery.delete().from(COLLECTION_NAME).build()));
+    }
+
+    @Test
+    public void shouldInsert() {
+        DocumentEntity entity = join(entityManager.insert(getEntity("Poliana", 20)));
+        assertTrue(entity.find("_id").isPresent());
+    }
+
+    @Test
+    public void shouldInsertIterable() {
+        Iterable<DocumentEntity> entities = join(entityManager.insert(asList(getEntity("Poliana", 20),
+                getEntity("Otavio", 30))));
+        List<DocumentEntity> inserted = StreamSupport.stream(entities.spliterator(), false)
+                .collect(Collectors.toList());
+        assertEquals(2, inserted.size());
+        assertTrue(inserted.stream().allMatch(e -> e.find("_id").isPresent()));
+        assertEquals(2L, join(entityManager.count(COLLECTION_NAME)));
+    }
+
+    @Test
+    public void shouldUpdate() {
+        DocumentEntity entity = join(entityManager.insert(getEntity("Poliana", 20)));
+        Document newField = Documents.of("newField", "10");
+        entity.add(newField);
+        join(entityManager.update(entity));
+
+        DocumentQuery query = select().from(COLLECTION_NAME).where("newField").eq("10").build();
+        List<DocumentEntity> entities = list(entityManager.select(query));
+        assertEquals(1, entities.size());
+        assertEquals(newField, entities.get(0).find("newField").get());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenUpdateWithoutId() {
+        assertThrows(UnsupportedOperationException.class, () -> entityManager.update(getEntity("Poliana", 20)));
+    }
+
+    @Test
+    public void shouldSelect() {
+        join(entityManager.insert(asList(getEntity("Poliana", 20), getEntity("Otavio", 30),
+                getEntity("Ada", 40))));
+        DocumentQuery query = select().from(COLLECTION_NAME)
+                .where("age").gt(25)
+                .orderBy("age").desc()
+                .build();
+        List<DocumentEntity> entities = list(entityManager.select(query));
+        assertEquals(2, entities.size());
+        assertEquals("Ada", entities.get(0).find("name").get().get());
+    }
+
+    @Test
+    public void shouldDelete() {
+        join(entityManager.insert(asList(getEntity("Poliana", 20), getEntity("Otavio", 30))));
+        DocumentDeleteQuery query = DocumentDeleteQuery.delete().from(COLLECTION_NAME)
+                .where("name").eq("Otavio").build();
+        assertEquals(1L, join(entityManager.delete(query)));
+        assertEquals(1L, join(entityManager.count(COLLECTION_NAME)));
+    }
+
+    @Test
+    public void shouldCountByQuery() {
+        join(entityManager.insert(asList(getEntity("Poliana", 20), getEntity("Otavio", 30))));
+        DocumentQuery query = select().from(COLLECTION_NAME).where("age").gt(25).build();
+        assertEquals(1L, join(entityManager.count(query)));
+        assertEquals(2L, join(entityManager.estimatedCount(COLLECTION_NAME)));
+    }
+
+    @Test
+    public void shouldAggregate() {
+        join(entityManager.insert(asList(getEntity("Poliana", 20), getEntity("Otavio", 30))));
+        List<Map<String, BsonValue>> result = list(entityManager.aggregate(COLLECTION_NAME,
+                asList(Aggregates.match(Filters.gte("age", 0)),
+                        Aggregates.group(null, Accumulators.sum("total", "$age")))));
+        assertEquals(1, result.size());
+        assertEquals(50, result.get(0).get("total").asNumber().intValue());
+    }
+
+    private static <T> T join(CompletionStage<T> stage) {
+        return stage.toCompletableFuture().join();
+    }
+
+    private static <T> List<T> list(Publisher<T> publisher) {
+        return join(Publishers.toList(publisher));
+    }
+
+    private DocumentEntity getEntity(String name, int age) {
+        DocumentEntity entity = DocumentEntity.of(COLLECTION_NAME);
+        entity.add(Document.of("name", name));
+        entity.add(Document.of("age", age));
+        return entity;
+    }
+}
@@ -27,6 +27,9 @@ import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
+import org.eclipse.jnosql.communication.driver.metrics.Operation;
+import org.eclipse.jnosql.communication.driver.metrics.OperationMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.OperationPhase;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -44,6 +47,8 @@ import static org.eclipse.jnosql.communication.orientdb.document.OrientDBConvert
 
 class DefaultOrientDBDocumentCollectionManager implements OrientDBDocumentCollectionManager {
 
+    private static final OperationMetrics METRICS = OperationMetrics.of("orientdb");
+
     private final ODatabasePool pool;
 
     DefaultOrientDBDocumentCollectionManager(ODatabasePool pool) {
@@ -53,9 +58,11 @@ class DefaultOrientDBDocumentCollectionManager implements OrientDBDocumentCollec
     @Override
     public DocumentEntity insert(DocumentEntity entity) {
         requireNonNull(entity, "Entity is required");
+        long start = METRICS.start();
         try (ODatabaseSession tx = pool.acquire()) {
             ODocument document = new ODocument(entity.getName());
             toMap(entity).forEach(document::field);
+            METRICS.stop(Operation.INSERT, OperationPhase.CONVERSION, start);
             try {
                 tx.save(document);
             } catch (ONeedRetryException e) {
@@ -67,6 +74,8 @@ class DefaultOrientDBDocumentCollectionManager implements OrientDBDocumentCollec
             }
             updateEntity(entity, document);
             return entity;
+        } finally {
+            METRICS.stop(Operation.INSERT, start);
         }
     }
 
@@ -109,8 +118,10 @@ class DefaultOrientDBDocumentCollectionManager implements OrientDBDocumentCollec
     @Override
     public void delete(DocumentDeleteQuery query) {
         requireNonNull(query, "query is required");
+        long start = METRICS.start();
         DocumentQuery selectQuery = new OrientDBDocumentQuery(query);
         QueryOSQLFactory.QueryResult orientQuery = QueryOSQLFactory.to(selectQuery);
+        METRICS.stop(Operation.DELETE, OperationPhase.TRANSLATION, start);
 
         try (ODatabaseSession tx = pool.acquire();
              OResultSet resultSet = tx.command(orientQuery.getQuery(), orientQuery.getParams())) {
@@ -118,15 +129,18 @@ class DefaultOrientDBDocumentCollectionManager implements OrientDBDocumentCollec
                 OResult next = resultSet.next();
                 tx.delete(next.toElement().getIdentity());
             }
+        } finally {
+            METRICS.stop(Operation.DELETE, start);
         }
-
     }
 
 
     @Override
     public Stream<DocumentEntity> select(DocumentQuery query) {
         requireNonNull(query, "query is required");
+        long start = METRICS.start();
         QueryOSQLFactory.QueryResult orientQuery = QueryOSQLFactory.to(query);
+        METRICS.stop(Operation.SELECT, OperationPhase.TRANSLATION, start);
 
         try (ODatabaseSession tx = pool.acquire()) {
             List<DocumentEntity> entities = new ArrayList<>();
@@ -141,19 +155,23 @@ class DefaultOrientDBDocumentCollectionManager implements OrientDBDocumentCollec
                         .forEach(entities::add);
             }
             return entities.stream();
+        } finally {
+            METRICS.stop(Operation.SELECT, start);
         }
     }
 
     @Override
     public long count(String documentCollection) {
         requireNonNull(documentCollection, "query is required");
+        long start = METRICS.start();
         try (ODatabaseSession tx = pool.acquire()) {
             String query = "select count(*) from ".concat(documentCollection);
             OResultSet command = tx.command(query);
             OResult next = command.next();
             Object count = next.getProperty("count(*)");
             return Number.class.cast(count).longValue();
-
+        } finally {
+            METRICS.stop(Operation.COUNT, start);
         }
     }
 
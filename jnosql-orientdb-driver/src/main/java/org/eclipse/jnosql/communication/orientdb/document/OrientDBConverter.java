@@ -23,6 +23,7 @@ import com.orientechnologies.orient.core.sql.executor.OResult;
 import com.orientechnologies.orient.core.sql.executor.OResultSet;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentEntity;
+import org.eclipse.jnosql.communication.driver.DocumentValueType;
 import org.eclipse.jnosql.communication.driver.ValueUtil;
 
 import java.util.ArrayList;
@@ -110,16 +111,20 @@ final class OrientDBConverter {
 
     private static void toDocument(Map<String, Object> entityValues, Document document) {
         Object value = ValueUtil.convert(document.getValue());
-        if (Document.class.isInstance(value)) {
-            Document subDocument = Document.class.cast(value);
-            entityValues.put(document.getName(), singletonMap(subDocument.getName(), subDocument.get()));
-        } else if (isDocumentIterable(value)) {
-            entityValues.put(document.getName(), getMap(value));
-        } else if (isSudDocumentList(value)) {
-            entityValues.put(document.getName(), StreamSupport.stream(Iterable.class.cast(value).spliterator(), false)
-                    .map(OrientDBConverter::getMap).collect(toList()));
-        } else {
-            entityValues.put(document.getName(), value);
+        switch (DocumentValueType.of(value)) {
+            case DOCUMENT:
+                Document subDocument = Document.class.cast(value);
+                entityValues.put(document.getName(), singletonMap(subDocument.getName(), subDocument.get()));
+                break;
+            case SUB_DOCUMENT:
+                entityValues.put(document.getName(), getMap(value));
+                break;
+            case SUB_DOCUMENT_LIST:
+                entityValues.put(document.getName(), StreamSupport.stream(Iterable.class.cast(value).spliterator(), false)
+                        .map(OrientDBConverter::getMap).collect(toList()));
+                break;
+            default:
+                entityValues.put(document.getName(), value);
         }
     }
 
@@ -129,15 +134,4 @@ final class OrientDBConverter {
                 .forEach(d -> toDocument(map, Document.class.cast(d)));
         return map;
     }
-
-    private static boolean isDocumentIterable(Object value) {
-        return Iterable.class.isInstance(value) &&
-                stream(Iterable.class.cast(value).spliterator(), false)
-                        .allMatch(Document.class::isInstance);
-    }
-
-    private static boolean isSudDocumentList(Object value) {
-        return value instanceof Iterable && StreamSupport.stream(Iterable.class.cast(value).spliterator(), false).
-                allMatch(d -> d instanceof Iterable && isDocumentIterable(d));
-    }
 }
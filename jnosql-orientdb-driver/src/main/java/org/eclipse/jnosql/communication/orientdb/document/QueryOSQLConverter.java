@@ -19,10 +19,14 @@ package org.eclipse.jnosql.communication.orientdb.document;
 import com.orientechnologies.orient.core.id.ORecordId;
 import jakarta.nosql.Sort;
 import jakarta.nosql.TypeReference;
+import jakarta.nosql.Value;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentCondition;
 import jakarta.nosql.document.DocumentQuery;
 import org.eclipse.jnosql.communication.driver.ValueUtil;
+import org.eclipse.jnosql.communication.driver.query.QueryShape;
+import org.eclipse.jnosql.communication.driver.query.QueryTemplate;
+import org.eclipse.jnosql.communication.driver.query.QueryTranslationCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -44,20 +48,36 @@ final class QueryOSQLConverter {
     private static final String SORT = " ORDER BY";
     private static final String SPACE = " ";
     private static final char PARAM_APPENDER = '?';
+    private static final String PARAM = String.valueOf(PARAM_APPENDER);
+    private static final QueryTranslationCache<QueryTemplate> CACHE = QueryTranslationCache.of();
 
     private QueryOSQLConverter() {
     }
 
     static Query select(DocumentQuery documentQuery) {
-        StringBuilder query = new StringBuilder();
-        List<Object> params = new java.util.ArrayList<>();
+        QueryShape shape = QueryShape.of(documentQuery);
+        QueryTemplate template = CACHE.get(shape, s -> convert(documentQuery, s));
+        List<Object> params = new ArrayList<>();
         List<ORecordId> ids = new ArrayList<>();
+        template.bind(shape, (name, value) -> {
+            if (OrientDBConverter.RID_FIELD.equals(name)) {
+                ids.add((ORecordId) value);
+            } else {
+                params.add(value);
+            }
+        });
+        return new Query(template.getQuery(), params, ids);
+    }
+
+    private static QueryTemplate convert(DocumentQuery documentQuery, QueryShape shape) {
+        StringBuilder query = new StringBuilder();
+        QueryTemplate.Builder params = QueryTemplate.builder(shape);
         query.append("SELECT FROM ");
         query.append(documentQuery.getDocumentCollection());
 
         if (documentQuery.getCondition().isPresent()) {
             query.append(WHERE);
-            definesCondition(documentQuery.getCondition().get(), query, params, 0, ids);
+            definesCondition(documentQuery.getCondition().get(), query, params, 0);
         }
 
         if (!documentQuery.getSorts().isEmpty()) {
@@ -65,34 +85,34 @@ final class QueryOSQLConverter {
         }
 
         appendPagination(documentQuery, query);
-        return new Query(query.toString(), params, ids);
+        return params.build(query.toString());
     }
 
-    private static void definesCondition(DocumentCondition condition, StringBuilder query, List<Object> params,
-                                         int counter, List<ORecordId> ids) {
+    private static void definesCondition(DocumentCondition condition, StringBuilder query,
+                                         QueryTemplate.Builder params, int counter) {
 
         Document document = condition.getDocument();
         switch (condition.getCondition()) {
             case IN:
-                appendCondition(query, params, document, IN, ids);
+                appendCondition(query, params, document, IN);
                 return;
             case EQUALS:
-                appendCondition(query, params, document, EQUALS, ids);
+                appendCondition(query, params, document, EQUALS);
                 return;
             case GREATER_EQUALS_THAN:
-                appendCondition(query, params, document, GREATER_EQUALS_THAN, ids);
+                appendCondition(query, params, document, GREATER_EQUALS_THAN);
                 return;
             case GREATER_THAN:
-                appendCondition(query, params, document, GREATER_THAN, ids);
+                appendCondition(query, params, document, GREATER_THAN);
                 return;
             case LESSER_THAN:
-                appendCondition(query, params, document, LESSER_THAN, ids);
+                appendCondition(query, params, document, LESSER_THAN);
                 return;
             case LESSER_EQUALS_THAN:
-                appendCondition(query, params, document, LESSER_EQUALS_THAN, ids);
+                appendCondition(query, params, document, LESSER_EQUALS_THAN);
                 return;
             case LIKE:
-                appendCondition(query, params, document, LIKE, ids);
+                appendCondition(query, params, document, LIKE);
                 return;
             case AND:
                 for (DocumentCondition dc : document.get(new TypeReference<List<DocumentCondition>>() {
@@ -101,7 +121,7 @@ final class QueryOSQLConverter {
                     if (isFirstCondition(query, counter)) {
                         query.append(AND);
                     }
-                    definesCondition(dc, query, params, ++counter, ids);
+                    definesCondition(dc, query, params, ++counter);
                 }
                 return;
             case OR:
@@ -110,13 +130,13 @@ final class QueryOSQLConverter {
                     if (isFirstCondition(query, counter)) {
                         query.append(OR);
                     }
-                    definesCondition(dc, query, params, ++counter, ids);
+                    definesCondition(dc, query, params, ++counter);
                 }
                 return;
             case NOT:
                 DocumentCondition documentCondition = document.get(DocumentCondition.class);
                 query.append("NOT (");
-                definesCondition(documentCondition, query, params, ++counter, ids);
+                definesCondition(documentCondition, query, params, ++counter);
                 query.append(")");
                 return;
             default:
@@ -128,19 +148,19 @@ final class QueryOSQLConverter {
         return counter > 0 && !WHERE.equals(query.substring(query.length() - 7));
     }
 
-    private static void appendCondition(StringBuilder query, List<Object> params,
-                                        Document document, String condition, List<ORecordId> ids) {
+    private static void appendCondition(StringBuilder query, QueryTemplate.Builder params,
+                                        Document document, String condition) {
 
         if(OrientDBConverter.RID_FIELD.equals(document.getName())) {
-            ids.add(new ORecordId(document.get(String.class)));
+            params.parameter(OrientDBConverter.RID_FIELD, document, v -> new ORecordId(v.get(String.class)));
             return;
         }
         query.append(document.getName())
                 .append(condition).append(PARAM_APPENDER);
         if(IN.equals(condition)) {
-            params.add(ValueUtil.convertToList(document.getValue()));
+            params.parameter(PARAM, document, ValueUtil::convertToList);
         } else {
-            params.add(document.get());
+            params.parameter(PARAM, document, Value::get);
         }
     }
 
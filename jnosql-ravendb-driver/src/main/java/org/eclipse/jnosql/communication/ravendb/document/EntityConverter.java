@@ -17,6 +17,7 @@ package org.eclipse.jnosql.communication.ravendb.document;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentEntity;
 import net.ravendb.client.Constants;
+import org.eclipse.jnosql.communication.driver.DocumentValueType;
 import org.eclipse.jnosql.communication.driver.ValueUtil;
 
 import java.util.HashMap;
@@ -66,17 +67,20 @@ final class EntityConverter {
     private static Consumer<Document> feedJSON(Map<String, Object> map) {
         return d -> {
             Object value = ValueUtil.convert(d.getValue());
-            if (value instanceof Document) {
-                Document subDocument = Document.class.cast(value);
-                map.put(d.getName(), singletonMap(subDocument.getName(), subDocument.get()));
-            } else if (isSudDocument(value)) {
-                Map<String, Object> subDocument = getMap(value);
-                map.put(d.getName(), subDocument);
-            } else if (isSudDocumentList(value)) {
-                map.put(d.getName(), StreamSupport.stream(Iterable.class.cast(value).spliterator(), false)
-                        .map(EntityConverter::getMap).collect(toList()));
-            } else {
-                map.put(d.getName(), value);
+            switch (DocumentValueType.of(value)) {
+                case DOCUMENT:
+                    Document subDocument = Document.class.cast(value);
+                    map.put(d.getName(), singletonMap(subDocument.getName(), subDocument.get()));
+                    break;
+                case SUB_DOCUMENT:
+                    map.put(d.getName(), getMap(value));
+                    break;
+                case SUB_DOCUMENT_LIST:
+                    map.put(d.getName(), StreamSupport.stream(Iterable.class.cast(value).spliterator(), false)
+                            .map(EntityConverter::getMap).collect(toList()));
+                    break;
+                default:
+                    map.put(d.getName(), value);
             }
         };
     }
@@ -88,15 +92,5 @@ final class EntityConverter {
         return subDocument;
     }
 
-    private static boolean isSudDocument(Object value) {
-        return value instanceof Iterable && StreamSupport.stream(Iterable.class.cast(value).spliterator(), false).
-                allMatch(jakarta.nosql.document.Document.class::isInstance);
-    }
-
-    private static boolean isSudDocumentList(Object value) {
-        return value instanceof Iterable && StreamSupport.stream(Iterable.class.cast(value).spliterator(), false).
-                allMatch(d -> d instanceof Iterable && isSudDocument(d));
-    }
-
 
 }
@@ -27,6 +27,9 @@ import net.ravendb.client.documents.session.IDocumentSession;
 import net.ravendb.client.documents.session.IEnumerableQuery;
 import net.ravendb.client.documents.session.IMetadataDictionary;
 import net.ravendb.client.exceptions.RavenException;
+import org.eclipse.jnosql.communication.driver.metrics.Operation;
+import org.eclipse.jnosql.communication.driver.metrics.OperationMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.OperationPhase;
 
 import java.time.Clock;
 import java.time.Duration;
@@ -49,6 +52,7 @@ import static net.ravendb.client.Constants.Documents.Metadata.EXPIRES;
  */
 public class RavenDBDocumentCollectionManager implements DocumentCollectionManager {
 
+    private static final OperationMetrics METRICS = OperationMetrics.of("ravendb");
 
     private final DocumentStore store;
 
@@ -107,9 +111,14 @@ public class RavenDBDocumentCollectionManager implements DocumentCollectionManag
             Document id = entity.find(EntityConverter.ID_FIELD)
                     .orElseThrow(() -> new RavenException("Id is required to Raven Update operation"));
 
-            HashMap<String, Object> map = session.load(HashMap.class, id.get(String.class));
-            map.putAll(EntityConverter.getMap(entity));
-            session.saveChanges();
+            long start = METRICS.start();
+            try {
+                HashMap<String, Object> map = session.load(HashMap.class, id.get(String.class));
+                map.putAll(EntityConverter.getMap(entity));
+                session.saveChanges();
+            } finally {
+                METRICS.stop(Operation.UPDATE, start);
+            }
         }
         return entity;
     }
@@ -127,9 +136,14 @@ public class RavenDBDocumentCollectionManager implements DocumentCollectionManag
         Objects.requireNonNull(query, "query is required");
 
         try (IDocumentSession session = store.openSession()) {
-            Stream<Map> entities = getQueryMaps(new RavenDeleteQuery(query), session);
-            entities.map(EntityConverter::getId).forEach(session::delete);
-            session.saveChanges();
+            long start = METRICS.start();
+            try {
+                Stream<Map> entities = getQueryMaps(new RavenDeleteQuery(query), Operation.DELETE, session);
+                entities.map(EntityConverter::getId).forEach(session::delete);
+                session.saveChanges();
+            } finally {
+                METRICS.stop(Operation.DELETE, start);
+            }
         }
 
     }
@@ -140,7 +154,13 @@ public class RavenDBDocumentCollectionManager implements DocumentCollectionManag
         Objects.requireNonNull(query, "query is required");
 
         try (IDocumentSession session = store.openSession()) {
-            Stream<Map> entities = getQueryMaps(query, session);
+            long start = METRICS.start();
+            Stream<Map> entities;
+            try {
+                entities = getQueryMaps(query, Operation.SELECT, session);
+            } finally {
+                METRICS.stop(Operation.SELECT, start);
+            }
             return entities.filter(Objects::nonNull).map(EntityConverter::getEntity);
         }
 
@@ -151,7 +171,12 @@ public class RavenDBDocumentCollectionManager implements DocumentCollectionManag
         Objects.requireNonNull(documentCollection, "documentCollection is required");
         try (IDocumentSession session = store.openSession()) {
             IDocumentQuery<HashMap> ravenQuery = session.query(HashMap.class, Query.collection(documentCollection));
-            return ravenQuery.count();
+            long start = METRICS.start();
+            try {
+                return ravenQuery.count();
+            } finally {
+                METRICS.stop(Operation.COUNT, start);
+            }
         }
     }
 
@@ -164,24 +189,32 @@ public class RavenDBDocumentCollectionManager implements DocumentCollectionManag
     private void insert(DocumentEntity entity, LocalDateTime time, IDocumentSession session) {
         String collection = entity.getName();
 
+        long start = METRICS.start();
         Map<String, Object> entityMap = EntityConverter.getMap(entity);
+        METRICS.stop(Operation.INSERT, OperationPhase.CONVERSION, start);
         String id = entity.find(EntityConverter.ID_FIELD)
                 .map(d -> d.get(String.class))
                 .orElse(collection + '/');
-        session.store(entityMap, id);
-        IMetadataDictionary metadata = session.advanced().getMetadataFor(entityMap);
-        metadata.put(COLLECTION, collection);
-
-        if(Objects.nonNull(time)) {
-            metadata.put(EXPIRES, time.toString());
+        try {
+            session.store(entityMap, id);
+            IMetadataDictionary metadata = session.advanced().getMetadataFor(entityMap);
+            metadata.put(COLLECTION, collection);
+
+            if(Objects.nonNull(time)) {
+                metadata.put(EXPIRES, time.toString());
+            }
+            session.saveChanges();
+            entity.add(EntityConverter.ID_FIELD, session.advanced().getDocumentId(entityMap));
+        } finally {
+            METRICS.stop(Operation.INSERT, start);
         }
-        session.saveChanges();
-        entity.add(EntityConverter.ID_FIELD, session.advanced().getDocumentId(entityMap));
     }
 
 
-    private Stream<Map> getQueryMaps(DocumentQuery query, IDocumentSession session) {
+    private Stream<Map> getQueryMaps(DocumentQuery query, Operation operation, IDocumentSession session) {
+        long start = METRICS.start();
         DocumentQueryConverter.QueryResult queryResult = DocumentQueryConverter.createQuery(session, query);
+        METRICS.stop(operation, OperationPhase.TRANSLATION, start);
 
         Stream<Map> idQueryStream = queryResult.getIds().stream()
                 .map(i -> session.load(HashMap.class, i));
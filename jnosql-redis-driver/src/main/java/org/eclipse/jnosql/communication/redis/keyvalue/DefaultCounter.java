@@ -14,7 +14,6 @@
  */
 package org.eclipse.jnosql.communication.redis.keyvalue;
 
-import redis.clients.jedis.Jedis;
 
 import java.time.Duration;
 import java.util.Objects;
@@ -32,17 +31,17 @@ class DefaultCounter implements Counter {
 
     private final String key;
 
-    private Jedis jedis;
+    private final RedisExecutor executor;
 
-    DefaultCounter(String key, Jedis jedis) {
+    DefaultCounter(String key, RedisExecutor executor) {
         this.key = key;
-        this.jedis = jedis;
+        this.executor = executor;
     }
 
 
     @Override
     public Number get() {
-        return Optional.ofNullable(jedis.get(key))
+        return Optional.ofNullable(executor.apply(jedis -> jedis.get(key)))
                 .filter(IS_NOT_EMPTY)
                 .map(Double::valueOf)
                 .orElse(0D);
@@ -56,7 +55,7 @@ class DefaultCounter implements Counter {
     @Override
     public Number increment(Number value) throws NullPointerException {
         Objects.requireNonNull(value, "value is required");
-        return jedis.incrByFloat(key, value.doubleValue());
+        return executor.apply(jedis -> jedis.incrByFloat(key, value.doubleValue()));
     }
 
     @Override
@@ -67,23 +66,23 @@ class DefaultCounter implements Counter {
     @Override
     public Number decrement(Number value) {
         Objects.requireNonNull(value, "value is required");
-        return jedis.incrByFloat(key, -value.doubleValue());
+        return executor.apply(jedis -> jedis.incrByFloat(key, -value.doubleValue()));
     }
 
     @Override
     public void delete() {
-        jedis.del(key);
+        executor.apply(jedis -> jedis.del(key));
     }
 
     @Override
     public void expire(Duration ttl) throws NullPointerException {
         Objects.requireNonNull(ttl, "ttl is required");
-        jedis.expire(key, (int) ttl.getSeconds());
+        executor.apply(jedis -> jedis.expire(key, (int) ttl.getSeconds()));
     }
 
     @Override
     public void persist() {
-        jedis.persist(key);
+        executor.apply(jedis -> jedis.persist(key));
     }
 
     @Override
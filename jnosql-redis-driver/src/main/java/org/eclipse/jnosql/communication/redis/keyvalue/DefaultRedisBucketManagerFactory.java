@@ -14,10 +14,10 @@
  */
 package org.eclipse.jnosql.communication.redis.keyvalue;
 
-import org.eclipse.jnosql.communication.driver.JsonbSupplier;
-import redis.clients.jedis.JedisPool;
+import jakarta.nosql.keyvalue.BucketManager;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import org.eclipse.jnosql.communication.driver.cache.NearCacheConfiguration;
 
-import javax.json.bind.Jsonb;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
@@ -27,72 +27,111 @@ import static java.util.Objects.requireNonNull;
 
 class DefaultRedisBucketManagerFactory implements RedisBucketManagerFactory {
 
-    private static final Jsonb JSON = JsonbSupplier.getInstance().get();
+    private final RedisConnections connections;
 
-    private final JedisPool jedisPool;
+    private final ValueCodec codec;
 
-    DefaultRedisBucketManagerFactory(JedisPool jedisPool) {
-        this.jedisPool = jedisPool;
+    private final int batchSize;
+
+    private final int pageSize;
+
+    private final boolean hashTag;
+
+    private final RedisClientTracking tracking;
+
+    DefaultRedisBucketManagerFactory(RedisConnections connections) {
+        this(connections, ValueCodec.getInstance(), RedisBucketManager.DEFAULT_BATCH_SIZE,
+                RedisCollection.DEFAULT_PAGE_SIZE, false, null);
+    }
+
+    /**
+     * @param clientCache the client-side cache configuration, or null when the cache is disabled
+     */
+    DefaultRedisBucketManagerFactory(RedisConnections connections, ValueCodec codec, int batchSize, int pageSize,
+                                     boolean hashTag, NearCacheConfiguration clientCache) {
+        this.connections = connections;
+        this.codec = codec;
+        this.batchSize = batchSize;
+        this.pageSize = pageSize;
+        this.hashTag = hashTag;
+        this.tracking = clientCache == null ? null : connections.tracking(clientCache);
     }
 
 
     @Override
-    public RedisBucketManager getBucketManager(String bucketName) {
+    public BucketManager getBucketManager(String bucketName) {
         requireNonNull(bucketName, "bucket name is required");
 
-        return new RedisBucketManager(bucketName, JSON, jedisPool.getResource());
+        RedisBucketManager manager = new RedisBucketManager(bucketName, codec, connections.executor(), batchSize,
+                hashTag);
+        if (tracking == null) {
+            return manager;
+        }
+        return tracking.track(RedisUtils.prefix(bucketName, hashTag), manager);
     }
 
     @Override
     public <T> List<T> getList(String bucketName, Class<T> clazz) {
         requireNonNull(bucketName, "bucket name is required");
         requireNonNull(clazz, "Class type is required");
-        return new RedisList<>(jedisPool.getResource(), clazz, bucketName);
+        return new RedisList<>(connections.executor(), clazz, bucketName, pageSize);
     }
 
     @Override
     public <T> Set<T> getSet(String bucketName, Class<T> clazz) {
         requireNonNull(bucketName, "bucket name is required");
         requireNonNull(clazz, "Class type is required");
-        return new RedisSet<>(jedisPool.getResource(), clazz, bucketName);
+        return new RedisSet<>(connections.executor(), clazz, bucketName);
     }
 
     @Override
     public <T> Queue<T> getQueue(String bucketName, Class<T> clazz) {
         requireNonNull(bucketName, "bucket name is required");
         requireNonNull(clazz, "Class type is required");
-        return new RedisQueue<>(jedisPool.getResource(), clazz, bucketName);
+        return new RedisQueue<>(connections.executor(), clazz, bucketName, pageSize);
     }
 
     @Override
     public <K, V> Map<K, V> getMap(String bucketName, Class<K> keyValue, Class<V> valueValue) {
         requireNonNull(bucketName, "bucket name is required");
         requireNonNull(valueValue, "Class type is required");
-        return new RedisMap<>(jedisPool.getResource(), keyValue, valueValue, bucketName);
+        return new RedisMap<>(connections.executor(), keyValue, valueValue, bucketName, pageSize);
     }
 
     @Override
     public SortedSet getSortedSet(String key) throws NullPointerException {
         requireNonNull(key, "key is required");
-        return new DefaultSortedSet(jedisPool.getResource(), key);
+        return new DefaultSortedSet(connections.executor(), key);
     }
 
     @Override
     public Counter getCounter(String key) throws NullPointerException {
         requireNonNull(key, "key is required");
-        return new DefaultCounter(key, jedisPool.getResource());
+        return new DefaultCounter(key, connections.executor());
     }
 
+    @Override
+    public RedisPoolStatistics getPoolStatistics() {
+        return connections.getStatistics();
+    }
 
     @Override
     public void close() {
-        jedisPool.close();
+        if (tracking != null) {
+            tracking.close();
+        }
+        connections.close();
     }
 
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("RedisBucketManagerFactory{");
-        sb.append("jedisPool=").append(jedisPool);
+        sb.append("connections=").append(connections);
+        sb.append(", codec=").append(codec.getName());
+        sb.append(", batchSize=").append(batchSize);
+        sb.append(", pageSize=").append(pageSize);
+        sb.append(", hashTag=").append(hashTag);
+        sb.append(", tracking=").append(tracking);
         sb.append('}');
         return sb.toString();
     }
@@ -16,7 +16,6 @@
 package org.eclipse.jnosql.communication.redis.keyvalue;
 
 
-import redis.clients.jedis.Jedis;
 
 import java.time.Duration;
 import java.util.List;
@@ -33,33 +32,33 @@ class DefaultSortedSet implements SortedSet {
     private static final int LAST_ELEMENT = -1;
     private String key;
 
-    private Jedis jedis;
+    private final RedisExecutor executor;
 
-    DefaultSortedSet(Jedis jedis, String keyspace) {
-        Objects.requireNonNull(jedis, "jedis is required");
+    DefaultSortedSet(RedisExecutor executor, String keyspace) {
+        Objects.requireNonNull(executor, "executor is required");
         Objects.requireNonNull(keyspace, "keyspace is required");
         this.key = keyspace;
-        this.jedis = jedis;
+        this.executor = executor;
     }
 
     @Override
     public void add(String member, Number value) throws NullPointerException {
         Objects.requireNonNull(member, "member is required");
         Objects.requireNonNull(value, "value is required");
-        jedis.zadd(key, value.doubleValue(), member);
+        executor.apply(jedis -> jedis.zadd(key, value.doubleValue(), member));
     }
 
     @Override
     public void add(Ranking ranking) throws NullPointerException {
         Objects.requireNonNull(ranking, "ranking is required");
-        jedis.zadd(key, ranking.getPoints().doubleValue(), ranking.getMember());
+        executor.apply(jedis -> jedis.zadd(key, ranking.getPoints().doubleValue(), ranking.getMember()));
     }
 
     @Override
     public Number increment(String member, Number value) throws NullPointerException {
         Objects.requireNonNull(member, "member is required");
         Objects.requireNonNull(value, "value is required");
-        return jedis.zincrby(key, value.doubleValue(), member);
+        return executor.apply(jedis -> jedis.zincrby(key, value.doubleValue(), member));
     }
 
     @Override
@@ -71,12 +70,12 @@ class DefaultSortedSet implements SortedSet {
 
     @Override
     public void remove(String member) throws NullPointerException {
-        jedis.zrem(key, member);
+        executor.apply(jedis -> jedis.zrem(key, member));
     }
 
     @Override
     public int size() {
-        return (int) jedis.zcard(key);
+        return executor.apply(jedis -> jedis.zcard(key)).intValue();
     }
 
     @Override
@@ -86,31 +85,31 @@ class DefaultSortedSet implements SortedSet {
 
     @Override
     public void delete() {
-        jedis.del(key);
+        executor.apply(jedis -> jedis.del(key));
     }
 
 
     @Override
     public void expire(Duration ttl) throws NullPointerException {
         Objects.requireNonNull(ttl, "ttl is required");
-        jedis.expire(key, (int) ttl.getSeconds());
+        executor.apply(jedis -> jedis.expire(key, (int) ttl.getSeconds()));
     }
 
     @Override
     public void persist() {
-        jedis.persist(key);
+        executor.apply(jedis -> jedis.persist(key));
     }
 
     @Override
     public List<Ranking> range(long start, long end) {
-        return jedis.zrangeWithScores(key, start, end).stream()
+        return executor.apply(jedis -> jedis.zrangeWithScores(key, start, end)).stream()
                 .map(t -> new DefaultRanking(t.getElement(), t.getScore()))
                 .collect(toList());
     }
 
     @Override
     public List<Ranking> revRange(long start, long end) {
-        return jedis.zrevrangeWithScores(key, start, end).stream()
+        return executor.apply(jedis -> jedis.zrevrangeWithScores(key, start, end)).stream()
                 .map(t -> new DefaultRanking(t.getElement(), t.getScore()))
                 .collect(toList());
     }
@@ -127,7 +126,7 @@ class DefaultSortedSet implements SortedSet {
 
     @Override
     public void clear() {
-        jedis.del(key);
+        executor.apply(jedis -> jedis.del(key));
     }
 
     @Override
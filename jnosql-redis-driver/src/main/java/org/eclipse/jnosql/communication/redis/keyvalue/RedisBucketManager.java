@@ -19,39 +19,82 @@ package org.eclipse.jnosql.communication.redis.keyvalue;
 import jakarta.nosql.Value;
 import jakarta.nosql.keyvalue.BucketManager;
 import jakarta.nosql.keyvalue.KeyValueEntity;
-import org.eclipse.jnosql.communication.driver.ValueJSON;
-import redis.clients.jedis.Jedis;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import org.eclipse.jnosql.communication.driver.metrics.Operation;
+import org.eclipse.jnosql.communication.driver.metrics.OperationMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.OperationPhase;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.commands.JedisBinaryCommands;
+import redis.clients.jedis.commands.PipelineBinaryCommands;
+import redis.clients.jedis.exceptions.JedisRedirectionException;
+import redis.clients.jedis.params.SetParams;
+import redis.clients.jedis.util.SafeEncoder;
 
-import javax.json.bind.Jsonb;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
-
-import static java.util.stream.Collectors.toList;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
- * The redis implementation to {@link BucketManager}
+ * The redis implementation to {@link BucketManager}. The operations with many keys are split in batches of
+ * {@link RedisConfigurations#BATCH_SIZE} keys, each batch is a single {@code MSET}, {@code MGET} or {@code DEL}
+ * command, or a pipeline of {@code SET ... PX} commands when there is a TTL. On a Redis Cluster each batch is
+ * grouped by hash slot, one {@code MSET}, {@code MGET} or {@code DEL} to each slot, and the commands of a batch
+ * are pipelined to each node, so a batch costs a round trip per node instead of one per slot; with
+ * {@link RedisConfigurations#HASH_TAG} all the keys of a bucket share a slot, so each batch is a single command.
+ * A command that a node redirects while the slots move is sent again through the cluster client, which follows
+ * the redirection.
  */
 public class RedisBucketManager implements BucketManager {
 
+    private static final OperationMetrics METRICS = OperationMetrics.of("redis");
+
+    static final int DEFAULT_BATCH_SIZE = 1000;
+
     private final String nameSpace;
-    private final Jsonb jsonB;
+    private final ValueCodec codec;
+
+    private final RedisExecutor executor;
+
+    private final int batchSize;
 
-    private final Jedis jedis;
+    private final boolean hashTag;
 
-    RedisBucketManager(String nameSpace, Jsonb provider, Jedis jedis) {
+    RedisBucketManager(String nameSpace, ValueCodec codec, RedisExecutor executor) {
+        this(nameSpace, codec, executor, DEFAULT_BATCH_SIZE, false);
+    }
+
+    RedisBucketManager(String nameSpace, ValueCodec codec, RedisExecutor executor, int batchSize, boolean hashTag) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be greater than zero: " + batchSize);
+        }
         this.nameSpace = nameSpace;
-        this.jsonB = provider;
-        this.jedis = jedis;
+        this.codec = codec;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.hashTag = hashTag;
     }
 
     @Override
     public <K, V> void put(K key, V value) throws NullPointerException {
         Objects.requireNonNull(value, "Value is required");
         Objects.requireNonNull(key, "key is required");
-        String valideKey = RedisUtils.createKeyWithNameSpace(key.toString(), nameSpace);
-        jedis.set(valideKey, jsonB.toJson(value));
+        long start = METRICS.start();
+        byte[] encodedKey = encodeKey(key);
+        byte[] encoded = codec.encode(value);
+        METRICS.stop(Operation.PUT, OperationPhase.CONVERSION, start);
+        try {
+            executor.applyBinary(jedis -> jedis.set(encodedKey, encoded));
+        } finally {
+            METRICS.stop(Operation.PUT, start);
+        }
     }
 
     @Override
@@ -61,53 +104,217 @@ public class RedisBucketManager implements BucketManager {
 
     @Override
     public void put(KeyValueEntity entity, Duration ttl) throws NullPointerException, UnsupportedOperationException {
-        put(entity);
-        String valideKey = RedisUtils.createKeyWithNameSpace(entity.getKey().toString(), nameSpace);
-        jedis.expire(valideKey, (int) ttl.getSeconds());
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        long start = METRICS.start();
+        byte[] key = encodeKey(entity.getKey());
+        byte[] value = encodeValue(entity);
+        METRICS.stop(Operation.PUT, OperationPhase.CONVERSION, start);
+        try {
+            executor.applyBinary(jedis -> jedis.set(key, value, SetParams.setParams().px(ttl.toMillis())));
+        } finally {
+            METRICS.stop(Operation.PUT, start);
+        }
     }
 
     @Override
     public void put(Iterable<KeyValueEntity> entities) throws NullPointerException {
-        StreamSupport.stream(entities.spliterator(), false).forEach(this::put);
+        Objects.requireNonNull(entities, "entities is required");
+        long start = METRICS.start();
+        try {
+            batches(entities, batch -> {
+                byte[][] keys = encodeKeys(batch, KeyValueEntity::getKey);
+                List<byte[][]> commands = new ArrayList<>();
+                for (List<Integer> slot : slots(keys).values()) {
+                    byte[][] keysValues = new byte[slot.size() * 2][];
+                    int index = 0;
+                    for (int position : slot) {
+                        keysValues[index++] = keys[position];
+                        keysValues[index++] = encodeValue(batch.get(position));
+                    }
+                    commands.add(keysValues);
+                }
+                pipelined(commands, PipelineBinaryCommands::mset, JedisBinaryCommands::mset);
+            });
+        } finally {
+            METRICS.stop(Operation.PUT, start);
+        }
     }
 
     @Override
     public void put(Iterable<KeyValueEntity> entities, Duration ttl) throws NullPointerException, UnsupportedOperationException {
-        StreamSupport.stream(entities.spliterator(), false).forEach(this::put);
-        StreamSupport.stream(entities.spliterator(), false).map(KeyValueEntity::getKey)
-                .map(k -> RedisUtils.createKeyWithNameSpace(k.toString(), nameSpace))
-                .forEach(k -> jedis.expire(k, (int) ttl.getSeconds()));
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        long start = METRICS.start();
+        SetParams params = SetParams.setParams().px(ttl.toMillis());
+        try {
+            batches(entities, batch -> {
+                byte[][] keys = encodeKeys(batch, KeyValueEntity::getKey);
+                List<byte[][]> commands = new ArrayList<>(keys.length);
+                for (int index = 0; index < keys.length; index++) {
+                    commands.add(new byte[][]{keys[index], encodeValue(batch.get(index))});
+                }
+                pipelined(commands, (pipeline, keyValue) -> pipeline.set(keyValue[0], keyValue[1], params),
+                        (jedis, keyValue) -> jedis.set(keyValue[0], keyValue[1], params));
+            });
+        } finally {
+            METRICS.stop(Operation.PUT, start);
+        }
     }
 
     @Override
     public <K> Optional<Value> get(K key) throws NullPointerException {
-        String value = jedis.get(RedisUtils.createKeyWithNameSpace(key.toString(), nameSpace));
-        if (value != null && !value.isEmpty()) {
-            return Optional.of(ValueJSON.of(value));
+        long start = METRICS.start();
+        byte[] encodedKey = encodeKey(key);
+        byte[] value;
+        try {
+            value = executor.applyBinary(jedis -> jedis.get(encodedKey));
+        } finally {
+            METRICS.stop(Operation.GET, start);
+        }
+        if (value != null && value.length > 0) {
+            return Optional.of(codec.decode(value));
         }
         return Optional.empty();
     }
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
-        return StreamSupport.stream(keys.spliterator(), false)
-                .map(k -> jedis.get(RedisUtils.createKeyWithNameSpace(k.toString(), nameSpace)))
-                .filter(value -> value != null && !value.isEmpty())
-                .map(ValueJSON::of).collect(toList());
+        Objects.requireNonNull(keys, "keys is required");
+        long start = METRICS.start();
+        List<Value> values = new ArrayList<>();
+        try {
+            batches(keys, batch -> {
+                byte[][] encodedKeys = encodeKeys(batch, key -> key);
+                List<List<Integer>> slots = new ArrayList<>(slots(encodedKeys).values());
+                List<byte[][]> commands = new ArrayList<>(slots.size());
+                for (List<Integer> slot : slots) {
+                    commands.add(keys(encodedKeys, slot));
+                }
+                List<List<byte[]>> replies = pipelined(commands, PipelineBinaryCommands::mget,
+                        JedisBinaryCommands::mget);
+                byte[][] encodedValues = new byte[encodedKeys.length][];
+                for (int command = 0; command < slots.size(); command++) {
+                    List<Integer> slot = slots.get(command);
+                    List<byte[]> slotValues = replies.get(command);
+                    for (int index = 0; index < slotValues.size(); index++) {
+                        encodedValues[slot.get(index)] = slotValues.get(index);
+                    }
+                }
+                for (byte[] value : encodedValues) {
+                    if (value != null && value.length > 0) {
+                        values.add(codec.decode(value));
+                    }
+                }
+            });
+        } finally {
+            METRICS.stop(Operation.GET, start);
+        }
+        return values;
     }
 
     @Override
     public <K> void delete(K key) {
-        jedis.del(RedisUtils.createKeyWithNameSpace(key.toString(), nameSpace));
+        long start = METRICS.start();
+        byte[] encodedKey = encodeKey(key);
+        try {
+            executor.applyBinary(jedis -> jedis.del(encodedKey));
+        } finally {
+            METRICS.stop(Operation.DELETE, start);
+        }
     }
 
     @Override
     public <K> void delete(Iterable<K> keys) {
-        StreamSupport.stream(keys.spliterator(), false).forEach(this::delete);
+        Objects.requireNonNull(keys, "keys is required");
+        long start = METRICS.start();
+        try {
+            batches(keys, batch -> {
+                byte[][] encodedKeys = encodeKeys(batch, key -> key);
+                List<byte[][]> commands = new ArrayList<>();
+                for (List<Integer> slot : slots(encodedKeys).values()) {
+                    commands.add(keys(encodedKeys, slot));
+                }
+                pipelined(commands, PipelineBinaryCommands::del, JedisBinaryCommands::del);
+            });
+        } finally {
+            METRICS.stop(Operation.DELETE, start);
+        }
     }
 
     @Override
     public void close() {
-        jedis.close();
+        executor.close();
+    }
+
+    private <K> byte[] encodeKey(K key) {
+        Objects.requireNonNull(key, "key is required");
+        return SafeEncoder.encode(RedisUtils.createKeyWithNameSpace(key.toString(), nameSpace, hashTag));
+    }
+
+    private <T> byte[][] encodeKeys(List<T> batch, Function<T, Object> key) {
+        byte[][] keys = new byte[batch.size()][];
+        for (int index = 0; index < keys.length; index++) {
+            keys[index] = encodeKey(key.apply(batch.get(index)));
+        }
+        return keys;
+    }
+
+    private byte[] encodeValue(KeyValueEntity entity) {
+        Object value = entity.getValue();
+        Objects.requireNonNull(value, "Value is required");
+        return codec.encode(value);
+    }
+
+    /**
+     * Groups the positions of the keys by hash slot, a single server has a single group
+     */
+    private Map<Integer, List<Integer>> slots(byte[][] keys) {
+        Map<Integer, List<Integer>> slots = new LinkedHashMap<>();
+        for (int index = 0; index < keys.length; index++) {
+            slots.computeIfAbsent(executor.slot(keys[index]), slot -> new ArrayList<>()).add(index);
+        }
+        return slots;
+    }
+
+    private static byte[][] keys(byte[][] keys, List<Integer> positions) {
+        return positions.stream().map(position -> keys[position]).toArray(byte[][]::new);
+    }
+
+    /**
+     * Queues a command to each arguments in a pipeline, a pipeline to each node on a Redis Cluster, and reads the
+     * replies in order. A command that a node refuses with {@code MOVED} or {@code ASK} is sent again through the
+     * executor, which follows the redirection; any other error reply is thrown.
+     */
+    private <T> List<T> pipelined(List<byte[][]> arguments,
+                                  BiFunction<PipelineBinaryCommands, byte[][], Response<T>> pipelined,
+                                  BiFunction<JedisBinaryCommands, byte[][], T> command) {
+        List<Response<T>> replies = new ArrayList<>(arguments.size());
+        executor.pipelined(pipeline -> {
+            for (byte[][] argument : arguments) {
+                replies.add(pipelined.apply(pipeline, argument));
+            }
+        });
+        List<T> results = new ArrayList<>(arguments.size());
+        for (int index = 0; index < arguments.size(); index++) {
+            try {
+                results.add(replies.get(index).get());
+            } catch (JedisRedirectionException exception) {
+                byte[][] argument = arguments.get(index);
+                results.add(executor.applyBinary(jedis -> command.apply(jedis, argument)));
+            }
+        }
+        return results;
+    }
+
+    private <T> void batches(Iterable<T> elements, Consumer<List<T>> action) {
+        Iterator<T> iterator = elements.iterator();
+        while (iterator.hasNext()) {
+            List<T> batch = new ArrayList<>(batchSize);
+            while (iterator.hasNext() && batch.size() < batchSize) {
+                batch.add(iterator.next());
+            }
+            action.accept(batch);
+        }
     }
 }
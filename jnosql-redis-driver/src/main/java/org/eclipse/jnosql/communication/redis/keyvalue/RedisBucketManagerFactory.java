@@ -40,4 +40,12 @@ public interface RedisBucketManagerFactory extends BucketManagerFactory {
      */
     Counter getCounter(String key) throws NullPointerException;
 
+    /**
+     * Returns a snapshot of the usage of the connection pool, e.g. to check the wait for connections when the
+     * {@link RedisConfigurations#CONNECTION_MODE} is "pinned" and many structures are alive
+     *
+     * @return the pool statistics
+     */
+    RedisPoolStatistics getPoolStatistics();
+
 }
@@ -0,0 +1,338 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import jakarta.nosql.keyvalue.BucketManager;
+import org.eclipse.jnosql.communication.driver.cache.NearCacheBucketManager;
+import org.eclipse.jnosql.communication.driver.cache.NearCacheConfiguration;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.util.Pool;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The server-assisted invalidation of the {@link RedisConfigurations#CLIENT_CACHE}. Jedis speaks RESP2, so it
+ * uses two dedicated connections: a subscriber to the {@value #INVALIDATE_CHANNEL} channel, and a tracker that
+ * runs {@code CLIENT TRACKING ON REDIRECT <subscriber> BCAST PREFIX <bucket>:} to each bucket. In the broadcast
+ * mode Redis notifies every change to the prefixes, whatever connection read the key, so the managers keep
+ * reading through the pool. A heartbeat checks {@code CLIENT TRACKINGINFO} on the tracker, which also reports
+ * a broken redirect when Redis lost the subscriber. While either connection is down the caches are suspended,
+ * the reads go to Redis and are not stored, until the connections are opened and the tracking is enabled again.
+ */
+final class RedisClientTracking implements AutoCloseable {
+
+    static final String INVALIDATE_CHANNEL = "__redis__:invalidate";
+
+    private static final Logger LOGGER = Logger.getLogger(RedisClientTracking.class.getName());
+
+    private static final long HEARTBEAT_MILLIS = 1000L;
+
+    private final Pool<Jedis> pool;
+
+    private final NearCacheConfiguration configuration;
+
+    private final Map<String, Set<NearCacheBucketManager>> caches = new HashMap<>();
+
+    private final Object lock = new Object();
+
+    private final ScheduledExecutorService heartbeat;
+
+    private Jedis subscriber;
+
+    private Jedis tracker;
+
+    private long subscriberId;
+
+    private volatile boolean closed;
+
+    RedisClientTracking(Pool<Jedis> pool, NearCacheConfiguration configuration) {
+        this.pool = Objects.requireNonNull(pool, "pool is required");
+        this.configuration = Objects.requireNonNull(configuration, "configuration is required");
+        synchronized (lock) {
+            connect();
+        }
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "jnosql-redis-tracking-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat.scheduleWithFixedDelay(this::check, HEARTBEAT_MILLIS, HEARTBEAT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Decorates the manager of a bucket with a cache that Redis invalidates
+     *
+     * @param prefix  the prefix of the bucket keys, e.g. "users:"
+     * @param manager the bucket manager
+     * @return the cached bucket manager
+     */
+    BucketManager track(String prefix, BucketManager manager) {
+        NearCacheBucketManager cached = NearCacheBucketManager.of(manager, configuration, Object::toString);
+        synchronized (lock) {
+            Set<NearCacheBucketManager> managers = caches.get(prefix);
+            if (managers == null) {
+                Set<String> tracked = tracked();
+                managers = Collections.newSetFromMap(new WeakHashMap<>());
+                caches.put(prefix, managers);
+                if (tracker != null) {
+                    try {
+                        enable(tracked);
+                    } catch (JedisException exception) {
+                        LOGGER.log(Level.WARNING, "It cannot track the Redis keys with the prefix " + prefix
+                                + ", the client cache is suspended until the tracking is back", exception);
+                        suspend();
+                    }
+                }
+            }
+            if (tracker == null) {
+                cached.suspend();
+            }
+            managers.add(cached);
+        }
+        return cached;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        heartbeat.shutdownNow();
+        synchronized (lock) {
+            suspend();
+        }
+    }
+
+    @Override
+    public String toString() {
+        synchronized (lock) {
+            return "RedisClientTracking{" +
+                    "prefixes=" + caches.keySet() +
+                    ", subscriberId=" + subscriberId +
+                    ", connected=" + (tracker != null) +
+                    ", configuration=" + configuration +
+                    '}';
+        }
+    }
+
+    /**
+     * Opens the subscriber and the tracker, the caller holds the lock
+     */
+    private void connect() {
+        Jedis jedis = pool.getResource();
+        this.subscriber = jedis;
+        try {
+            this.subscriberId = jedis.clientId();
+            Connection connection = jedis.getConnection();
+            connection.setTimeoutInfinite();
+            connection.sendCommand(Protocol.Command.SUBSCRIBE, INVALIDATE_CHANNEL);
+            connection.getObjectMultiBulkReply();
+            this.tracker = pool.getResource();
+            enable(Collections.emptySet());
+        } catch (RuntimeException exception) {
+            release();
+            throw exception;
+        }
+        Thread listener = new Thread(() -> listen(jedis), "jnosql-redis-tracking-" + subscriberId);
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    /**
+     * Enables the tracking to the prefixes that the previous ones do not cover. When a new prefix covers a
+     * tracked one Redis rejects it as an overlap, so the tracking starts over, and the caches are cleared once
+     * it is on again, since the changes between both commands are not notified.
+     */
+    private void enable(Set<String> previous) {
+        Set<String> current = tracked();
+        boolean restart = !current.containsAll(previous);
+        if (restart) {
+            tracker.sendCommand(Protocol.Command.CLIENT, "TRACKING", "OFF");
+        } else {
+            current.removeAll(previous);
+        }
+        if (current.isEmpty()) {
+            return;
+        }
+        List<String> arguments = new ArrayList<>();
+        Collections.addAll(arguments, "TRACKING", "ON", "REDIRECT", Long.toString(subscriberId), "BCAST");
+        for (String prefix : current) {
+            arguments.add("PREFIX");
+            arguments.add(prefix);
+        }
+        tracker.sendCommand(Protocol.Command.CLIENT, arguments.toArray(new String[0]));
+        if (restart) {
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Whether Redis reports that it cannot deliver the invalidations to the subscriber
+     */
+    private boolean isRedirectBroken() {
+        List<?> info = (List<?>) tracker.sendCommand(Protocol.Command.CLIENT, "TRACKINGINFO");
+        for (int index = 0; index + 1 < info.size(); index += 2) {
+            if ("flags".equals(SafeEncoder.encode((byte[]) info.get(index)))) {
+                for (Object flag : (List<?>) info.get(index + 1)) {
+                    if ("broken_redirect".equals(SafeEncoder.encode((byte[]) flag))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The prefixes sent to Redis: the bucket prefixes without the ones that another prefix covers,
+     * e.g. "a:b:" is inside "a:"
+     */
+    private Set<String> tracked() {
+        Set<String> tracked = new TreeSet<>();
+        String last = null;
+        for (String prefix : new TreeSet<>(caches.keySet())) {
+            if (last == null || !prefix.startsWith(last)) {
+                tracked.add(prefix);
+                last = prefix;
+            }
+        }
+        return tracked;
+    }
+
+    private void listen(Jedis jedis) {
+        Connection connection = jedis.getConnection();
+        try {
+            while (!closed) {
+                onReply(connection.getObjectMultiBulkReply());
+            }
+        } catch (JedisException exception) {
+            if (!closed) {
+                disconnect(jedis, exception);
+            }
+        }
+    }
+
+    private void onReply(List<Object> reply) {
+        if (reply.size() < 3 || !"message".equals(SafeEncoder.encode((byte[]) reply.get(0)))) {
+            return;
+        }
+        Object keys = reply.get(2);
+        if (!(keys instanceof List)) {
+            invalidateAll();
+            return;
+        }
+        synchronized (lock) {
+            for (Object key : (List<?>) keys) {
+                invalidate(SafeEncoder.encode((byte[]) key));
+            }
+        }
+    }
+
+    private void invalidate(String key) {
+        for (Map.Entry<String, Set<NearCacheBucketManager>> entry : caches.entrySet()) {
+            String prefix = entry.getKey();
+            if (key.startsWith(prefix)) {
+                String bucketKey = key.substring(prefix.length());
+                entry.getValue().forEach(manager -> manager.invalidate(bucketKey));
+            }
+        }
+    }
+
+    private void invalidateAll() {
+        synchronized (lock) {
+            caches.values().forEach(managers -> managers.forEach(NearCacheBucketManager::invalidateAll));
+        }
+    }
+
+    /**
+     * Closes the connections and suspends the caches, the caller holds the lock
+     */
+    private void suspend() {
+        release();
+        caches.values().forEach(managers -> managers.forEach(NearCacheBucketManager::suspend));
+    }
+
+    /**
+     * Checks the tracking, or opens the connections again and resumes the caches when they were lost
+     */
+    private void check() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            try {
+                if (tracker == null) {
+                    connect();
+                    caches.values().forEach(managers -> managers.forEach(NearCacheBucketManager::resume));
+                } else if (isRedirectBroken()) {
+                    LOGGER.log(Level.WARNING, "Redis cannot deliver the invalidations to the subscriber, "
+                            + "the client cache is suspended until the tracking is back");
+                    suspend();
+                }
+            } catch (JedisException exception) {
+                LOGGER.log(Level.FINE, "The Redis client tracking is not available", exception);
+                suspend();
+            }
+        }
+    }
+
+    private void disconnect(Jedis jedis, JedisException exception) {
+        synchronized (lock) {
+            if (subscriber == jedis) {
+                LOGGER.log(Level.WARNING, "The Redis invalidation connection was lost, the client cache is "
+                        + "suspended until the tracking is back", exception);
+                suspend();
+            }
+        }
+    }
+
+    /**
+     * Destroys the connections instead of returning them to the pool, they are subscribed or tracking
+     */
+    private void release() {
+        if (subscriber != null) {
+            release(subscriber);
+            subscriber = null;
+        }
+        if (tracker != null) {
+            release(tracker);
+            tracker = null;
+        }
+    }
+
+    private void release(Jedis jedis) {
+        try {
+            jedis.disconnect();
+            pool.returnBrokenResource(jedis);
+        } catch (RuntimeException exception) {
+            LOGGER.log(Level.FINE, "It cannot release a Redis tracking connection", exception);
+        }
+    }
+}
@@ -16,34 +16,45 @@
 package org.eclipse.jnosql.communication.redis.keyvalue;
 
 import org.eclipse.jnosql.communication.driver.JsonbSupplier;
-import redis.clients.jedis.Jedis;
 
 import javax.json.bind.Jsonb;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 
 abstract class RedisCollection<T> implements Collection<T> {
 
     protected static final  Jsonb JSONB = JsonbSupplier.getInstance().get();
 
+    static final int DEFAULT_PAGE_SIZE = 1000;
+
     protected final Class<T> clazz;
 
     protected final String keyWithNameSpace;
 
-    protected final Jedis jedis;
+    protected final RedisExecutor executor;
 
     protected final boolean isString;
 
+    protected final int pageSize;
 
+    RedisCollection(RedisExecutor executor, Class<T> clazz, String keyWithNameSpace) {
+        this(executor, clazz, keyWithNameSpace, DEFAULT_PAGE_SIZE);
+    }
 
-    RedisCollection(Jedis jedis, Class<T> clazz, String keyWithNameSpace) {
+    RedisCollection(RedisExecutor executor, Class<T> clazz, String keyWithNameSpace, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be greater than zero: " + pageSize);
+        }
         this.clazz = clazz;
         this.keyWithNameSpace = keyWithNameSpace;
-        this.jedis = jedis;
+        this.executor = executor;
         this.isString = String.class.equals(clazz);
+        this.pageSize = pageSize;
     }
 
     @Override
@@ -59,7 +70,7 @@ abstract class RedisCollection<T> implements Collection<T> {
 
     @Override
     public int size() {
-        return (int) jedis.llen(keyWithNameSpace);
+        return executor.apply(jedis -> jedis.llen(keyWithNameSpace)).intValue();
     }
 
     @Override
@@ -74,7 +85,7 @@ abstract class RedisCollection<T> implements Collection<T> {
 
     @Override
     public Iterator<T> iterator() {
-        return toArrayList().iterator();
+        return new PageIterator();
     }
 
     @Override
@@ -124,21 +135,13 @@ abstract class RedisCollection<T> implements Collection<T> {
         if (!clazz.isInstance(o)) {
             throw new ClassCastException("The object required is " + clazz.getName());
         }
-        int index = indexOf(o);
-
-        if (index == -1) {
-            return false;
-        } else {
-            remove(index);
-        }
-
-        return true;
+        return executor.apply(jedis -> jedis.lrem(keyWithNameSpace, 1, serialize(o))) > 0;
     }
 
     protected T remove(int index) {
-        String value = jedis.lindex(keyWithNameSpace, (long) index);
+        String value = executor.apply(jedis -> jedis.lindex(keyWithNameSpace, (long) index));
         if (value != null && !value.isEmpty()) {
-            jedis.lrem(keyWithNameSpace, 1, value);
+            executor.apply(jedis -> jedis.lrem(keyWithNameSpace, 1, value));
             return serialize(value);
         }
         return null;
@@ -150,30 +153,19 @@ abstract class RedisCollection<T> implements Collection<T> {
             return -1;
         }
 
-        String value = serialize(o);
-        for (int index = 0; index < size(); index++) {
-            String findedValue = jedis.lindex(keyWithNameSpace, (long) index);
-            if (value.equals(findedValue)) {
-                return index;
-            }
-        }
-        return -1;
+        Long index = executor.apply(jedis -> jedis.lpos(keyWithNameSpace, serialize(o)));
+        return index == null ? -1 : index.intValue();
     }
 
 
     protected List<T> toArrayList() {
         List<T> list = new ArrayList<>();
-        for (int index = 0; index < size(); index++) {
-            T element = get(index);
-            if (element != null) {
-                list.add(element);
-            }
-        }
+        iterator().forEachRemaining(list::add);
         return list;
     }
 
     protected T get(int index) {
-        String value = jedis.lindex(keyWithNameSpace, index);
+        String value = executor.apply(jedis -> jedis.lindex(keyWithNameSpace, index));
         if (value == null || value.isEmpty()) {
             return null;
         }
@@ -214,4 +206,50 @@ abstract class RedisCollection<T> implements Collection<T> {
         return false;
     }
 
+    /**
+     * Reads the list lazily, one {@code LRANGE} of {@link #pageSize} elements at a time.
+     */
+    private class PageIterator implements Iterator<T> {
+
+        private long start;
+
+        private Iterator<String> page = Collections.emptyIterator();
+
+        private boolean lastPage;
+
+        private T next;
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (!page.hasNext()) {
+                    if (lastPage) {
+                        return false;
+                    }
+                    long end = start + pageSize - 1;
+                    List<String> values = executor.apply(jedis -> jedis.lrange(keyWithNameSpace, start, end));
+                    start += values.size();
+                    lastPage = values.size() < pageSize;
+                    page = values.iterator();
+                    continue;
+                }
+                String value = page.next();
+                if (value != null && !value.isEmpty()) {
+                    next = serialize(value);
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There is no more elements on the list: " + keyWithNameSpace);
+            }
+            T element = next;
+            next = null;
+            return element;
+        }
+    }
+
 }
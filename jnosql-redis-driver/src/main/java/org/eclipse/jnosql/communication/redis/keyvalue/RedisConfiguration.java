@@ -21,13 +21,29 @@ import jakarta.nosql.Settings;
 import jakarta.nosql.Settings.SettingsBuilder;
 import jakarta.nosql.keyvalue.KeyValueConfiguration;
 import org.eclipse.jnosql.communication.driver.ConfigurationReader;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import org.eclipse.jnosql.communication.driver.cache.NearCacheConfiguration;
+import org.eclipse.jnosql.communication.driver.cache.NearCacheEviction;
+import org.eclipse.jnosql.communication.driver.compression.CompressedValueCodec;
+import org.eclipse.jnosql.communication.driver.compression.ValueCompression;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import redis.clients.jedis.ConnectionPoolConfig;
+import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisCluster;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.JedisSentinelPool;
+import redis.clients.jedis.util.Pool;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toSet;
 
 /**
  * The redis implementation of {@link KeyValueConfiguration} whose returns {@link RedisBucketManagerFactory}.
@@ -44,6 +60,8 @@ public final class RedisConfiguration implements KeyValueConfiguration {
     private static final int DEFAULT_MAX_IDLE = 10;
     private static final int DEFAULT_MIN_IDLE = 1;
     private static final int DEFAULT_MAX_WAIT_MILLIS = 3000;
+    private static final int DEFAULT_CLUSTER_MAX_ATTEMPTS = 5;
+    private static final String DEFAULT_SENTINEL_MASTER_NAME = "mymaster";
 
     /**
      * Creates a {@link RedisConfiguration} from map configuration
@@ -65,7 +83,17 @@ public final class RedisConfiguration implements KeyValueConfiguration {
      */
     public RedisBucketManagerFactory get(JedisPool jedisPool) {
         Objects.requireNonNull(jedisPool, "jedisPool is required");
-        return new DefaultRedisBucketManagerFactory(jedisPool);
+        return new DefaultRedisBucketManagerFactory(RedisConnections.of(jedisPool, RedisConnectionMode.PINNED));
+    }
+
+    /**
+     * Creates a {@link RedisBucketManagerFactory} instance from a {@link JedisCluster}
+     * @param cluster the Redis Cluster client
+     * @return a {@link RedisBucketManagerFactory} instance
+     */
+    public RedisBucketManagerFactory get(JedisCluster cluster) {
+        Objects.requireNonNull(cluster, "cluster is required");
+        return new DefaultRedisBucketManagerFactory(RedisConnections.of(cluster));
     }
 
     @Override
@@ -78,9 +106,66 @@ public final class RedisConfiguration implements KeyValueConfiguration {
     public RedisBucketManagerFactory get(Settings settings) {
         Objects.requireNonNull(settings, "settings is required");
 
-        JedisPoolConfig poolConfig = getJedisPoolConfig(settings);
-        JedisPool jedisPool = getJedisPool(settings, poolConfig);
-        return new DefaultRedisBucketManagerFactory(jedisPool);
+        RedisTopology topology = settings.get(RedisConfigurations.TOPOLOGY)
+                .map(Object::toString).map(RedisTopology::parse)
+                .orElse(RedisTopology.STANDALONE);
+        int batchSize = settings.get(RedisConfigurations.BATCH_SIZE)
+                .map(Object::toString).map(Integer::parseInt)
+                .orElse(RedisBucketManager.DEFAULT_BATCH_SIZE);
+        int pageSize = settings.get(RedisConfigurations.PAGE_SIZE)
+                .map(Object::toString).map(Integer::parseInt)
+                .orElse(RedisCollection.DEFAULT_PAGE_SIZE);
+        RedisConnectionMode mode = settings.get(RedisConfigurations.CONNECTION_MODE)
+                .map(Object::toString).map(RedisConnectionMode::parse)
+                .orElse(RedisConnectionMode.PINNED);
+        boolean hashTag = settings.get(RedisConfigurations.HASH_TAG)
+                .map(Object::toString).map(Boolean::parseBoolean)
+                .orElse(false);
+        RedisConnections connections;
+        switch (topology) {
+            case CLUSTER:
+                connections = RedisConnections.of(getJedisCluster(settings));
+                break;
+            case SENTINEL:
+                connections = RedisConnections.of(getJedisSentinelPool(settings, getJedisPoolConfig(settings)), mode);
+                break;
+            default:
+                connections = RedisConnections.of(getJedisPool(settings, getJedisPoolConfig(settings)), mode);
+        }
+        try {
+            return new DefaultRedisBucketManagerFactory(connections, getCodec(settings), batchSize, pageSize,
+                    hashTag, getClientCache(settings));
+        } catch (RuntimeException exception) {
+            connections.close();
+            throw exception;
+        }
+    }
+
+    private NearCacheConfiguration getClientCache(Settings settings) {
+        boolean enabled = settings.get(RedisConfigurations.CLIENT_CACHE)
+                .map(Object::toString).map(Boolean::parseBoolean)
+                .orElse(false);
+        if (!enabled) {
+            return null;
+        }
+        NearCacheConfiguration.NearCacheConfigurationBuilder builder = NearCacheConfiguration.builder();
+        settings.get(RedisConfigurations.CLIENT_CACHE_MAX_SIZE)
+                .map(Object::toString).map(Integer::parseInt)
+                .ifPresent(builder::maximumSize);
+        settings.get(RedisConfigurations.CLIENT_CACHE_EVICTION)
+                .map(Object::toString).map(NearCacheEviction::parse)
+                .ifPresent(builder::eviction);
+        return builder.build();
+    }
+
+    private ValueCodec getCodec(Settings settings) {
+        ValueCodec codec = settings.get(RedisConfigurations.VALUE_CODEC)
+                .map(Object::toString).map(ValueCodec::of)
+                .orElseGet(ValueCodec::getInstance);
+        return ValueCompression.of(settings, RedisConfigurations.VALUE_COMPRESSION,
+                        RedisConfigurations.VALUE_COMPRESSION_THRESHOLD)
+                .<ValueCodec>map(compression -> CompressedValueCodec.of(codec, compression))
+                .orElse(codec);
     }
 
 
@@ -93,24 +178,78 @@ public final class RedisConfiguration implements KeyValueConfiguration {
                 .map(Object::toString).map(Integer::parseInt)
                 .orElse(DEFAULT_PORT);
 
-        Integer timeout = settings.get(RedisConfigurations.TIMEOUT)
+        return new JedisPool(poolConfig, localhost, port, getTimeout(settings), getPassword(settings),
+                getDatabase(settings), getClientName(settings));
+    }
+
+    private Pool<Jedis> getJedisSentinelPool(Settings settings, JedisPoolConfig poolConfig) {
+        Set<String> sentinels = getHosts(settings, RedisConfigurations.SENTINEL_HOSTS);
+        String masterName = settings.get(RedisConfigurations.SENTINEL_MASTER_NAME)
+                .map(Object::toString).orElse(DEFAULT_SENTINEL_MASTER_NAME);
+        return new JedisSentinelPool(masterName, sentinels, poolConfig, getTimeout(settings),
+                getPassword(settings), getDatabase(settings), getClientName(settings));
+    }
+
+    private JedisCluster getJedisCluster(Settings settings) {
+        Set<HostAndPort> nodes = getHosts(settings, RedisConfigurations.CLUSTER_HOSTS).stream()
+                .map(HostAndPort::from)
+                .collect(toSet());
+        int maxAttempts = settings.get(RedisConfigurations.CLUSTER_MAX_ATTEMPTS)
+                .map(Object::toString).map(Integer::parseInt)
+                .orElse(DEFAULT_CLUSTER_MAX_ATTEMPTS);
+        DefaultJedisClientConfig clientConfig = DefaultJedisClientConfig.builder()
+                .timeoutMillis(getTimeout(settings))
+                .password(getPassword(settings))
+                .clientName(getClientName(settings))
+                .build();
+        ConnectionPoolConfig poolConfig = new ConnectionPoolConfig();
+        configurePool(settings, poolConfig);
+        return new JedisCluster(nodes, clientConfig, maxAttempts, poolConfig);
+    }
+
+    private Set<String> getHosts(Settings settings, RedisConfigurations hosts) {
+        Set<String> values = settings.get(hosts)
+                .map(Object::toString)
+                .map(value -> Arrays.stream(value.split(","))
+                        .map(String::trim)
+                        .filter(host -> !host.isEmpty())
+                        .collect(toSet()))
+                .orElse(Set.of());
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("The hosts are required on " + hosts.get());
+        }
+        return values;
+    }
+
+    private int getTimeout(Settings settings) {
+        return settings.get(RedisConfigurations.TIMEOUT)
                 .map(Object::toString).map(Integer::parseInt)
                 .orElse(DEFAULT_TIMEOUT);
+    }
 
-        String password = settings.getSupplier(asList(RedisConfigurations.PASSWORD, Configurations.PASSWORD))
+    private String getPassword(Settings settings) {
+        return settings.getSupplier(asList(RedisConfigurations.PASSWORD, Configurations.PASSWORD))
                 .map(Object::toString).orElse(null);
-        Integer database = settings.get(RedisConfigurations.DATABASE)
+    }
+
+    private int getDatabase(Settings settings) {
+        return settings.get(RedisConfigurations.DATABASE)
                 .map(Object::toString).map(Integer::parseInt)
                 .orElse(DEFAULT_DATABASE);
+    }
 
-        String clientName = settings.get(RedisConfigurations.CLIENT_NAME)
+    private String getClientName(Settings settings) {
+        return settings.get(RedisConfigurations.CLIENT_NAME)
                 .map(Object::toString).orElse(null);
-        return new JedisPool(poolConfig, localhost, port, timeout, password, database, clientName);
     }
 
     private JedisPoolConfig getJedisPoolConfig(Settings settings) {
         JedisPoolConfig poolConfig = new JedisPoolConfig();
+        configurePool(settings, poolConfig);
+        return poolConfig;
+    }
 
+    private void configurePool(Settings settings, GenericObjectPoolConfig<?> poolConfig) {
 
         poolConfig.setMaxTotal(settings.get(RedisConfigurations.MAX_TOTAL)
                 .map(Object::toString).map(Integer::parseInt)
@@ -125,7 +264,6 @@ public final class RedisConfiguration implements KeyValueConfiguration {
         poolConfig.setMaxWaitMillis(settings.get(RedisConfigurations.MAX_WAIT_MILLIS)
                 .map(Object::toString).map(Integer::parseInt)
                 .orElse(DEFAULT_MAX_WAIT_MILLIS));
-        return poolConfig;
     }
 
 }
@@ -70,7 +70,81 @@ public enum RedisConfigurations implements Supplier<String> {
      * The value for the {@code maxWait} configuration attribute for pools created with this configuration instance.
      * The max wait on millis on {@link redis.clients.jedis.JedisPoolConfig}, the default value 3000
      */
-    MAX_WAIT_MILLIS("redis.max.wait.millis");
+    MAX_WAIT_MILLIS("redis.max.wait.millis"),
+    /**
+     * The {@link org.eclipse.jnosql.communication.driver.ValueCodec} name the {@link RedisBucketManager} uses to
+     * write the values, e.g. "json" or "cbor", the default value is "json"
+     */
+    VALUE_CODEC("redis.value.codec"),
+    /**
+     * The compressor the {@link RedisBucketManager} uses to compress the large values, "deflate" or "lz4",
+     * the compression is disabled by default
+     *
+     * @see org.eclipse.jnosql.communication.driver.compression.ValueCompression
+     */
+    VALUE_COMPRESSION("redis.value.compression"),
+    /**
+     * The size, in bytes, from which the values are compressed, the default value is 4096
+     */
+    VALUE_COMPRESSION_THRESHOLD("redis.value.compression.threshold"),
+    /**
+     * The number of keys the {@link RedisBucketManager} sends on each command, or pipeline, when it puts, gets or
+     * deletes many keys, the default value is 1000
+     */
+    BATCH_SIZE("redis.batch.size"),
+    /**
+     * The number of elements each {@code LRANGE} or {@code HSCAN} reads when the lists, queues and maps of the
+     * {@link RedisBucketManagerFactory} are iterated, the default value is 1000
+     */
+    PAGE_SIZE("redis.page.size"),
+    /**
+     * How the managers and structures of the {@link RedisBucketManagerFactory} use the pool connections: "pinned"
+     * takes a connection for the lifetime of each manager or structure, "pooled" borrows a connection on each
+     * command and returns it right after, so they are thread-safe and do not hold idle connections.
+     * The default value is "pinned"
+     */
+    CONNECTION_MODE("redis.connection.mode"),
+    /**
+     * The Redis deployment: "standalone", "sentinel" or "cluster", the default value is "standalone"
+     */
+    TOPOLOGY("redis.topology"),
+    /**
+     * The comma separated "host:port" list of the Redis Cluster nodes used to discover the cluster, e.g.
+     * "localhost:7000,localhost:7001"
+     */
+    CLUSTER_HOSTS("redis.cluster.hosts"),
+    /**
+     * The max attempts of a command on a Redis Cluster when the slots move or a node fails, the default value is 5
+     */
+    CLUSTER_MAX_ATTEMPTS("redis.cluster.max.attempts"),
+    /**
+     * The comma separated "host:port" list of the Redis Sentinel instances, e.g. "localhost:26379"
+     */
+    SENTINEL_HOSTS("redis.sentinel.hosts"),
+    /**
+     * The name of the master that Redis Sentinel monitors, the default value is "mymaster"
+     */
+    SENTINEL_MASTER_NAME("redis.sentinel.master.name"),
+    /**
+     * Whether the {@link RedisBucketManager} wraps the bucket name in a hash tag, e.g. "{users}:otavio", so all
+     * the keys of a bucket share a Redis Cluster slot and the batches are single commands, the default value is
+     * false. Turning it on changes the key names of the existing values
+     */
+    HASH_TAG("redis.hash.tag"),
+    /**
+     * Enables the client-side cache of the {@link RedisBucketManager} values, the default value is false.
+     * Redis tracks the keys of each bucket and notifies their changes, so the cached values are invalidated even
+     * when another client writes them. It requires Redis 6.2 or later and is not supported on a Redis Cluster
+     */
+    CLIENT_CACHE("redis.client.cache"),
+    /**
+     * The maximum number of values in the client-side cache of each bucket manager, the default value is 10000
+     */
+    CLIENT_CACHE_MAX_SIZE("redis.client.cache.max.size"),
+    /**
+     * The eviction policy of the client-side cache, "lru" or "tinylfu", the default value is "tinylfu"
+     */
+    CLIENT_CACHE_EVICTION("redis.client.cache.eviction");
 
     private final String configuration;
 
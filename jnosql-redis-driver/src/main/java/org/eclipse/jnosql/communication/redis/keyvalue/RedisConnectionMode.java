@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * How the {@link RedisBucketManager} and the Redis structures use the connections of the pool
+ *
+ * @see RedisConfigurations#CONNECTION_MODE
+ */
+enum RedisConnectionMode {
+
+    /**
+     * Each manager and structure takes a connection from the pool when it is created and keeps it for its
+     * lifetime, they must not be shared across threads
+     */
+    PINNED,
+    /**
+     * Each command borrows a connection from the pool and returns it right after, the managers and structures
+     * are thread-safe and the pool size bounds the concurrent commands instead of the number of structures
+     */
+    POOLED;
+
+    /**
+     * Parses the mode from its name, ignoring the case
+     *
+     * @param mode the mode name, e.g. "pooled"
+     * @return the mode
+     * @throws NullPointerException     when mode is null
+     * @throws IllegalArgumentException when there is no mode with the name
+     */
+    static RedisConnectionMode parse(String mode) {
+        Objects.requireNonNull(mode, "mode is required");
+        for (RedisConnectionMode value : values()) {
+            if (value.name().equals(mode.trim().toUpperCase(Locale.US))) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("The Redis connection mode is not supported: " + mode
+                + ", the options are \"pinned\" and \"pooled\"");
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import org.eclipse.jnosql.communication.driver.cache.NearCacheConfiguration;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisCluster;
+import redis.clients.jedis.util.Pool;
+
+import java.util.Objects;
+
+/**
+ * The connections of a {@link DefaultRedisBucketManagerFactory}: a pool of a single server or of the master
+ * that Redis Sentinel monitors, or a Redis Cluster. It creates the {@link RedisExecutor} of each manager and
+ * structure, and the factory closes it.
+ */
+abstract class RedisConnections implements AutoCloseable {
+
+    /**
+     * @return the executor to a new manager or structure
+     */
+    abstract RedisExecutor executor();
+
+    /**
+     * @return a snapshot of the usage of the connection pools
+     */
+    abstract RedisPoolStatistics getStatistics();
+
+    /**
+     * @param configuration the cache configuration
+     * @return the invalidation of the client-side cache
+     * @throws UnsupportedOperationException when the connections cannot track the keys
+     */
+    abstract RedisClientTracking tracking(NearCacheConfiguration configuration);
+
+    @Override
+    public abstract void close();
+
+    static RedisConnections of(Pool<Jedis> pool, RedisConnectionMode mode) {
+        return new PoolConnections(pool, mode);
+    }
+
+    static RedisConnections of(JedisCluster cluster) {
+        return new ClusterConnections(cluster);
+    }
+
+    private static final class PoolConnections extends RedisConnections {
+
+        private final Pool<Jedis> pool;
+
+        private final RedisConnectionMode mode;
+
+        private final RedisExecutor pooled;
+
+        private PoolConnections(Pool<Jedis> pool, RedisConnectionMode mode) {
+            this.pool = Objects.requireNonNull(pool, "pool is required");
+            this.mode = Objects.requireNonNull(mode, "mode is required");
+            this.pooled = RedisExecutor.pooled(pool);
+        }
+
+        @Override
+        RedisExecutor executor() {
+            if (RedisConnectionMode.POOLED.equals(mode)) {
+                return pooled;
+            }
+            return RedisExecutor.pinned(pool.getResource());
+        }
+
+        @Override
+        RedisPoolStatistics getStatistics() {
+            return RedisPoolStatistics.of(pool);
+        }
+
+        @Override
+        RedisClientTracking tracking(NearCacheConfiguration configuration) {
+            return new RedisClientTracking(pool, configuration);
+        }
+
+        @Override
+        public void close() {
+            pool.close();
+        }
+
+        @Override
+        public String toString() {
+            return "PoolConnections{" +
+                    "pool=" + pool +
+                    ", mode=" + mode +
+                    '}';
+        }
+    }
+
+    private static final class ClusterConnections extends RedisConnections {
+
+        private final JedisCluster cluster;
+
+        private final RedisExecutor executor;
+
+        private ClusterConnections(JedisCluster cluster) {
+            this.cluster = Objects.requireNonNull(cluster, "cluster is required");
+            this.executor = RedisExecutor.cluster(cluster);
+        }
+
+        @Override
+        RedisExecutor executor() {
+            return executor;
+        }
+
+        @Override
+        RedisPoolStatistics getStatistics() {
+            return RedisPoolStatistics.of(cluster.getClusterNodes().values());
+        }
+
+        @Override
+        RedisClientTracking tracking(NearCacheConfiguration configuration) {
+            throw new UnsupportedOperationException("The Redis client cache is not supported on a Redis Cluster, "
+                    + "each node tracks only its own slots");
+        }
+
+        @Override
+        public void close() {
+            cluster.close();
+        }
+
+        @Override
+        public String toString() {
+            return "ClusterConnections{" +
+                    "nodes=" + cluster.getClusterNodes().keySet() +
+                    '}';
+        }
+    }
+}
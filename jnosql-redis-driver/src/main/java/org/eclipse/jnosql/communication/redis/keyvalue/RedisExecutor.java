@@ -0,0 +1,220 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import redis.clients.jedis.ClusterPipeline;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisCluster;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.commands.JedisBinaryCommands;
+import redis.clients.jedis.commands.JedisCommands;
+import redis.clients.jedis.commands.PipelineBinaryCommands;
+import redis.clients.jedis.util.JedisClusterCRC16;
+import redis.clients.jedis.util.Pool;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs the commands of the {@link RedisBucketManager} and of the Redis structures. It either pins a single
+ * {@link Jedis} for the lifetime of the structure, or it borrows a {@link Jedis} from the pool on each command
+ * and returns it right after, so the structures are safe to share across threads and do not hold connections
+ * while idle. On a Redis Cluster the {@link JedisCluster} routes each command to the node of its hash slot.
+ *
+ * @see RedisConnectionMode
+ */
+abstract class RedisExecutor implements AutoCloseable {
+
+    /**
+     * Runs a command that uses the {@link String} keys and values
+     *
+     * @param command the command
+     * @param <T>     the result type
+     * @return the command result
+     */
+    abstract <T> T apply(Function<JedisCommands, T> command);
+
+    /**
+     * Runs a command that uses the binary keys and values
+     *
+     * @param command the command
+     * @param <T>     the result type
+     * @return the command result
+     */
+    abstract <T> T applyBinary(Function<JedisBinaryCommands, T> command);
+
+    /**
+     * Sends the commands in a pipeline and waits for all the replies. On a Redis Cluster there is a pipeline to
+     * each node, the commands are not redirected, so a reply might be an error, e.g. a {@code MOVED} while the
+     * slots are resharded, that the caller finds on the {@link redis.clients.jedis.Response}.
+     *
+     * @param commands the commands to queue in the pipeline
+     */
+    abstract void pipelined(Consumer<PipelineBinaryCommands> commands);
+
+    /**
+     * The multi-key commands, e.g. {@code MSET}, must only have keys of the same hash slot on a
+     * Redis Cluster. A single server has all the slots, so it returns 0 to every key.
+     *
+     * @param key the key
+     * @return the hash slot of the key
+     */
+    int slot(byte[] key) {
+        return 0;
+    }
+
+    /**
+     * Releases the pinned connection, the pooled executor does nothing as the pool belongs to the factory
+     */
+    @Override
+    public abstract void close();
+
+    static RedisExecutor pinned(Jedis jedis) {
+        return new PinnedRedisExecutor(jedis);
+    }
+
+    static RedisExecutor pooled(Pool<Jedis> pool) {
+        return new PooledRedisExecutor(pool);
+    }
+
+    static RedisExecutor cluster(JedisCluster cluster) {
+        return new ClusterRedisExecutor(cluster);
+    }
+
+    private static final class PinnedRedisExecutor extends RedisExecutor {
+
+        private final Jedis jedis;
+
+        private PinnedRedisExecutor(Jedis jedis) {
+            this.jedis = Objects.requireNonNull(jedis, "jedis is required");
+        }
+
+        @Override
+        <T> T apply(Function<JedisCommands, T> command) {
+            return command.apply(jedis);
+        }
+
+        @Override
+        <T> T applyBinary(Function<JedisBinaryCommands, T> command) {
+            return command.apply(jedis);
+        }
+
+        @Override
+        void pipelined(Consumer<PipelineBinaryCommands> commands) {
+            Pipeline pipeline = jedis.pipelined();
+            commands.accept(pipeline);
+            pipeline.sync();
+        }
+
+        @Override
+        public void close() {
+            jedis.close();
+        }
+
+        @Override
+        public String toString() {
+            return "PinnedRedisExecutor{" +
+                    "jedis=" + jedis +
+                    '}';
+        }
+    }
+
+    private static final class PooledRedisExecutor extends RedisExecutor {
+
+        private final Pool<Jedis> pool;
+
+        private PooledRedisExecutor(Pool<Jedis> pool) {
+            this.pool = Objects.requireNonNull(pool, "pool is required");
+        }
+
+        @Override
+        <T> T apply(Function<JedisCommands, T> command) {
+            try (Jedis jedis = pool.getResource()) {
+                return command.apply(jedis);
+            }
+        }
+
+        @Override
+        <T> T applyBinary(Function<JedisBinaryCommands, T> command) {
+            try (Jedis jedis = pool.getResource()) {
+                return command.apply(jedis);
+            }
+        }
+
+        @Override
+        void pipelined(Consumer<PipelineBinaryCommands> commands) {
+            try (Jedis jedis = pool.getResource()) {
+                Pipeline pipeline = jedis.pipelined();
+                commands.accept(pipeline);
+                pipeline.sync();
+            }
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return "PooledRedisExecutor{" +
+                    "pool=" + pool +
+                    '}';
+        }
+    }
+
+    private static final class ClusterRedisExecutor extends RedisExecutor {
+
+        private final JedisCluster cluster;
+
+        private ClusterRedisExecutor(JedisCluster cluster) {
+            this.cluster = Objects.requireNonNull(cluster, "cluster is required");
+        }
+
+        @Override
+        <T> T apply(Function<JedisCommands, T> command) {
+            return command.apply(cluster);
+        }
+
+        @Override
+        <T> T applyBinary(Function<JedisBinaryCommands, T> command) {
+            return command.apply(cluster);
+        }
+
+        @Override
+        void pipelined(Consumer<PipelineBinaryCommands> commands) {
+            try (ClusterPipeline pipeline = cluster.pipelined()) {
+                commands.accept(pipeline);
+                pipeline.sync();
+            }
+        }
+
+        @Override
+        int slot(byte[] key) {
+            return JedisClusterCRC16.getSlot(key);
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return "ClusterRedisExecutor{" +
+                    "nodes=" + cluster.getClusterNodes().keySet() +
+                    '}';
+        }
+    }
+}
@@ -15,12 +15,11 @@
 
 package org.eclipse.jnosql.communication.redis.keyvalue;
 
-import redis.clients.jedis.Jedis;
 import redis.clients.jedis.args.ListPosition;
+import redis.clients.jedis.params.LPosParams;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
@@ -28,13 +27,17 @@ import java.util.Objects;
 class RedisList<T> extends RedisCollection<T> implements List<T> {
 
 
-    RedisList(Jedis jedis, Class<T> clazz, String keyWithNameSpace) {
-        super(jedis, clazz, keyWithNameSpace);
+    RedisList(RedisExecutor executor, Class<T> clazz, String keyWithNameSpace) {
+        super(executor, clazz, keyWithNameSpace);
+    }
+
+    RedisList(RedisExecutor executor, Class<T> clazz, String keyWithNameSpace, int pageSize) {
+        super(executor, clazz, keyWithNameSpace, pageSize);
     }
 
     @Override
     public int size() {
-        return (int) jedis.llen(keyWithNameSpace);
+        return executor.apply(jedis -> jedis.llen(keyWithNameSpace)).intValue();
     }
 
     @Override
@@ -53,28 +56,24 @@ class RedisList<T> extends RedisCollection<T> implements List<T> {
         return toArrayList().listIterator(index);
     }
 
-    @Override
-    public Iterator<T> iterator() {
-        return toArrayList().iterator();
-    }
-
     @Override
     public boolean add(T e) {
         Objects.requireNonNull(e);
         int index = size();
         if (index == 0) {
             if(isString) {
-                jedis.lpush(keyWithNameSpace, e.toString());
+                executor.apply(jedis -> jedis.lpush(keyWithNameSpace, e.toString()));
             } else {
-                jedis.lpush(keyWithNameSpace, JSONB.toJson(e));
+                executor.apply(jedis -> jedis.lpush(keyWithNameSpace, JSONB.toJson(e)));
             }
         } else {
-            String previewValue = jedis.lindex(keyWithNameSpace, index - 1);
+            String previewValue = executor.apply(jedis -> jedis.lindex(keyWithNameSpace, index - 1));
             if(isString) {
-                jedis.linsert(keyWithNameSpace, ListPosition.AFTER, previewValue, e.toString());
+                executor.apply(jedis -> jedis.linsert(keyWithNameSpace, ListPosition.AFTER, previewValue,
+                        e.toString()));
             }else {
-                jedis.linsert(keyWithNameSpace, ListPosition.AFTER, previewValue,
-                        JSONB.toJson(e));
+                executor.apply(jedis -> jedis.linsert(keyWithNameSpace, ListPosition.AFTER, previewValue,
+                        JSONB.toJson(e)));
             }
         }
         return true;
@@ -91,7 +90,7 @@ class RedisList<T> extends RedisCollection<T> implements List<T> {
 
     @Override
     public void clear() {
-        jedis.del(keyWithNameSpace);
+        executor.apply(jedis -> jedis.del(keyWithNameSpace));
     }
 
     @Override
@@ -103,9 +102,9 @@ class RedisList<T> extends RedisCollection<T> implements List<T> {
     public T set(int index, T element) {
         Objects.requireNonNull(element);
         if(isString) {
-            jedis.lset(keyWithNameSpace, index, element.toString());
+            executor.apply(jedis -> jedis.lset(keyWithNameSpace, index, element.toString()));
         } else {
-            jedis.lset(keyWithNameSpace, index, JSONB.toJson(element));
+            executor.apply(jedis -> jedis.lset(keyWithNameSpace, index, JSONB.toJson(element)));
         }
 
         return element;
@@ -114,12 +113,14 @@ class RedisList<T> extends RedisCollection<T> implements List<T> {
     @Override
     public void add(int index, T element) {
         Objects.requireNonNull(element);
-        String previewValue = jedis.lindex(keyWithNameSpace, index);
+        String previewValue = executor.apply(jedis -> jedis.lindex(keyWithNameSpace, index));
         if (previewValue != null && !previewValue.isEmpty()) {
             if(isString) {
-                jedis.linsert(keyWithNameSpace, ListPosition.BEFORE, previewValue, element.toString());
+                executor.apply(jedis -> jedis.linsert(keyWithNameSpace, ListPosition.BEFORE, previewValue,
+                        element.toString()));
             } else {
-                jedis.linsert(keyWithNameSpace, ListPosition.BEFORE, previewValue, JSONB.toJson(element));
+                executor.apply(jedis -> jedis.linsert(keyWithNameSpace, ListPosition.BEFORE, previewValue,
+                        JSONB.toJson(element)));
             }
 
         } else {
@@ -141,21 +142,18 @@ class RedisList<T> extends RedisCollection<T> implements List<T> {
     @Override
     public int lastIndexOf(Object o) {
         Objects.requireNonNull(o);
-
-        String value = serialize(o);
-        for (int index = size(); index > 0; --index) {
-            String findedValue = jedis.lindex(keyWithNameSpace, (long) index);
-            if (value.equals(findedValue)) {
-                return index;
-            }
+        if (!clazz.isInstance(o)) {
+            return -1;
         }
-        return -1;
+        String value = serialize(o);
+        Long index = executor.apply(jedis -> jedis.lpos(keyWithNameSpace, value, LPosParams.lPosParams().rank(-1)));
+        return index == null ? -1 : index.intValue();
     }
 
     @Override
     public List<T> subList(int fromIndex, int toIndex) {
         List<T> subList = new ArrayList<>();
-        List<String> elements = jedis.lrange(keyWithNameSpace, fromIndex, toIndex);
+        List<String> elements = executor.apply(jedis -> jedis.lrange(keyWithNameSpace, fromIndex, toIndex));
         for (String element : elements) {
             if(isString) {
                 subList.add((T) element);
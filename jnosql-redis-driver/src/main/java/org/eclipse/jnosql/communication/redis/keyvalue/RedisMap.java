@@ -16,19 +16,34 @@
 package org.eclipse.jnosql.communication.redis.keyvalue;
 
 import org.eclipse.jnosql.communication.driver.JsonbSupplier;
-import redis.clients.jedis.Jedis;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
 
 import javax.json.bind.Jsonb;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
 
+/**
+ * A {@link Map} backed by a Redis hash. The {@link #keySet()}, {@link #values()} and {@link #entrySet()} views
+ * are lazy: they read the hash with {@code HSCAN}, a page of {@link RedisConfigurations#PAGE_SIZE} fields at a
+ * time, and they reflect the changes on the hash. {@code HSCAN} might return a field more than once, so an
+ * iteration that takes more than one page skips the fields it already returned, each field is returned at most
+ * once. As {@code HSCAN} does, a field added or removed while the view is iterated might be returned or not,
+ * so the number of elements iterated might differ from {@link #size()} only when the hash changes.
+ */
 class RedisMap<K, V> implements Map<K, V> {
 
 
@@ -40,25 +55,35 @@ class RedisMap<K, V> implements Map<K, V> {
 
     private final String nameSpace;
 
-    private final Jedis jedis;
+    private final RedisExecutor executor;
 
     private final boolean isKeyString;
 
     private final boolean isValueString;
 
+    private final ScanParams scanParams;
+
+
+    RedisMap(RedisExecutor executor, Class<K> keyValue, Class<V> valueClass, String keyWithNameSpace) {
+        this(executor, keyValue, valueClass, keyWithNameSpace, RedisCollection.DEFAULT_PAGE_SIZE);
+    }
 
-    RedisMap(Jedis jedis, Class<K> keyValue, Class<V> valueClass, String keyWithNameSpace) {
+    RedisMap(RedisExecutor executor, Class<K> keyValue, Class<V> valueClass, String keyWithNameSpace, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be greater than zero: " + pageSize);
+        }
         this.keyClass = keyValue;
         this.valueClass = valueClass;
         this.nameSpace = keyWithNameSpace;
-        this.jedis = jedis;
+        this.executor = executor;
         this.isKeyString = String.class.equals(keyClass);
         this.isValueString = String.class.equals(valueClass);
+        this.scanParams = new ScanParams().count(pageSize);
     }
 
     @Override
     public int size() {
-        return jedis.hgetAll(nameSpace).size();
+        return executor.apply(jedis -> jedis.hlen(nameSpace)).intValue();
     }
 
     @Override
@@ -70,9 +95,9 @@ class RedisMap<K, V> implements Map<K, V> {
     public boolean containsKey(Object key) {
         requireNonNull(key, "key is required");
         if (isKeyString) {
-            return jedis.hexists(nameSpace, key.toString());
+            return executor.apply(jedis -> jedis.hexists(nameSpace, key.toString()));
         } else {
-            return jedis.hexists(nameSpace, JSONB.toJson(key));
+            return executor.apply(jedis -> jedis.hexists(nameSpace, JSONB.toJson(key)));
         }
     }
 
@@ -86,19 +111,24 @@ class RedisMap<K, V> implements Map<K, V> {
             valueString = JSONB.toJson(value);
         }
 
-        Map<String, String> map = createRedisMap();
-        return map.containsValue(valueString);
+        Iterator<Entry<String, String>> entries = new ScanIterator();
+        while (entries.hasNext()) {
+            if (valueString.equals(entries.next().getValue())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
     public V get(Object key) {
         requireNonNull(key, "Key is required");
 
-        String value = jedis.hget(nameSpace, JSONB.toJson(key));
+        String value;
         if (isKeyString) {
-            value = jedis.hget(nameSpace, key.toString());
+            value = executor.apply(jedis -> jedis.hget(nameSpace, key.toString()));
         } else {
-            value = jedis.hget(nameSpace, JSONB.toJson(key));
+            value = executor.apply(jedis -> jedis.hget(nameSpace, JSONB.toJson(key)));
         }
         if (value != null && !value.isEmpty()) {
             if (isValueString) {
@@ -129,7 +159,7 @@ class RedisMap<K, V> implements Map<K, V> {
         } else {
             valueJSON = JSONB.toJson(value);
         }
-        jedis.hset(nameSpace, keyJson, valueJSON);
+        executor.apply(jedis -> jedis.hset(nameSpace, keyJson, valueJSON));
         return value;
     }
 
@@ -139,9 +169,9 @@ class RedisMap<K, V> implements Map<K, V> {
         V value = get(key);
         if (value != null) {
             if (isKeyString) {
-                jedis.hdel(nameSpace, key.toString());
+                executor.apply(jedis -> jedis.hdel(nameSpace, key.toString()));
             } else {
-                jedis.hdel(nameSpace, JSONB.toJson(key));
+                executor.apply(jedis -> jedis.hdel(nameSpace, JSONB.toJson(key)));
             }
 
             return value;
@@ -153,58 +183,193 @@ class RedisMap<K, V> implements Map<K, V> {
     public void putAll(Map<? extends K, ? extends V> map) {
         requireNonNull(map, "map is required");
 
-        for (K key : map.keySet()) {
-            V value = map.get(key);
+        Map<String, String> hash = new HashMap<>();
+        for (Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            V value = entry.getValue();
             if (value != null) {
-                put(key, value);
+                K key = entry.getKey();
+                hash.put(isKeyString ? key.toString() : JSONB.toJson(key),
+                        isValueString ? value.toString() : JSONB.toJson(value));
             }
         }
+        if (!hash.isEmpty()) {
+            executor.apply(jedis -> jedis.hset(nameSpace, hash));
+        }
     }
 
     @Override
     public void clear() {
-        jedis.del(nameSpace);
+        executor.apply(jedis -> jedis.del(nameSpace));
     }
 
     @Override
     public Set<K> keySet() {
-        return createHashMap().keySet();
+        return new AbstractSet<K>() {
+            @Override
+            public Iterator<K> iterator() {
+                return scan(entry -> toKey(entry.getKey()));
+            }
+
+            @Override
+            public int size() {
+                return RedisMap.this.size();
+            }
+
+            @Override
+            public boolean contains(Object key) {
+                return key != null && containsKey(key);
+            }
+
+            @Override
+            public void clear() {
+                RedisMap.this.clear();
+            }
+        };
     }
 
     @Override
     public Collection<V> values() {
-        return createHashMap().values();
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return scan(entry -> toValue(entry.getValue()));
+            }
+
+            @Override
+            public int size() {
+                return RedisMap.this.size();
+            }
+
+            @Override
+            public boolean contains(Object value) {
+                return value != null && containsValue(value);
+            }
+
+            @Override
+            public void clear() {
+                RedisMap.this.clear();
+            }
+        };
     }
 
     @Override
     public Set<Entry<K, V>> entrySet() {
-        return createHashMap().entrySet();
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return scan(entry -> new AbstractMap.SimpleImmutableEntry<>(toKey(entry.getKey()),
+                        toValue(entry.getValue())));
+            }
+
+            @Override
+            public int size() {
+                return RedisMap.this.size();
+            }
+
+            @Override
+            public void clear() {
+                RedisMap.this.clear();
+            }
+        };
     }
 
-    private Map<String, String> createRedisMap() {
-        Map<String, String> map = jedis.hgetAll(nameSpace);
-        return map;
+    private K toKey(String key) {
+        if (isKeyString) {
+            return (K) key;
+        }
+        return JSONB.fromJson(key, keyClass);
     }
 
-    private Map<K, V> createHashMap() {
-        Map<K, V> values = new HashMap<>();
-        Map<String, String> redisMap = createRedisMap();
-        final Function<String, K> keyFunction = k -> {
-            if(isKeyString) {
-                return (K) k;
-            } else {
-                return JSONB.fromJson(k, keyClass);
+    private V toValue(String value) {
+        if (isValueString) {
+            return (V) value;
+        }
+        return JSONB.fromJson(value, valueClass);
+    }
+
+    private <T> Iterator<T> scan(Function<Entry<String, String>, T> mapper) {
+        ScanIterator entries = new ScanIterator();
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return entries.hasNext();
             }
-        };
-        final Function<String, V> valueFunction = k -> {
-            if(isValueString) {
-                return (V) redisMap.get(k);
-            } else {
-                return JSONB.fromJson(redisMap.get(k), valueClass);
+
+            @Override
+            public T next() {
+                return mapper.apply(entries.next());
+            }
+
+            @Override
+            public void remove() {
+                entries.remove();
             }
         };
-        return redisMap.keySet().stream().collect(Collectors
-                .toMap(keyFunction, valueFunction));
+    }
+
+    /**
+     * Iterates the fields of the hash with {@code HSCAN}, {@link #remove()} deletes the last field with
+     * {@code HDEL}. When the first page does not complete the iteration, it keeps the returned fields, at most
+     * the fields of the hash, to skip the ones that {@code HSCAN} returns again.
+     */
+    private class ScanIterator implements Iterator<Entry<String, String>> {
+
+        private String cursor = ScanParams.SCAN_POINTER_START;
+
+        private Iterator<Entry<String, String>> page = Collections.emptyIterator();
+
+        private boolean completed;
+
+        private Set<String> returned;
+
+        private Entry<String, String> next;
+
+        private String lastField;
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (page.hasNext()) {
+                    Entry<String, String> entry = page.next();
+                    if (returned == null || returned.add(entry.getKey())) {
+                        next = entry;
+                    }
+                } else if (completed) {
+                    return false;
+                } else {
+                    String current = cursor;
+                    ScanResult<Entry<String, String>> result = executor.apply(jedis -> jedis.hscan(nameSpace,
+                            current, scanParams));
+                    cursor = result.getCursor();
+                    completed = result.isCompleteIteration();
+                    if (returned == null && !completed) {
+                        returned = new HashSet<>();
+                    }
+                    page = result.getResult().iterator();
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Entry<String, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There is no more fields on the hash: " + nameSpace);
+            }
+            Entry<String, String> entry = next;
+            next = null;
+            lastField = entry.getKey();
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if (lastField == null) {
+                throw new IllegalStateException("next() must be called before remove()");
+            }
+            executor.apply(jedis -> jedis.hdel(nameSpace, lastField));
+            lastField = null;
+        }
     }
 
 
@@ -214,7 +379,7 @@ class RedisMap<K, V> implements Map<K, V> {
         sb.append("keyClass=").append(keyClass);
         sb.append(", valueClass=").append(valueClass);
         sb.append(", nameSpace='").append(nameSpace).append('\'');
-        sb.append(", jedis=").append(jedis);
+        sb.append(", executor=").append(executor);
         sb.append(", JsonB=").append(JSONB);
         sb.append('}');
         return sb.toString();
@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import redis.clients.jedis.util.Pool;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * A snapshot of the usage of the connection pool of a {@link RedisBucketManagerFactory}
+ *
+ * @see RedisBucketManagerFactory#getPoolStatistics()
+ */
+public final class RedisPoolStatistics {
+
+    private final int active;
+
+    private final int idle;
+
+    private final int waiters;
+
+    private final int maxTotal;
+
+    private final Duration meanBorrowWait;
+
+    private final Duration maxBorrowWait;
+
+    private RedisPoolStatistics(int active, int idle, int waiters, int maxTotal,
+                                Duration meanBorrowWait, Duration maxBorrowWait) {
+        this.active = active;
+        this.idle = idle;
+        this.waiters = waiters;
+        this.maxTotal = maxTotal;
+        this.meanBorrowWait = meanBorrowWait;
+        this.maxBorrowWait = maxBorrowWait;
+    }
+
+    /**
+     * @return the number of connections borrowed from the pool
+     */
+    public int getActive() {
+        return active;
+    }
+
+    /**
+     * @return the number of connections idle in the pool
+     */
+    public int getIdle() {
+        return idle;
+    }
+
+    /**
+     * @return the number of threads waiting for a connection
+     */
+    public int getWaiters() {
+        return waiters;
+    }
+
+    /**
+     * @return the max number of connections of the pool, a negative value means there is no limit
+     */
+    public int getMaxTotal() {
+        return maxTotal;
+    }
+
+    /**
+     * @return the mean time the recent borrows waited for a connection
+     */
+    public Duration getMeanBorrowWait() {
+        return meanBorrowWait;
+    }
+
+    /**
+     * @return the max time a borrow waited for a connection
+     */
+    public Duration getMaxBorrowWait() {
+        return maxBorrowWait;
+    }
+
+    /**
+     * @return the fraction of the max connections that are borrowed, from 0 to 1, or 0 when the pool has no
+     * limit
+     */
+    public double getUtilization() {
+        if (maxTotal <= 0) {
+            return 0D;
+        }
+        return Math.min(1D, (double) active / maxTotal);
+    }
+
+    /**
+     * Reads the statistics of a pool
+     *
+     * @param pool the pool
+     * @return the statistics
+     * @throws NullPointerException when pool is null
+     */
+    static RedisPoolStatistics of(Pool<?> pool) {
+        Objects.requireNonNull(pool, "pool is required");
+        return new RedisPoolStatistics(pool.getNumActive(), pool.getNumIdle(), pool.getNumWaiters(),
+                pool.getMaxTotal(), Duration.ofMillis(pool.getMeanBorrowWaitTimeMillis()),
+                Duration.ofMillis(pool.getMaxBorrowWaitTimeMillis()));
+    }
+
+    /**
+     * Sums the statistics of the pools, e.g. one per Redis Cluster node, the mean wait is the mean of the pools
+     * and the max wait is the max of the pools
+     *
+     * @param pools the pools
+     * @return the statistics
+     * @throws NullPointerException when pools is null
+     */
+    static RedisPoolStatistics of(Collection<? extends Pool<?>> pools) {
+        Objects.requireNonNull(pools, "pools is required");
+        int active = 0;
+        int idle = 0;
+        int waiters = 0;
+        int maxTotal = 0;
+        long meanBorrowWait = 0;
+        long maxBorrowWait = 0;
+        for (Pool<?> pool : pools) {
+            active += pool.getNumActive();
+            idle += pool.getNumIdle();
+            waiters += pool.getNumWaiters();
+            maxTotal = maxTotal < 0 || pool.getMaxTotal() < 0 ? -1 : maxTotal + pool.getMaxTotal();
+            meanBorrowWait += pool.getMeanBorrowWaitTimeMillis();
+            maxBorrowWait = Math.max(maxBorrowWait, pool.getMaxBorrowWaitTimeMillis());
+        }
+        return new RedisPoolStatistics(active, idle, waiters, maxTotal,
+                Duration.ofMillis(pools.isEmpty() ? 0 : meanBorrowWait / pools.size()),
+                Duration.ofMillis(maxBorrowWait));
+    }
+
+    @Override
+    public String toString() {
+        return "RedisPoolStatistics{" +
+                "active=" + active +
+                ", idle=" + idle +
+                ", waiters=" + waiters +
+                ", maxTotal=" + maxTotal +
+                ", meanBorrowWait=" + meanBorrowWait +
+                ", maxBorrowWait=" + maxBorrowWait +
+                '}';
+    }
+}
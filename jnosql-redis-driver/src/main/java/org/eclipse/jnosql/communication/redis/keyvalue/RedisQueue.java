@@ -15,7 +15,6 @@
 
 package org.eclipse.jnosql.communication.redis.keyvalue;
 
-import redis.clients.jedis.Jedis;
 
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -23,22 +22,26 @@ import java.util.Queue;
 
 class RedisQueue<T> extends RedisCollection<T> implements Queue<T> {
 
-    RedisQueue(Jedis jedis, Class<T> clazz, String keyWithNameSpace) {
-        super(jedis, clazz, keyWithNameSpace);
+    RedisQueue(RedisExecutor executor, Class<T> clazz, String keyWithNameSpace) {
+        super(executor, clazz, keyWithNameSpace);
+    }
+
+    RedisQueue(RedisExecutor executor, Class<T> clazz, String keyWithNameSpace, int pageSize) {
+        super(executor, clazz, keyWithNameSpace, pageSize);
     }
 
     @Override
     public void clear() {
-        jedis.del(keyWithNameSpace);
+        executor.apply(jedis -> jedis.del(keyWithNameSpace));
     }
 
     @Override
     public boolean add(T e) {
         Objects.requireNonNull(e);
         if(isString){
-            jedis.rpush(keyWithNameSpace, e.toString());
+            executor.apply(jedis -> jedis.rpush(keyWithNameSpace, e.toString()));
         } else {
-            jedis.rpush(keyWithNameSpace, JSONB.toJson(e));
+            executor.apply(jedis -> jedis.rpush(keyWithNameSpace, JSONB.toJson(e)));
         }
         return true;
     }
@@ -59,7 +62,7 @@ class RedisQueue<T> extends RedisCollection<T> implements Queue<T> {
 
     @Override
     public T poll() {
-        String value = jedis.lpop(keyWithNameSpace);
+        String value = executor.apply(jedis -> jedis.lpop(keyWithNameSpace));
         if (value != null && !value.isEmpty()) {
             if(isString){
                 return (T) value;
@@ -87,9 +90,9 @@ class RedisQueue<T> extends RedisCollection<T> implements Queue<T> {
             return null;
         }
         if(isString) {
-            return (T) jedis.lindex(keyWithNameSpace, (long) index - 1);
+            return (T) executor.apply(jedis -> jedis.lindex(keyWithNameSpace, (long) index - 1));
         } else {
-            return JSONB.fromJson(jedis.lindex(keyWithNameSpace, (long) index - 1), clazz);
+            return JSONB.fromJson(executor.apply(jedis -> jedis.lindex(keyWithNameSpace, (long) index - 1)), clazz);
         }
 
 
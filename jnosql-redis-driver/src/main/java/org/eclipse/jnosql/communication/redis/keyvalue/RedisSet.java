@@ -15,38 +15,43 @@
 
 package org.eclipse.jnosql.communication.redis.keyvalue;
 
-import redis.clients.jedis.Jedis;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
 class RedisSet<T> extends RedisCollection<T> implements Set<T> {
 
-    RedisSet(Jedis jedis, Class<T> clazz, String keyWithNameSpace) {
-        super(jedis, clazz, keyWithNameSpace);
+    RedisSet(RedisExecutor executor, Class<T> clazz, String keyWithNameSpace) {
+        super(executor, clazz, keyWithNameSpace);
     }
 
     @Override
     public boolean add(T e) {
         Objects.requireNonNull(e);
         if (isString) {
-            jedis.sadd(keyWithNameSpace, e.toString());
+            executor.apply(jedis -> jedis.sadd(keyWithNameSpace, e.toString()));
         } else {
-            jedis.sadd(keyWithNameSpace, JSONB.toJson(e));
+            executor.apply(jedis -> jedis.sadd(keyWithNameSpace, JSONB.toJson(e)));
         }
         return true;
     }
 
     @Override
     public void clear() {
-        jedis.del(keyWithNameSpace);
+        executor.apply(jedis -> jedis.del(keyWithNameSpace));
     }
 
     @Override
     public int size() {
-        return (int) jedis.scard(keyWithNameSpace);
+        return executor.apply(jedis -> jedis.scard(keyWithNameSpace)).intValue();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return toArrayList().iterator();
     }
 
     @Override
@@ -54,7 +59,7 @@ class RedisSet<T> extends RedisCollection<T> implements Set<T> {
         Objects.requireNonNull(o);
 
         String find = serialize(o);
-        Set<String> values = jedis.smembers(keyWithNameSpace);
+        Set<String> values = executor.apply(jedis -> jedis.smembers(keyWithNameSpace));
         int index = 0;
         for (String value : values) {
             if (value.contains(find)) {
@@ -76,10 +81,10 @@ class RedisSet<T> extends RedisCollection<T> implements Set<T> {
             throw new ClassCastException("The object required is " + clazz.getName());
         }
         String find = serialize(o);
-        Set<String> values = jedis.smembers(keyWithNameSpace);
+        Set<String> values = executor.apply(jedis -> jedis.smembers(keyWithNameSpace));
         for (String value : values) {
             if (value.contains(find)) {
-                jedis.srem(keyWithNameSpace, value);
+                executor.apply(jedis -> jedis.srem(keyWithNameSpace, value));
                 return true;
             }
         }
@@ -88,7 +93,7 @@ class RedisSet<T> extends RedisCollection<T> implements Set<T> {
 
     @Override
     protected List<T> toArrayList() {
-        Set<String> redisValues = jedis.smembers(keyWithNameSpace);
+        Set<String> redisValues = executor.apply(jedis -> jedis.smembers(keyWithNameSpace));
         List<T> list = new ArrayList<>();
         for (String redisValue : redisValues) {
             if (isString) {
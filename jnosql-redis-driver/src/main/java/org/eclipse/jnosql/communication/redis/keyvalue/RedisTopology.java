@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * The Redis deployments that {@link RedisConfiguration} connects to
+ *
+ * @see RedisConfigurations#TOPOLOGY
+ */
+enum RedisTopology {
+
+    /**
+     * A single server, from {@link RedisConfigurations#HOST} and {@link RedisConfigurations#PORT}
+     */
+    STANDALONE,
+    /**
+     * The master that Redis Sentinel monitors, from {@link RedisConfigurations#SENTINEL_HOSTS} and
+     * {@link RedisConfigurations#SENTINEL_MASTER_NAME}
+     */
+    SENTINEL,
+    /**
+     * A Redis Cluster, from {@link RedisConfigurations#CLUSTER_HOSTS}
+     */
+    CLUSTER;
+
+    /**
+     * Parses the topology from its name, ignoring the case
+     *
+     * @param topology the topology name, e.g. "cluster"
+     * @return the topology
+     * @throws NullPointerException     when topology is null
+     * @throws IllegalArgumentException when there is no topology with the name
+     */
+    static RedisTopology parse(String topology) {
+        Objects.requireNonNull(topology, "topology is required");
+        for (RedisTopology value : values()) {
+            if (value.name().equals(topology.trim().toUpperCase(Locale.US))) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("The Redis topology is not supported: " + topology
+                + ", the options are \"standalone\", \"sentinel\" and \"cluster\"");
+    }
+}
@@ -19,10 +19,28 @@ abstract class RedisUtils {
 
 
     public static String createKeyWithNameSpace(String key, String nameSpace) {
+        return createKeyWithNameSpace(key, nameSpace, false);
+    }
+
+    /**
+     * Creates the key with the name space as prefix. With hash tag the name space is wrapped in braces, e.g.
+     * "{users}:otavio", so Redis Cluster hashes only the name space and all the keys of a bucket share a slot.
+     */
+    public static String createKeyWithNameSpace(String key, String nameSpace, boolean hashTag) {
         if (key == null || key.isEmpty()) {
             throw new IrregularKeyValue("Key in KeyvalueStructure cannont be empty");
         }
-        return nameSpace + ":" + key;
+        return prefix(nameSpace, hashTag) + key;
+    }
+
+    /**
+     * The prefix of all the keys in the name space, e.g. "users:" or, with hash tag, "{users}:"
+     */
+    static String prefix(String nameSpace, boolean hashTag) {
+        if (hashTag) {
+            return '{' + nameSpace + "}:";
+        }
+        return nameSpace + ":";
     }
 
 }
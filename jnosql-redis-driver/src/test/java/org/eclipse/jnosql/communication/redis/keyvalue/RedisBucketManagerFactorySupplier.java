@@ -37,8 +37,12 @@ public enum RedisBucketManagerFactorySupplier implements Supplier<RedisBucketMan
 
     @Override
     public RedisBucketManagerFactory get() {
+        return get(new HashMap<>());
+    }
+
+    public RedisBucketManagerFactory get(Map<String, Object> configurations) {
         RedisConfiguration configuration = new RedisConfiguration();
-        Map<String, Object> settings = new HashMap<>();
+        Map<String, Object> settings = new HashMap<>(configurations);
         settings.put("redis-master-host", redis.getContainerIpAddress());
         settings.put("redis-master-port", redis.getFirstMappedPort());
         return configuration.get(Settings.of(settings));
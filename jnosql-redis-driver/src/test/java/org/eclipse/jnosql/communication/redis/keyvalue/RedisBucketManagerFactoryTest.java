@@ -20,12 +20,15 @@ import jakarta.nosql.keyvalue.BucketManagerFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 public class RedisBucketManagerFactoryTest {
@@ -68,4 +71,28 @@ public class RedisBucketManagerFactoryTest {
         assertNotNull(queue);
     }
 
+    @Test
+    public void shouldNotPinConnectionsWhenPooled() {
+        RedisBucketManagerFactory factory = RedisBucketManagerFactorySupplier.INSTANCE
+                .get(Collections.singletonMap(RedisConfigurations.CONNECTION_MODE.get(), "pooled"));
+        BucketManager manager = factory.getBucketManager(BUCKET_NAME);
+        List<String> list = factory.getList(BUCKET_NAME + "-list", String.class);
+        Map<String, String> map = factory.getMap(BUCKET_NAME + "-map", String.class, String.class);
+
+        manager.put("pooled", "value");
+        list.add("value");
+        map.put("pooled", "value");
+        assertEquals("value", manager.get("pooled").map(v -> v.get(String.class)).orElse(null));
+
+        RedisPoolStatistics statistics = factory.getPoolStatistics();
+        assertEquals(0, statistics.getActive());
+        assertTrue(statistics.getIdle() > 0);
+        assertEquals(0D, statistics.getUtilization());
+
+        manager.delete("pooled");
+        list.clear();
+        map.clear();
+        factory.close();
+    }
+
 }
\ No newline at end of file
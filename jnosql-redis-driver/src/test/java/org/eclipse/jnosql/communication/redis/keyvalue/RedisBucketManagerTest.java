@@ -24,10 +24,12 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
 
 import static java.util.Arrays.asList;
@@ -112,6 +114,34 @@ public class RedisBucketManagerTest {
         assertEquals(0L, StreamSupport.stream(keyValueEntityManager.get(keys).spliterator(), false).count());
     }
 
+    @Test
+    public void shouldPutGetAndRemoveManyBatches() {
+        List<KeyValueEntity> entities = IntStream.range(0, 2500)
+                .mapToObj(index -> KeyValueEntity.of("batch-" + index, Value.of(new User("user-" + index))))
+                .collect(Collectors.toList());
+        List<String> keys = entities.stream().map(e -> e.getKey().toString()).collect(Collectors.toList());
+        keyValueEntityManager.put(entities);
+
+        List<User> users = StreamSupport.stream(keyValueEntityManager.get(keys).spliterator(), false)
+                .map(value -> value.get(User.class)).collect(Collectors.toList());
+        assertEquals(2500, users.size());
+        assertEquals(new User("user-0"), users.get(0));
+        assertEquals(new User("user-2499"), users.get(2499));
+
+        keyValueEntityManager.delete(keys);
+        assertEquals(0L, StreamSupport.stream(keyValueEntityManager.get(keys).spliterator(), false).count());
+    }
+
+    @Test
+    public void shouldPutIterableWithTTL() throws InterruptedException {
+        keyValueEntityManager.put(asList(keyValueSoro, keyValueOtavio), Duration.ofMillis(500L));
+        assertTrue(keyValueEntityManager.get("otavio").isPresent());
+        assertTrue(keyValueEntityManager.get("soro").isPresent());
+        Thread.sleep(1_000L);
+        assertFalse(keyValueEntityManager.get("otavio").isPresent());
+        assertFalse(keyValueEntityManager.get("soro").isPresent());
+    }
+
     @AfterEach
     public void remove() {
         keyValueEntityManager.delete(Arrays.asList("otavio", "soro"));
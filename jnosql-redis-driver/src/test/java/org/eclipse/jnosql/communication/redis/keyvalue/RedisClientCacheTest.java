@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import jakarta.nosql.keyvalue.BucketManager;
+import org.eclipse.jnosql.communication.driver.cache.NearCacheBucketManager;
+import org.eclipse.jnosql.communication.driver.cache.NearCacheStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RedisClientCacheTest {
+
+    private static final String BUCKET_NAME = "client-cache";
+
+    private RedisBucketManagerFactory cachedFactory;
+
+    private RedisBucketManagerFactory factory;
+
+    @BeforeEach
+    public void setUp() {
+        cachedFactory = RedisBucketManagerFactorySupplier.INSTANCE
+                .get(Collections.singletonMap(RedisConfigurations.CLIENT_CACHE.get(), "true"));
+        factory = RedisBucketManagerFactorySupplier.INSTANCE.get();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        factory.getBucketManager(BUCKET_NAME).delete("otavio");
+        cachedFactory.close();
+        factory.close();
+    }
+
+    @Test
+    public void shouldReadFromClientCache() throws InterruptedException {
+        BucketManager manager = cachedFactory.getBucketManager(BUCKET_NAME);
+        assertTrue(manager instanceof NearCacheBucketManager);
+        NearCacheBucketManager cached = (NearCacheBucketManager) manager;
+
+        factory.getBucketManager(BUCKET_NAME).put("otavio", "Otavio");
+        long deadline = System.currentTimeMillis() + 5_000L;
+        while (cached.getStatistics().getHitCount() == 0 && System.currentTimeMillis() < deadline) {
+            assertEquals("Otavio", get(manager));
+            Thread.sleep(10L);
+        }
+
+        NearCacheStatistics statistics = cached.getStatistics();
+        assertTrue(statistics.getHitCount() > 0);
+        assertTrue(statistics.getMissCount() > 0);
+        assertTrue(statistics.getHitRate() > 0D);
+    }
+
+    @Test
+    public void shouldInvalidateWhenAnotherClientWrites() throws InterruptedException {
+        BucketManager manager = cachedFactory.getBucketManager(BUCKET_NAME);
+        BucketManager other = factory.getBucketManager(BUCKET_NAME);
+        other.put("otavio", "Otavio");
+        assertEquals("Otavio", get(manager));
+
+        other.put("otavio", "Otavio Santana");
+        long deadline = System.currentTimeMillis() + 5_000L;
+        while (!"Otavio Santana".equals(get(manager)) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertEquals("Otavio Santana", get(manager));
+    }
+
+    @Test
+    public void shouldInvalidateWhenAnotherClientDeletes() throws InterruptedException {
+        BucketManager manager = cachedFactory.getBucketManager(BUCKET_NAME);
+        BucketManager other = factory.getBucketManager(BUCKET_NAME);
+        other.put("otavio", "Otavio");
+        assertEquals("Otavio", get(manager));
+
+        other.delete("otavio");
+        long deadline = System.currentTimeMillis() + 5_000L;
+        while (manager.get("otavio").isPresent() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertFalse(manager.get("otavio").isPresent());
+    }
+
+    private String get(BucketManager manager) {
+        return manager.get("otavio").map(v -> v.get(String.class)).orElse(null);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.keyvalue.BucketManager;
+import jakarta.nosql.keyvalue.KeyValueEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs against a local Redis Cluster, e.g. {@code -Dredis.cluster.hosts=localhost:7000,localhost:7001}
+ */
+@EnabledIfSystemProperty(named = "redis.cluster.hosts", matches = ".+")
+public class RedisClusterTest {
+
+    private RedisBucketManagerFactory factory;
+
+    @BeforeEach
+    public void init() {
+        Map<String, String> configurations = new HashMap<>();
+        configurations.put(RedisConfigurations.TOPOLOGY.get(), "cluster");
+        configurations.put(RedisConfigurations.CLUSTER_HOSTS.get(), System.getProperty("redis.cluster.hosts"));
+        factory = new RedisConfiguration().getManagerFactory(configurations);
+    }
+
+    @AfterEach
+    public void close() {
+        factory.close();
+    }
+
+    @Test
+    public void shouldPutGetAndDeleteAcrossSlots() {
+        shouldPutGetAndDelete(factory.getBucketManager("cluster"));
+    }
+
+    @Test
+    public void shouldPutGetAndDeleteWithHashTag() {
+        Map<String, String> configurations = new HashMap<>();
+        configurations.put(RedisConfigurations.TOPOLOGY.get(), "cluster");
+        configurations.put(RedisConfigurations.CLUSTER_HOSTS.get(), System.getProperty("redis.cluster.hosts"));
+        configurations.put(RedisConfigurations.HASH_TAG.get(), "true");
+        try (RedisBucketManagerFactory tagged = new RedisConfiguration().getManagerFactory(configurations)) {
+            shouldPutGetAndDelete(tagged.getBucketManager("cluster-tagged"));
+        }
+    }
+
+    @Test
+    public void shouldPutWithTtlAcrossSlots() throws InterruptedException {
+        BucketManager manager = factory.getBucketManager("cluster-ttl");
+        List<String> keys = IntStream.range(0, 2_500).mapToObj(i -> "key-" + i).collect(Collectors.toList());
+        manager.put(keys.stream().map(key -> KeyValueEntity.of(key, key)).collect(Collectors.toList()),
+                Duration.ofMillis(500L));
+
+        List<String> values = StreamSupport.stream(manager.get(keys).spliterator(), false)
+                .map(value -> value.get(String.class))
+                .collect(Collectors.toList());
+        assertEquals(keys, values);
+
+        Thread.sleep(1_000L);
+        assertFalse(manager.get(keys).iterator().hasNext());
+    }
+
+    @Test
+    public void shouldUseStructures() {
+        List<String> list = factory.getList("cluster-list", String.class);
+        Map<String, String> map = factory.getMap("cluster-map", String.class, String.class);
+        Set<String> set = factory.getSet("cluster-set", String.class);
+        try {
+            IntStream.range(0, 2_500).mapToObj(i -> "value-" + i).forEach(list::add);
+            IntStream.range(0, 2_500).forEach(i -> map.put("key-" + i, "value-" + i));
+            set.add("otavio");
+            set.add("soro");
+
+            assertEquals(2_500, list.size());
+            assertEquals("value-1000", list.get(1000));
+            assertEquals(2_500, map.size());
+            assertEquals("value-1000", map.get("key-1000"));
+            assertEquals(2_500, map.keySet().size());
+            assertTrue(set.contains("otavio"));
+            assertEquals(2, set.size());
+        } finally {
+            list.clear();
+            map.clear();
+            set.clear();
+        }
+    }
+
+    private void shouldPutGetAndDelete(BucketManager manager) {
+        List<String> keys = IntStream.range(0, 2_500).mapToObj(i -> "key-" + i).collect(Collectors.toList());
+        manager.put(keys.stream().map(key -> KeyValueEntity.of(key, key)).collect(Collectors.toList()));
+
+        List<String> values = StreamSupport.stream(manager.get(keys).spliterator(), false)
+                .map(value -> value.get(String.class))
+                .collect(Collectors.toList());
+        assertEquals(keys, values);
+
+        manager.delete(keys);
+        assertFalse(manager.get(keys).iterator().hasNext());
+    }
+}
@@ -25,6 +25,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class RedisConfigurationTest {
 
@@ -49,6 +50,21 @@ public class RedisConfigurationTest {
         assertNotNull(managerFactory);
     }
 
+    @Test
+    public void shouldReturnErrorWhenClusterHostsAreMissing() {
+        Map<String, String> map = new HashMap<>();
+        map.put(RedisConfigurations.TOPOLOGY.get(), "cluster");
+        assertThrows(IllegalArgumentException.class, () -> configuration.getManagerFactory(map));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSentinelHostsAreMissing() {
+        Map<String, String> map = new HashMap<>();
+        map.put(RedisConfigurations.TOPOLOGY.get(), "sentinel");
+        map.put(RedisConfigurations.SENTINEL_HOSTS.get(), " , ");
+        assertThrows(IllegalArgumentException.class, () -> configuration.getManagerFactory(map));
+    }
+
     @Test
     public void shouldReturnFromConfiguration() {
         KeyValueConfiguration configuration = KeyValueConfiguration.getConfiguration();
@@ -20,8 +20,11 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -145,6 +148,24 @@ public class RedisListStringTest {
         assertTrue(fruits.isEmpty());
     }
 
+    @Test
+    public void shouldIterateOverManyPages() {
+        List<String> names = IntStream.range(0, 2500).mapToObj(index -> "fruit-" + index)
+                .collect(Collectors.toList());
+        fruits.addAll(names);
+
+        List<String> iterated = new ArrayList<>();
+        fruits.iterator().forEachRemaining(iterated::add);
+        assertEquals(names, iterated);
+        assertEquals(2499, fruits.indexOf("fruit-2499"));
+        assertTrue(fruits.contains("fruit-1500"));
+
+        assertTrue(fruits.remove("fruit-1500"));
+        assertFalse(fruits.remove("fruit-1500"));
+        assertFalse(fruits.contains("fruit-1500"));
+        assertEquals(2499, fruits.size());
+    }
+
     @AfterEach
     public void end() {
         fruits.clear();
@@ -19,10 +19,24 @@ import jakarta.nosql.keyvalue.BucketManagerFactory;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-
+import redis.clients.jedis.commands.JedisBinaryCommands;
+import redis.clients.jedis.commands.JedisCommands;
+import redis.clients.jedis.commands.PipelineBinaryCommands;
+import redis.clients.jedis.resps.ScanResult;
+
+import java.lang.reflect.Proxy;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -104,9 +118,92 @@ public class RedisMapStringTest {
         assertTrue(vertebrates.isEmpty());
     }
 
+    @Test
+    public void shouldScanManyFields() {
+        Map<String, String> species = new HashMap<>();
+        for (int index = 0; index < 2500; index++) {
+            species.put("species-" + index, "value-" + index);
+        }
+        vertebrates.putAll(species);
+        assertEquals(2500, vertebrates.size());
+
+        assertEquals(species.keySet(), new HashSet<>(vertebrates.keySet()));
+        assertEquals(new HashSet<>(species.values()), new HashSet<>(vertebrates.values()));
+        Map<String, String> entries = new HashMap<>();
+        vertebrates.entrySet().forEach(entry -> entries.put(entry.getKey(), entry.getValue()));
+        assertEquals(species, entries);
+        assertTrue(vertebrates.containsValue("value-2499"));
+        assertFalse(vertebrates.containsValue("value-2500"));
+    }
+
+    @Test
+    public void shouldRemoveFromKeySetIterator() {
+        vertebrates.put(MAMMALS, MAMMALS);
+        vertebrates.put(FISHES, FISHES);
+
+        Iterator<String> keys = vertebrates.keySet().iterator();
+        while (keys.hasNext()) {
+            if (FISHES.equals(keys.next())) {
+                keys.remove();
+            }
+        }
+        assertEquals(1, vertebrates.size());
+        assertFalse(vertebrates.containsKey(FISHES));
+    }
+
+    @Test
+    public void shouldSkipFieldReturnedAgainByScan() {
+        Iterator<ScanResult<Map.Entry<String, String>>> pages = Arrays.asList(
+                new ScanResult<>("1", Arrays.<Map.Entry<String, String>>asList(
+                        new AbstractMap.SimpleEntry<>(MAMMALS, MAMMALS), new AbstractMap.SimpleEntry<>(FISHES, FISHES))),
+                new ScanResult<>("0", Arrays.<Map.Entry<String, String>>asList(
+                        new AbstractMap.SimpleEntry<>(FISHES, FISHES),
+                        new AbstractMap.SimpleEntry<>(AMPHIBIANS, AMPHIBIANS)))).iterator();
+        JedisCommands jedis = (JedisCommands) Proxy.newProxyInstance(JedisCommands.class.getClassLoader(),
+                new Class<?>[]{JedisCommands.class}, (proxy, method, args) -> {
+                    if ("hscan".equals(method.getName())) {
+                        return pages.next();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        Map<String, String> map = new RedisMap<>(new ScriptedRedisExecutor(jedis), String.class, String.class,
+                BUCKET_NAME, 2);
+
+        List<String> keys = new ArrayList<>();
+        map.keySet().forEach(keys::add);
+        assertEquals(Arrays.asList(MAMMALS, FISHES, AMPHIBIANS), keys);
+    }
+
     @AfterEach
     public void dispose() {
         vertebrates.clear();
     }
 
+    private static final class ScriptedRedisExecutor extends RedisExecutor {
+
+        private final JedisCommands jedis;
+
+        private ScriptedRedisExecutor(JedisCommands jedis) {
+            this.jedis = jedis;
+        }
+
+        @Override
+        <T> T apply(Function<JedisCommands, T> command) {
+            return command.apply(jedis);
+        }
+
+        @Override
+        <T> T applyBinary(Function<JedisBinaryCommands, T> command) {
+            throw new UnsupportedOperationException("applyBinary");
+        }
+
+        @Override
+        void pipelined(Consumer<PipelineBinaryCommands> commands) {
+            throw new UnsupportedOperationException("pipelined");
+        }
+
+        @Override
+        public void close() {
+        }
+    }
 }
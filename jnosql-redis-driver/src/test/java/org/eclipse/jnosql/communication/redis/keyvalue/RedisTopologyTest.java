@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.redis.keyvalue;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RedisTopologyTest {
+
+    @Test
+    public void shouldParseIgnoringCase() {
+        assertEquals(RedisTopology.CLUSTER, RedisTopology.parse("cluster"));
+        assertEquals(RedisTopology.SENTINEL, RedisTopology.parse(" Sentinel "));
+        assertEquals(RedisTopology.STANDALONE, RedisTopology.parse("STANDALONE"));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTopologyIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> RedisTopology.parse("replica"));
+        assertThrows(NullPointerException.class, () -> RedisTopology.parse(null));
+    }
+}
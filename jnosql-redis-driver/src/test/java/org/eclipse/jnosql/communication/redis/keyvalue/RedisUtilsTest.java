@@ -27,6 +27,18 @@ public class RedisUtilsTest {
         assertEquals("namespace:key", RedisUtils.createKeyWithNameSpace("key", "namespace"));
     }
 
+    @Test
+    public void shouldReturnNameSpaceAsHashTag() {
+        assertEquals("{namespace}:key", RedisUtils.createKeyWithNameSpace("key", "namespace", true));
+        assertEquals("namespace:key", RedisUtils.createKeyWithNameSpace("key", "namespace", false));
+    }
+
+    @Test
+    public void shouldReturnPrefix() {
+        assertEquals("namespace:", RedisUtils.prefix("namespace", false));
+        assertEquals("{namespace}:", RedisUtils.prefix("namespace", true));
+    }
+
     @Test
     public void shouldThrowWithNullKey() {
         assertThrows(IrregularKeyValue.class, () -> RedisUtils.createKeyWithNameSpace(null, ""));
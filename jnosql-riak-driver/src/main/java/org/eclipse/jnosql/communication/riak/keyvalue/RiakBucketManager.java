@@ -22,16 +22,22 @@ import com.basho.riak.client.api.commands.kv.FetchValue;
 import com.basho.riak.client.api.commands.kv.FetchValue.Response;
 import com.basho.riak.client.api.commands.kv.StoreValue;
 import com.basho.riak.client.core.query.Namespace;
+import com.basho.riak.client.core.query.RiakObject;
+import com.basho.riak.client.core.util.BinaryValue;
 import jakarta.nosql.Value;
 import jakarta.nosql.keyvalue.BucketManager;
 import jakarta.nosql.keyvalue.KeyValueEntity;
-import org.eclipse.jnosql.communication.driver.ValueJSON;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import org.eclipse.jnosql.communication.driver.concurrent.FanOut;
+import org.eclipse.jnosql.communication.driver.metrics.Operation;
+import org.eclipse.jnosql.communication.driver.metrics.OperationMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.OperationPhase;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
-import java.util.stream.StreamSupport;
 
 import static java.util.stream.Collectors.toList;
 import static org.eclipse.jnosql.communication.riak.keyvalue.RiakUtils.createDeleteValue;
@@ -40,13 +46,29 @@ import static org.eclipse.jnosql.communication.riak.keyvalue.RiakUtils.createSto
 
 public class RiakBucketManager implements BucketManager {
 
+    private static final OperationMetrics METRICS = OperationMetrics.of("riak");
+
     private final RiakClient client;
 
     private final Namespace nameSpace;
 
+    private final ValueCodec codec;
+
+    private final FanOut fanOut;
+
     RiakBucketManager(RiakClient client, Namespace nameSpace) {
+        this(client, nameSpace, ValueCodec.getInstance());
+    }
+
+    RiakBucketManager(RiakClient client, Namespace nameSpace, ValueCodec codec) {
+        this(client, nameSpace, codec, FanOut.sequential());
+    }
+
+    RiakBucketManager(RiakClient client, Namespace nameSpace, ValueCodec codec, FanOut fanOut) {
         this.client = client;
         this.nameSpace = nameSpace;
+        this.codec = codec;
+        this.fanOut = fanOut;
     }
 
     @Override
@@ -65,26 +87,34 @@ public class RiakBucketManager implements BucketManager {
 
         Object key = entity.getKey();
         Object value = entity.getValue();
+        Objects.requireNonNull(value, "Value is required");
+        long start = METRICS.start();
+        RiakObject riakObject = new RiakObject()
+                .setContentType(codec.getContentType())
+                .setValue(BinaryValue.unsafeCreate(codec.encode(value)));
+        METRICS.stop(Operation.PUT, OperationPhase.CONVERSION, start);
 
-        StoreValue storeValue = createStoreValue(key, value, nameSpace, ttl);
+        StoreValue storeValue = createStoreValue(key, riakObject, nameSpace, ttl);
 
         try {
             client.execute(storeValue);
         } catch (ExecutionException | InterruptedException e) {
             throw new RiakCommunicationException(e.getMessage(), e);
+        } finally {
+            METRICS.stop(Operation.PUT, start);
         }
     }
 
     @Override
     public void put(Iterable<KeyValueEntity> entities) throws NullPointerException {
-        StreamSupport.stream(entities.spliterator(), false).forEach(this::put);
+        fanOut.forEach(entities, this::put);
     }
 
     @Override
     public void put(Iterable<KeyValueEntity> entities, Duration ttl)
             throws NullPointerException, UnsupportedOperationException {
 
-        StreamSupport.stream(entities.spliterator(), false).forEach(e -> put(e, ttl));
+        fanOut.forEach(entities, e -> put(e, ttl));
     }
 
     @Override
@@ -95,47 +125,51 @@ public class RiakBucketManager implements BucketManager {
         }
 
         FetchValue fetchValue = createFetchValue(nameSpace, key);
+        long start = METRICS.start();
         try {
-
             FetchValue.Response response = client.execute(fetchValue);
 
-            String valueFetch = response.getValue(String.class);
-            if (Objects.nonNull(valueFetch) && !valueFetch.isEmpty()) {
-                return Optional.of(ValueJSON.of(valueFetch));
+            byte[] valueFetch = getBytes(response);
+            if (valueFetch.length > 0) {
+                return Optional.of(codec.decode(valueFetch));
             }
 
         } catch (ExecutionException | InterruptedException e) {
             throw new RiakCommunicationException(e.getMessage(), e);
+        } finally {
+            METRICS.stop(Operation.GET, start);
         }
         return Optional.empty();
     }
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
-
-        return StreamSupport.stream(keys.spliterator(), false)
-                .map(k -> RiakUtils.createLocation(nameSpace, k))
-                .map(l -> new FetchValue.Builder(l).build())
-                .map(f -> {
-                            try {
-                                return client.execute(f);
-                            } catch (ExecutionException | InterruptedException e) {
-                                throw new RiakCommunicationException(e.getMessage(), e);
-                            }
+        long start = METRICS.start();
+        try {
+            List<Response> responses = fanOut.map(keys, k -> {
+                FetchValue fetchValue = new FetchValue.Builder(RiakUtils.createLocation(nameSpace, k)).build();
+                try {
+                    return client.execute(fetchValue);
+                } catch (ExecutionException | InterruptedException e) {
+                    throw new RiakCommunicationException(e.getMessage(), e);
+                }
+            });
+            return responses.stream()
+                    .filter(Response::hasValues)
+                    .map(r -> {
+
+                        try {
+                            return getBytes(r);
+                        } catch (UnresolvedConflictException e) {
+                            throw new RiakCommunicationException(e.getMessage(), e);
                         }
-                )
-                .filter(Response::hasValues)
-                .map(r -> {
-
-                    try {
-                        return r.getValue(String.class);
-                    } catch (UnresolvedConflictException e) {
-                        throw new RiakCommunicationException(e.getMessage(), e);
-                    }
-
-                })
-                .filter(s -> Objects.nonNull(s) && !s.isEmpty()).map(ValueJSON::of)
-                .collect(toList());
+
+                    })
+                    .filter(b -> b.length > 0).map(codec::decode)
+                    .collect(toList());
+        } finally {
+            METRICS.stop(Operation.GET, start);
+        }
     }
 
 
@@ -144,20 +178,31 @@ public class RiakBucketManager implements BucketManager {
 
         DeleteValue deleteValue = createDeleteValue(nameSpace, key);
 
+        long start = METRICS.start();
         try {
             client.execute(deleteValue);
         } catch (ExecutionException | InterruptedException e) {
             throw new RiakCommunicationException(e.getMessage(), e);
+        } finally {
+            METRICS.stop(Operation.DELETE, start);
         }
     }
 
     @Override
     public <K> void delete(Iterable<K> keys) throws NullPointerException {
-        StreamSupport.stream(keys.spliterator(), false).forEach(this::delete);
+        fanOut.forEach(keys, this::delete);
     }
 
     @Override
     public void close() {
         client.shutdown();
     }
+
+    private static byte[] getBytes(Response response) throws UnresolvedConflictException {
+        RiakObject riakObject = response.getValue(RiakObject.class);
+        if (riakObject == null || riakObject.getValue() == null) {
+            return new byte[0];
+        }
+        return riakObject.getValue().getValue();
+    }
 }
@@ -18,6 +18,8 @@ import com.basho.riak.client.api.RiakClient;
 import com.basho.riak.client.core.RiakCluster;
 import com.basho.riak.client.core.query.Namespace;
 import jakarta.nosql.keyvalue.BucketManagerFactory;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import org.eclipse.jnosql.communication.driver.concurrent.FanOut;
 
 import java.util.List;
 import java.util.Map;
@@ -37,8 +39,22 @@ public class RiakBucketManagerFactory implements BucketManagerFactory {
 
     private final RiakCluster cluster;
 
+    private final ValueCodec codec;
+
+    private final FanOut fanOut;
+
     RiakBucketManagerFactory(RiakCluster cluster) {
+        this(cluster, ValueCodec.getInstance());
+    }
+
+    RiakBucketManagerFactory(RiakCluster cluster, ValueCodec codec) {
+        this(cluster, codec, FanOut.sequential());
+    }
+
+    RiakBucketManagerFactory(RiakCluster cluster, ValueCodec codec, FanOut fanOut) {
         this.cluster = cluster;
+        this.codec = codec;
+        this.fanOut = fanOut;
     }
 
     @Override
@@ -48,7 +64,7 @@ public class RiakBucketManagerFactory implements BucketManagerFactory {
         RiakClient riakClient = new RiakClient(cluster);
         Namespace quotesBucket = new Namespace(bucketName);
 
-        return new RiakBucketManager(riakClient, quotesBucket);
+        return new RiakBucketManager(riakClient, quotesBucket, codec, fanOut);
     }
 
     @Override
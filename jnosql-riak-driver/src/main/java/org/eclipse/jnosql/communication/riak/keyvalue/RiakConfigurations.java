@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.riak.keyvalue;
+
+import java.util.function.Supplier;
+
+/**
+ * An enumeration to show the available options to connect to the Riak database.
+ * It implements {@link Supplier}, where its it returns the property name that might be
+ * overwritten by the system environment using Eclipse Microprofile or Jakarta Config API.
+ *
+ * @see jakarta.nosql.Settings
+ */
+public enum RiakConfigurations implements Supplier<String> {
+
+    /**
+     * The prefix to the hosts, e.g. riak.host.1=host1
+     */
+    HOST("riak.host"),
+    /**
+     * The {@link org.eclipse.jnosql.communication.driver.ValueCodec} name the {@link RiakBucketManager} uses to
+     * write the values, e.g. "json" or "cbor", the default value is "json"
+     */
+    VALUE_CODEC("riak.value.codec"),
+    /**
+     * The compressor the {@link RiakBucketManager} uses to compress the large values, "deflate" or "lz4",
+     * the compression is disabled by default
+     *
+     * @see org.eclipse.jnosql.communication.driver.compression.ValueCompression
+     */
+    VALUE_COMPRESSION("riak.value.compression"),
+    /**
+     * The size, in bytes, from which the values are compressed, the default value is 4096
+     */
+    VALUE_COMPRESSION_THRESHOLD("riak.value.compression.threshold"),
+    /**
+     * The maximum number of calls the {@link RiakBucketManager} runs at the same time to the operations with
+     * many keys, the default value is 1, one call after another
+     *
+     * @see org.eclipse.jnosql.communication.driver.concurrent.FanOut
+     */
+    FANOUT_CONCURRENCY("riak.fanout.concurrency");
+
+    private final String configuration;
+
+    RiakConfigurations(String configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    public String get() {
+        return configuration;
+    }
+}
@@ -22,6 +22,10 @@ import jakarta.nosql.Settings;
 import jakarta.nosql.Settings.SettingsBuilder;
 import jakarta.nosql.keyvalue.KeyValueConfiguration;
 import org.eclipse.jnosql.communication.driver.ConfigurationReader;
+import org.eclipse.jnosql.communication.driver.ValueCodec;
+import org.eclipse.jnosql.communication.driver.compression.CompressedValueCodec;
+import org.eclipse.jnosql.communication.driver.compression.ValueCompression;
+import org.eclipse.jnosql.communication.driver.concurrent.FanOut;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -34,13 +38,15 @@ import static java.util.Objects.requireNonNull;
 /**
  * The riak implementation to {@link KeyValueConfiguration} that returns {@link RiakBucketManagerFactory}.
  * <p>riak.host-: The prefix to host. eg: riak.server.host.1= host1</p>
+ *
+ * @see RiakConfigurations
  */
 public class RiakKeyValueConfiguration implements KeyValueConfiguration {
 
 
     @Deprecated
     private static final String OLD_SERVER_PREFIX = "riak-server-host-";
-    private static final String SERVER_PREFIX = "riak.host";
+    private static final String SERVER_PREFIX = RiakConfigurations.HOST.get();
 
     private static final String FILE_CONFIGURATION = "diana-riak.properties";
 
@@ -49,6 +55,10 @@ public class RiakKeyValueConfiguration implements KeyValueConfiguration {
 
     private final List<RiakNode> nodes = new ArrayList<>();
 
+    private final ValueCodec codec;
+
+    private final FanOut fanOut;
+
 
     public RiakKeyValueConfiguration() {
         Map<String, String> properties = ConfigurationReader.from(FILE_CONFIGURATION);
@@ -61,6 +71,8 @@ public class RiakKeyValueConfiguration implements KeyValueConfiguration {
         settings.prefix(asList(SERVER_PREFIX, OLD_SERVER_PREFIX, Configurations.HOST.get()))
                 .stream().map(Object::toString)
                 .forEach(this::add);
+        this.codec = getCodec(settings);
+        this.fanOut = FanOut.of(settings, RiakConfigurations.FANOUT_CONCURRENCY);
     }
 
 
@@ -95,7 +107,7 @@ public class RiakKeyValueConfiguration implements KeyValueConfiguration {
         RiakCluster cluster = new RiakCluster.Builder(nodes)
                 .build();
 
-        return new RiakBucketManagerFactory(cluster);
+        return new RiakBucketManagerFactory(cluster, codec, fanOut);
     }
 
     @Override
@@ -115,7 +127,18 @@ public class RiakKeyValueConfiguration implements KeyValueConfiguration {
         RiakCluster cluster = new RiakCluster.Builder(nodes)
                 .build();
 
-        return new RiakBucketManagerFactory(cluster);
+        return new RiakBucketManagerFactory(cluster, getCodec(settings),
+                FanOut.of(settings, RiakConfigurations.FANOUT_CONCURRENCY));
+    }
+
+    private ValueCodec getCodec(Settings settings) {
+        ValueCodec codec = settings.get(RiakConfigurations.VALUE_CODEC)
+                .map(Object::toString).map(ValueCodec::of)
+                .orElseGet(ValueCodec::getInstance);
+        return ValueCompression.of(settings, RiakConfigurations.VALUE_COMPRESSION,
+                        RiakConfigurations.VALUE_COMPRESSION_THRESHOLD)
+                .<ValueCodec>map(compression -> CompressedValueCodec.of(codec, compression))
+                .orElse(codec);
     }
 
     private Function<String, RiakNode> toNode() {
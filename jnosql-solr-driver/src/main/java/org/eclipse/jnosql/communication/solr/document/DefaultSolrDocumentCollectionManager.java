@@ -26,6 +26,9 @@ import org.apache.solr.client.solrj.response.QueryResponse;
 import org.apache.solr.common.SolrDocumentList;
 import org.apache.solr.common.SolrInputDocument;
 import org.eclipse.jnosql.communication.SettingsPriority;
+import org.eclipse.jnosql.communication.driver.metrics.Operation;
+import org.eclipse.jnosql.communication.driver.metrics.OperationMetrics;
+import org.eclipse.jnosql.communication.driver.metrics.OperationPhase;
 
 import java.io.IOException;
 import java.time.Duration;
@@ -44,6 +47,8 @@ import static java.util.stream.Collectors.toList;
  */
 class DefaultSolrDocumentCollectionManager implements SolrDocumentCollectionManager {
 
+    private static final OperationMetrics METRICS = OperationMetrics.of("solr");
+
     private final HttpSolrClient solrClient;
 
     DefaultSolrDocumentCollectionManager(HttpSolrClient solrClient) {
@@ -55,11 +60,16 @@ class DefaultSolrDocumentCollectionManager implements SolrDocumentCollectionMana
     public DocumentEntity insert(DocumentEntity entity) {
         Objects.requireNonNull(entity, "entity is required");
 
+        long start = METRICS.start();
         try {
-            solrClient.add(SolrUtils.getDocument(entity));
+            SolrInputDocument document = SolrUtils.getDocument(entity);
+            METRICS.stop(Operation.INSERT, OperationPhase.CONVERSION, start);
+            solrClient.add(document);
             commit();
         } catch (SolrServerException | IOException e) {
             throw new SolrException("Error to insert/update a information", e);
+        } finally {
+            METRICS.stop(Operation.INSERT, start);
         }
         return entity;
     }
@@ -72,13 +82,17 @@ class DefaultSolrDocumentCollectionManager implements SolrDocumentCollectionMana
     @Override
     public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
+        long start = METRICS.start();
         final List<SolrInputDocument> documents = StreamSupport.stream(entities.spliterator(), false)
                 .map(SolrUtils::getDocument).collect(toList());
+        METRICS.stop(Operation.INSERT, OperationPhase.CONVERSION, start);
         try {
             solrClient.add(documents);
             commit();
         } catch (SolrServerException | IOException e) {
             throw new SolrException("Error to insert/update a information", e);
+        } finally {
+            METRICS.stop(Operation.INSERT, start);
         }
         return entities;
     }
@@ -110,17 +124,23 @@ class DefaultSolrDocumentCollectionManager implements SolrDocumentCollectionMana
     @Override
     public void delete(DocumentDeleteQuery query) {
         Objects.requireNonNull(query, "query is required");
+        long start = METRICS.start();
         try {
-            solrClient.deleteByQuery(DocumentQueryConversor.convert(query));
+            String queryExpression = DocumentQueryConversor.convert(query);
+            METRICS.stop(Operation.DELETE, OperationPhase.TRANSLATION, start);
+            solrClient.deleteByQuery(queryExpression);
             commit();
         } catch (SolrServerException | IOException e) {
             throw new SolrException("Error to delete at Solr", e);
+        } finally {
+            METRICS.stop(Operation.DELETE, start);
         }
     }
 
     @Override
     public Stream<DocumentEntity> select(DocumentQuery query) {
         Objects.requireNonNull(query, "query is required");
+        long start = METRICS.start();
         try {
             SolrQuery solrQuery = new SolrQuery();
             final String queryExpression = DocumentQueryConversor.convert(query);
@@ -135,11 +155,14 @@ class DefaultSolrDocumentCollectionManager implements SolrDocumentCollectionMana
                     .map(s -> new SortClause(s.getName(), s.getType().name().toLowerCase(Locale.US)))
                     .collect(toList());
             solrQuery.setSorts(sorts);
+            METRICS.stop(Operation.SELECT, OperationPhase.TRANSLATION, start);
             final QueryResponse response = solrClient.query(solrQuery);
             final SolrDocumentList documents = response.getResults();
             return SolrUtils.of(documents).stream();
         } catch (SolrServerException | IOException e) {
             throw new SolrException("Error to query at Solr", e);
+        } finally {
+            METRICS.stop(Operation.SELECT, start);
         }
     }
 
@@ -147,14 +170,17 @@ class DefaultSolrDocumentCollectionManager implements SolrDocumentCollectionMana
     public long count(String documentCollection) {
         Objects.requireNonNull(documentCollection, "documentCollection is required");
 
+        SolrQuery solrQuery = new SolrQuery();
+        solrQuery.set("q", "_entity:" + documentCollection);
+        solrQuery.setRows(0);
+        long start = METRICS.start();
         try {
-            SolrQuery solrQuery = new SolrQuery();
-            solrQuery.set("q", "_entity:" + documentCollection);
-            solrQuery.setRows(0);
             final QueryResponse response = solrClient.query(solrQuery);
             return response.getResults().getNumFound();
         } catch (SolrServerException | IOException e) {
             throw new SolrException("Error to execute count at Solr", e);
+        } finally {
+            METRICS.stop(Operation.COUNT, start);
         }
     }
 